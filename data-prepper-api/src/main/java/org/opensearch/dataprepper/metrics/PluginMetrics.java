@@ -7,7 +7,9 @@ package org.opensearch.dataprepper.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 
@@ -78,6 +80,21 @@ public class PluginMetrics {
         return Metrics.gauge(getMeterName(name), obj, valueFunction);
     }
 
+    public <T extends Number> T gaugeWithTags(final String name, final T number, final String... tags) {
+        return Metrics.gauge(getMeterName(name), Tags.of(tags), number);
+    }
+
+    /**
+     * Removes a gauge registered with {@link #gaugeWithTags(String, Number, String...)}, so that the same name and tags
+     * can be registered again with another number.
+     */
+    public void removeGaugeWithTags(final String name, final String... tags) {
+        final Gauge gauge = Metrics.globalRegistry.find(getMeterName(name)).tags(tags).gauge();
+        if (gauge != null) {
+            Metrics.globalRegistry.remove(gauge);
+        }
+    }
+
     private String getMeterName(final String name) {
         return new StringJoiner(MetricNames.DELIMITER).add(metricsPrefix).add(name).toString();
     }
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.codec;
+
+/**
+ * An {@link InputCodec} for line-oriented input where every record ends with a newline, so uncompressed input can be
+ * split at line boundaries and the splits parsed independently.
+ * <p>
+ * Sources parse a split by prefixing it with the header lines of the input and calling
+ * {@link InputCodec#parse(java.io.InputStream, java.util.function.Consumer)}. The codec must be safe to call from
+ * multiple threads at once. Splitting is only correct when no record contains a newline.
+ */
+public interface SplittableInputCodec extends InputCodec {
+    /**
+     * Returns the number of lines at the start of the input which the codec consumes instead of turning them into
+     * records, such as skipped lines or a header line.
+     *
+     * @return the number of header lines.
+     */
+    int getHeaderLineCount();
+
+    /**
+     * Returns whether this codec's input may be split. Codecs whose records may span lines under their configuration
+     * return false, and sources then parse the input as a whole.
+     *
+     * @return true if the input can be split at line boundaries.
+     */
+    default boolean isSplittable() {
+        return true;
+    }
+}
@@ -90,7 +90,7 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.uncopiedData != null ? builder.uncopiedData : getInitialJsonNode(builder.data);
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
@@ -462,6 +462,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private ObjectNode uncopiedData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -525,6 +526,20 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.uncopiedData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a json object which the event uses as is, without copying it. The caller
+         * must not modify or reuse the object afterwards.
+         *
+         * @param data the data
+         * @return returns the builder
+         */
+        public Builder<T> withUncopiedData(final ObjectNode data) {
+            this.data = null;
+            this.uncopiedData = data;
             return this;
         }
 
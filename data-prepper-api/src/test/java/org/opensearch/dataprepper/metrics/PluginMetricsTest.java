@@ -19,6 +19,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -114,6 +115,30 @@ public class PluginMetricsTest {
         assertEquals(atomicInteger.get(), gauge.get());
     }
 
+    @Test
+    public void testNumberGaugeWithTags() {
+        final AtomicInteger atomicInteger = new AtomicInteger(0);
+        final AtomicInteger gauge = objectUnderTest.gaugeWithTags("gaugeWithTags", atomicInteger, TAG_KEY, TAG_VALUE);
+        assertNotNull(
+                Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("gaugeWithTags").toString()).tags(TAG_KEY, TAG_VALUE).gauge());
+        assertEquals(atomicInteger.get(), gauge.get());
+    }
+
+    @Test
+    public void testRemoveGaugeWithTags() {
+        final String gaugeName = new StringJoiner(MetricNames.DELIMITER)
+                .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("removedGauge").toString();
+        objectUnderTest.gaugeWithTags("removedGauge", new AtomicInteger(0), TAG_KEY, TAG_VALUE);
+        assertNotNull(Metrics.globalRegistry.find(gaugeName).tags(TAG_KEY, TAG_VALUE).gauge());
+
+        objectUnderTest.removeGaugeWithTags("removedGauge", TAG_KEY, TAG_VALUE);
+
+        assertNull(Metrics.globalRegistry.find(gaugeName).tags(TAG_KEY, TAG_VALUE).gauge());
+    }
+
     @Test
     public void testReferenceGauge() {
         final String testString = "abc";
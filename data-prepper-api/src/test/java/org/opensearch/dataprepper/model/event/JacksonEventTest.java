@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -489,6 +491,43 @@ public class JacksonEventTest {
         assertThat(event.get("field1", String.class), is(equalTo(value)));
     }
 
+    @Test
+    public void testBuild_withObjectNodeData() {
+
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+        objectNode.put("field1", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(objectNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), not(sameInstance(objectNode)));
+
+        objectNode.put("field1", UUID.randomUUID().toString());
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+    }
+
+    @Test
+    public void testBuild_withUncopiedData() {
+
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+        objectNode.put("field1", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUncopiedData(objectNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("field1", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), is(sameInstance(objectNode)));
+    }
+
     @Test
     public void testBuild_withStringData() {
 
@@ -7,25 +7,29 @@ package org.opensearch.dataprepper.sourcecoordination;
 
 import org.opensearch.dataprepper.model.source.coordinator.SourcePartition;
 
-import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * Tracks the active partition of every thread, so sources can process several partitions concurrently by
+ * calling the source coordinator from multiple worker threads.
+ */
 public class PartitionManager<T> {
 
-    private SourcePartition<T> activePartition;
+    private final ThreadLocal<SourcePartition<T>> activePartition;
 
     public PartitionManager() {
+        this.activePartition = new ThreadLocal<>();
     }
 
     public Optional<SourcePartition<T>> getActivePartition() {
-        return Objects.isNull(activePartition) ? Optional.empty() : Optional.of(activePartition);
+        return Optional.ofNullable(activePartition.get());
     }
 
     public void removeActivePartition() {
-        this.activePartition = null;
+        this.activePartition.remove();
     }
 
     public void setActivePartition(final SourcePartition<T> sourcePartition) {
-        this.activePartition = sourcePartition;
+        this.activePartition.set(sourcePartition);
     }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.source.coordinator.SourcePartition;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -61,4 +62,23 @@ public class PartitionManagerTest {
         assertThat(emptyResult.isEmpty(), equalTo(true));
     }
 
+    @Test
+    void active_partition_is_tracked_per_thread() throws InterruptedException {
+        final SourcePartition<String> sourcePartition = mock(SourcePartition.class);
+        final SourcePartition<String> otherThreadSourcePartition = mock(SourcePartition.class);
+        final AtomicReference<Optional<SourcePartition<String>>> otherThreadInitialPartition = new AtomicReference<>();
+
+        objectUnderTest.setActivePartition(sourcePartition);
+
+        final Thread otherThread = new Thread(() -> {
+            otherThreadInitialPartition.set(objectUnderTest.getActivePartition());
+            objectUnderTest.setActivePartition(otherThreadSourcePartition);
+        });
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(otherThreadInitialPartition.get().isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.getActivePartition().get(), equalTo(sourcePartition));
+    }
+
 }
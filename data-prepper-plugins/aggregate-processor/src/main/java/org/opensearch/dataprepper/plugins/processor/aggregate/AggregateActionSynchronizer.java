@@ -11,21 +11,23 @@ import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.locks.Lock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * An {@link AggregateAction} contains two functons, {@link AggregateAction#concludeGroup(AggregateActionInput)} and {@link AggregateAction#handleEvent(Event, AggregateActionInput)},
  * that potentially modify a shared state that needs to be synchronized between multiple worker threads. These two functions should not be called on the same {@link AggregateGroup} at the same time,
- * and this class enforces that behavior using the two {@link java.util.concurrent.locks.ReentrantLock} that belong to each {@link AggregateGroup}.
+ * and this class enforces that behavior by only calling them while owning the {@link AggregateGroupShard} that contains the group.
  * The synchronization is designed to hold the following conditions:
  *
  * <ol>
- *     <li>The critical sections of concludeGroup and handleEventForGroup should not be entered at the same time</li>
- *     <li>If a thread is trying to enter the critical section for concludeGroup, no new threads should be able to attempt to enter the critical section for handleEventForGroup.
- *         This condition is achieved using a turnstile synchronization pattern that locks and then immediately unlocks the concludeGroupLock</li>
- *     <li>If multiple threads try to conclude the same {@link AggregateGroup} at the same time, only one should gain access to the critical section for concludeGroup, and
- *     the remaining threads should immediately return from concludeGroup</li>
+ *     <li>The critical sections of concludeGroups and handleEventForGroup should not be entered at the same time for groups in the same shard</li>
+ *     <li>If multiple threads try to conclude the groups of the same {@link AggregateGroupShard} at the same time, they take turns owning the shard, and
+ *     each group that is due is only returned to one of them by the shard's timer wheel</li>
+ *     <li>Threads that find no tick of the shard's timer wheel has elapsed return from concludeGroups without taking ownership of the shard</li>
  * </ol>
  * @since 1.3
  */
@@ -49,50 +51,60 @@ class AggregateActionSynchronizer {
         this.actionConcludeGroupEventsProcessingErrors = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS);
     }
 
-    AggregateActionOutput concludeGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup, final boolean forceConclude) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
-
-        AggregateActionOutput actionOutput = new AggregateActionOutput(Collections.emptyList());
-        if (concludeGroupLock.tryLock()) {
-            handleEventForGroupLock.lock();
+    /**
+     * Concludes the groups in the shard whose conclusion time has been reached, or every group in the shard when forceConclude is true.
+     * Groups that are due but whose custom conclusion check does not pass yet are checked again on the next tick.
+     *
+     * @return The outputs of the groups that were concluded
+     */
+    List<AggregateActionOutput> concludeGroups(final AggregateGroupShard aggregateGroupShard, final boolean forceConclude) {
+        final long nowMillis = Instant.now().toEpochMilli();
+        if (!forceConclude && !aggregateGroupShard.isConclusionCheckDue(nowMillis)) {
+            return Collections.emptyList();
+        }
 
-            try {
-                if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
-                    LOG.debug("Start critical section in concludeGroup");
-                    actionOutput = aggregateAction.concludeGroup(aggregateGroup);
-                    aggregateGroupManager.closeGroup(hash, aggregateGroup);
+        final List<AggregateActionOutput> actionOutputs = new ArrayList<>();
+        aggregateGroupShard.acquire();
+        try {
+            final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupShard.pollGroupsToConclude(nowMillis, forceConclude);
+            for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
+                final AggregateGroup aggregateGroup = groupEntry.getValue();
+                try {
+                    if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
+                        LOG.debug("Start critical section in concludeGroup");
+                        actionOutputs.add(aggregateAction.concludeGroup(aggregateGroup));
+                        aggregateGroupShard.closeGroup(groupEntry);
+                    } else {
+                        aggregateGroupShard.reschedule(aggregateGroup, nowMillis + aggregateGroupShard.getTickMillis());
+                    }
+                } catch (final Exception e) {
+                    LOG.debug("Error while concluding group: ", e);
+                    actionConcludeGroupEventsProcessingErrors.increment();
+                    aggregateGroupShard.reschedule(aggregateGroup, nowMillis + aggregateGroupShard.getTickMillis());
                 }
-            } catch (final Exception e) {
-                LOG.debug("Error while concluding group: ", e);
-                actionConcludeGroupEventsProcessingErrors.increment();
-            } finally {
-                handleEventForGroupLock.unlock();
-                concludeGroupLock.unlock();
             }
+        } finally {
+            aggregateGroupShard.release();
         }
-        return actionOutput;
+        return actionOutputs;
     }
 
-    AggregateActionResponse handleEventForGroup(final Event event, final AggregateIdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
-
-        concludeGroupLock.lock();
-        concludeGroupLock.unlock();
+    AggregateActionResponse handleEventForGroup(final Event event, final AggregateIdentificationKeysHasher.IdentificationKeysMap hash) {
+        final AggregateGroupShard aggregateGroupShard = aggregateGroupManager.getShard(hash);
 
         AggregateActionResponse handleEventResponse;
-        handleEventForGroupLock.lock();
+        aggregateGroupShard.acquire();
         try {
             LOG.debug("Start critical section in handleEventForGroup");
+            final AggregateGroup aggregateGroup = aggregateGroupShard.getOrCreateGroup(hash);
             handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
-            aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
+            aggregateGroupShard.onEventHandled(aggregateGroup, Instant.now().toEpochMilli());
         } catch (final Exception e) {
             LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
             actionHandleEventsProcessingErrors.increment();
             handleEventResponse = new AggregateActionResponse(event);
         } finally {
-            handleEventForGroupLock.unlock();
+            aggregateGroupShard.release();
         }
 
         return handleEventResponse;
@@ -9,23 +9,18 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 class AggregateGroup implements AggregateActionInput {
     private final GroupState groupState;
     private Instant groupStart;
-    private final Lock concludeGroupLock;
-    private final Lock handleEventForGroupLock;
     private final Map<Object, Object> identificationKeys;
     private Function<Duration, Boolean> customShouldConclude;
+    private ConclusionTimerWheel.Timeout<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> conclusionTimeout;
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
         this.groupState = new DefaultGroupState();
         this.identificationKeys = identificationKeys;
         this.groupStart = Instant.now();
-        this.concludeGroupLock = new ReentrantLock();
-        this.handleEventForGroupLock = new ReentrantLock();
     }
 
     public GroupState getGroupState() {
@@ -40,17 +35,21 @@ class AggregateGroup implements AggregateActionInput {
         return groupStart;
     }
 
-    Lock getConcludeGroupLock() {
-        return concludeGroupLock;
-    }
-
     @Override
     public void setCustomShouldConclude(Function<Duration, Boolean> shouldConclude) {
         customShouldConclude = shouldConclude;
     }
 
-    Lock getHandleEventForGroupLock() {
-        return handleEventForGroupLock;
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
+    ConclusionTimerWheel.Timeout<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getConclusionTimeout() {
+        return conclusionTimeout;
+    }
+
+    void setConclusionTimeout(final ConclusionTimerWheel.Timeout<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> conclusionTimeout) {
+        this.conclusionTimeout = conclusionTimeout;
     }
 
     boolean shouldConcludeGroup(final Duration groupDuration) {
@@ -5,50 +5,64 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
-import com.google.common.collect.Maps;
-
 import java.time.Duration;
-import java.util.ArrayList;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 class AggregateGroupManager {
+    static final int DEFAULT_SHARD_COUNT = shardCountFor(Runtime.getRuntime().availableProcessors());
+    static final int TIMER_WHEEL_SIZE = 1024;
+    static final long MAX_TICK_MILLIS = 100;
 
-    private final Map<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final AggregateGroupShard[] shards;
+    private final List<AggregateGroupShard> shardList;
+    private final int shardMask;
+    private final AtomicLong allGroupsSize = new AtomicLong();
     private final Duration groupDuration;
 
     AggregateGroupManager(final Duration groupDuration) {
-        this.groupDuration = groupDuration;
+        this(groupDuration, DEFAULT_SHARD_COUNT);
     }
 
-    AggregateGroup getAggregateGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
-    }
+    AggregateGroupManager(final Duration groupDuration, final int shardCount) {
+        this.groupDuration = groupDuration;
+        final int roundedShardCount = shardCount <= 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+        final long tickMillis = Math.max(1, Math.min(MAX_TICK_MILLIS, groupDuration.toMillis() / TIMER_WHEEL_SIZE));
+        final long startMillis = Instant.now().toEpochMilli();
 
-    List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
-        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
-            }
+        this.shards = new AggregateGroupShard[roundedShardCount];
+        for (int i = 0; i < roundedShardCount; i++) {
+            shards[i] = new AggregateGroupShard(groupDuration, new ConclusionTimerWheel<>(tickMillis, TIMER_WHEEL_SIZE, startMillis), allGroupsSize);
         }
-        return groupsToConclude;
+        this.shardList = Collections.unmodifiableList(Arrays.asList(shards));
+        this.shardMask = roundedShardCount - 1;
     }
 
-    void closeGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.remove(hashKeyMap, group);
-        group.resetGroup();
+    /**
+     * Shards are selected from the upper bits of the identification keys hash, since the lower bits are what
+     * the {@link java.util.HashMap} within each shard uses to pick a bucket.
+     */
+    AggregateGroupShard getShard(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        return shards[(int) (identificationKeysMap.getHash() >>> 40) & shardMask];
     }
 
-    void putGroupWithHash(final AggregateIdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+    List<AggregateGroupShard> getShards() {
+        return shardList;
     }
 
     long getAllGroupsSize() {
-        return allGroups.size();
+        return allGroupsSize.get();
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    static int shardCountFor(final int parallelism) {
+        final int shardCount = Math.max(16, parallelism * 4);
+        return Integer.highestOneBit(shardCount - 1) << 1;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A partition of the {@link AggregateGroup}s owned by an {@link AggregateGroupManager}. Each shard is owned by a single
+ * writer at a time: a thread must {@link #acquire()} the shard before reading or modifying any
+ * of its groups, so that handling an event only takes ownership of one shard rather than locking the group itself. Groups are scheduled on
+ * a {@link ConclusionTimerWheel} by the time they are expected to conclude, so that looking for groups to conclude only
+ * visits the groups that are due.
+ *
+ * @since 2.4
+ */
+class AggregateGroupShard {
+    private final ReentrantLock ownerLock = new ReentrantLock();
+    private final Map<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groups = new HashMap<>();
+    private final ConclusionTimerWheel<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> timerWheel;
+    private final Duration groupDuration;
+    private final AtomicLong allGroupsSize;
+    private volatile long nextConclusionCheckMillis;
+
+    AggregateGroupShard(final Duration groupDuration, final ConclusionTimerWheel<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> timerWheel,
+                        final AtomicLong allGroupsSize) {
+        this.groupDuration = groupDuration;
+        this.timerWheel = timerWheel;
+        this.allGroupsSize = allGroupsSize;
+        this.nextConclusionCheckMillis = timerWheel.getNextTickMillis();
+    }
+
+    void acquire() {
+        ownerLock.lock();
+    }
+
+    void release() {
+        ownerLock.unlock();
+    }
+
+    /**
+     * Cheap check that can be made without owning the shard.
+     *
+     * @return true if advancing the timer wheel to nowMillis could return groups to conclude
+     */
+    boolean isConclusionCheckDue(final long nowMillis) {
+        return nowMillis >= nextConclusionCheckMillis;
+    }
+
+    AggregateGroup getOrCreateGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        AggregateGroup aggregateGroup = groups.get(identificationKeysMap);
+        if (aggregateGroup == null) {
+            aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+            groups.put(identificationKeysMap, aggregateGroup);
+            allGroupsSize.incrementAndGet();
+            aggregateGroup.setConclusionTimeout(timerWheel.schedule(new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup),
+                    aggregateGroup.getGroupStart().plus(groupDuration).toEpochMilli()));
+        }
+        return aggregateGroup;
+    }
+
+    /**
+     * Groups with a custom conclusion check cannot be scheduled by their group duration, so they are checked on
+     * every tick of the timer wheel once the check has been set.
+     */
+    void onEventHandled(final AggregateGroup aggregateGroup, final long nowMillis) {
+        if (aggregateGroup.hasCustomShouldConclude()) {
+            final long tickMillis = timerWheel.getTickMillis();
+            final ConclusionTimerWheel.Timeout<?> conclusionTimeout = aggregateGroup.getConclusionTimeout();
+            if (conclusionTimeout.isCancelled() || conclusionTimeout.getDeadlineMillis() > nowMillis + 2 * tickMillis) {
+                reschedule(aggregateGroup, nowMillis + tickMillis);
+            }
+        }
+    }
+
+    /**
+     * @return The groups whose conclusion time has been reached, or every group when forceConclude is true. Each
+     * returned group must either be passed to {@link #closeGroup(Map.Entry)} or {@link #reschedule(AggregateGroup, long)}.
+     */
+    List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> pollGroupsToConclude(final long nowMillis, final boolean forceConclude) {
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude;
+        if (forceConclude) {
+            groupsToConclude = new ArrayList<>(groups.size());
+            for (final AggregateGroup aggregateGroup : groups.values()) {
+                groupsToConclude.add(aggregateGroup.getConclusionTimeout().getItem());
+            }
+        } else {
+            groupsToConclude = timerWheel.advance(nowMillis);
+        }
+        nextConclusionCheckMillis = timerWheel.getNextTickMillis();
+        return groupsToConclude;
+    }
+
+    void reschedule(final AggregateGroup aggregateGroup, final long deadlineMillis) {
+        final ConclusionTimerWheel.Timeout<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> conclusionTimeout = aggregateGroup.getConclusionTimeout();
+        conclusionTimeout.cancel();
+        aggregateGroup.setConclusionTimeout(timerWheel.schedule(conclusionTimeout.getItem(), deadlineMillis));
+    }
+
+    void closeGroup(final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry) {
+        final AggregateGroup aggregateGroup = groupEntry.getValue();
+        if (groups.remove(groupEntry.getKey(), aggregateGroup)) {
+            allGroupsSize.decrementAndGet();
+        }
+        aggregateGroup.getConclusionTimeout().cancel();
+        aggregateGroup.resetGroup();
+    }
+
+    long getTickMillis() {
+        return timerWheel.getTickMillis();
+    }
+
+    int size() {
+        return groups.size();
+    }
+}
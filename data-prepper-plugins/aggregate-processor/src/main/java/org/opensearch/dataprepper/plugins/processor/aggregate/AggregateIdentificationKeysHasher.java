@@ -7,30 +7,90 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 class AggregateIdentificationKeysHasher {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     private final List<String> identificationKeys;
+    private final long[] identificationKeyHashes;
+
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
+        this.identificationKeyHashes = new long[identificationKeys.size()];
+        for (int i = 0; i < identificationKeys.size(); i++) {
+            identificationKeyHashes[i] = hash64(identificationKeys.get(i));
+        }
     }
 
     IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
-        final Map<Object, Object> identificationKeysMap = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysMap.put(identificationKey, event.get(identificationKey, Object.class));
+        final Object[] identificationValues = new Object[identificationKeys.size()];
+        long hash = 0;
+        for (int i = 0; i < identificationValues.length; i++) {
+            identificationValues[i] = event.get(identificationKeys.get(i), Object.class);
+            hash += entryHash(identificationKeyHashes[i], identificationValues[i]);
         }
-        return new IdentificationKeysMap(identificationKeysMap);
+        return new IdentificationKeysMap(identificationKeys, identificationValues, hash);
+    }
+
+    /**
+     * Entries are combined by addition so that the hash of a set of identification keys does not depend on the
+     * order in which they are visited, which keeps it consistent between the list and {@link Map} representations.
+     */
+    static long entryHash(final long keyHash, final Object value) {
+        return mix64(keyHash * 31 + hash64(value));
+    }
+
+    static long hash64(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            final String string = (String) value;
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < string.length(); i++) {
+                hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+            }
+            return mix64(hash);
+        }
+        return mix64(value.hashCode());
+    }
+
+    private static long mix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
     }
 
     public static class IdentificationKeysMap {
-        private final Map<Object, Object> keyMap;
+        private final List<String> identificationKeys;
+        private final Object[] identificationValues;
+        private final long hash;
+        private Map<Object, Object> keyMap;
 
         IdentificationKeysMap(final Map<Object, Object> keyMap) {
             this.keyMap = keyMap;
+            this.identificationKeys = null;
+            this.identificationValues = null;
+            long mapHash = 0;
+            for (final Map.Entry<Object, Object> entry : keyMap.entrySet()) {
+                mapHash += entryHash(hash64(entry.getKey()), entry.getValue());
+            }
+            this.hash = mapHash;
+        }
+
+        private IdentificationKeysMap(final List<String> identificationKeys, final Object[] identificationValues, final long hash) {
+            this.identificationKeys = identificationKeys;
+            this.identificationValues = identificationValues;
+            this.hash = hash;
         }
 
         @Override
@@ -38,15 +98,34 @@ class AggregateIdentificationKeysHasher {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IdentificationKeysMap that = (IdentificationKeysMap) o;
-            return Objects.equals(keyMap, that.keyMap);
+            if (hash != that.hash) return false;
+            if (identificationValues != null && that.identificationValues != null
+                    && (identificationKeys == that.identificationKeys || identificationKeys.equals(that.identificationKeys))) {
+                return Arrays.equals(identificationValues, that.identificationValues);
+            }
+            return Objects.equals(getKeyMap(), that.getKeyMap());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(keyMap);
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        /**
+         * @return The precomputed 64-bit hash of the identification keys and their values
+         */
+        long getHash() {
+            return hash;
         }
 
         Map<Object, Object> getKeyMap() {
+            if (keyMap == null) {
+                final Map<Object, Object> identificationKeysMap = new HashMap<>();
+                for (int i = 0; i < identificationValues.length; i++) {
+                    identificationKeysMap.put(identificationKeys.get(i), identificationValues[i]);
+                }
+                keyMap = identificationKeysMap;
+            }
             return keyMap;
         }
     }
@@ -22,7 +22,6 @@ import io.micrometer.core.instrument.Counter;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.time.Instant;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
@@ -82,18 +81,17 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
-        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
-        for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
-            final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
-
-            final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
-            if (!concludeGroupEvents.isEmpty()) {
-                concludeGroupEvents.stream().forEach((event) -> {
-                    recordsOut.add(new Record(event));
-                    actionConcludeGroupEventsOutCounter.increment();
-                });
-            } else {
-                actionConcludeGroupEventsDroppedCounter.increment();
+        for (final AggregateGroupShard aggregateGroupShard : aggregateGroupManager.getShards()) {
+            for (final AggregateActionOutput actionOutput : aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, forceConclude)) {
+                final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
+                if (concludeGroupEvents != null && !concludeGroupEvents.isEmpty()) {
+                    concludeGroupEvents.stream().forEach((event) -> {
+                        recordsOut.add(new Record(event));
+                        actionConcludeGroupEventsOutCounter.increment();
+                    });
+                } else {
+                    actionConcludeGroupEventsDroppedCounter.increment();
+                }
             }
         }
 
@@ -106,9 +104,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
                 continue;
             }
             final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            final AggregateGroup aggregateGroupForEvent = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-
-            final AggregateActionResponse handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroupForEvent);
+            final AggregateActionResponse handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap);
 
             final Event aggregateActionResponseEvent = handleEventResponse.getEvent();
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hashed timer wheel that buckets items by the tick in which they become due, so that advancing the wheel only
+ * visits the slots for the ticks that have elapsed rather than every scheduled item. Items scheduled further out than
+ * one rotation stay in their slot until a later pass reaches their tick.
+ * <p>
+ * This class is not thread-safe; callers must own the {@link AggregateGroupShard} that the wheel belongs to.
+ *
+ * @param <T> The type of the scheduled items
+ * @since 2.4
+ */
+class ConclusionTimerWheel<T> {
+    private final long tickMillis;
+    private final List<Timeout<T>>[] slots;
+    private final int mask;
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    ConclusionTimerWheel(final long tickMillis, final int wheelSize, final long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a positive power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item to be returned by {@link #advance(long)} once the wheel reaches the tick containing
+     * deadlineMillis. Deadlines in the past are due on the next tick.
+     */
+    Timeout<T> schedule(final T item, final long deadlineMillis) {
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        if (deadlineTick <= currentTick) {
+            deadlineTick = currentTick + 1;
+        }
+        final Timeout<T> timeout = new Timeout<>(item, deadlineTick * tickMillis);
+        slots[(int) (deadlineTick & mask)].add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel forward to nowMillis and returns the items whose deadlines have been reached. Cancelled
+     * timeouts are dropped without being returned.
+     */
+    List<T> advance(final long nowMillis) {
+        final long nowTick = nowMillis / tickMillis;
+        if (nowTick <= currentTick) {
+            return Collections.emptyList();
+        }
+
+        final List<T> dueItems = new ArrayList<>();
+        final long ticksToVisit = Math.min(nowTick - currentTick, slots.length);
+        for (long tick = currentTick + 1; tick <= currentTick + ticksToVisit; tick++) {
+            expireSlot(slots[(int) (tick & mask)], nowTick * tickMillis, dueItems);
+        }
+        currentTick = nowTick;
+        return dueItems;
+    }
+
+    /**
+     * @return The earliest time at which {@link #advance(long)} can return any items
+     */
+    long getNextTickMillis() {
+        return (currentTick + 1) * tickMillis;
+    }
+
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    private static <T> void expireSlot(final List<Timeout<T>> slot, final long nowTickMillis, final List<T> dueItems) {
+        int retained = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            final Timeout<T> timeout = slot.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.getDeadlineMillis() <= nowTickMillis) {
+                timeout.cancel();
+                dueItems.add(timeout.getItem());
+                continue;
+            }
+            slot.set(retained++, timeout);
+        }
+        slot.subList(retained, slot.size()).clear();
+    }
+
+    static class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private boolean cancelled;
+
+        private Timeout(final T item, final long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        T getItem() {
+            return item;
+        }
+
+        long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
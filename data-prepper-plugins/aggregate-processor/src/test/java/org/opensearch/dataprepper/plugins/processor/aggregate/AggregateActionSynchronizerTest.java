@@ -19,16 +19,19 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.Duration;
+import java.util.AbstractMap;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -43,6 +46,9 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private AggregateGroupManager aggregateGroupManager;
 
+    @Mock
+    private AggregateGroupShard aggregateGroupShard;
+
     @Mock
     private AggregateGroup aggregateGroup;
 
@@ -52,12 +58,6 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private AggregateActionResponse aggregateActionResponse;
 
-    @Mock
-    private Lock concludeGroupLock;
-
-    @Mock
-    private Lock handleEventForGroupLock;
-
     @Mock
     private Event event;
 
@@ -70,16 +70,18 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private Counter actionConcludeGroupEventsProcessingErrors;
 
+    private Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry;
+
     @BeforeEach
     void setup() {
-        doNothing().when(handleEventForGroupLock).lock();
-        doNothing().when(handleEventForGroupLock).unlock();
-        doNothing().when(concludeGroupLock).unlock();
-        doNothing().when(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
-        doNothing().when(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        groupEntry = new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup);
+
         when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ZERO);
-        when(aggregateGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
-        when(aggregateGroup.getHandleEventForGroupLock()).thenReturn(handleEventForGroupLock);
+        when(aggregateGroupManager.getShard(identificationKeysMap)).thenReturn(aggregateGroupShard);
+        when(aggregateGroupShard.getOrCreateGroup(identificationKeysMap)).thenReturn(aggregateGroup);
+        when(aggregateGroupShard.isConclusionCheckDue(anyLong())).thenReturn(true);
+        when(aggregateGroupShard.pollGroupsToConclude(anyLong(), anyBoolean())).thenReturn(List.of(groupEntry));
+        when(aggregateGroupShard.getTickMillis()).thenReturn(10L);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(true);
 
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_HANDLE_EVENTS_PROCESSING_ERRORS)).thenReturn(actionHandleEventsProcessingErrors);
@@ -92,58 +94,52 @@ public class AggregateActionSynchronizerTest {
     }
 
     @Test
-    void concludeGroup_with_tryLock_false_returns_empty_optional() {
+    void concludeGroups_when_no_conclusion_check_is_due_does_not_acquire_shard() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(false);
+        when(aggregateGroupShard.isConclusionCheckDue(anyLong())).thenReturn(false);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
-        final List<Event> concludeGroupEvents = actionOutput.getEvents();
+        final List<AggregateActionOutput> actionOutputs = objectUnderTest.concludeGroups(aggregateGroupShard, false);
 
-        verifyNoInteractions(handleEventForGroupLock);
         verifyNoInteractions(aggregateAction);
-        verifyNoInteractions(aggregateGroupManager);
-        verify(concludeGroupLock, times(0)).unlock();
+        verify(aggregateGroupShard, never()).acquire();
 
-        assertTrue(concludeGroupEvents.isEmpty());
+        assertTrue(actionOutputs.isEmpty());
     }
 
     @Test
-    void concludeGroup_with_tryLock_true_calls_expected_functions_and_returns_correct_event() {
+    void concludeGroups_with_due_groups_calls_expected_functions_and_returns_correct_event() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
-        final List<Event> concludeGroupEvents = actionOutput.getEvents();
+        final List<AggregateActionOutput> actionOutputs = objectUnderTest.concludeGroups(aggregateGroupShard, false);
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateAction);
+        inOrder.verify(aggregateGroupShard).acquire();
+        inOrder.verify(aggregateGroupShard).pollGroupsToConclude(anyLong(), eq(false));
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
-        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).closeGroup(groupEntry);
+        inOrder.verify(aggregateGroupShard).release();
 
-        assertThat(concludeGroupEvents.size(), equalTo(1));
-        assertThat(concludeGroupEvents.get(0), equalTo(event));
+        assertThat(actionOutputs.size(), equalTo(1));
+        assertThat(actionOutputs.get(0).getEvents(), equalTo(List.of(event)));
     }
 
     @Test
-    void locks_are_unlocked_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
+    void shard_is_released_and_group_rescheduled_when_aggregateAction_concludeGroup_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenThrow(RuntimeException.class);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
-        final List<Event> concludeGroupEvents = actionOutput.getEvents();
+        final List<AggregateActionOutput> actionOutputs = objectUnderTest.concludeGroups(aggregateGroupShard, false);
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, concludeGroupLock, actionConcludeGroupEventsProcessingErrors);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateAction, actionConcludeGroupEventsProcessingErrors);
+        inOrder.verify(aggregateGroupShard).acquire();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(actionConcludeGroupEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).reschedule(eq(aggregateGroup), anyLong());
+        inOrder.verify(aggregateGroupShard).release();
+        verify(aggregateGroupShard, never()).closeGroup(any());
 
-        assertTrue(concludeGroupEvents.isEmpty());
+        assertTrue(actionOutputs.isEmpty());
     }
 
     @Test
@@ -151,79 +147,71 @@ public class AggregateActionSynchronizerTest {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
 
-        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateAction);
+        inOrder.verify(aggregateGroupShard).acquire();
+        inOrder.verify(aggregateGroupShard).getOrCreateGroup(identificationKeysMap);
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
-        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).onEventHandled(eq(aggregateGroup), anyLong());
+        inOrder.verify(aggregateGroupShard).release();
 
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
     }
 
     @Test
-    void locks_are_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
+    void shard_is_released_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenThrow(RuntimeException.class);
 
-        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateAction, actionHandleEventsProcessingErrors);
-        inOrder.verify(concludeGroupLock).lock();
-        inOrder.verify(concludeGroupLock).unlock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateAction, actionHandleEventsProcessingErrors);
+        inOrder.verify(aggregateGroupShard).acquire();
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
         inOrder.verify(actionHandleEventsProcessingErrors).increment();
-        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).release();
 
         assertThat(handleEventResponse, notNullValue());
         assertThat(handleEventResponse.getEvent(), equalTo(event));
     }
 
     @Test
-    void conclude_group_with_should_conclude_group_false_returns_empty_optional() {
+    void conclude_group_with_should_conclude_group_false_reschedules_group() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(false);
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
-        final List<Event> concludeGroupEvents = actionOutput.getEvents();
+        final List<AggregateActionOutput> actionOutputs = objectUnderTest.concludeGroups(aggregateGroupShard, false);
 
-        final InOrder inOrder = Mockito.inOrder(concludeGroupLock, handleEventForGroupLock, aggregateGroup, aggregateGroupManager);
-        inOrder.verify(concludeGroupLock).tryLock();
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateGroup);
+        inOrder.verify(aggregateGroupShard).acquire();
         inOrder.verify(aggregateGroup).shouldConcludeGroup(any(Duration.class));
-        inOrder.verify(aggregateGroupManager, times(0)).getGroupDuration();
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).reschedule(eq(aggregateGroup), anyLong());
+        inOrder.verify(aggregateGroupShard).release();
 
         verifyNoInteractions(aggregateAction);
+        verify(aggregateGroupShard, never()).closeGroup(any());
 
-
-        assertTrue(concludeGroupEvents.isEmpty());
+        assertTrue(actionOutputs.isEmpty());
     }
 
     @Test
     void conclude_group_with_should_conclude_group_false_force_conclude_true_returns_correct_event() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
-        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroupShard.isConclusionCheckDue(anyLong())).thenReturn(false);
         when(aggregateGroup.shouldConcludeGroup(any(Duration.class))).thenReturn(false);
         when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
 
-        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, true);
-        final List<Event> concludeGroupEvents = actionOutput.getEvents();
+        final List<AggregateActionOutput> actionOutputs = objectUnderTest.concludeGroups(aggregateGroupShard, true);
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, aggregateGroupManager, concludeGroupLock);
-        inOrder.verify(handleEventForGroupLock).lock();
+        final InOrder inOrder = Mockito.inOrder(aggregateGroupShard, aggregateAction);
+        inOrder.verify(aggregateGroupShard).acquire();
+        inOrder.verify(aggregateGroupShard).pollGroupsToConclude(anyLong(), eq(true));
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
-        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
-        inOrder.verify(handleEventForGroupLock).unlock();
-        inOrder.verify(concludeGroupLock).unlock();
+        inOrder.verify(aggregateGroupShard).closeGroup(groupEntry);
+        inOrder.verify(aggregateGroupShard).release();
 
-        assertThat(concludeGroupEvents.size(), equalTo(1));
-        assertThat(concludeGroupEvents.get(0), equalTo(event));
+        assertThat(actionOutputs.size(), equalTo(1));
+        assertThat(actionOutputs.get(0).getEvents(), equalTo(List.of(event)));
     }
 }
@@ -7,22 +7,25 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.Duration;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
 
@@ -34,110 +37,91 @@ public class AggregateGroupManagerTest {
 
     @BeforeEach
     void setup() {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+        identificationKeysMap = createIdentificationKeysMap();
     }
 
     private AggregateGroupManager createObjectUnderTest() {
         return new AggregateGroupManager(TEST_GROUP_DURATION);
     }
 
+    private static AggregateIdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        final Map<Object, Object> identificationKeysHash = new HashMap<>();
+        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        return new AggregateIdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+    }
+
     @Test
-    void getGroup_with_non_existing_group_state_creates_and_returns_new_group_and_adds_to_allGroups() {
+    void getShard_returns_same_shard_for_equal_identification_keys() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup emptyAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(emptyAggregateGroup, notNullValue());
-        assertThat(emptyAggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap equalIdentificationKeysMap =
+                new AggregateIdentificationKeysHasher.IdentificationKeysMap(new HashMap<>(identificationKeysMap.getKeyMap()));
 
-        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(secondAggregateGroup, notNullValue());
-        assertThat(secondAggregateGroup, is(sameInstance(emptyAggregateGroup)));
+        final AggregateGroupShard shard = aggregateGroupManager.getShard(identificationKeysMap);
+        assertThat(shard, notNullValue());
+        assertThat(aggregateGroupManager.getShard(equalIdentificationKeysMap), is(sameInstance(shard)));
     }
 
     @Test
-    void getGroupState_returns_a_mutable_GroupState_Map() {
+    void getShard_distributes_identification_keys_over_multiple_shards() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup firstAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        final GroupState groupState = firstAggregateGroup.getGroupState();
-        groupState.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        final AggregateGroup secondAggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(secondAggregateGroup, equalTo(firstAggregateGroup));
-        assertThat(secondAggregateGroup.getGroupState(), equalTo(groupState));
+        final Set<AggregateGroupShard> usedShards = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            usedShards.add(aggregateGroupManager.getShard(createIdentificationKeysMap()));
+        }
 
+        assertThat(usedShards.size(), greaterThan(1));
     }
 
     @Test
-    void putGroupWithHash_overwrites_old_group() {
-        aggregateGroupManager = createObjectUnderTest();
-
-        final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
-        final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(oldGroup, equalTo(expectedOldGroup));
+    void getShards_returns_a_power_of_two_number_of_shards() {
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, 5);
 
-        final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
-        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(newGroup, equalTo(expectedNewGroup));
+        final List<AggregateGroupShard> shards = aggregateGroupManager.getShards();
+        assertThat(shards.size(), equalTo(8));
     }
 
     @Test
-    void getGroupsToConclude_returns_correct_group() {
+    void getAllGroupsSize_counts_groups_across_shards() {
         aggregateGroupManager = createObjectUnderTest();
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+
+        final int groupCount = new Random().nextInt(50) + 10;
+        for (int i = 0; i < groupCount; i++) {
+            final AggregateIdentificationKeysHasher.IdentificationKeysMap keysMap = createIdentificationKeysMap();
+            final AggregateGroupShard shard = aggregateGroupManager.getShard(keysMap);
+            shard.acquire();
+            try {
+                shard.getOrCreateGroup(keysMap);
+                shard.getOrCreateGroup(keysMap);
+            } finally {
+                shard.release();
+            }
+        }
 
-        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
-        when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
-
-        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
-
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToNotConclude, groupToNotConclude);
-
-        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
-
-        assertThat(groupsToConclude.size(), equalTo(1));
-        assertThat(groupsToConclude.get(0), notNullValue());
-        assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
-        assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo((long) groupCount));
     }
 
     @Test
-    void getGroupsToConclude_with_force_conclude_return_all() {
+    void getGroupDuration_returns_configured_duration() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
-
-        final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
-        final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
-
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude2, groupToConclude2);
-
-        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
-
-        assertThat(groupsToConclude.size(), equalTo(2));
-        assertThat(groupsToConclude.get(0), notNullValue());
-        assertThat(groupsToConclude.get(1), notNullValue());
+        assertThat(aggregateGroupManager.getGroupDuration(), equalTo(TEST_GROUP_DURATION));
+    }
 
-        if (groupsToConclude.get(0).getKey().equals(hashForGroupToConclude1)) {
-            assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude1));
-            assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude1));
-            assertThat(groupsToConclude.get(1).getKey(), equalTo(hashForGroupToConclude2));
-            assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude2));
-        } else {
-            assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude2));
-            assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude2));
-            assertThat(groupsToConclude.get(1).getKey(), equalTo(hashForGroupToConclude1));
-            assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude1));
-        }
+    @ParameterizedTest
+    @CsvSource({
+            "1, 16",
+            "4, 16",
+            "5, 32",
+            "16, 64",
+            "24, 128"
+    })
+    void shardCountFor_returns_power_of_two_of_at_least_four_shards_per_thread(final int parallelism, final int expectedShardCount) {
+        final int shardCount = AggregateGroupManager.shardCountFor(parallelism);
+
+        assertThat(shardCount, equalTo(expectedShardCount));
+        assertThat(shardCount, greaterThanOrEqualTo(parallelism * 4));
     }
 }
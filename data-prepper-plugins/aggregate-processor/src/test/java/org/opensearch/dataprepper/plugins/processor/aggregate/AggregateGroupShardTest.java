@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class AggregateGroupShardTest {
+    private static final long TICK_MILLIS = 10;
+    private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(60);
+
+    private AtomicLong allGroupsSize;
+    private long startMillis;
+    private AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+
+    @BeforeEach
+    void setUp() {
+        allGroupsSize = new AtomicLong();
+        startMillis = Instant.now().toEpochMilli();
+        final Map<Object, Object> keyMap = new HashMap<>();
+        keyMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        identificationKeysMap = new AggregateIdentificationKeysHasher.IdentificationKeysMap(keyMap);
+    }
+
+    private AggregateGroupShard createObjectUnderTest() {
+        return new AggregateGroupShard(TEST_GROUP_DURATION, new ConclusionTimerWheel<>(TICK_MILLIS, 64, startMillis), allGroupsSize);
+    }
+
+    @Test
+    void getOrCreateGroup_creates_group_once_and_returns_the_same_group() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+        final AggregateGroup secondAggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+
+        assertThat(secondAggregateGroup, is(sameInstance(aggregateGroup)));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroup.getIdentificationKeys(), equalTo(identificationKeysMap.getKeyMap()));
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(allGroupsSize.get(), equalTo(1L));
+    }
+
+    @Test
+    void pollGroupsToConclude_does_not_return_groups_before_group_duration() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getOrCreateGroup(identificationKeysMap);
+
+        assertThat(objectUnderTest.pollGroupsToConclude(startMillis + TEST_GROUP_DURATION.toMillis() / 2, false), empty());
+    }
+
+    @Test
+    void pollGroupsToConclude_returns_group_after_group_duration() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude =
+                objectUnderTest.pollGroupsToConclude(aggregateGroup.getGroupStart().plus(TEST_GROUP_DURATION).toEpochMilli() + TICK_MILLIS, false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void pollGroupsToConclude_with_force_conclude_returns_all_groups() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+
+        final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude =
+                objectUnderTest.pollGroupsToConclude(startMillis, true);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void isConclusionCheckDue_is_only_true_once_a_tick_has_passed() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final long nextTickMillis = (startMillis / TICK_MILLIS + 1) * TICK_MILLIS;
+
+        assertThat(objectUnderTest.isConclusionCheckDue(nextTickMillis - 1), equalTo(false));
+        assertThat(objectUnderTest.isConclusionCheckDue(nextTickMillis), equalTo(true));
+
+        objectUnderTest.pollGroupsToConclude(nextTickMillis, false);
+
+        assertThat(objectUnderTest.isConclusionCheckDue(nextTickMillis), equalTo(false));
+        assertThat(objectUnderTest.isConclusionCheckDue(nextTickMillis + TICK_MILLIS), equalTo(true));
+    }
+
+    @Test
+    void closeGroup_removes_group_and_resets_state() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry =
+                objectUnderTest.pollGroupsToConclude(startMillis, true).get(0);
+
+        objectUnderTest.closeGroup(groupEntry);
+
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(allGroupsSize.get(), equalTo(0L));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroup.getConclusionTimeout().isCancelled(), equalTo(true));
+        assertThat(objectUnderTest.pollGroupsToConclude(startMillis + TEST_GROUP_DURATION.toMillis() * 2, false), empty());
+        assertThat(objectUnderTest.getOrCreateGroup(identificationKeysMap), is(not(sameInstance(aggregateGroup))));
+    }
+
+    @Test
+    void reschedule_moves_group_to_new_deadline() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+
+        objectUnderTest.reschedule(aggregateGroup, startMillis + TICK_MILLIS * 3);
+
+        assertThat(objectUnderTest.pollGroupsToConclude(startMillis + TICK_MILLIS * 5, false).get(0).getValue(), is(sameInstance(aggregateGroup)));
+        assertThat(objectUnderTest.pollGroupsToConclude(startMillis + TEST_GROUP_DURATION.toMillis() * 2, false), empty());
+    }
+
+    @Test
+    void onEventHandled_with_custom_should_conclude_checks_group_on_next_tick() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        objectUnderTest.onEventHandled(aggregateGroup, startMillis);
+        final ConclusionTimerWheel.Timeout<?> conclusionTimeout = aggregateGroup.getConclusionTimeout();
+        assertThat(conclusionTimeout.getDeadlineMillis(), lessThanOrEqualTo(startMillis + TICK_MILLIS * 2));
+
+        objectUnderTest.onEventHandled(aggregateGroup, startMillis);
+        assertThat(aggregateGroup.getConclusionTimeout(), is(sameInstance(conclusionTimeout)));
+
+        assertThat(objectUnderTest.pollGroupsToConclude(startMillis + TICK_MILLIS * 2, false).get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void onEventHandled_without_custom_should_conclude_keeps_group_duration_deadline() {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        final AggregateGroup aggregateGroup = objectUnderTest.getOrCreateGroup(identificationKeysMap);
+        final ConclusionTimerWheel.Timeout<?> conclusionTimeout = aggregateGroup.getConclusionTimeout();
+
+        objectUnderTest.onEventHandled(aggregateGroup, startMillis);
+
+        assertThat(aggregateGroup.getConclusionTimeout(), is(sameInstance(conclusionTimeout)));
+    }
+
+    @Test
+    void acquire_blocks_other_owners_until_released() throws Exception {
+        final AggregateGroupShard objectUnderTest = createObjectUnderTest();
+        objectUnderTest.acquire();
+        final CompletableFuture<Void> otherOwner;
+        try {
+            otherOwner = CompletableFuture.runAsync(() -> {
+                objectUnderTest.acquire();
+                objectUnderTest.release();
+            });
+            Thread.sleep(50);
+            assertThat(otherOwner.isDone(), equalTo(false));
+        } finally {
+            objectUnderTest.release();
+        }
+        otherOwner.get(5, TimeUnit.SECONDS);
+        assertThat(objectUnderTest.getTickMillis(), equalTo(TICK_MILLIS));
+    }
+}
@@ -50,6 +50,17 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void hasCustomShouldConclude_is_true_after_setting_custom_should_conclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> false);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+        assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
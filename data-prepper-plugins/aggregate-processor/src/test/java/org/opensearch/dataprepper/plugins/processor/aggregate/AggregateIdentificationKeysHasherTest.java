@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -124,4 +125,48 @@ public class AggregateIdentificationKeysHasherTest {
 
         assertThat(result, is(not(equalTo(secondResult))));
     }
+
+    @Test
+    void createIdentificationKeysMapFromEvent_has_same_hash_and_key_map_as_equivalent_Map() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final Map<Object, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
+        eventMap.put("secondIdentificationKey", new Random().nextInt());
+
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap expectedResult = new AggregateIdentificationKeysHasher.IdentificationKeysMap(new HashMap<>(eventMap));
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap result = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
+
+        assertThat(result.getHash(), equalTo(expectedResult.getHash()));
+        assertThat(result.hashCode(), equalTo(expectedResult.hashCode()));
+        assertThat(result.getKeyMap(), equalTo(expectedResult.getKeyMap()));
+        assertThat(expectedResult, equalTo(result));
+    }
+
+    @Test
+    void identification_keys_with_swapped_values_have_different_hashes() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final String firstValue = UUID.randomUUID().toString();
+        final String secondValue = UUID.randomUUID().toString();
+
+        final Event firstEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("firstIdentificationKey", firstValue, "secondIdentificationKey", secondValue))
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("firstIdentificationKey", secondValue, "secondIdentificationKey", firstValue))
+                .build();
+
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap result = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(firstEvent);
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap secondResult = aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(secondEvent);
+
+        assertThat(result.getHash(), is(not(equalTo(secondResult.getHash()))));
+        assertThat(result, is(not(equalTo(secondResult))));
+    }
 }
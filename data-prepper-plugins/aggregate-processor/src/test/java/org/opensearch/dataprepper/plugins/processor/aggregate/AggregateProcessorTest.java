@@ -26,7 +26,6 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -77,7 +76,7 @@ public class AggregateProcessorTest {
     private AggregateActionSynchronizer aggregateActionSynchronizer;
 
     @Mock
-    private AggregateGroup aggregateGroup;
+    private AggregateGroupShard aggregateGroupShard;
 
     @Mock
     private AggregateActionResponse aggregateActionResponse;
@@ -162,14 +161,14 @@ public class AggregateProcessorTest {
         void setup() {
             when(aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event))
                     .thenReturn(identificationKeysMap);
-            when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(aggregateGroup);
-            when(aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup)).thenReturn(aggregateActionResponse);
+            when(aggregateGroupManager.getShards()).thenReturn(List.of(aggregateGroupShard));
+            when(aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap)).thenReturn(aggregateActionResponse);
         }
 
         @Test
         void handleEvent_returning_with_no_event_does_not_add_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.emptyList());
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, false)).thenReturn(Collections.emptyList());
             when(aggregateActionResponse.getEvent()).thenReturn(null);
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
@@ -181,7 +180,7 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
             verifyNoInteractions(actionConcludeGroupEventsOutCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(false));
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, false);
         }
 
         @Test
@@ -211,13 +210,13 @@ public class AggregateProcessorTest {
 
             when(aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(firstEvent))
                     .thenReturn(identificationKeysMap);
-            when(aggregateActionSynchronizer.handleEventForGroup(firstEvent, identificationKeysMap, aggregateGroup)).thenReturn(firstAggregateActionResponse);
+            when(aggregateActionSynchronizer.handleEventForGroup(firstEvent, identificationKeysMap)).thenReturn(firstAggregateActionResponse);
             when(expressionEvaluator.evaluateConditional(condition, event)).thenReturn(true);
             when(expressionEvaluator.evaluateConditional(condition, firstEvent)).thenReturn(true);
             when(expressionEvaluator.evaluateConditional(condition, secondEvent)).thenReturn(false);
             when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.emptyList());
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, false)).thenReturn(Collections.emptyList());
             when(aggregateActionResponse.getEvent()).thenReturn(event);
             when(firstAggregateActionResponse.getEvent()).thenReturn(firstEvent);
 
@@ -240,13 +239,13 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
             verifyNoInteractions(actionConcludeGroupEventsOutCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(false));
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, false);
         }
 
         @Test
         void handleEvent_returning_with_event_adds_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.emptyList());
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, false)).thenReturn(Collections.emptyList());
             when(aggregateActionResponse.getEvent()).thenReturn(event);
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
@@ -260,17 +259,15 @@ public class AggregateProcessorTest {
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
             verifyNoInteractions(actionConcludeGroupEventsOutCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(false));
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, false);
         }
 
         @Test
         void concludeGroup_returning_with_no_event_does_not_add_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
 
-            final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(groupEntry));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of()));
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, false)).thenReturn(List.of(new AggregateActionOutput(List.of())));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -281,18 +278,15 @@ public class AggregateProcessorTest {
             verify(actionHandleEventsOutCounter).increment(0);
             verifyNoInteractions(actionConcludeGroupEventsOutCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(false));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, false);
         }
 
         @Test
         void concludeGroup_returning_with_event_adds_event_to_records_out() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
 
-            final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(groupEntry));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of(event)));
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, false)).thenReturn(List.of(new AggregateActionOutput(List.of(event))));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -305,8 +299,7 @@ public class AggregateProcessorTest {
             verify(actionHandleEventsOutCounter).increment(0);
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(false));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, false);
         }
 
         @Test
@@ -314,10 +307,8 @@ public class AggregateProcessorTest {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
             objectUnderTest.prepareForShutdown();
 
-            final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
-            when(aggregateGroupManager.getGroupsToConclude(eq(true))).thenReturn(Collections.singletonList(groupEntry));
             when(aggregateActionResponse.getEvent()).thenReturn(null);
-            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, true)).thenReturn(new AggregateActionOutput(List.of(event)));
+            when(aggregateActionSynchronizer.concludeGroups(aggregateGroupShard, true)).thenReturn(List.of(new AggregateActionOutput(List.of(event))));
 
             final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
 
@@ -330,8 +321,7 @@ public class AggregateProcessorTest {
             verify(actionHandleEventsOutCounter).increment(0);
             verifyNoInteractions(actionConcludeGroupEventsDroppedCounter);
 
-            verify(aggregateGroupManager).getGroupsToConclude(eq(true));
-            verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, true);
+            verify(aggregateActionSynchronizer).concludeGroups(aggregateGroupShard, true);
         }
     }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConclusionTimerWheelTest {
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+    private static final long START_MILLIS = 1_000;
+
+    private ConclusionTimerWheel<String> createObjectUnderTest() {
+        return new ConclusionTimerWheel<>(TICK_MILLIS, WHEEL_SIZE, START_MILLIS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 3, 12})
+    void constructor_throws_with_invalid_wheel_size(final int wheelSize) {
+        assertThrows(IllegalArgumentException.class, () -> new ConclusionTimerWheel<String>(TICK_MILLIS, wheelSize, START_MILLIS));
+    }
+
+    @Test
+    void constructor_throws_with_invalid_tick() {
+        assertThrows(IllegalArgumentException.class, () -> new ConclusionTimerWheel<String>(0, WHEEL_SIZE, START_MILLIS));
+    }
+
+    @Test
+    void advance_returns_only_items_that_are_due() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String early = UUID.randomUUID().toString();
+        final String late = UUID.randomUUID().toString();
+        objectUnderTest.schedule(early, START_MILLIS + 20);
+        objectUnderTest.schedule(late, START_MILLIS + 50);
+
+        assertThat(objectUnderTest.advance(START_MILLIS + 19), empty());
+        assertThat(objectUnderTest.advance(START_MILLIS + 20), contains(early));
+        assertThat(objectUnderTest.advance(START_MILLIS + 49), empty());
+        assertThat(objectUnderTest.advance(START_MILLIS + 50), contains(late));
+    }
+
+    @Test
+    void advance_rounds_deadlines_up_to_the_next_tick() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String item = UUID.randomUUID().toString();
+        objectUnderTest.schedule(item, START_MILLIS + 21);
+
+        assertThat(objectUnderTest.advance(START_MILLIS + 25), empty());
+        assertThat(objectUnderTest.advance(START_MILLIS + 30), contains(item));
+    }
+
+    @Test
+    void advance_keeps_items_scheduled_beyond_one_rotation() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String item = UUID.randomUUID().toString();
+        final long rotationMillis = TICK_MILLIS * WHEEL_SIZE;
+        objectUnderTest.schedule(item, START_MILLIS + rotationMillis * 3 + 10);
+
+        assertThat(objectUnderTest.advance(START_MILLIS + rotationMillis + 10), empty());
+        assertThat(objectUnderTest.advance(START_MILLIS + rotationMillis * 2 + 10), empty());
+        assertThat(objectUnderTest.advance(START_MILLIS + rotationMillis * 3 + 10), contains(item));
+    }
+
+    @Test
+    void advance_past_more_than_one_rotation_returns_all_due_items() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String first = UUID.randomUUID().toString();
+        final String second = UUID.randomUUID().toString();
+        objectUnderTest.schedule(first, START_MILLIS + 10);
+        objectUnderTest.schedule(second, START_MILLIS + 70);
+
+        final List<String> dueItems = objectUnderTest.advance(START_MILLIS + TICK_MILLIS * WHEEL_SIZE * 5);
+
+        assertThat(dueItems, containsInAnyOrder(first, second));
+        assertThat(objectUnderTest.advance(START_MILLIS + TICK_MILLIS * WHEEL_SIZE * 6), empty());
+    }
+
+    @Test
+    void schedule_in_the_past_is_due_on_next_tick() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String item = UUID.randomUUID().toString();
+        final ConclusionTimerWheel.Timeout<String> timeout = objectUnderTest.schedule(item, START_MILLIS - 500);
+
+        assertThat(timeout.getDeadlineMillis(), equalTo(START_MILLIS + TICK_MILLIS));
+        assertThat(objectUnderTest.advance(START_MILLIS + TICK_MILLIS), contains(item));
+    }
+
+    @Test
+    void cancelled_timeouts_are_not_returned() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final String cancelled = UUID.randomUUID().toString();
+        final String kept = UUID.randomUUID().toString();
+        objectUnderTest.schedule(cancelled, START_MILLIS + 20).cancel();
+        objectUnderTest.schedule(kept, START_MILLIS + 20);
+
+        assertThat(objectUnderTest.advance(START_MILLIS + 20), contains(kept));
+    }
+
+    @Test
+    void returned_timeouts_are_marked_cancelled() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        final ConclusionTimerWheel.Timeout<String> timeout = objectUnderTest.schedule(UUID.randomUUID().toString(), START_MILLIS + 20);
+
+        assertThat(timeout.isCancelled(), equalTo(false));
+        objectUnderTest.advance(START_MILLIS + 20);
+        assertThat(timeout.isCancelled(), equalTo(true));
+    }
+
+    @Test
+    void getNextTickMillis_moves_with_the_wheel() {
+        final ConclusionTimerWheel<String> objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.getNextTickMillis(), equalTo(START_MILLIS + TICK_MILLIS));
+        assertThat(objectUnderTest.getTickMillis(), equalTo(TICK_MILLIS));
+
+        objectUnderTest.advance(START_MILLIS + 35);
+
+        assertThat(objectUnderTest.getNextTickMillis(), equalTo(START_MILLIS + 40));
+    }
+}
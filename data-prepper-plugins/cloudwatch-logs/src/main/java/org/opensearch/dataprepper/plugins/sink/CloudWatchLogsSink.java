@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.sink.AbstractSink;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.plugins.sink.buffer.InMemoryBufferFactory;
+import org.opensearch.dataprepper.plugins.sink.client.CloudWatchLogsClientFactory;
+import org.opensearch.dataprepper.plugins.sink.client.CloudWatchLogsDispatcher;
+import org.opensearch.dataprepper.plugins.sink.client.CloudWatchLogsMetrics;
+import org.opensearch.dataprepper.plugins.sink.client.CloudWatchLogsService;
+import org.opensearch.dataprepper.plugins.sink.config.CloudWatchLogsSinkConfig;
+import org.opensearch.dataprepper.plugins.sink.config.ThresholdConfig;
+import org.opensearch.dataprepper.plugins.sink.utils.CloudWatchLogsLimits;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends events to a CloudWatch Logs log group. The requests are spread over {@code log_stream_count} log streams,
+ * with one upload thread per log stream, and each log stream is paced to {@code max_requests_per_second_per_stream}.
+ */
+@DataPrepperPlugin(name = "cloudwatch_logs", pluginType = Sink.class, pluginConfigurationType = CloudWatchLogsSinkConfig.class)
+public class CloudWatchLogsSink extends AbstractSink<Record<Event>> {
+    private final CloudWatchLogsService cloudWatchLogsService;
+    private final ExecutorService uploadExecutor;
+    private volatile boolean isInitialized;
+
+    @DataPrepperPluginConstructor
+    public CloudWatchLogsSink(final PluginSetting pluginSetting,
+                              final CloudWatchLogsSinkConfig cloudWatchLogsSinkConfig,
+                              final AwsCredentialsSupplier awsCredentialsSupplier) {
+        super(pluginSetting);
+        final ThresholdConfig thresholdConfig = cloudWatchLogsSinkConfig.getThresholdConfig();
+        final CloudWatchLogsLimits cloudWatchLogsLimits = new CloudWatchLogsLimits(thresholdConfig.getBatchSize(),
+                thresholdConfig.getMaxEventSizeBytes(), thresholdConfig.getMaxRequestSize(), thresholdConfig.getLogSendInterval());
+        final CloudWatchLogsClient cloudWatchLogsClient =
+                CloudWatchLogsClientFactory.createCwlClient(cloudWatchLogsSinkConfig.getAwsConfig(), awsCredentialsSupplier);
+
+        uploadExecutor = Executors.newFixedThreadPool(cloudWatchLogsSinkConfig.getLogStreamCount());
+        final CloudWatchLogsDispatcher cloudWatchLogsDispatcher = CloudWatchLogsDispatcher.builder()
+                .cloudWatchLogsClient(cloudWatchLogsClient)
+                .cloudWatchLogsMetrics(new CloudWatchLogsMetrics(pluginMetrics))
+                .executor(uploadExecutor)
+                .logGroup(cloudWatchLogsSinkConfig.getLogGroup())
+                .logStream(cloudWatchLogsSinkConfig.getLogStream())
+                .logStreamCount(cloudWatchLogsSinkConfig.getLogStreamCount())
+                .maxRequestsPerSecondPerStream(cloudWatchLogsSinkConfig.getMaxRequestsPerSecondPerStream())
+                .retryCount(thresholdConfig.getRetryCount())
+                .backOffTimeBase(thresholdConfig.getBackOffTime())
+                .build();
+
+        cloudWatchLogsService = new CloudWatchLogsService(new InMemoryBufferFactory().getBuffer(),
+                cloudWatchLogsLimits, cloudWatchLogsDispatcher);
+    }
+
+    @Override
+    public void doInitialize() {
+        isInitialized = Boolean.TRUE;
+    }
+
+    @Override
+    public void doOutput(final Collection<Record<Event>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        cloudWatchLogsService.processLogEvents(records);
+    }
+
+    @Override
+    public boolean isReady() {
+        return isInitialized;
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        uploadExecutor.shutdown();
+    }
+}
@@ -7,47 +7,84 @@ package org.opensearch.dataprepper.plugins.sink.client;
 
 import lombok.Builder;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.plugins.sink.utils.TokenBucket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
-
-@Builder
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends batches of log events to CloudWatch Logs on the executor.
+ * <p>
+ * The PutLogEvents rate is limited per log stream, so the batches can be spread round robin over several
+ * log streams named after the configured one. Requests to each log stream are paced by a token bucket
+ * so they are not throttled, and throttled requests are counted per log stream.
+ */
 public class CloudWatchLogsDispatcher {
     private static final long UPPER_RETRY_TIME_BOUND_MILLISECONDS = 2000;
     private static final float EXP_TIME_SCALE = 1.25F;
     private static final Logger LOG = LoggerFactory.getLogger(CloudWatchLogsDispatcher.class);
-    private CloudWatchLogsClient cloudWatchLogsClient;
-    private CloudWatchLogsMetrics cloudWatchLogsMetrics;
-    private Executor executor;
-    private String logGroup;
-    private String logStream;
-    private int retryCount;
-    private long backOffTimeBase;
+    private final CloudWatchLogsClient cloudWatchLogsClient;
+    private final CloudWatchLogsMetrics cloudWatchLogsMetrics;
+    private final Executor executor;
+    private final String logGroup;
+    private final List<String> logStreams;
+    private final List<TokenBucket> logStreamRateLimiters;
+    private final AtomicInteger nextLogStream;
+    private final int retryCount;
+    private final long backOffTimeBase;
+
+    /**
+     * @param logStream name of the log stream, or the prefix of the log stream names when logStreamCount is above 1.
+     * @param logStreamCount number of log streams to spread the requests over.
+     * @param maxRequestsPerSecondPerStream maximum request rate per log stream, 0 disables pacing.
+     */
+    @Builder
     public CloudWatchLogsDispatcher(final CloudWatchLogsClient cloudWatchLogsClient,
                                     final CloudWatchLogsMetrics cloudWatchLogsMetrics,
                                     final Executor executor,
                                     final String logGroup, final String logStream,
+                                    final int logStreamCount, final int maxRequestsPerSecondPerStream,
                                     final int retryCount, final long backOffTimeBase) {
         this.cloudWatchLogsClient = cloudWatchLogsClient;
         this.cloudWatchLogsMetrics = cloudWatchLogsMetrics;
         this.logGroup = logGroup;
-        this.logStream = logStream;
+        this.logStreams = getLogStreamNames(logStream, logStreamCount);
+        this.logStreamRateLimiters = new ArrayList<>(logStreams.size());
+        for (int i = 0; i < logStreams.size(); i++) {
+            logStreamRateLimiters.add(maxRequestsPerSecondPerStream > 0 ? new TokenBucket(maxRequestsPerSecondPerStream) : null);
+        }
+        this.nextLogStream = new AtomicInteger();
         this.retryCount = retryCount;
         this.backOffTimeBase = backOffTimeBase;
 
         this.executor = executor;
     }
 
+    static List<String> getLogStreamNames(final String logStream, final int logStreamCount) {
+        if (logStreamCount <= 1) {
+            return List.of(logStream);
+        }
+        final List<String> logStreamNames = new ArrayList<>(logStreamCount);
+        for (int i = 0; i < logStreamCount; i++) {
+            logStreamNames.add(logStream + "-" + i);
+        }
+        return logStreamNames;
+    }
+
     /**
      * Will read in a collection of log messages in byte form and transform them into a collection of InputLogEvents.
      * @param eventMessageBytes Collection of byte arrays holding event messages.
@@ -58,15 +95,16 @@ public class CloudWatchLogsDispatcher {
 
         /**
          * In the current implementation, the timestamp is generated during transmission.
-         * To properly extract timestamp we need to order the InputLogEvents. Can be done by
-         * refactoring buffer class with timestamp param, or adding a sorting algorithm in between
-         * making the PLE object (in prepareInputLogEvents).
+         * Every event of a batch gets the same timestamp, so the batch is already in the
+         * chronological order PutLogEvents requires. Once the timestamp is taken from the
+         * events, they need to be sorted here.
          */
+        final long timestamp = System.currentTimeMillis();
 
         for (byte[] data : eventMessageBytes) {
             InputLogEvent tempLogEvent = InputLogEvent.builder()
                     .message(new String(data, StandardCharsets.UTF_8))
-                    .timestamp(System.currentTimeMillis())
+                    .timestamp(timestamp)
                     .build();
             logEventList.add(tempLogEvent);
         }
@@ -74,17 +112,24 @@ public class CloudWatchLogsDispatcher {
         return logEventList;
     }
 
+    /**
+     * Sends the log events to the next log stream in turn.
+     * @param inputLogEvents log events in chronological order.
+     * @param eventHandles handles released once the request completes.
+     */
     public void dispatchLogs(List<InputLogEvent> inputLogEvents, Collection<EventHandle> eventHandles) {
+        final int logStreamIndex = Math.floorMod(nextLogStream.getAndIncrement(), logStreams.size());
         PutLogEventsRequest putLogEventsRequest = PutLogEventsRequest.builder()
                 .logEvents(inputLogEvents)
                 .logGroupName(logGroup)
-                .logStreamName(logStream)
+                .logStreamName(logStreams.get(logStreamIndex))
                 .build();
 
         executor.execute(Uploader.builder()
                 .cloudWatchLogsClient(cloudWatchLogsClient)
                 .cloudWatchLogsMetrics(cloudWatchLogsMetrics)
                 .putLogEventsRequest(putLogEventsRequest)
+                .rateLimiter(logStreamRateLimiters.get(logStreamIndex))
                 .eventHandles(eventHandles)
                 .backOffTimeBase(backOffTimeBase)
                 .retryCount(retryCount)
@@ -97,6 +142,7 @@ public class CloudWatchLogsDispatcher {
         private final CloudWatchLogsMetrics cloudWatchLogsMetrics;
         private final PutLogEventsRequest putLogEventsRequest;
         private final Collection<EventHandle> eventHandles;
+        private final TokenBucket rateLimiter;
         private final int retryCount;
         private final long backOffTimeBase;
 
@@ -112,14 +158,25 @@ public class CloudWatchLogsDispatcher {
             try {
                 while (failedToTransmit && (failCount < retryCount)) {
                     try {
+                        if (rateLimiter != null) {
+                            rateLimiter.acquire();
+                        }
                         cloudWatchLogsClient.putLogEvents(putLogEventsRequest);
 
                         cloudWatchLogsMetrics.increaseRequestSuccessCounter(1);
                         failedToTransmit = false;
 
+                    } catch (ResourceNotFoundException e) {
+                        LOG.warn("Log stream {} not found, creating it: {}", putLogEventsRequest.logStreamName(), e.getMessage());
+                        cloudWatchLogsMetrics.increaseRequestFailCounter(1);
+                        createLogStream();
+                        failCount++;
                     } catch (CloudWatchLogsException | SdkClientException e) {
                         LOG.error("Failed to push logs with error: {}", e.getMessage());
                         cloudWatchLogsMetrics.increaseRequestFailCounter(1);
+                        if (e instanceof CloudWatchLogsException && ((CloudWatchLogsException) e).isThrottlingException()) {
+                            cloudWatchLogsMetrics.increaseRequestThrottledCounter(String.valueOf(putLogEventsRequest.logStreamName()));
+                        }
                         Thread.sleep(calculateBackOffTime(backOffTimeBase, failCount));
                         failCount++;
                     }
@@ -140,6 +197,19 @@ public class CloudWatchLogsDispatcher {
             }
         }
 
+        private void createLogStream() {
+            try {
+                cloudWatchLogsClient.createLogStream(CreateLogStreamRequest.builder()
+                        .logGroupName(putLogEventsRequest.logGroupName())
+                        .logStreamName(putLogEventsRequest.logStreamName())
+                        .build());
+            } catch (ResourceAlreadyExistsException e) {
+                LOG.debug("Log stream {} was created concurrently", putLogEventsRequest.logStreamName());
+            } catch (CloudWatchLogsException | SdkClientException e) {
+                LOG.error("Failed to create log stream {} with error: {}", putLogEventsRequest.logStreamName(), e.getMessage());
+            }
+        }
+
         private long calculateBackOffTime(final long backOffTimeBase, final int failCounter) {
             long scale = (long)Math.pow(EXP_TIME_SCALE, failCounter);
 
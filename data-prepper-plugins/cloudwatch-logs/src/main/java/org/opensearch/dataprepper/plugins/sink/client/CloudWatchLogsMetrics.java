@@ -8,6 +8,9 @@ package org.opensearch.dataprepper.plugins.sink.client;
 import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class is meant to abstract the metric book-keeping of
  * CloudWatchLogs metrics so that multiple instances
@@ -18,12 +21,18 @@ public class CloudWatchLogsMetrics {
     protected static final String CLOUDWATCH_LOGS_EVENTS_SUCCEEDED = "cloudWatchLogsEventsSucceeded";
     protected static final String CLOUDWATCH_LOGS_EVENTS_FAILED = "cloudWatchLogsEventsFailed";
     protected static final String CLOUDWATCH_LOGS_REQUESTS_FAILED = "cloudWatchLogsRequestsFailed";
+    protected static final String CLOUDWATCH_LOGS_REQUESTS_THROTTLED = "cloudWatchLogsRequestsThrottled";
+    protected static final String LOG_STREAM_TAG = "log_stream";
+    private final PluginMetrics pluginMetrics;
     private final Counter logEventSuccessCounter;
     private final Counter logEventFailCounter;
     private final Counter requestSuccessCount;
     private final Counter requestFailCount;
+    private final Map<String, Counter> requestThrottledCounters;
 
     public CloudWatchLogsMetrics(final PluginMetrics pluginMetrics) {
+        this.pluginMetrics = pluginMetrics;
+        this.requestThrottledCounters = new ConcurrentHashMap<>();
         this.logEventSuccessCounter = pluginMetrics.counter(CloudWatchLogsMetrics.CLOUDWATCH_LOGS_EVENTS_SUCCEEDED);
         this.requestFailCount = pluginMetrics.counter(CloudWatchLogsMetrics.CLOUDWATCH_LOGS_REQUESTS_FAILED);
         this.logEventFailCounter = pluginMetrics.counter(CloudWatchLogsMetrics.CLOUDWATCH_LOGS_EVENTS_FAILED);
@@ -45,4 +54,14 @@ public class CloudWatchLogsMetrics {
     public void increaseRequestFailCounter(int value) {
         requestFailCount.increment(value);
     }
+
+    /**
+     * Counts a throttled PutLogEvents request, tagged with the log stream it was sent to.
+     * @param logStream name of the log stream.
+     */
+    public void increaseRequestThrottledCounter(final String logStream) {
+        requestThrottledCounters.computeIfAbsent(logStream,
+                stream -> pluginMetrics.counterWithTags(CLOUDWATCH_LOGS_REQUESTS_THROTTLED, LOG_STREAM_TAG, stream))
+                .increment();
+    }
 }
@@ -27,7 +27,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * <ol>
  *   <li>Reading in log events.</li>
  *   <li>Buffering data.</li>
- *   <li>Checking for limit conditions.</li>
+ *   <li>Checking for limit conditions, measuring the events in UTF-8 bytes as CloudWatchLogs does.</li>
  *   <li>Making PLE calls to CloudWatchLogs.</li>
  * </ol>
  */
@@ -61,8 +61,8 @@ public class CloudWatchLogsService {
     public void processLogEvents(final Collection<Record<Event>> logs) {
             sinkStopWatch.startIfNotRunning();
             for (Record<Event> log : logs) {
-                String logString = log.getData().toJsonString();
-                int logLength = logString.length();
+                final byte[] logBytes = log.getData().toJsonString().getBytes(StandardCharsets.UTF_8);
+                int logLength = logBytes.length;
 
                 if (cloudWatchLogsLimits.isGreaterThanMaxEventSize(logLength)) {
                     LOG.warn("Event blocked due to Max Size restriction! {Event Size: {} bytes}", (logLength + CloudWatchLogsLimits.APPROXIMATE_LOG_EVENT_OVERHEAD_SIZE));
@@ -80,12 +80,12 @@ public class CloudWatchLogsService {
 
                     if ((cloudWatchLogsLimits.isGreaterThanLimitReached(time, newBufferSizeCount, newBufferEventCount) && (bufferEventCount > 0))) {
                         stageLogEvents();
-                        addToBuffer(log, logString);
+                        addToBuffer(log, logBytes);
                     } else if (cloudWatchLogsLimits.isEqualToLimitReached(newBufferSizeCount, newBufferEventCount)) {
-                        addToBuffer(log, logString);
+                        addToBuffer(log, logBytes);
                         stageLogEvents();
                     } else {
-                        addToBuffer(log, logString);
+                        addToBuffer(log, logBytes);
                     }
                 } finally {
                     processLock.unlock();
@@ -103,10 +103,10 @@ public class CloudWatchLogsService {
         bufferedEventHandles = new ArrayList<>();
     }
 
-    private void addToBuffer(final Record<Event> log, final String logString) {
+    private void addToBuffer(final Record<Event> log, final byte[] logBytes) {
         if (log.getData().getEventHandle() != null) {
             bufferedEventHandles.add(log.getData().getEventHandle());
         }
-        buffer.writeEvent(logString.getBytes(StandardCharsets.UTF_8));
+        buffer.writeEvent(logBytes);
     }
 }
@@ -7,11 +7,15 @@ package org.opensearch.dataprepper.plugins.sink.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 public class CloudWatchLogsSinkConfig {
     public static final String DEFAULT_BUFFER_TYPE = "in_memory";
+    public static final int DEFAULT_LOG_STREAM_COUNT = 1;
+    public static final int DEFAULT_MAX_REQUESTS_PER_SECOND_PER_STREAM = 5;
 
     @JsonProperty("aws")
     @NotNull
@@ -34,6 +38,15 @@ public class CloudWatchLogsSinkConfig {
     @NotNull
     private String logStream;
 
+    @JsonProperty("log_stream_count")
+    @Min(value = 1, message = "log_stream_count should be between 1 and 100")
+    @Max(value = 100, message = "log_stream_count should be between 1 and 100")
+    private int logStreamCount = DEFAULT_LOG_STREAM_COUNT;
+
+    @JsonProperty("max_requests_per_second_per_stream")
+    @Min(value = 0, message = "max_requests_per_second_per_stream should not be negative")
+    private int maxRequestsPerSecondPerStream = DEFAULT_MAX_REQUESTS_PER_SECOND_PER_STREAM;
+
     public AwsConfig getAwsConfig() {
         return awsConfig;
     }
@@ -53,4 +66,21 @@ public class CloudWatchLogsSinkConfig {
     public String getLogStream() {
         return logStream;
     }
+
+    /**
+     * Number of log streams the events are spread over. With more than one, the streams are named
+     * after {@code log_stream} with a {@code -<index>} suffix.
+     * @return number of log streams.
+     */
+    public int getLogStreamCount() {
+        return logStreamCount;
+    }
+
+    /**
+     * Maximum rate of PutLogEvents requests to a single log stream, 0 disables pacing.
+     * @return requests per second.
+     */
+    public int getMaxRequestsPerSecondPerStream() {
+        return maxRequestsPerSecondPerStream;
+    }
 }
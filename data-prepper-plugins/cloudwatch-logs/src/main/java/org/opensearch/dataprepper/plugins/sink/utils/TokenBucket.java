@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces requests to a fixed rate. Up to one second worth of unused tokens are kept
+ * so short bursts are not delayed. Callers which find the bucket empty reserve the
+ * next token and sleep until it is due, so concurrent callers are spread out evenly.
+ */
+public class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final double nanosPerToken;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(final int tokensPerSecond) {
+        this(tokensPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(final int tokensPerSecond, final LongSupplier nanoClock) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond must be greater than 0");
+        }
+        this.nanosPerToken = NANOS_PER_SECOND / tokensPerSecond;
+        this.capacity = tokensPerSecond;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token, waiting until one is available.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        final long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token, which may only become available in the future.
+     * @return nanoseconds until the reserved token is available.
+     */
+    synchronized long reserve() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens * nanosPerToken);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.sink.client.CloudWatchLogsClientFactory;
+import org.opensearch.dataprepper.plugins.sink.config.AwsConfig;
+import org.opensearch.dataprepper.plugins.sink.config.CloudWatchLogsSinkConfig;
+import org.opensearch.dataprepper.plugins.sink.config.ThresholdConfig;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class CloudWatchLogsSinkTest {
+    private static final String LOG_GROUP = "testGroup";
+    private static final String LOG_STREAM = "testStream";
+
+    private CloudWatchLogsSinkConfig cloudWatchLogsSinkConfig;
+    private AwsCredentialsSupplier awsCredentialsSupplier;
+    private CloudWatchLogsClient cloudWatchLogsClient;
+    private PluginSetting pluginSetting;
+    private CloudWatchLogsSink cloudWatchLogsSink;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        final ThresholdConfig thresholdConfig = new ThresholdConfig();
+        setField(ThresholdConfig.class, thresholdConfig, "batchSize", 1);
+        cloudWatchLogsSinkConfig = mock(CloudWatchLogsSinkConfig.class);
+        when(cloudWatchLogsSinkConfig.getAwsConfig()).thenReturn(mock(AwsConfig.class));
+        when(cloudWatchLogsSinkConfig.getThresholdConfig()).thenReturn(thresholdConfig);
+        when(cloudWatchLogsSinkConfig.getLogGroup()).thenReturn(LOG_GROUP);
+        when(cloudWatchLogsSinkConfig.getLogStream()).thenReturn(LOG_STREAM);
+        when(cloudWatchLogsSinkConfig.getLogStreamCount()).thenReturn(CloudWatchLogsSinkConfig.DEFAULT_LOG_STREAM_COUNT);
+        when(cloudWatchLogsSinkConfig.getMaxRequestsPerSecondPerStream()).thenReturn(0);
+
+        awsCredentialsSupplier = mock(AwsCredentialsSupplier.class);
+        cloudWatchLogsClient = mock(CloudWatchLogsClient.class);
+        pluginSetting = new PluginSetting("cloudwatch_logs", Map.of());
+        pluginSetting.setPipelineName("pipeline");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cloudWatchLogsSink != null) {
+            cloudWatchLogsSink.shutdown();
+        }
+    }
+
+    CloudWatchLogsSink getCloudWatchLogsSink() {
+        try (final MockedStatic<CloudWatchLogsClientFactory> clientFactoryMockedStatic = mockStatic(CloudWatchLogsClientFactory.class)) {
+            clientFactoryMockedStatic.when(() -> CloudWatchLogsClientFactory.createCwlClient(any(), any()))
+                    .thenReturn(cloudWatchLogsClient);
+            cloudWatchLogsSink = new CloudWatchLogsSink(pluginSetting, cloudWatchLogsSinkConfig, awsCredentialsSupplier);
+        }
+        return cloudWatchLogsSink;
+    }
+
+    List<Record<Event>> getSampleRecords(final int count) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Event event = mock(Event.class);
+            when(event.toJsonString()).thenReturn("testMessage" + i);
+            records.add(new Record<>(event));
+        }
+        return records;
+    }
+
+    @Test
+    void GIVEN_initialized_sink_WHEN_is_ready_called_SHOULD_return_true() {
+        final CloudWatchLogsSink sinkToTest = getCloudWatchLogsSink();
+
+        sinkToTest.initialize();
+
+        assertThat(sinkToTest.isReady(), equalTo(true));
+    }
+
+    @Test
+    void GIVEN_empty_records_WHEN_output_called_SHOULD_not_send_requests() {
+        final CloudWatchLogsSink sinkToTest = getCloudWatchLogsSink();
+
+        sinkToTest.output(Collections.emptyList());
+
+        verify(cloudWatchLogsClient, never()).putLogEvents(any(PutLogEventsRequest.class));
+    }
+
+    @Test
+    void GIVEN_log_stream_count_WHEN_output_called_SHOULD_send_requests_round_robin_over_log_streams() {
+        when(cloudWatchLogsSinkConfig.getLogStreamCount()).thenReturn(2);
+        final CloudWatchLogsSink sinkToTest = getCloudWatchLogsSink();
+
+        sinkToTest.output(getSampleRecords(4));
+
+        final ArgumentCaptor<PutLogEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(cloudWatchLogsClient, timeout(1000).times(4)).putLogEvents(requestCaptor.capture());
+        final List<String> logStreamNames = requestCaptor.getAllValues().stream()
+                .map(PutLogEventsRequest::logStreamName)
+                .sorted()
+                .collect(Collectors.toList());
+        assertThat(logStreamNames, contains(LOG_STREAM + "-0", LOG_STREAM + "-0", LOG_STREAM + "-1", LOG_STREAM + "-1"));
+        requestCaptor.getAllValues().forEach(request -> assertThat(request.logGroupName(), equalTo(LOG_GROUP)));
+    }
+
+    @Test
+    void GIVEN_max_requests_per_second_per_stream_WHEN_output_called_SHOULD_pace_requests_to_a_log_stream() {
+        when(cloudWatchLogsSinkConfig.getMaxRequestsPerSecondPerStream()).thenReturn(1);
+        final CloudWatchLogsSink sinkToTest = getCloudWatchLogsSink();
+
+        sinkToTest.output(getSampleRecords(2));
+
+        verify(cloudWatchLogsClient, after(500).times(1)).putLogEvents(any(PutLogEventsRequest.class));
+        verify(cloudWatchLogsClient, timeout(2000).times(2)).putLogEvents(any(PutLogEventsRequest.class));
+    }
+}
@@ -7,19 +7,25 @@ package org.opensearch.dataprepper.plugins.sink.client;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.plugins.sink.config.ThresholdConfig;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class CloudWatchLogsDispatcherTest {
@@ -79,4 +85,34 @@ class CloudWatchLogsDispatcherTest {
 
         verify(mockExecutor, atMostOnce()).execute(any(CloudWatchLogsDispatcher.Uploader.class));
     }
+
+    @Test
+    void GIVEN_single_log_stream_SHOULD_use_configured_log_stream_name() {
+        assertThat(CloudWatchLogsDispatcher.getLogStreamNames(LOG_STREAM, 1), contains(LOG_STREAM));
+    }
+
+    @Test
+    void GIVEN_multiple_log_streams_WHEN_dispatching_SHOULD_send_to_log_streams_in_turn() {
+        cloudWatchLogsDispatcher = CloudWatchLogsDispatcher.builder()
+                .cloudWatchLogsClient(mockCloudWatchLogsClient)
+                .cloudWatchLogsMetrics(mockCloudWatchLogsMetrics)
+                .executor(Runnable::run)
+                .logGroup(LOG_GROUP)
+                .logStream(LOG_STREAM)
+                .logStreamCount(3)
+                .maxRequestsPerSecondPerStream(ThresholdConfig.DEFAULT_BATCH_SIZE)
+                .retryCount(ThresholdConfig.DEFAULT_RETRY_COUNT)
+                .backOffTimeBase(ThresholdConfig.DEFAULT_BACKOFF_TIME)
+                .build();
+        final List<InputLogEvent> inputLogEventList = cloudWatchLogsDispatcher.prepareInputLogEvents(getSampleBufferedData());
+
+        for (int i = 0; i < 4; i++) {
+            cloudWatchLogsDispatcher.dispatchLogs(inputLogEventList, getSampleEventHandles());
+        }
+
+        final ArgumentCaptor<PutLogEventsRequest> requestCaptor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(mockCloudWatchLogsClient, times(4)).putLogEvents(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().stream().map(PutLogEventsRequest::logStreamName).collect(Collectors.toList()),
+                contains(LOG_STREAM + "-0", LOG_STREAM + "-1", LOG_STREAM + "-2", LOG_STREAM + "-0"));
+    }
 }
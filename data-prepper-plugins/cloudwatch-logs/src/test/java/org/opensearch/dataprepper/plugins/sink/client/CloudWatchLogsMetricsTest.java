@@ -35,6 +35,20 @@ class CloudWatchLogsMetricsTest {
         testCloudWatchLogsMetrics = new CloudWatchLogsMetrics(mockPluginMetrics);
     }
 
+    @Test
+    void WHEN_increase_request_throttled_counter_called_THEN_counter_of_log_stream_should_be_increased() {
+        final Counter mockThrottledRequestCounter = mock(Counter.class);
+        when(mockPluginMetrics.counterWithTags(CloudWatchLogsMetrics.CLOUDWATCH_LOGS_REQUESTS_THROTTLED,
+                CloudWatchLogsMetrics.LOG_STREAM_TAG, "testStream")).thenReturn(mockThrottledRequestCounter);
+
+        testCloudWatchLogsMetrics.increaseRequestThrottledCounter("testStream");
+        testCloudWatchLogsMetrics.increaseRequestThrottledCounter("testStream");
+
+        verify(mockThrottledRequestCounter, times(2)).increment();
+        verify(mockPluginMetrics, times(1)).counterWithTags(CloudWatchLogsMetrics.CLOUDWATCH_LOGS_REQUESTS_THROTTLED,
+                CloudWatchLogsMetrics.LOG_STREAM_TAG, "testStream");
+    }
+
     @Test
     void GIVEN_valid_plugin_metrics_WHEN_cloud_watch_metrics_initialized_SHOULD_not_be_null() {
         assertNotNull(testCloudWatchLogsMetrics);
@@ -4,15 +4,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.plugins.sink.config.ThresholdConfig;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
 import software.amazon.awssdk.services.cloudwatchlogs.model.CloudWatchLogsException;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamRequest;
 import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
 
 import java.util.ArrayList;
 import java.util.Collection;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -54,6 +59,17 @@ class UploaderTest {
                 .build();
     }
 
+    CloudWatchLogsDispatcher.Uploader getUploaderWithRequest(final PutLogEventsRequest putLogEventsRequest) {
+        return CloudWatchLogsDispatcher.Uploader.builder()
+                .cloudWatchLogsClient(mockCloudWatchLogsClient)
+                .cloudWatchLogsMetrics(mockCloudWatchLogsMetrics)
+                .putLogEventsRequest(putLogEventsRequest)
+                .eventHandles(getTestEventHandles())
+                .retryCount(2)
+                .backOffTimeBase(1)
+                .build();
+    }
+
     void establishFailingClientWithCloudWatchLogsExcept() {
         when(mockCloudWatchLogsClient.putLogEvents(any(PutLogEventsRequest.class))).thenThrow(CloudWatchLogsException.class);
     }
@@ -90,4 +106,36 @@ class UploaderTest {
         verify(mockCloudWatchLogsMetrics, times(ThresholdConfig.DEFAULT_RETRY_COUNT)).increaseRequestFailCounter(1);
         verify(mockCloudWatchLogsMetrics, atLeastOnce()).increaseLogEventFailCounter(ThresholdConfig.DEFAULT_BATCH_SIZE);
     }
+
+    @Test
+    void GIVEN_throttled_request_SHOULD_update_throttled_counter_of_log_stream() {
+        final CloudWatchLogsException throttlingException = (CloudWatchLogsException) CloudWatchLogsException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+        when(mockCloudWatchLogsClient.putLogEvents(any(PutLogEventsRequest.class)))
+                .thenThrow(throttlingException)
+                .thenReturn(PutLogEventsResponse.builder().build());
+        final PutLogEventsRequest putLogEventsRequest = PutLogEventsRequest.builder()
+                .logGroupName("testGroup").logStreamName("testStream-1").build();
+
+        getUploaderWithRequest(putLogEventsRequest).run();
+
+        verify(mockCloudWatchLogsMetrics).increaseRequestThrottledCounter("testStream-1");
+        verify(mockCloudWatchLogsMetrics).increaseLogEventSuccessCounter(ThresholdConfig.DEFAULT_BATCH_SIZE);
+    }
+
+    @Test
+    void GIVEN_missing_log_stream_SHOULD_create_log_stream_and_retry() {
+        when(mockCloudWatchLogsClient.putLogEvents(any(PutLogEventsRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().message("missing").build())
+                .thenReturn(PutLogEventsResponse.builder().build());
+        final PutLogEventsRequest putLogEventsRequest = PutLogEventsRequest.builder()
+                .logGroupName("testGroup").logStreamName("testStream-1").build();
+
+        getUploaderWithRequest(putLogEventsRequest).run();
+
+        verify(mockCloudWatchLogsClient).createLogStream(argThat((CreateLogStreamRequest request) ->
+                request.logGroupName().equals("testGroup") && request.logStreamName().equals("testStream-1")));
+        verify(mockCloudWatchLogsMetrics).increaseLogEventSuccessCounter(ThresholdConfig.DEFAULT_BATCH_SIZE);
+    }
 }
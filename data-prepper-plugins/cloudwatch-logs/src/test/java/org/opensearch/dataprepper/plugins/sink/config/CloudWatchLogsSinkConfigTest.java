@@ -52,6 +52,17 @@ class CloudWatchLogsSinkConfigTest {
         assertThat(new CloudWatchLogsSinkConfig().getLogStream(), equalTo(null));
     }
 
+    @Test
+    void GIVEN_new_sink_config_WHEN_get_log_stream_count_called_SHOULD_return_default_log_stream_count() {
+        assertThat(new CloudWatchLogsSinkConfig().getLogStreamCount(), equalTo(CloudWatchLogsSinkConfig.DEFAULT_LOG_STREAM_COUNT));
+    }
+
+    @Test
+    void GIVEN_new_sink_config_WHEN_get_max_requests_per_second_per_stream_called_SHOULD_return_default_rate() {
+        assertThat(new CloudWatchLogsSinkConfig().getMaxRequestsPerSecondPerStream(),
+                equalTo(CloudWatchLogsSinkConfig.DEFAULT_MAX_REQUESTS_PER_SECOND_PER_STREAM));
+    }
+
     @Test
     void GIVEN_empty_sink_config_WHEN_deserialized_from_json_SHOULD_return_valid_log_group_and_log_stream() throws NoSuchFieldException, IllegalAccessException {
         ReflectivelySetField.setField(cloudWatchLogsSinkConfig.getClass(), cloudWatchLogsSinkConfig, "logGroup", LOG_GROUP);
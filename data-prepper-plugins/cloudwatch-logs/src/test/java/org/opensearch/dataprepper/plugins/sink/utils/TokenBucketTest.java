@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void GIVEN_full_bucket_WHEN_reserving_up_to_rate_SHOULD_not_wait() {
+        final TokenBucket tokenBucket = new TokenBucket(5, () -> 0L);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(tokenBucket.reserve(), equalTo(0L));
+        }
+    }
+
+    @Test
+    void GIVEN_empty_bucket_WHEN_reserving_SHOULD_wait_for_next_tokens_in_turn() {
+        final TokenBucket tokenBucket = new TokenBucket(5, () -> 0L);
+        for (int i = 0; i < 5; i++) {
+            tokenBucket.reserve();
+        }
+
+        assertThat(tokenBucket.reserve(), equalTo(NANOS_PER_SECOND / 5));
+        assertThat(tokenBucket.reserve(), equalTo(2 * NANOS_PER_SECOND / 5));
+    }
+
+    @Test
+    void GIVEN_elapsed_time_WHEN_reserving_SHOULD_refill_up_to_rate() {
+        final AtomicLong clock = new AtomicLong();
+        final TokenBucket tokenBucket = new TokenBucket(5, clock::get);
+        for (int i = 0; i < 5; i++) {
+            tokenBucket.reserve();
+        }
+
+        clock.set(10 * NANOS_PER_SECOND);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(tokenBucket.reserve(), equalTo(0L));
+        }
+        assertThat(tokenBucket.reserve(), equalTo(NANOS_PER_SECOND / 5));
+    }
+
+    @Test
+    void GIVEN_invalid_rate_SHOULD_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0));
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.accumulator;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * A buffer can hold data before flushing it any Sink.
@@ -22,4 +23,17 @@ public interface Buffer {
 
     byte[] getSinkBufferData() throws IOException;
     void writeEvent(byte[] bytes) throws IOException;
+
+    /**
+     * Reads the buffered data without copying it into a single array. The stream can be requested again
+     * to replay the data, for example to send it to several end points.
+     * @return stream over the buffered data.
+     * @throws IOException while opening the buffered data.
+     */
+    InputStream getInputStream() throws IOException;
+
+    /**
+     * Releases the resources held by the buffer once its data is no longer needed.
+     */
+    void close();
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.accumulator;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of fixed size {@link ByteBuffer} chunks which sink buffers accumulate data into.
+ * Chunks released while the pool is full are left to the garbage collector.
+ */
+public class ByteBufferPool {
+
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final int DEFAULT_MAX_POOLED_CHUNKS = 256;
+    private static final ByteBufferPool DEFAULT_POOL = new ByteBufferPool(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED_CHUNKS, false);
+
+    private final int chunkSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> pooledChunks;
+
+    /**
+     * @param chunkSize size in bytes of every chunk.
+     * @param maxPooledChunks maximum number of released chunks kept for reuse.
+     * @param direct whether chunks are allocated outside of the java heap.
+     */
+    public ByteBufferPool(final int chunkSize, final int maxPooledChunks, final boolean direct) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        if (maxPooledChunks <= 0) {
+            throw new IllegalArgumentException("maxPooledChunks must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        this.direct = direct;
+        this.pooledChunks = new ArrayBlockingQueue<>(maxPooledChunks);
+    }
+
+    /**
+     * The pool shared by the in memory buffers of all sinks.
+     * @return default pool.
+     */
+    public static ByteBufferPool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Takes a cleared chunk from the pool, allocating a new one when the pool is empty.
+     * @return chunk of {@link #getChunkSize()} bytes.
+     */
+    public ByteBuffer acquire() {
+        final ByteBuffer pooledChunk = pooledChunks.poll();
+        if (pooledChunk != null) {
+            return pooledChunk;
+        }
+        return direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+    }
+
+    /**
+     * Returns a chunk to the pool. The chunk must not be used by the caller afterwards.
+     * @param chunk chunk previously acquired from this pool.
+     */
+    public void release(final ByteBuffer chunk) {
+        if (chunk == null || chunk.capacity() != chunkSize || chunk.isDirect() != direct || chunk.isReadOnly()) {
+            return;
+        }
+        chunk.clear();
+        pooledChunks.offer(chunk);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    int getPooledChunkCount() {
+        return pooledChunks.size();
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.accumulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An {@link OutputStream} which accumulates data into chunks taken from a {@link ByteBufferPool}.
+ * Unlike {@link java.io.ByteArrayOutputStream} it never copies the data written so far to grow, and the
+ * accumulated data can be read back as {@link ByteBuffer}s or {@link InputStream}s without copying it.
+ * <p>
+ * Buffers and streams handed out remain valid until {@link #reset()} returns the chunks to the pool.
+ */
+public class ChunkedByteBufferOutputStream extends OutputStream {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+    private final ByteBufferPool byteBufferPool;
+    private final List<ByteBuffer> chunks;
+    private long size;
+
+    public ChunkedByteBufferOutputStream(final ByteBufferPool byteBufferPool) {
+        this.byteBufferPool = Objects.requireNonNull(byteBufferPool);
+        this.chunks = new ArrayList<>();
+        this.size = 0;
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        currentChunk().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int position = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            final ByteBuffer chunk = currentChunk();
+            final int written = Math.min(remaining, chunk.remaining());
+            chunk.put(bytes, position, written);
+            position += written;
+            remaining -= written;
+            size += written;
+        }
+    }
+
+    /**
+     * @return number of bytes written since the last reset.
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Read only views of the accumulated data, one per chunk.
+     * @return buffers positioned at the start of the data of every chunk.
+     */
+    public synchronized List<ByteBuffer> toByteBuffers() {
+        final List<ByteBuffer> byteBuffers = new ArrayList<>(chunks.size());
+        for (final ByteBuffer chunk : chunks) {
+            byteBuffers.add(readableView(chunk).asReadOnlyBuffer());
+        }
+        return Collections.unmodifiableList(byteBuffers);
+    }
+
+    /**
+     * @return stream over all of the accumulated data.
+     */
+    public synchronized InputStream toInputStream() {
+        return toInputStream(0, size);
+    }
+
+    /**
+     * @param offset position of the first byte to read.
+     * @param length number of bytes to read.
+     * @return stream over the requested range of the accumulated data.
+     */
+    public synchronized InputStream toInputStream(final long offset, final long length) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IndexOutOfBoundsException(String.format("Range %d+%d is outside buffer of %d bytes", offset, length, size));
+        }
+        final List<ByteBuffer> rangeBuffers = new ArrayList<>();
+        long chunkStart = 0;
+        long rangeStart = offset;
+        final long rangeEnd = offset + length;
+        for (final ByteBuffer chunk : chunks) {
+            final long chunkEnd = chunkStart + chunk.position();
+            if (rangeStart < chunkEnd && rangeStart < rangeEnd) {
+                final ByteBuffer rangeBuffer = readableView(chunk);
+                rangeBuffer.position((int) (rangeStart - chunkStart));
+                rangeBuffer.limit((int) (Math.min(chunkEnd, rangeEnd) - chunkStart));
+                rangeBuffers.add(rangeBuffer);
+                rangeStart = chunkStart + rangeBuffer.limit();
+            }
+            chunkStart = chunkEnd;
+        }
+        return new ByteBuffersInputStream(rangeBuffers);
+    }
+
+    /**
+     * Copies the accumulated data into a new array. Prefer {@link #toInputStream()} or {@link #writeTo(OutputStream)}.
+     * @return accumulated data.
+     */
+    public synchronized byte[] toByteArray() {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Buffer of " + size + " bytes does not fit into an array");
+        }
+        final byte[] bytes = new byte[(int) size];
+        int position = 0;
+        for (final ByteBuffer chunk : chunks) {
+            final ByteBuffer readableChunk = readableView(chunk);
+            final int length = readableChunk.remaining();
+            readableChunk.get(bytes, position, length);
+            position += length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the accumulated data to another stream without an intermediate copy for heap chunks.
+     * @param outputStream destination stream.
+     * @throws IOException when writing to the destination fails.
+     */
+    public synchronized void writeTo(final OutputStream outputStream) throws IOException {
+        byte[] copyBuffer = null;
+        for (final ByteBuffer chunk : chunks) {
+            final ByteBuffer readableChunk = readableView(chunk);
+            if (readableChunk.hasArray()) {
+                outputStream.write(readableChunk.array(), readableChunk.arrayOffset(), readableChunk.remaining());
+                continue;
+            }
+            if (copyBuffer == null) {
+                copyBuffer = new byte[COPY_BUFFER_SIZE];
+            }
+            while (readableChunk.hasRemaining()) {
+                final int length = Math.min(copyBuffer.length, readableChunk.remaining());
+                readableChunk.get(copyBuffer, 0, length);
+                outputStream.write(copyBuffer, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Returns all chunks to the pool. The stream can be written to again afterwards.
+     */
+    public synchronized void reset() {
+        chunks.forEach(byteBufferPool::release);
+        chunks.clear();
+        size = 0;
+    }
+
+    private ByteBuffer currentChunk() {
+        if (chunks.isEmpty() || !chunks.get(chunks.size() - 1).hasRemaining()) {
+            chunks.add(byteBufferPool.acquire());
+        }
+        return chunks.get(chunks.size() - 1);
+    }
+
+    private static ByteBuffer readableView(final ByteBuffer chunk) {
+        final ByteBuffer view = chunk.duplicate();
+        view.limit(chunk.position());
+        view.position(0);
+        return view;
+    }
+
+    /**
+     * Reads a list of buffers in order. Supports mark and reset, so it can be replayed by clients retrying a request.
+     */
+    private static class ByteBuffersInputStream extends InputStream {
+        private final List<ByteBuffer> buffers;
+        private final int[] startPositions;
+        private int bufferIndex;
+        private long position;
+        private long markedPosition;
+
+        private ByteBuffersInputStream(final List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+            this.startPositions = new int[buffers.size()];
+            for (int i = 0; i < buffers.size(); i++) {
+                startPositions[i] = buffers.get(i).position();
+            }
+            this.bufferIndex = 0;
+            this.position = 0;
+            this.markedPosition = 0;
+        }
+
+        @Override
+        public int read() {
+            final ByteBuffer buffer = currentBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            position++;
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            int read = 0;
+            while (read < length) {
+                final ByteBuffer buffer = currentBuffer();
+                if (buffer == null) {
+                    break;
+                }
+                final int count = Math.min(length - read, buffer.remaining());
+                buffer.get(bytes, offset + read, count);
+                read += count;
+            }
+            position += read;
+            return read == 0 ? -1 : read;
+        }
+
+        @Override
+        public long skip(final long n) {
+            long skipped = 0;
+            while (skipped < n) {
+                final ByteBuffer buffer = currentBuffer();
+                if (buffer == null) {
+                    break;
+                }
+                final int count = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + count);
+                skipped += count;
+            }
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long available = 0;
+            for (int i = bufferIndex; i < buffers.size(); i++) {
+                available += buffers.get(i).remaining();
+            }
+            return (int) Math.min(available, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(final int readLimit) {
+            markedPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            for (int i = 0; i < buffers.size(); i++) {
+                buffers.get(i).position(startPositions[i]);
+            }
+            bufferIndex = 0;
+            position = 0;
+            skip(markedPosition);
+        }
+
+        private ByteBuffer currentBuffer() {
+            while (bufferIndex < buffers.size()) {
+                final ByteBuffer buffer = buffers.get(bufferIndex);
+                if (buffer.hasRemaining()) {
+                    return buffer;
+                }
+                bufferIndex++;
+            }
+            return null;
+        }
+    }
+}
@@ -6,21 +6,27 @@
 package org.opensearch.dataprepper.plugins.accumulator;
 
 import org.apache.commons.lang3.time.StopWatch;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A buffer can hold in memory data and flushing it to any Sink.
+ * The data is accumulated into chunks of a {@link ByteBufferPool} which are returned to the pool on {@link #close()}.
  */
 public class InMemoryBuffer implements Buffer {
 
-    private static final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+    private final ChunkedByteBufferOutputStream byteBufferOutputStream;
     private int eventCount;
     private final StopWatch watch;
 
     InMemoryBuffer() {
-        byteArrayOutputStream.reset();
+        this(ByteBufferPool.getDefault());
+    }
+
+    InMemoryBuffer(final ByteBufferPool byteBufferPool) {
+        byteBufferOutputStream = new ChunkedByteBufferOutputStream(byteBufferPool);
         eventCount = 0;
         watch = new StopWatch();
         watch.start();
@@ -28,7 +34,7 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public long getSize() {
-        return byteArrayOutputStream.size();
+        return byteBufferOutputStream.size();
     }
 
     @Override
@@ -46,7 +52,7 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public byte[] getSinkBufferData() throws IOException {
-        return byteArrayOutputStream.toByteArray();
+        return byteBufferOutputStream.toByteArray();
     }
 
     /**
@@ -57,8 +63,18 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public void writeEvent(byte[] bytes) throws IOException {
-        byteArrayOutputStream.write(bytes);
-        byteArrayOutputStream.write(System.lineSeparator().getBytes());
+        byteBufferOutputStream.write(bytes);
+        byteBufferOutputStream.write(LINE_SEPARATOR);
         eventCount++;
     }
+
+    @Override
+    public InputStream getInputStream() {
+        return byteBufferOutputStream.toInputStream();
+    }
+
+    @Override
+    public void close() {
+        byteBufferOutputStream.reset();
+    }
 }
\ No newline at end of file
@@ -9,9 +9,12 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -82,6 +85,18 @@ public class LocalFileBuffer implements Buffer {
         eventCount++;
     }
 
+    @Override
+    public InputStream getInputStream() throws IOException {
+        outputStream.flush();
+        return new BufferedInputStream(new FileInputStream(localFile));
+    }
+
+    @Override
+    public void close() {
+        flushAndCloseStream();
+        removeTemporaryFile();
+    }
+
     /**
      * Flushing the buffered data into the output stream.
      */
@@ -0,0 +1,301 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.fs;
+
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A {@link SeekableInputStream} over a remote object which reads the object in fixed size ranges. While the current
+ * range is consumed, the following ranges are fetched concurrently by an {@link ExecutorService}, so reading a large
+ * object is not limited to the throughput of a single connection.
+ * <p>
+ * At most {@code prefetchedRanges} ranges are fetched ahead of the current one, which bounds the memory used to
+ * {@code (prefetchedRanges + 1) * rangeSize} bytes. Seeking outside of the fetched ranges cancels them and restarts
+ * the read-ahead from the new position. This stream is not thread-safe.
+ */
+public class RangePrefetchingInputStream extends SeekableInputStream {
+
+    private final RangeReader rangeReader;
+    private final long contentLength;
+    private final int rangeSize;
+    private final int prefetchedRanges;
+    private final ExecutorService executorService;
+    private final Map<Long, Future<byte[]>> pendingRanges;
+
+    private byte[] currentRange;
+    private long currentRangeIndex = -1;
+    private long position = 0;
+    private long markPosition = 0;
+    private long bytesRead = 0;
+    private boolean closed = false;
+
+    /**
+     * @param rangeReader reads the ranges of the object.
+     * @param contentLength length of the object in bytes.
+     * @param rangeSize size in bytes of every range read.
+     * @param prefetchedRanges number of ranges read ahead of the current range.
+     * @param executorService executor reading the ranges.
+     */
+    public RangePrefetchingInputStream(final RangeReader rangeReader,
+                                       final long contentLength,
+                                       final int rangeSize,
+                                       final int prefetchedRanges,
+                                       final ExecutorService executorService) {
+        if (contentLength < 0) {
+            throw new IllegalArgumentException("contentLength must not be negative");
+        }
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("rangeSize must be greater than 0");
+        }
+        if (prefetchedRanges < 0) {
+            throw new IllegalArgumentException("prefetchedRanges must not be negative");
+        }
+        this.rangeReader = Objects.requireNonNull(rangeReader);
+        this.contentLength = contentLength;
+        this.rangeSize = rangeSize;
+        this.prefetchedRanges = prefetchedRanges;
+        this.executorService = Objects.requireNonNull(executorService);
+        this.pendingRanges = new HashMap<>();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!loadCurrentRange()) {
+            return -1;
+        }
+        final int value = currentRange[offsetInCurrentRange()] & 0xFF;
+        advance(1);
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!loadCurrentRange()) {
+            return -1;
+        }
+        final int offsetInRange = offsetInCurrentRange();
+        final int count = Math.min(length, currentRange.length - offsetInRange);
+        System.arraycopy(currentRange, offsetInRange, bytes, offset, count);
+        advance(count);
+        return count;
+    }
+
+    @Override
+    public int read(final ByteBuffer byteBuffer) throws IOException {
+        if (!byteBuffer.hasRemaining()) {
+            return 0;
+        }
+        if (!loadCurrentRange()) {
+            return -1;
+        }
+        final int offsetInRange = offsetInCurrentRange();
+        final int count = Math.min(byteBuffer.remaining(), currentRange.length - offsetInRange);
+        byteBuffer.put(currentRange, offsetInRange, count);
+        advance(count);
+        return count;
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int start, final int length) throws IOException {
+        int totalRead = 0;
+        while (totalRead < length) {
+            final int bytesRead = read(bytes, start + totalRead, length - totalRead);
+            if (bytesRead < 0) {
+                throw new EOFException("Reached the end of stream with " + (length - totalRead) + " bytes left to read");
+            }
+            totalRead += bytesRead;
+        }
+    }
+
+    @Override
+    public void readFully(final ByteBuffer byteBuffer) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            if (read(byteBuffer) < 0) {
+                throw new EOFException("Reached the end of stream with " + byteBuffer.remaining() + " bytes left to read");
+            }
+        }
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        checkNotClosed();
+        if (n <= 0 || position >= contentLength) {
+            return 0;
+        }
+        final long skipped = Math.min(n, contentLength - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkNotClosed();
+        if (currentRange == null || position >= contentLength || position / rangeSize != currentRangeIndex) {
+            return 0;
+        }
+        return currentRange.length - offsetInCurrentRange();
+    }
+
+    @Override
+    public long getPos() {
+        return position;
+    }
+
+    @Override
+    public void seek(final long newPosition) throws IOException {
+        checkNotClosed();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("position is negative: " + newPosition);
+        }
+        position = newPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        markPosition = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        checkNotClosed();
+        position = markPosition;
+    }
+
+    /**
+     * @return number of bytes returned to the reader of this stream.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingRanges.values().forEach(pendingRange -> pendingRange.cancel(true));
+        pendingRanges.clear();
+        currentRange = null;
+        super.close();
+    }
+
+    private void advance(final int count) {
+        position += count;
+        bytesRead += count;
+    }
+
+    private int offsetInCurrentRange() {
+        return (int) (position - currentRangeIndex * rangeSize);
+    }
+
+    /**
+     * Makes the range containing the current position the current range.
+     * @return false when the position is at or beyond the end of the object.
+     */
+    private boolean loadCurrentRange() throws IOException {
+        checkNotClosed();
+        if (position >= contentLength) {
+            return false;
+        }
+        final long rangeIndex = position / rangeSize;
+        if (rangeIndex != currentRangeIndex) {
+            currentRange = null;
+            currentRange = awaitRange(rangeIndex);
+            currentRangeIndex = rangeIndex;
+        }
+        return true;
+    }
+
+    private byte[] awaitRange(final long rangeIndex) throws IOException {
+        final Iterator<Map.Entry<Long, Future<byte[]>>> iterator = pendingRanges.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, Future<byte[]>> pendingRange = iterator.next();
+            if (pendingRange.getKey() < rangeIndex || pendingRange.getKey() > rangeIndex + prefetchedRanges) {
+                pendingRange.getValue().cancel(true);
+                iterator.remove();
+            }
+        }
+
+        Future<byte[]> range = pendingRanges.remove(rangeIndex);
+        if (range == null) {
+            range = submitRange(rangeIndex);
+        }
+        for (long prefetchIndex = rangeIndex + 1; prefetchIndex <= rangeIndex + prefetchedRanges; prefetchIndex++) {
+            if (prefetchIndex * rangeSize >= contentLength) {
+                break;
+            }
+            if (!pendingRanges.containsKey(prefetchIndex)) {
+                pendingRanges.put(prefetchIndex, submitRange(prefetchIndex));
+            }
+        }
+
+        final byte[] rangeBytes;
+        try {
+            rangeBytes = range.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading range " + rangeIndex);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+
+        final int expectedLength = rangeLength(rangeIndex);
+        if (rangeBytes.length != expectedLength) {
+            throw new EOFException(String.format("Range %d returned %d bytes instead of %d", rangeIndex, rangeBytes.length, expectedLength));
+        }
+        return rangeBytes;
+    }
+
+    private Future<byte[]> submitRange(final long rangeIndex) throws IOException {
+        final long start = rangeIndex * rangeSize;
+        final int length = rangeLength(rangeIndex);
+        try {
+            return executorService.submit(() -> rangeReader.readRange(start, length));
+        } catch (final RejectedExecutionException e) {
+            throw new IOException("Unable to read range " + rangeIndex, e);
+        }
+    }
+
+    private int rangeLength(final long rangeIndex) {
+        return (int) Math.min(rangeSize, contentLength - rangeIndex * rangeSize);
+    }
+
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
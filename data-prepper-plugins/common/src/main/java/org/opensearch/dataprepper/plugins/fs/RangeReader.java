@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.fs;
+
+import java.io.IOException;
+
+/**
+ * Reads a byte range of a remote object, such as an S3 object read with a ranged GET.
+ * Implementations must be safe to call from multiple threads.
+ */
+@FunctionalInterface
+public interface RangeReader {
+    /**
+     * @param start position of the first byte to read.
+     * @param length number of bytes to read.
+     * @return exactly {@code length} bytes starting at {@code start}.
+     * @throws IOException if the range cannot be read.
+     */
+    byte[] readRange(long start, int length) throws IOException;
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.accumulator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteBufferPoolTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void acquire_returns_cleared_chunk_of_chunk_size(final boolean direct) {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(64, 2, direct);
+
+        final ByteBuffer chunk = byteBufferPool.acquire();
+
+        assertThat(chunk.capacity(), equalTo(64));
+        assertThat(chunk.remaining(), equalTo(64));
+        assertThat(chunk.isDirect(), equalTo(direct));
+    }
+
+    @Test
+    void released_chunk_is_cleared_and_reused() {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(64, 2, false);
+        final ByteBuffer chunk = byteBufferPool.acquire();
+        chunk.put(new byte[10]);
+
+        byteBufferPool.release(chunk);
+        final ByteBuffer reusedChunk = byteBufferPool.acquire();
+
+        assertThat(reusedChunk, sameInstance(chunk));
+        assertThat(reusedChunk.position(), equalTo(0));
+    }
+
+    @Test
+    void release_keeps_at_most_max_pooled_chunks() {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(64, 2, false);
+
+        for (int i = 0; i < 3; i++) {
+            byteBufferPool.release(ByteBuffer.allocate(64));
+        }
+
+        assertThat(byteBufferPool.getPooledChunkCount(), equalTo(2));
+    }
+
+    @Test
+    void release_ignores_chunks_of_other_sizes() {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(64, 2, false);
+
+        byteBufferPool.release(ByteBuffer.allocate(32));
+        byteBufferPool.release(ByteBuffer.allocateDirect(64));
+
+        assertThat(byteBufferPool.getPooledChunkCount(), equalTo(0));
+    }
+
+    @Test
+    void invalid_sizes_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(0, 2, false));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(64, 0, false));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.accumulator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedByteBufferOutputStreamTest {
+
+    private static final int CHUNK_SIZE = 16;
+
+    private byte[] data;
+
+    @BeforeEach
+    void setUp() {
+        data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+    }
+
+    private ChunkedByteBufferOutputStream createObjectUnderTest(final boolean direct) {
+        return new ChunkedByteBufferOutputStream(new ByteBufferPool(CHUNK_SIZE, 16, direct));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void written_data_is_read_back(final boolean direct) throws IOException {
+        final ChunkedByteBufferOutputStream objectUnderTest = createObjectUnderTest(direct);
+        objectUnderTest.write(data[0]);
+        objectUnderTest.write(data, 1, data.length - 1);
+
+        final ByteArrayOutputStream writtenTo = new ByteArrayOutputStream();
+        objectUnderTest.writeTo(writtenTo);
+
+        assertThat(objectUnderTest.size(), equalTo((long) data.length));
+        assertThat(objectUnderTest.toByteArray(), equalTo(data));
+        assertThat(objectUnderTest.toInputStream().readAllBytes(), equalTo(data));
+        assertThat(writtenTo.toByteArray(), equalTo(data));
+    }
+
+    @Test
+    void toByteBuffers_returns_read_only_view_per_chunk() {
+        final ChunkedByteBufferOutputStream objectUnderTest = createObjectUnderTest(false);
+        objectUnderTest.write(data, 0, data.length);
+
+        final List<ByteBuffer> byteBuffers = objectUnderTest.toByteBuffers();
+
+        assertThat(byteBuffers.size(), equalTo(7));
+        assertThat(byteBuffers.get(0).isReadOnly(), equalTo(true));
+        assertThat(byteBuffers.get(0).remaining(), equalTo(CHUNK_SIZE));
+        assertThat(byteBuffers.get(6).remaining(), equalTo(4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 15, 16, 17, 60})
+    void toInputStream_returns_requested_range(final int offset) throws IOException {
+        final ChunkedByteBufferOutputStream objectUnderTest = createObjectUnderTest(false);
+        objectUnderTest.write(data, 0, data.length);
+
+        final byte[] range = objectUnderTest.toInputStream(offset, 30).readAllBytes();
+
+        assertThat(range, equalTo(Arrays.copyOfRange(data, offset, offset + 30)));
+    }
+
+    @Test
+    void toInputStream_outside_of_buffer_throws() {
+        final ChunkedByteBufferOutputStream objectUnderTest = createObjectUnderTest(false);
+        objectUnderTest.write(data, 0, data.length);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> objectUnderTest.toInputStream(90, 20));
+    }
+
+    @Test
+    void input_stream_can_be_replayed_after_reset() throws IOException {
+        final ChunkedByteBufferOutputStream objectUnderTest = createObjectUnderTest(false);
+        objectUnderTest.write(data, 0, data.length);
+        final InputStream inputStream = objectUnderTest.toInputStream(10, 50);
+
+        inputStream.skip(5);
+        inputStream.mark(Integer.MAX_VALUE);
+        inputStream.readAllBytes();
+        inputStream.reset();
+
+        assertThat(inputStream.readAllBytes(), equalTo(Arrays.copyOfRange(data, 15, 60)));
+    }
+
+    @Test
+    void reset_returns_chunks_to_pool() {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(CHUNK_SIZE, 16, false);
+        final ChunkedByteBufferOutputStream objectUnderTest = new ChunkedByteBufferOutputStream(byteBufferPool);
+        objectUnderTest.write(data, 0, data.length);
+
+        objectUnderTest.reset();
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(byteBufferPool.getPooledChunkCount(), equalTo(7));
+    }
+}
@@ -46,6 +46,41 @@ class InMemoryBufferTest {
         });
     }
 
+    @Test
+    void getInputStream_returns_written_events() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer(new ByteBufferPool(128, 16, false));
+        inMemoryBuffer.writeEvent(generateByteArray());
+        inMemoryBuffer.writeEvent(generateByteArray());
+
+        final byte[] bufferedData = inMemoryBuffer.getInputStream().readAllBytes();
+
+        assertThat(bufferedData.length, equalTo((int) inMemoryBuffer.getSize()));
+        assertThat(bufferedData, equalTo(inMemoryBuffer.getSinkBufferData()));
+    }
+
+    @Test
+    void close_returns_chunks_to_pool() throws IOException {
+        final ByteBufferPool byteBufferPool = new ByteBufferPool(128, 16, false);
+        inMemoryBuffer = new InMemoryBuffer(byteBufferPool);
+        inMemoryBuffer.writeEvent(generateByteArray());
+
+        inMemoryBuffer.close();
+
+        assertThat(byteBufferPool.getPooledChunkCount(), equalTo(8));
+        assertThat(inMemoryBuffer.getSize(), equalTo(0L));
+    }
+
+    @Test
+    void buffers_do_not_share_data() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer();
+        inMemoryBuffer.writeEvent(generateByteArray());
+        final long size = inMemoryBuffer.getSize();
+
+        new InMemoryBuffer().writeEvent(generateByteArray());
+
+        assertThat(inMemoryBuffer.getSize(), equalTo(size));
+    }
+
     private byte[] generateByteArray() {
         byte[] bytes = new byte[1000];
         for (int i = 0; i < 1000; i++) {
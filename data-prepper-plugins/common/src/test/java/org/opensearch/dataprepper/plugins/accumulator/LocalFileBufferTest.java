@@ -69,6 +69,18 @@ class LocalFileBufferTest {
         });
     }
 
+    @Test
+    void getInputStream_returns_written_events_and_close_removes_file() throws IOException {
+        localFileBuffer.writeEvent(generateByteArray());
+
+        final byte[] bufferedData = localFileBuffer.getInputStream().readAllBytes();
+
+        assertThat(bufferedData.length, equalTo((int) localFileBuffer.getSize()));
+        assertThat(bufferedData[999], equalTo((byte) 999));
+        localFileBuffer.close();
+        assertFalse(tempFile.exists(), "The temp file has not been deleted.");
+    }
+
     @AfterEach
     void cleanup() {
         tempFile.deleteOnExit();
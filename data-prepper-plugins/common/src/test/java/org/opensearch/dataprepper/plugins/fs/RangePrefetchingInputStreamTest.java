@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.fs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangePrefetchingInputStreamTest {
+    private static final int RANGE_SIZE = 10;
+
+    private ExecutorService executorService;
+    private byte[] content;
+    private List<Long> requestedRanges;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        content = new byte[95];
+        new Random().nextBytes(content);
+        requestedRanges = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private RangePrefetchingInputStream createObjectUnderTest(final RangeReader rangeReader) {
+        return new RangePrefetchingInputStream(rangeReader, content.length, RANGE_SIZE, 3, executorService);
+    }
+
+    private RangePrefetchingInputStream createObjectUnderTest() {
+        return createObjectUnderTest((start, length) -> {
+            requestedRanges.add(start);
+            return Arrays.copyOfRange(content, (int) start, (int) start + length);
+        });
+    }
+
+    @Test
+    void read_returns_all_bytes_across_ranges() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            final byte[] actual = objectUnderTest.readAllBytes();
+
+            assertThat(actual, equalTo(content));
+            assertThat(objectUnderTest.read(), equalTo(-1));
+            assertThat(objectUnderTest.getBytesRead(), equalTo((long) content.length));
+        }
+        assertThat(requestedRanges.size(), equalTo(10));
+    }
+
+    @Test
+    void read_single_bytes_matches_content() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            for (final byte expected : content) {
+                assertThat(objectUnderTest.read(), equalTo(expected & 0xFF));
+            }
+            assertThat(objectUnderTest.read(), equalTo(-1));
+        }
+    }
+
+    @Test
+    void read_prefetches_following_ranges() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.read();
+        }
+        assertThat(requestedRanges, hasItems(0L, 10L, 20L, 30L));
+    }
+
+    @Test
+    void seek_then_readFully_returns_bytes_at_position() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(85);
+            final byte[] actual = new byte[10];
+            objectUnderTest.readFully(actual);
+
+            assertThat(actual, equalTo(Arrays.copyOfRange(content, 85, 95)));
+            assertThat(objectUnderTest.getPos(), equalTo(95L));
+
+            objectUnderTest.seek(5);
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(20);
+            objectUnderTest.readFully(byteBuffer);
+
+            assertThat(byteBuffer.array(), equalTo(Arrays.copyOfRange(content, 5, 25)));
+        }
+    }
+
+    @Test
+    void readFully_past_end_throws_EOFException() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(90);
+            assertThrows(EOFException.class, () -> objectUnderTest.readFully(new byte[10]));
+        }
+    }
+
+    @Test
+    void reset_returns_to_mark() throws IOException {
+        try (final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThat(objectUnderTest.skip(42), equalTo(42L));
+            objectUnderTest.mark(0);
+            objectUnderTest.read(new byte[30]);
+            objectUnderTest.reset();
+
+            assertThat(objectUnderTest.read(), equalTo(content[42] & 0xFF));
+        }
+    }
+
+    @Test
+    void read_throws_IOException_from_range_reader() {
+        final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest((start, length) -> {
+            throw new IOException("range failed");
+        });
+
+        final IOException actual = assertThrows(IOException.class, objectUnderTest::read);
+        assertThat(actual.getMessage(), equalTo("range failed"));
+    }
+
+    @Test
+    void read_after_close_throws_IOException() throws IOException {
+        final RangePrefetchingInputStream objectUnderTest = createObjectUnderTest();
+        objectUnderTest.close();
+
+        assertThrows(IOException.class, objectUnderTest::read);
+    }
+}
@@ -14,6 +14,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
 import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.codec.SplittableInputCodec;
 import org.opensearch.dataprepper.model.io.InputFile;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.log.JacksonLog;
@@ -35,7 +36,7 @@ import java.util.function.Consumer;
  * An implementation of {@link InputCodec} which parses CSV records into fields.
  */
 @DataPrepperPlugin(name = "csv", pluginType = InputCodec.class, pluginConfigurationType = CsvInputCodecConfig.class)
-public class CsvInputCodec implements InputCodec {
+public class CsvInputCodec implements SplittableInputCodec {
     private static final Logger LOG = LoggerFactory.getLogger(CsvInputCodec.class);
     private final CsvInputCodecConfig config;
 
@@ -52,6 +53,16 @@ public class CsvInputCodec implements InputCodec {
         }
     }
 
+    @Override
+    public int getHeaderLineCount() {
+        return config.isDetectHeader() ? 1 : 0;
+    }
+
+    @Override
+    public boolean isSplittable() {
+        return config.isSplittable();
+    }
+
     @Override
     public void parse(final InputFile inputFile, DecompressionEngine decompressionEngine, Consumer<Record<Event>> eventConsumer) throws IOException {
         parse(decompressionEngine.createInputStream(inputFile.newStream()), eventConsumer);
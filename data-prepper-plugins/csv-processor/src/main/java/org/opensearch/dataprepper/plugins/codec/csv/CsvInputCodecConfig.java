@@ -18,6 +18,7 @@ public class CsvInputCodecConfig {
     static final String DEFAULT_DELIMITER = ",";
     static final String DEFAULT_QUOTE_CHARACTER = "\""; // double quote
     static final Boolean DEFAULT_DETECT_HEADER = true;
+    static final boolean DEFAULT_SPLITTABLE = false;
 
     @JsonProperty("delimiter")
     private String delimiter = DEFAULT_DELIMITER;
@@ -31,6 +32,9 @@ public class CsvInputCodecConfig {
     @JsonProperty("detect_header")
     private Boolean detectHeader = DEFAULT_DETECT_HEADER;
 
+    @JsonProperty("splittable")
+    private boolean splittable = DEFAULT_SPLITTABLE;
+
     /**
      * The delimiter separating columns.
      * Comma "," by default.
@@ -69,6 +73,16 @@ public class CsvInputCodecConfig {
         return detectHeader;
     }
 
+    /**
+     * Whether sources may split large objects at line boundaries and parse the splits in parallel.
+     * Defaults to false, as a quoted field may contain a newline and a split inside it corrupts the records.
+     *
+     * @return Whether the input can be split.
+     */
+    public boolean isSplittable() {
+        return splittable;
+    }
+
     @AssertTrue(message = "delimiter must be exactly one character.")
     boolean isValidDelimiter() {
         return delimiter.length() == 1;
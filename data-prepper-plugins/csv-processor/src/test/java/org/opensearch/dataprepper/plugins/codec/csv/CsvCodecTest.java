@@ -82,6 +82,28 @@ public class CsvCodecTest {
         assertThrows(NullPointerException.class, this::createObjectUnderTest);
     }
 
+    @Test
+    void test_when_detectHeader_then_headerLineCountIsOne() {
+        when(config.isDetectHeader()).thenReturn(Boolean.TRUE);
+
+        assertThat(csvCodec.getHeaderLineCount(), equalTo(1));
+    }
+
+    @Test
+    void test_when_notDetectHeader_then_headerLineCountIsZero() {
+        when(config.isDetectHeader()).thenReturn(Boolean.FALSE);
+
+        assertThat(csvCodec.getHeaderLineCount(), equalTo(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void test_isSplittable_returnsConfiguredValue(final boolean splittable) {
+        when(config.isSplittable()).thenReturn(splittable);
+
+        assertThat(csvCodec.isSplittable(), equalTo(splittable));
+    }
+
     @Test
     void test_when_nullInputStream_then_throwsException() {
         assertThrows(NullPointerException.class, () ->
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a fixed set of keywords occur in a text with a single pass over the text, using the Aho-Corasick
+ * algorithm. The automaton is immutable once built, so it can be shared between threads.
+ */
+class AhoCorasickAutomaton {
+    private static final int ROOT = 0;
+
+    private final char[][] transitionCharacters;
+    private final int[][] transitionStates;
+    private final int[] failureStates;
+    private final int[][] matchedKeywords;
+
+    /**
+     * @param keywords the non-empty keywords. The position of each keyword in the list is its identifier.
+     */
+    AhoCorasickAutomaton(final List<String> keywords) {
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> keywordsEndingAt = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        keywordsEndingAt.add(new ArrayList<>());
+        for (int keywordId = 0; keywordId < keywords.size(); keywordId++) {
+            int state = ROOT;
+            for (final char character : keywords.get(keywordId).toCharArray()) {
+                Integer nextState = trie.get(state).get(character);
+                if (nextState == null) {
+                    nextState = trie.size();
+                    trie.get(state).put(character, nextState);
+                    trie.add(new TreeMap<>());
+                    keywordsEndingAt.add(new ArrayList<>());
+                }
+                state = nextState;
+            }
+            keywordsEndingAt.get(state).add(keywordId);
+        }
+
+        final int stateCount = trie.size();
+        transitionCharacters = new char[stateCount][];
+        transitionStates = new int[stateCount][];
+        failureStates = new int[stateCount];
+        matchedKeywords = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            final Map<Character, Integer> transitions = trie.get(state);
+            transitionCharacters[state] = new char[transitions.size()];
+            transitionStates[state] = new int[transitions.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionCharacters[state][index] = transition.getKey();
+                transitionStates[state][index] = transition.getValue();
+                index++;
+            }
+        }
+
+        // Breadth-first, so the failure state of every state is complete before its children are visited.
+        matchedKeywords[ROOT] = toArray(keywordsEndingAt.get(ROOT));
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : transitionStates[ROOT]) {
+            failureStates[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            final List<Integer> matched = keywordsEndingAt.get(state);
+            for (final int keywordId : matchedKeywords[failureStates[state]]) {
+                matched.add(keywordId);
+            }
+            matchedKeywords[state] = toArray(matched);
+            for (int index = 0; index < transitionCharacters[state].length; index++) {
+                final int child = transitionStates[state][index];
+                failureStates[child] = next(failureStates[state], transitionCharacters[state][index]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param text the text to search.
+     * @return the identifiers of the keywords occurring in the text.
+     */
+    BitSet findKeywords(final String text) {
+        final BitSet found = new BitSet();
+        int state = ROOT;
+        for (int index = 0; index < text.length(); index++) {
+            state = next(state, text.charAt(index));
+            for (final int keywordId : matchedKeywords[state]) {
+                found.set(keywordId);
+            }
+        }
+        return found;
+    }
+
+    private int next(int state, final char character) {
+        while (true) {
+            final int index = Arrays.binarySearch(transitionCharacters[state], character);
+            if (index >= 0) {
+                return transitionStates[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failureStates[state];
+        }
+    }
+
+    private static int[] toArray(final List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} which fails reads once a deadline has passed. The regex engine reads its input through
+ * {@link #charAt(int)} while it matches and backtracks, so matching against this sequence stops a runaway pattern on
+ * the calling thread by throwing a {@link MatchTimeoutException}.
+ * <p>
+ * The clock is only read every {@link #CHECK_INTERVAL} reads. Sequences returned by {@link #subSequence(int, int)}
+ * are plain sequences of the wrapped text, so extracting the captures of a finished match is never interrupted.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String text;
+    private final long deadlineNanos;
+    private int readsUntilCheck = CHECK_INTERVAL;
+
+    /**
+     * @param text the text to read.
+     * @param deadlineNanos the {@link System#nanoTime()} after which reads fail.
+     */
+    DeadlineCharSequence(final String text, final long deadlineNanos) {
+        this.text = text;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck == 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new MatchTimeoutException();
+            }
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.Match;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Matches the value of one field against its configured grok patterns.
+ * <p>
+ * When the prefilter is enabled, the literals which every match of a pattern must contain are extracted from its
+ * regex, and all of them are searched for in one pass over the value. Patterns missing one of their literals are
+ * skipped without running their regex. When adaptive ordering is enabled, the patterns are periodically reordered by
+ * how often they matched, so that with {@code break_on_match} the usual match is tried first.
+ */
+class GrokPatternMatcher {
+    static final String GROK_PATTERN_MATCH_TIME = "grokPatternMatchTime";
+    static final String GROK_PATTERN_MATCHES = "grokPatternMatches";
+    static final String GROK_PATTERN_PREFILTER_SKIPS = "grokPatternPrefilterSkips";
+    static final String FIELD_TAG = "field";
+    static final String PATTERN_TAG = "pattern";
+    static final int REORDER_INTERVAL = 1000;
+
+    private final List<Grok> groks;
+    private final boolean keepEmptyCaptures;
+    private final boolean adaptiveOrder;
+    private final AhoCorasickAutomaton prefilter;
+    private final int[][] requiredLiteralIds;
+    private final Timer[] matchTimers;
+    private final Counter[] matchCounters;
+    private final Counter[] prefilterSkipCounters;
+    private final AtomicLongArray recentMatches;
+    private final AtomicLong valuesUntilReorder = new AtomicLong(REORDER_INTERVAL);
+    private volatile int[] order;
+
+    GrokPatternMatcher(final String field,
+                       final List<String> patterns,
+                       final List<Grok> groks,
+                       final boolean keepEmptyCaptures,
+                       final boolean prefilterEnabled,
+                       final boolean adaptiveOrder,
+                       final PluginMetrics pluginMetrics) {
+        this.groks = groks;
+        this.keepEmptyCaptures = keepEmptyCaptures;
+        this.adaptiveOrder = adaptiveOrder;
+        this.order = IntStream.range(0, groks.size()).toArray();
+        this.recentMatches = new AtomicLongArray(groks.size());
+
+        matchTimers = new Timer[groks.size()];
+        matchCounters = new Counter[groks.size()];
+        prefilterSkipCounters = new Counter[groks.size()];
+        for (int index = 0; index < groks.size(); index++) {
+            final String pattern = patterns.get(index);
+            matchTimers[index] = pluginMetrics.timerWithTags(GROK_PATTERN_MATCH_TIME, FIELD_TAG, field, PATTERN_TAG, pattern);
+            matchCounters[index] = pluginMetrics.counterWithTags(GROK_PATTERN_MATCHES, FIELD_TAG, field, PATTERN_TAG, pattern);
+            prefilterSkipCounters[index] = pluginMetrics.counterWithTags(GROK_PATTERN_PREFILTER_SKIPS, FIELD_TAG, field, PATTERN_TAG, pattern);
+        }
+
+        requiredLiteralIds = new int[groks.size()][];
+        final List<String> literals = new ArrayList<>();
+        for (int index = 0; index < groks.size(); index++) {
+            final List<String> patternLiterals = prefilterEnabled
+                    ? RequiredLiteralExtractor.extractRequiredLiterals(groks.get(index).getNamedRegex())
+                    : List.of();
+            requiredLiteralIds[index] = new int[patternLiterals.size()];
+            for (int literalIndex = 0; literalIndex < patternLiterals.size(); literalIndex++) {
+                final String literal = patternLiterals.get(literalIndex);
+                int literalId = literals.indexOf(literal);
+                if (literalId < 0) {
+                    literalId = literals.size();
+                    literals.add(literal);
+                }
+                requiredLiteralIds[index][literalIndex] = literalId;
+            }
+        }
+        prefilter = literals.isEmpty() ? null : new AhoCorasickAutomaton(literals);
+    }
+
+    /**
+     * Matches the patterns in order and passes the captures of each pattern to {@code capturesConsumer}, until it
+     * returns true.
+     *
+     * @param value the value of the field.
+     * @param matchText the text the patterns are matched against, which reads {@code value}.
+     * @param capturesConsumer receives the captures of each pattern, and returns true to stop matching.
+     */
+    void match(final String value, final CharSequence matchText, final Predicate<Map<String, Object>> capturesConsumer) {
+        final BitSet foundLiterals = prefilter == null ? null : prefilter.findKeywords(value);
+        final int[] currentOrder = order;
+        for (final int index : currentOrder) {
+            if (foundLiterals != null && !hasRequiredLiterals(index, foundLiterals)) {
+                prefilterSkipCounters[index].increment();
+                continue;
+            }
+            final long startTime = System.nanoTime();
+            final Match match = groks.get(index).match(matchText);
+            match.setKeepEmptyCaptures(keepEmptyCaptures);
+            final Map<String, Object> captures = match.capture();
+            matchTimers[index].record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            if (!captures.isEmpty()) {
+                matchCounters[index].increment();
+                recentMatches.incrementAndGet(index);
+            }
+            if (capturesConsumer.test(captures)) {
+                break;
+            }
+        }
+        if (adaptiveOrder && valuesUntilReorder.decrementAndGet() == 0) {
+            reorder();
+            valuesUntilReorder.set(REORDER_INTERVAL);
+        }
+    }
+
+    int[] getOrder() {
+        return order.clone();
+    }
+
+    private boolean hasRequiredLiterals(final int index, final BitSet foundLiterals) {
+        for (final int literalId : requiredLiteralIds[index]) {
+            if (!foundLiterals.get(literalId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Orders the patterns by their matches since the last reorder, most first, keeping the configured order between
+     * patterns with as many matches. The counts are then halved so that the order follows changes in the data.
+     */
+    private void reorder() {
+        final long[] matches = new long[groks.size()];
+        for (int index = 0; index < matches.length; index++) {
+            matches[index] = recentMatches.getAndUpdate(index, count -> count / 2);
+        }
+        order = IntStream.range(0, groks.size())
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer index) -> matches[index]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
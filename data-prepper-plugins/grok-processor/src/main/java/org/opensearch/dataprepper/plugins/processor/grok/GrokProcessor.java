@@ -8,13 +8,11 @@ package org.opensearch.dataprepper.plugins.processor.grok;
 
 import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
-import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
-import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
@@ -43,23 +41,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
 
-@SingleThread
+/**
+ * Matches events against grok patterns. Matching runs on the calling thread, and the {@code timeout_millis} limit is
+ * enforced by reading the matched values through a {@link DeadlineCharSequence}, so instances are thread-safe.
+ */
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -77,26 +71,24 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, GrokPatternMatcher> fieldToGrok;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
 
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
     public GrokProcessor(final PluginSetting pluginSetting, final ExpressionEvaluator expressionEvaluator) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginSetting, GrokCompiler.newInstance(), expressionEvaluator);
     }
 
-    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService, final ExpressionEvaluator expressionEvaluator) {
+    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExpressionEvaluator expressionEvaluator) {
         super(pluginSetting);
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
@@ -125,21 +117,12 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
+                grokProcessingTime.record(() -> matchAndMerge(event, deadlineNanos));
 
-            } catch (TimeoutException e) {
+            } catch (MatchTimeoutException e) {
                 LOG.error(EVENT, "Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokProcessorConfig.getTimeoutMillis());
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error(EVENT, "An exception occurred while matching on record [{}]", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error(EVENT, "Matching on record [{}] was interrupted", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.error(EVENT, "Unknown exception occurred when matching record [{}]", record.getData(), e);
@@ -161,18 +144,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+
     }
 
     private void registerPatterns() {
@@ -221,31 +193,34 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private void compileMatchPatterns() {
+        // Reordering only changes which pattern matches first, which matters only when matching stops at the first match.
+        final boolean adaptivePatternOrder = grokProcessorConfig.isAdaptivePatternOrder() && grokProcessorConfig.isBreakOnMatch();
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(entry.getKey(), new GrokPatternMatcher(entry.getKey(), entry.getValue(), groks,
+                    grokProcessorConfig.isKeepEmptyCaptures(), grokProcessorConfig.isPrefilterPatterns(),
+                    adaptivePatternOrder, pluginMetrics));
         }
     }
 
-    private void matchAndMerge(final Event event) {
+    /**
+     * @param deadlineNanos the {@link System#nanoTime()} after which matching fails with a {@link MatchTimeoutException},
+     *                      unless {@code timeout_millis} is 0.
+     */
+    private void matchAndMerge(final Event event, final long deadlineNanos) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
-
-                    final Map<String, Object> captures = match.capture();
+        for (final Map.Entry<String, GrokPatternMatcher> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final CharSequence matchText = grokProcessorConfig.getTimeoutMillis() == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
+                entry.getValue().match(value, matchText, captures -> {
                     mergeCaptures(grokkedCaptures, captures);
-
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
-                }
+                    return shouldBreakOnMatch(grokkedCaptures);
+                });
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
                 break;
@@ -317,9 +292,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-    }
 }
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Thrown when matching an event did not finish within the configured timeout.
+ */
+class MatchTimeoutException extends RuntimeException {
+    MatchTimeoutException() {
+        super("Grok matching exceeded the configured timeout", null, false, false);
+    }
+}
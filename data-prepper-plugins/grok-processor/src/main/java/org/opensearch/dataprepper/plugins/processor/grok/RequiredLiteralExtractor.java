@@ -0,0 +1,236 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts literal substrings which every match of a regular expression must contain. Only literals in the
+ * top-level sequence of the expression are extracted: the contents of groups and character classes are skipped. The
+ * extraction is conservative, and returns no literals for an expression containing a top-level alternation,
+ * case-insensitive or comments flags, or a construct it does not recognize.
+ */
+final class RequiredLiteralExtractor {
+    static final int MAX_LITERALS = 4;
+
+    private static final Pattern UNSUPPORTED_FLAGS = Pattern.compile("\\(\\?[a-zA-Z-]*[ixX][a-zA-Z-]*[:)]");
+    private static final String CHARACTER_CLASS_ESCAPES = "dDsSwWbBhHvVRXAzZGtnrfea";
+
+    private RequiredLiteralExtractor() {
+    }
+
+    /**
+     * @param regex the regular expression, or null.
+     * @return up to {@link #MAX_LITERALS} of the longest literals required by the expression.
+     */
+    static List<String> extractRequiredLiterals(final String regex) {
+        if (regex == null || UNSUPPORTED_FLAGS.matcher(regex).find()) {
+            return Collections.emptyList();
+        }
+        final Set<String> literals = new LinkedHashSet<>();
+        final StringBuilder current = new StringBuilder();
+        int index = 0;
+        while (index < regex.length()) {
+            final char character = regex.charAt(index);
+            final int next;
+            switch (character) {
+                case '\\':
+                    if (index + 1 >= regex.length()) {
+                        return Collections.emptyList();
+                    }
+                    final char escaped = regex.charAt(index + 1);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        index = appendLiteral(regex, escaped, index + 2, current, literals);
+                        if (index < 0) {
+                            return Collections.emptyList();
+                        }
+                        continue;
+                    }
+                    if (CHARACTER_CLASS_ESCAPES.indexOf(escaped) < 0) {
+                        return Collections.emptyList();
+                    }
+                    next = index + 2;
+                    break;
+                case '[':
+                    next = skipCharacterClass(regex, index);
+                    break;
+                case '(':
+                    next = skipGroup(regex, index);
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    next = index + 1;
+                    break;
+                case '|':
+                case ')':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    return Collections.emptyList();
+                default:
+                    index = appendLiteral(regex, character, index + 1, current, literals);
+                    if (index < 0) {
+                        return Collections.emptyList();
+                    }
+                    continue;
+            }
+            if (next < 0) {
+                return Collections.emptyList();
+            }
+            flush(current, literals);
+            index = skipQuantifier(regex, next);
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+        }
+        flush(current, literals);
+
+        final List<String> longestLiterals = new ArrayList<>(literals);
+        longestLiterals.sort(Comparator.comparingInt(String::length).reversed());
+        return longestLiterals.size() > MAX_LITERALS ? longestLiterals.subList(0, MAX_LITERALS) : longestLiterals;
+    }
+
+    /**
+     * Appends a literal character to the current literal, unless a quantifier makes it optional.
+     *
+     * @return the index after the character and its quantifier, or -1 if the quantifier is invalid.
+     */
+    private static int appendLiteral(final String regex, final char character, final int next,
+                                     final StringBuilder current, final Set<String> literals) {
+        final int minimumCount = getMinimumCount(regex, next);
+        if (minimumCount < 0) {
+            current.append(character);
+            return next;
+        }
+        if (minimumCount > 0) {
+            current.append(character);
+        }
+        flush(current, literals);
+        return skipQuantifier(regex, next);
+    }
+
+    private static void flush(final StringBuilder current, final Set<String> literals) {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * @return the minimum repetition count of the quantifier at {@code index}, or -1 if there is no quantifier.
+     */
+    private static int getMinimumCount(final String regex, final int index) {
+        if (index >= regex.length()) {
+            return -1;
+        }
+        switch (regex.charAt(index)) {
+            case '?':
+            case '*':
+                return 0;
+            case '+':
+                return 1;
+            case '{':
+                int end = index + 1;
+                while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                    end++;
+                }
+                return end > index + 1 ? Integer.parseInt(regex.substring(index + 1, Math.min(end, index + 10))) : 0;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * @return the index after the quantifier at {@code index}, the index itself if there is none, or -1 if it is invalid.
+     */
+    private static int skipQuantifier(final String regex, final int index) {
+        if (index >= regex.length()) {
+            return index;
+        }
+        int next;
+        switch (regex.charAt(index)) {
+            case '?':
+            case '*':
+            case '+':
+                next = index + 1;
+                break;
+            case '{':
+                final int end = regex.indexOf('}', index);
+                if (end < 0 || !regex.substring(index + 1, end).matches("\\d+(,\\d*)?")) {
+                    return -1;
+                }
+                next = end + 1;
+                break;
+            default:
+                return index;
+        }
+        if (next < regex.length() && (regex.charAt(next) == '?' || regex.charAt(next) == '+')) {
+            next++;
+        }
+        return next;
+    }
+
+    /**
+     * @return the index after the character class starting at {@code index}, or -1 if it is nested or unterminated.
+     */
+    private static int skipCharacterClass(final String regex, final int index) {
+        int next = index + 1;
+        if (next < regex.length() && regex.charAt(next) == '^') {
+            next++;
+        }
+        if (next < regex.length() && regex.charAt(next) == ']') {
+            next++;
+        }
+        while (next < regex.length()) {
+            final char character = regex.charAt(next);
+            if (character == '\\') {
+                next += 2;
+            } else if (character == '[') {
+                return -1;
+            } else if (character == ']') {
+                return next + 1;
+            } else {
+                next++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index after the group starting at {@code index}, or -1 if it is unterminated.
+     */
+    private static int skipGroup(final String regex, final int index) {
+        int depth = 0;
+        int next = index;
+        while (next < regex.length()) {
+            final char character = regex.charAt(next);
+            if (character == '\\') {
+                next += 2;
+            } else if (character == '[') {
+                next = skipCharacterClass(regex, next);
+                if (next < 0) {
+                    return -1;
+                }
+            } else {
+                if (character == '(') {
+                    depth++;
+                } else if (character == ')' && --depth == 0) {
+                    return next + 1;
+                }
+                next++;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AhoCorasickAutomatonTest {
+
+    @Test
+    void findKeywords_finds_overlapping_and_nested_keywords() {
+        final AhoCorasickAutomaton objectUnderTest = new AhoCorasickAutomaton(List.of("he", "she", "his", "hers", "DENY", " ["));
+
+        final BitSet found = objectUnderTest.findKeywords("ushers");
+
+        assertThat(found.get(0), equalTo(true));
+        assertThat(found.get(1), equalTo(true));
+        assertThat(found.get(2), equalTo(false));
+        assertThat(found.get(3), equalTo(true));
+        assertThat(found.get(4), equalTo(false));
+        assertThat(found.get(5), equalTo(false));
+    }
+
+    @Test
+    void findKeywords_finds_keywords_after_failed_partial_matches() {
+        final AhoCorasickAutomaton objectUnderTest = new AhoCorasickAutomaton(List.of("abcd", "bce", "\u00e9t\u00e9"));
+
+        assertThat(objectUnderTest.findKeywords("xabce").get(1), equalTo(true));
+        assertThat(objectUnderTest.findKeywords("xabce").get(0), equalTo(false));
+        assertThat(objectUnderTest.findKeywords("l'\u00e9t\u00e9").get(2), equalTo(true));
+        assertThat(objectUnderTest.findKeywords("").isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void findKeywords_matches_String_contains() {
+        final List<String> keywords = List.of("ab", "ba", "aab", "bab", "abba", "b");
+        final AhoCorasickAutomaton objectUnderTest = new AhoCorasickAutomaton(keywords);
+        final String[] texts = {"a", "ab", "aab", "abab", "babba", "aaaa", "bbbb", "abbab"};
+
+        for (final String text : texts) {
+            final BitSet found = objectUnderTest.findKeywords(text);
+            for (int keywordId = 0; keywordId < keywords.size(); keywordId++) {
+                assertThat(text + " " + keywords.get(keywordId), found.get(keywordId), equalTo(text.contains(keywords.get(keywordId))));
+            }
+        }
+    }
+}
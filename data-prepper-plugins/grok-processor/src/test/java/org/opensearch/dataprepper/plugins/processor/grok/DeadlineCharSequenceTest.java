@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+
+    @Test
+    void reads_the_wrapped_text_before_the_deadline() {
+        final String text = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(text, System.nanoTime() + 60_000_000_000L);
+
+        assertThat(objectUnderTest.length(), equalTo(text.length()));
+        assertThat(objectUnderTest.toString(), equalTo(text));
+        assertThat(objectUnderTest.subSequence(2, 8).toString(), equalTo(text.substring(2, 8)));
+        for (int index = 0; index < text.length(); index++) {
+            assertThat(objectUnderTest.charAt(index), equalTo(text.charAt(index)));
+        }
+        assertThat(Pattern.compile("[0-9a-f-]+").matcher(objectUnderTest).matches(), equalTo(true));
+    }
+
+    @Test
+    void charAt_throws_after_the_deadline() {
+        final String text = "a".repeat(DeadlineCharSequence.CHECK_INTERVAL);
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(text, System.nanoTime() - 1);
+
+        for (int index = 0; index < DeadlineCharSequence.CHECK_INTERVAL - 1; index++) {
+            objectUnderTest.charAt(index);
+        }
+
+        assertThrows(MatchTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void subSequence_is_not_limited_by_the_deadline() {
+        final String text = "a".repeat(DeadlineCharSequence.CHECK_INTERVAL * 2);
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(text, System.nanoTime() - 1);
+
+        final CharSequence subSequence = objectUnderTest.subSequence(0, text.length());
+
+        for (int index = 0; index < subSequence.length(); index++) {
+            assertThat(subSequence.charAt(index), equalTo('a'));
+        }
+    }
+
+    @Test
+    void matching_a_runaway_pattern_stops_at_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("a".repeat(64) + "!", System.nanoTime() + 50_000_000L);
+
+        assertThrows(MatchTimeoutException.class, () -> Pattern.compile("^(a+)+\\1b").matcher(objectUnderTest).find());
+    }
+}
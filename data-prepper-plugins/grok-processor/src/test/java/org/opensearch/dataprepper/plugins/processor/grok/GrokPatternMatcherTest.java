@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.FIELD_TAG;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.GROK_PATTERN_MATCHES;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.GROK_PATTERN_MATCH_TIME;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.GROK_PATTERN_PREFILTER_SKIPS;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.PATTERN_TAG;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokPatternMatcher.REORDER_INTERVAL;
+
+@ExtendWith(MockitoExtension.class)
+class GrokPatternMatcherTest {
+    private static final String FIELD = "message";
+    private static final String DENY_PATTERN = "DENY %{IP:source_ip} -> %{IP:destination_ip}";
+    private static final String ALLOW_PATTERN = "ALLOW %{IP:source_ip} port %{INT:port}";
+    private static final String DENY_MESSAGE = "DENY 10.0.0.1 -> 10.0.0.2";
+    private static final String ALLOW_MESSAGE = "ALLOW 10.0.0.1 port 443";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Timer denyTimer;
+
+    @Mock
+    private Timer allowTimer;
+
+    @Mock
+    private Counter denyMatches;
+
+    @Mock
+    private Counter allowMatches;
+
+    @Mock
+    private Counter denySkips;
+
+    @Mock
+    private Counter allowSkips;
+
+    private List<String> patterns;
+    private List<Grok> groks;
+
+    @BeforeEach
+    void setUp() {
+        patterns = List.of(DENY_PATTERN, ALLOW_PATTERN);
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        groks = patterns.stream().map(grokCompiler::compile).collect(Collectors.toList());
+
+        lenient().when(pluginMetrics.timerWithTags(GROK_PATTERN_MATCH_TIME, FIELD_TAG, FIELD, PATTERN_TAG, DENY_PATTERN)).thenReturn(denyTimer);
+        lenient().when(pluginMetrics.timerWithTags(GROK_PATTERN_MATCH_TIME, FIELD_TAG, FIELD, PATTERN_TAG, ALLOW_PATTERN)).thenReturn(allowTimer);
+        lenient().when(pluginMetrics.counterWithTags(GROK_PATTERN_MATCHES, FIELD_TAG, FIELD, PATTERN_TAG, DENY_PATTERN)).thenReturn(denyMatches);
+        lenient().when(pluginMetrics.counterWithTags(GROK_PATTERN_MATCHES, FIELD_TAG, FIELD, PATTERN_TAG, ALLOW_PATTERN)).thenReturn(allowMatches);
+        lenient().when(pluginMetrics.counterWithTags(GROK_PATTERN_PREFILTER_SKIPS, FIELD_TAG, FIELD, PATTERN_TAG, DENY_PATTERN)).thenReturn(denySkips);
+        lenient().when(pluginMetrics.counterWithTags(GROK_PATTERN_PREFILTER_SKIPS, FIELD_TAG, FIELD, PATTERN_TAG, ALLOW_PATTERN)).thenReturn(allowSkips);
+    }
+
+    private GrokPatternMatcher createObjectUnderTest(final boolean prefilterEnabled, final boolean adaptiveOrder) {
+        return new GrokPatternMatcher(FIELD, patterns, groks, false, prefilterEnabled, adaptiveOrder, pluginMetrics);
+    }
+
+    private List<Map<String, Object>> match(final GrokPatternMatcher objectUnderTest, final String value) {
+        final List<Map<String, Object>> allCaptures = new ArrayList<>();
+        objectUnderTest.match(value, value, captures -> {
+            allCaptures.add(captures);
+            return !captures.isEmpty();
+        });
+        return allCaptures;
+    }
+
+    @Test
+    void match_skips_patterns_missing_required_literals() {
+        final GrokPatternMatcher objectUnderTest = createObjectUnderTest(true, false);
+
+        final List<Map<String, Object>> allCaptures = match(objectUnderTest, ALLOW_MESSAGE);
+
+        assertThat(allCaptures.size(), equalTo(1));
+        assertThat(allCaptures.get(0).get("port"), equalTo("443"));
+        verify(denySkips).increment();
+        verify(denyTimer, never()).record(anyLong(), any(TimeUnit.class));
+        verify(allowTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(allowMatches).increment();
+    }
+
+    @Test
+    void match_tries_every_pattern_without_the_prefilter() {
+        final GrokPatternMatcher objectUnderTest = createObjectUnderTest(false, false);
+
+        final List<Map<String, Object>> allCaptures = match(objectUnderTest, ALLOW_MESSAGE);
+
+        assertThat(allCaptures.size(), equalTo(2));
+        assertThat(allCaptures.get(0).isEmpty(), equalTo(true));
+        assertThat(allCaptures.get(1).get("port"), equalTo("443"));
+        verify(denyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(allowTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(denyMatches, never()).increment();
+        verify(allowMatches).increment();
+    }
+
+    @Test
+    void match_with_the_prefilter_finds_the_same_captures_as_without() {
+        final GrokPatternMatcher withPrefilter = createObjectUnderTest(true, false);
+        final GrokPatternMatcher withoutPrefilter = createObjectUnderTest(false, false);
+
+        for (final String value : List.of(DENY_MESSAGE, ALLOW_MESSAGE, "DENY ALLOW port ->", "unrelated")) {
+            final List<Map<String, Object>> expectedCaptures = match(withoutPrefilter, value).stream()
+                    .filter(captures -> !captures.isEmpty())
+                    .collect(Collectors.toList());
+            assertThat(value, match(withPrefilter, value).stream()
+                    .filter(captures -> !captures.isEmpty())
+                    .collect(Collectors.toList()), equalTo(expectedCaptures));
+        }
+    }
+
+    @Test
+    void match_reorders_patterns_by_matches_with_adaptive_order() {
+        final GrokPatternMatcher objectUnderTest = createObjectUnderTest(false, true);
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1}));
+
+        for (int count = 0; count < REORDER_INTERVAL - 1; count++) {
+            match(objectUnderTest, ALLOW_MESSAGE);
+        }
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1}));
+
+        match(objectUnderTest, ALLOW_MESSAGE);
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{1, 0}));
+
+        final List<Map<String, Object>> allCaptures = match(objectUnderTest, ALLOW_MESSAGE);
+        assertThat(allCaptures.size(), equalTo(1));
+        verify(allowMatches, times(REORDER_INTERVAL + 1)).increment();
+    }
+
+    @Test
+    void match_keeps_the_configured_order_without_adaptive_order() {
+        final GrokPatternMatcher objectUnderTest = createObjectUnderTest(false, false);
+
+        for (int count = 0; count < REORDER_INTERVAL; count++) {
+            match(objectUnderTest, ALLOW_MESSAGE);
+        }
+
+        assertThat(objectUnderTest.getOrder(), equalTo(new int[]{0, 1}));
+        verify(pluginMetrics, times(2)).timerWithTags(eq(GROK_PATTERN_MATCH_TIME), anyString(), anyString(), anyString(), anyString());
+    }
+}
@@ -18,10 +18,12 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_ADAPTIVE_PATTERN_ORDER;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_BREAK_ON_MATCH;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_KEEP_EMPTY_CAPTURES;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_NAMED_CAPTURES_ONLY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_PATTERNS_FILES_GLOB;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_PREFILTER_PATTERNS;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_TARGET_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS;
 
@@ -75,6 +77,8 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(DEFAULT_TIMEOUT_MILLIS));
         assertThat(grokProcessorConfig.getGrokWhen(), equalTo(null));
         assertThat(grokProcessorConfig.getTagsOnMatchFailure(), equalTo(Collections.emptyList()));
+        assertThat(grokProcessorConfig.isPrefilterPatterns(), equalTo(DEFAULT_PREFILTER_PATTERNS));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrder(), equalTo(DEFAULT_ADAPTIVE_PATTERN_ORDER));
     }
 
     @Test
@@ -20,6 +20,7 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +35,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorTests.buildRecordWithEvent;
 
 public class GrokProcessorIT {
@@ -492,6 +494,27 @@ public class GrokProcessorIT {
         assertTrue(((Event)record.getData()).getMetadata().getTags().contains(tagOnMatchFailure2));
     }
 
+    @Test
+    public void testCatastrophicBacktrackingTimesOutOnTheCallingThread() throws JsonProcessingException {
+        final Map<String, List<String>> matchConfig = new HashMap<>();
+        matchConfig.put("message", Collections.singletonList("^(a+)+\\1b"));
+
+        pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 100);
+        grokProcessor = new GrokProcessor(pluginSetting, expressionEvaluator);
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", "a".repeat(64) + "!");
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final List<Record<Event>> grokkedRecords = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record)));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), record);
+    }
+
     @Test
     public void testCompileNonRegisteredPatternThrowsIllegalArgumentException() {
 
@@ -34,17 +34,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
@@ -53,7 +50,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
 
@@ -64,12 +60,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -100,6 +90,12 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Timer grokPatternMatchTime;
+
+    @Mock
+    private Counter grokPatternCounter;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
@@ -109,7 +105,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -125,6 +121,10 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.timerWithTags(eq(GrokPatternMatcher.GROK_PATTERN_MATCH_TIME), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(grokPatternMatchTime);
+        lenient().when(pluginMetrics.counterWithTags(anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(grokPatternCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -138,19 +138,18 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(textEqualTo(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
+    }
+
+    private static CharSequence textEqualTo(final String text) {
+        return argThat(value -> value != null && text.contentEquals(value));
     }
 
     private GrokProcessor createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokProcessor(pluginSetting, grokCompiler, executorService, expressionEvaluator);
+            return new GrokProcessor(pluginSetting, grokCompiler, expressionEvaluator);
         }
     }
 
@@ -380,8 +379,8 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grok.match(any(DeadlineCharSequence.class))).thenThrow(MatchTimeoutException.class);
 
         grokProcessor = createObjectUnderTest();
 
@@ -403,7 +402,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesTheValueDirectlyAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
         grokProcessor = createObjectUnderTest();
 
@@ -425,7 +424,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -442,36 +441,10 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -490,7 +463,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -514,7 +487,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.TAGS_ON_MATCH_FAILURE, List.of(tagOnMatchFailure1, tagOnMatchFailure2));
 
             grokProcessor = createObjectUnderTest();
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +510,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -574,7 +547,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
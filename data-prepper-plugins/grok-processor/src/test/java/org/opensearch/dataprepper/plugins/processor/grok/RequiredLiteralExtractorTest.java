@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequiredLiteralExtractorTest {
+
+    static Stream<Arguments> regexesWithLiterals() {
+        return Stream.of(
+                Arguments.of("abc", List.of("abc")),
+                Arguments.of("\\[abc\\] \\\"", List.of("[abc] \"")),
+                Arguments.of("\\d+abc\\s", List.of("abc")),
+                Arguments.of("[a-z]+ foo", List.of(" foo")),
+                Arguments.of("[^]x]foo[\\]]bar", List.of("foo", "bar")),
+                Arguments.of("(a|b) foo (bar)", List.of(" foo ")),
+                Arguments.of("(?<name>[)]x)y(\\))z", List.of("y", "z")),
+                Arguments.of("^a.b$", List.of("a", "b")),
+                Arguments.of("ab?c", List.of("a", "c")),
+                Arguments.of("ab*c", List.of("a", "c")),
+                Arguments.of("ab+c", List.of("ab", "c")),
+                Arguments.of("ab+?c", List.of("ab", "c")),
+                Arguments.of("ab{2}c", List.of("ab", "c")),
+                Arguments.of("ab{0,3}c", List.of("a", "c")),
+                Arguments.of("a\\.?b", List.of("a", "b")),
+                Arguments.of("(x)+?abc.", List.of("abc")),
+                Arguments.of("ab.ab", List.of("ab")),
+                Arguments.of("aaaaa.bbbb.ccc.dd.e", List.of("aaaaa", "bbbb", "ccc", "dd"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("regexesWithLiterals")
+    void extractRequiredLiterals_returns_the_required_literals(final String regex, final List<String> expectedLiterals) {
+        final List<String> literals = RequiredLiteralExtractor.extractRequiredLiterals(regex);
+
+        assertThat(literals, containsInAnyOrder(expectedLiterals.toArray()));
+        assertThat(literals.size(), equalTo(expectedLiterals.size()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(?i)abc", "a(?x:b c)", "abc\\", "\\Qabc\\E", "abc\\1", "a[b[c]]d", "a[bc", "a(bc", "a([b[c]])d",
+            "a|b", "a)b", "*a", "ab{,3}", "ab{x}", "ab{2", "a\\d{"
+    })
+    void extractRequiredLiterals_returns_no_literals_for_unsupported_regexes(final String regex) {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(regex), empty());
+    }
+
+    @Test
+    void extractRequiredLiterals_returns_no_literals_for_null() {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(null), empty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("regexesWithLiterals")
+    void every_match_contains_the_required_literals(final String regex, final List<String> expectedLiterals) {
+        final String text = "zz ab abc [abc] \" a.b aab abbc abbbc a b x abc foo bar y ) z aaaaa bbbb ccc dd e";
+        final Matcher matcher = Pattern.compile(regex).matcher(text);
+        while (matcher.find()) {
+            for (final String literal : RequiredLiteralExtractor.extractRequiredLiterals(regex)) {
+                assertThat(matcher.group().contains(literal), equalTo(true));
+            }
+        }
+    }
+}
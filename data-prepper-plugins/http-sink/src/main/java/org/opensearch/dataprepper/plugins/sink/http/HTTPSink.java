@@ -4,11 +4,8 @@
  */
 package org.opensearch.dataprepper.plugins.sink.http;
 
-import org.apache.hc.client5.http.HttpRequestRetryStrategy;
-import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.util.TimeValue;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
@@ -59,11 +56,9 @@ public class HTTPSink extends AbstractSink<Record<Event>> {
         } else {
             this.bufferFactory = new InMemoryBufferFactory();
         }
-        final HttpRequestRetryStrategy httpRequestRetryStrategy = new DefaultHttpRequestRetryStrategy(httpSinkConfiguration.getMaxUploadRetries(),
-                TimeValue.of(httpSinkConfiguration.getHttpRetryInterval()));
-
+        // failed requests are retried by the HttpSinkService, which also retries the non idempotent POST requests
         final HttpClientBuilder httpClientBuilder = HttpClients.custom()
-                .setRetryStrategy(httpRequestRetryStrategy);
+                .disableAutomaticRetries();
 
         this.httpSinkService = new HttpSinkService(
                 httpSinkConfiguration,
@@ -107,4 +102,10 @@ public class HTTPSink extends AbstractSink<Record<Event>> {
         }
         httpSinkService.output(records);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        httpSinkService.shutdown();
+    }
+}
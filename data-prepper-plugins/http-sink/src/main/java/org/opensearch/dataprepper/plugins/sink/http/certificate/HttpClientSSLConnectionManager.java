@@ -49,6 +49,8 @@ public class HttpClientSSLConnectionManager {
                 .build();
        return PoolingHttpClientConnectionManagerBuilder.create()
                 .setSSLSocketFactory(sslSocketFactory)
+                .setMaxConnTotal(sinkConfiguration.getWorkers() * sinkConfiguration.getUrlConfigurationOptions().size())
+                .setMaxConnPerRoute(sinkConfiguration.getWorkers())
                 .setDefaultTlsConfig(TlsConfig.custom()
                         .setHandshakeTimeout(Timeout.ofSeconds(30))
                         .setSupportedProtocols(TLS.V_1_3)
@@ -6,6 +6,7 @@ package org.opensearch.dataprepper.plugins.sink.http.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -38,6 +39,7 @@ public class HttpSinkConfiguration {
     private List<UrlConfigurationOption> urlConfigurationOptions;
 
     @JsonProperty("workers")
+    @Min(1)
     private Integer workers = DEFAULT_WORKERS;
 
     @JsonProperty("codec")
@@ -69,7 +71,7 @@ public class HttpSinkConfiguration {
 
     @NotNull
     @JsonProperty("threshold")
-    private ThresholdOptions thresholdOptions;
+    private ThresholdOptions thresholdOptions = new ThresholdOptions();
 
     @JsonProperty("max_retries")
     private int maxUploadRetries = DEFAULT_UPLOAD_RETRIES;
@@ -108,6 +110,9 @@ public class HttpSinkConfiguration {
     @JsonProperty("http_retry_interval")
     private Duration httpRetryInterval = DEFAULT_HTTP_RETRY_INTERVAL;
 
+    @JsonProperty("compression")
+    private CompressionOption compression = CompressionOption.NONE;
+
 
     private boolean sslCertAndKeyFileInS3;
 
@@ -229,6 +234,10 @@ public class HttpSinkConfiguration {
         return awsAuthenticationOptions;
     }
 
+    public CompressionOption getCompression() {
+        return compression;
+    }
+
     public Integer getWorkers() {
         return workers;
     }
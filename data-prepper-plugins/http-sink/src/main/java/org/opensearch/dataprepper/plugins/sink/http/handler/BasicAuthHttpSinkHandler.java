@@ -8,7 +8,6 @@ import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
-import org.opensearch.dataprepper.plugins.sink.http.FailedHttpResponseInterceptor;
 import org.opensearch.dataprepper.plugins.sink.http.util.HttpSinkUtil;
 
 /**
@@ -37,7 +36,6 @@ public class BasicAuthHttpSinkHandler implements MultiAuthHttpSinkHandler {
         provider.setCredentials(authScope, new UsernamePasswordCredentials(username, password.toCharArray()));
         httpAuthOptionsBuilder.setHttpClientBuilder(httpAuthOptionsBuilder.build().getHttpClientBuilder()
                 .setConnectionManager(httpClientConnectionManager)
-                .addResponseInterceptorLast(new FailedHttpResponseInterceptor(httpAuthOptionsBuilder.getUrl()))
                 .setDefaultCredentialsProvider(provider));
         return httpAuthOptionsBuilder.build();
     }
@@ -5,7 +5,6 @@
 package org.opensearch.dataprepper.plugins.sink.http.handler;
 
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
-import org.opensearch.dataprepper.plugins.sink.http.FailedHttpResponseInterceptor;
 
 /**
  * * This class handles Bearer Token Authentication
@@ -28,8 +27,7 @@ public class BearerTokenAuthHttpSinkHandler implements MultiAuthHttpSinkHandler
     public HttpAuthOptions authenticate(final HttpAuthOptions.Builder httpAuthOptionsBuilder) {
         httpAuthOptionsBuilder.getClassicHttpRequestBuilder().addHeader(AUTHORIZATION,bearerTokenString);
         httpAuthOptionsBuilder.setHttpClientBuilder(httpAuthOptionsBuilder.build().getHttpClientBuilder()
-                .setConnectionManager(httpClientConnectionManager)
-                .addResponseInterceptorLast(new FailedHttpResponseInterceptor(httpAuthOptionsBuilder.getUrl())));
+                .setConnectionManager(httpClientConnectionManager));
         return httpAuthOptionsBuilder.build();
     }
 }
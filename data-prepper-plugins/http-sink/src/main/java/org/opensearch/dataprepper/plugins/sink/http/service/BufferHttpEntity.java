@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.service;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.opensearch.dataprepper.plugins.accumulator.Buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Http entity which streams the data of a sink {@link Buffer} instead of copying it into an array.
+ * The entity is repeatable, every request opens a new stream over the buffer.
+ */
+class BufferHttpEntity extends AbstractHttpEntity {
+
+    private final Buffer buffer;
+
+    BufferHttpEntity(final Buffer buffer, final ContentType contentType) {
+        super(contentType, null);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return buffer.getInputStream();
+    }
+
+    @Override
+    public long getContentLength() {
+        return buffer.getSize();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // the buffer is released by the sink once all end points received the batch
+    }
+}
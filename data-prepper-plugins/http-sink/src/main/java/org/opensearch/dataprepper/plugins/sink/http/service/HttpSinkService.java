@@ -4,23 +4,32 @@
  */
 package org.opensearch.dataprepper.plugins.sink.http.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.accumulator.Buffer;
 import org.opensearch.dataprepper.plugins.accumulator.BufferFactory;
-import org.opensearch.dataprepper.plugins.sink.http.FailedHttpResponseInterceptor;
 import org.opensearch.dataprepper.plugins.sink.http.HttpEndPointResponse;
 import org.opensearch.dataprepper.plugins.sink.http.certificate.CertificateProviderFactory;
 import org.opensearch.dataprepper.plugins.sink.http.certificate.HttpClientSSLConnectionManager;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.AuthTypeOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.CompressionOption;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.HTTPMethodOptions;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.HttpSinkConfiguration;
 import org.opensearch.dataprepper.plugins.sink.http.configuration.UrlConfigurationOption;
@@ -32,7 +41,11 @@ import org.opensearch.dataprepper.plugins.sink.http.util.HttpSinkUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -40,11 +53,19 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * This service class contains logic for sending data to Http Endpoints
+ * This service class contains logic for sending data to Http Endpoints.
+ * Events are accumulated into a buffer until one of the configured thresholds is reached. The
+ * buffered batch is then sent to every configured end point on a pool of {@code workers} threads,
+ * so that sink threads only block when {@code workers} batches are already in flight.
  */
 public class HttpSinkService {
 
@@ -58,7 +79,23 @@ public class HttpSinkService {
 
     public static final String BEARER = "Bearer ";
 
-    private final Collection<EventHandle> bufferedEventHandles;
+    public static final String HTTP_SINK_RECORDS_SUCCESS_COUNTER = "httpSinkRecordsSuccessPushToEndPoint";
+
+    public static final String HTTP_SINK_RECORDS_FAILED_COUNTER = "httpSinkRecordsFailedToPushEndPoint";
+
+    public static final String HTTP_SINK_REQUEST_SIZE_BYTES = "httpSinkRequestSizeBytes";
+
+    private static final ContentType CONTENT_TYPE = ContentType.create("text/plain", StandardCharsets.UTF_8);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    static final Duration DEFAULT_EVENT_COLLECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private Collection<EventHandle> bufferedEventHandles;
 
     private final HttpSinkConfiguration httpSinkConfiguration;
 
@@ -66,12 +103,32 @@ public class HttpSinkService {
 
     private final Map<String,HttpAuthOptions> httpAuthOptions;
 
+    private final Map<String,CloseableHttpClient> httpClients;
+
     private final PluginSetting pluginSetting;
 
     private final Lock reentrantLock;
 
     private final HttpClientBuilder httpClientBuilder;
 
+    private final int maxEvents;
+
+    private final ByteCount maxBytes;
+
+    private final long maxCollectionDuration;
+
+    private final CompressionOption compression;
+
+    private final ExecutorService dispatcherExecutor;
+
+    private final Semaphore inFlightRequests;
+
+    private final Counter httpSinkRecordsSuccessCounter;
+
+    private final Counter httpSinkRecordsFailedCounter;
+
+    private final DistributionSummary httpSinkRequestSizeSummary;
+
     private CertificateProviderFactory certificateProviderFactory;
 
     private HttpClientConnectionManager httpClientConnectionManager;
@@ -90,88 +147,265 @@ public class HttpSinkService {
         this.bufferedEventHandles = new LinkedList<>();
         this.httpClientBuilder = httpClientBuilder;
 
+        this.maxEvents = httpSinkConfiguration.getThresholdOptions().getEventCount();
+        this.maxBytes = httpSinkConfiguration.getThresholdOptions().getMaximumSize();
+        final Duration eventCollectTimeOut = httpSinkConfiguration.getThresholdOptions().getEventCollectTimeOut();
+        this.maxCollectionDuration = Objects.nonNull(eventCollectTimeOut) ? eventCollectTimeOut.getSeconds() : DEFAULT_EVENT_COLLECT_TIMEOUT.getSeconds();
+        this.compression = httpSinkConfiguration.getCompression();
+
+        final int workers = httpSinkConfiguration.getWorkers();
+        this.dispatcherExecutor = Executors.newFixedThreadPool(workers);
+        this.inFlightRequests = new Semaphore(workers);
+
+        this.httpSinkRecordsSuccessCounter = pluginMetrics.counter(HTTP_SINK_RECORDS_SUCCESS_COUNTER);
+        this.httpSinkRecordsFailedCounter = pluginMetrics.counter(HTTP_SINK_RECORDS_FAILED_COUNTER);
+        this.httpSinkRequestSizeSummary = pluginMetrics.summary(HTTP_SINK_REQUEST_SIZE_BYTES);
+
         if (httpSinkConfiguration.isSsl() || httpSinkConfiguration.useAcmCertForSSL()) {
             this.certificateProviderFactory = new CertificateProviderFactory(httpSinkConfiguration);
             httpSinkConfiguration.validateAndInitializeCertAndKeyFileInS3();
             this.httpClientConnectionManager = new HttpClientSSLConnectionManager()
                     .createHttpClientConnectionManager(httpSinkConfiguration, certificateProviderFactory);
+        } else {
+            this.httpClientConnectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(workers * httpSinkConfiguration.getUrlConfigurationOptions().size())
+                    .setMaxConnPerRoute(workers)
+                    .build();
         }
+        this.httpClients = new HashMap<>();
         this.httpAuthOptions = buildAuthHttpSinkObjectsByConfig(httpSinkConfiguration);
     }
 
     /**
-     * This method process buffer records and send to Http End points based on configured codec
+     * This method process buffer records and send to Http End points based on configured codec.
+     * The thresholds are also evaluated when there are no records, so an idle sink flushes on the collect timeout.
      * @param records Collection of Event
      */
     public void output(Collection<Record<Event>> records) {
+        final List<HttpSinkBatch> completedBatches = new ArrayList<>();
         reentrantLock.lock();
-        if (currentBuffer == null) {
-            this.currentBuffer = bufferFactory.getBuffer();
-        }
         try {
-            records.forEach(record -> {
+            if (currentBuffer == null) {
+                this.currentBuffer = bufferFactory.getBuffer();
+            }
+            for (final Record<Event> record : records) {
                 final Event event = record.getData();
                 try {
-                    currentBuffer.writeEvent(event.toJsonString().getBytes());
+                    currentBuffer.writeEvent(event.toJsonString().getBytes(StandardCharsets.UTF_8));
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
                 if (event.getEventHandle() != null) {
                     this.bufferedEventHandles.add(event.getEventHandle());
                 }
-                final List<HttpEndPointResponse> failedHttpEndPointResponses = pushToEndPoint(getCurrentBufferData(currentBuffer));
-                if (!failedHttpEndPointResponses.isEmpty()) {
-                    //TODO send to DLQ and webhook
-                } else {
-                    LOG.info("data pushed to all the end points successfully");
+                if (ThresholdCheck.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
+                    completedBatches.add(takeCurrentBatch());
                 }
-                currentBuffer = bufferFactory.getBuffer();
-                releaseEventHandles(Boolean.TRUE);
+            }
+            // the sink is also called without records, which flushes a buffer whose collect timeout elapsed
+            if (ThresholdCheck.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
+                completedBatches.add(takeCurrentBatch());
+            }
+        } finally {
+            reentrantLock.unlock();
+        }
+        completedBatches.forEach(this::dispatch);
+    }
 
-            });
-        }finally {
+    /**
+     * Sends any partially filled buffer, waits for in flight requests and releases the http clients.
+     */
+    public void shutdown() {
+        HttpSinkBatch remainingBatch = null;
+        reentrantLock.lock();
+        try {
+            if (currentBuffer != null && currentBuffer.getEventCount() > 0) {
+                remainingBatch = takeCurrentBatch();
+            }
+        } finally {
             reentrantLock.unlock();
         }
+        if (remainingBatch != null) {
+            dispatch(remainingBatch);
+        }
+        dispatcherExecutor.shutdown();
+        try {
+            if (!dispatcherExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                dispatcherExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatcherExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        httpClients.values().forEach(httpClient -> {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOG.warn("Unable to close http client", e);
+            }
+        });
+    }
+
+    /**
+     * Takes the data and event handles of the current buffer and starts a new one. Must be called holding the lock.
+     */
+    private HttpSinkBatch takeCurrentBatch() {
+        final HttpSinkBatch batch = new HttpSinkBatch(currentBuffer, currentBuffer.getEventCount(), bufferedEventHandles);
+        currentBuffer = bufferFactory.getBuffer();
+        bufferedEventHandles = new LinkedList<>();
+        return batch;
+    }
+
+    private void dispatch(final HttpSinkBatch batch) {
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Interrupted while waiting to send {} records to the end points", batch.eventCount);
+            httpSinkRecordsFailedCounter.increment(batch.eventCount);
+            releaseEventHandles(batch.eventHandles, false);
+            batch.buffer.close();
+            return;
+        }
+        try {
+            dispatcherExecutor.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } finally {
+                    inFlightRequests.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            LOG.error("Unable to schedule {} records for the end points", batch.eventCount, e);
+            httpSinkRecordsFailedCounter.increment(batch.eventCount);
+            releaseEventHandles(batch.eventHandles, false);
+            batch.buffer.close();
+        }
     }
 
-    private byte[] getCurrentBufferData(final Buffer currentBuffer) {
+    private void sendBatch(final HttpSinkBatch batch) {
+        final List<HttpEndPointResponse> failedHttpEndPointResponses;
         try {
-            return currentBuffer.getSinkBufferData();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            failedHttpEndPointResponses = pushToEndPoint(batch);
+        } finally {
+            batch.buffer.close();
+        }
+        if (!failedHttpEndPointResponses.isEmpty()) {
+            //TODO send to DLQ and webhook
+            httpSinkRecordsFailedCounter.increment(batch.eventCount);
+            releaseEventHandles(batch.eventHandles, false);
+        } else {
+            LOG.debug("{} records pushed to all the end points successfully", batch.eventCount);
+            httpSinkRecordsSuccessCounter.increment(batch.eventCount);
+            releaseEventHandles(batch.eventHandles, true);
         }
     }
 
-    private void releaseEventHandles(final boolean result) {
-        for (EventHandle eventHandle : bufferedEventHandles) {
+    private void releaseEventHandles(final Collection<EventHandle> eventHandles, final boolean result) {
+        for (EventHandle eventHandle : eventHandles) {
             eventHandle.release(result);
         }
-        bufferedEventHandles.clear();
     }
 
     /**
-     * * This method pushes bufferData to configured HttpEndPoints
-     *  @param currentBufferData bufferData.
+     * * This method pushes a batch of buffer data to configured HttpEndPoints
+     *  @param batch buffered data and its event count.
      */
-    private List<HttpEndPointResponse> pushToEndPoint(final byte[] currentBufferData) {
-        List<HttpEndPointResponse> httpEndPointResponses = new ArrayList<>(httpSinkConfiguration.getUrlConfigurationOptions().size());
+    private List<HttpEndPointResponse> pushToEndPoint(final HttpSinkBatch batch) {
+        final List<HttpEndPointResponse> httpEndPointResponses = new ArrayList<>(httpSinkConfiguration.getUrlConfigurationOptions().size());
+        final HttpEntity entity;
+        try {
+            entity = buildEntity(batch.buffer);
+        } catch (IOException e) {
+            LOG.error("Exception while compressing buffer data of {} records", batch.eventCount, e);
+            httpSinkConfiguration.getUrlConfigurationOptions().forEach(urlConfOption -> httpEndPointResponses.add(
+                    new HttpEndPointResponse(urlConfOption.getUrl(), HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage())));
+            return httpEndPointResponses;
+        }
+        httpSinkRequestSizeSummary.record(entity.getContentLength());
         httpSinkConfiguration.getUrlConfigurationOptions().forEach( urlConfOption -> {
             final ClassicRequestBuilder classicHttpRequestBuilder =
                     httpAuthOptions.get(urlConfOption.getUrl()).getClassicHttpRequestBuilder();
-            classicHttpRequestBuilder.setEntity(new String(currentBufferData));
-            try {
-                httpAuthOptions.get(urlConfOption.getUrl()).getHttpClientBuilder().build()
-                        .execute(classicHttpRequestBuilder.build(), HttpClientContext.create());
-            } catch (IOException e) {
-                LOG.info("No of Records failed to push endpoint {}",currentBuffer.getEventCount());
-                LOG.error("Exception while pushing buffer data to end point. URL : {}, Exception : ", urlConfOption.getUrl(), e);
-                httpEndPointResponses.add(new HttpEndPointResponse(urlConfOption.getUrl(), HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage()));
+            final ClassicHttpRequest classicHttpRequest;
+            synchronized (classicHttpRequestBuilder) {
+                classicHttpRequest = classicHttpRequestBuilder.setEntity(entity).build();
+            }
+            final HttpEndPointResponse failedResponse = sendWithRetries(urlConfOption.getUrl(), classicHttpRequest);
+            if (failedResponse != null) {
+                LOG.info("No of Records failed to push endpoint {}", batch.eventCount);
+                LOG.error("Failed to push buffer data to end point. Response : {}", failedResponse);
+                httpEndPointResponses.add(failedResponse);
             }
         });
-        LOG.info("No of Records successfully pushed to endpoint {}",currentBuffer.getEventCount());
         return httpEndPointResponses;
     }
 
+    /**
+     * Sends the request until the end point answers with a 2xx status. Throttled (429) and server error (5xx)
+     * responses as well as I/O errors are retried up to {@code max_retries} times with an exponential backoff
+     * capped at {@code http_retry_interval}, other statuses fail right away.
+     * @return the last failed response, or null when the end point accepted the request.
+     */
+    private HttpEndPointResponse sendWithRetries(final String url, final ClassicHttpRequest classicHttpRequest) {
+        final int maxRetries = httpSinkConfiguration.getMaxUploadRetries();
+        for (int retry = 0; ; retry++) {
+            final HttpEndPointResponse failedResponse = send(url, classicHttpRequest);
+            if (failedResponse == null) {
+                return null;
+            }
+            if (retry >= maxRetries || !isRetryable(failedResponse.getStatusCode())) {
+                return failedResponse;
+            }
+            LOG.warn("Retrying request to end point {} after status code {}", url, failedResponse.getStatusCode());
+            try {
+                Thread.sleep(getBackoff(retry).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return failedResponse;
+            }
+        }
+    }
+
+    private HttpEndPointResponse send(final String url, final ClassicHttpRequest classicHttpRequest) {
+        try {
+            final int statusCode = httpClients.get(url)
+                    .execute(classicHttpRequest, HttpClientContext.create(), response -> response.getCode());
+            if (statusCode >= HttpStatus.SC_SUCCESS && statusCode < HttpStatus.SC_REDIRECTION) {
+                return null;
+            }
+            return new HttpEndPointResponse(url, statusCode);
+        } catch (IOException e) {
+            LOG.warn("Exception while pushing buffer data to end point. URL : {}", url, e);
+            return new HttpEndPointResponse(url, HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    private static boolean isRetryable(final int statusCode) {
+        return statusCode == HttpStatus.SC_TOO_MANY_REQUESTS || statusCode >= HttpStatus.SC_SERVER_ERROR;
+    }
+
+    private Duration getBackoff(final int retry) {
+        final Duration maxBackoff = httpSinkConfiguration.getHttpRetryInterval();
+        final Duration backoff = INITIAL_RETRY_BACKOFF.multipliedBy(1L << Math.min(retry, MAX_BACKOFF_SHIFT));
+        return maxBackoff == null || backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+    }
+
+    /**
+     * Uncompressed requests stream the buffered data as is, gzip requests compress it straight from the buffer.
+     */
+    private HttpEntity buildEntity(final Buffer buffer) throws IOException {
+        if (compression == CompressionOption.GZIP) {
+            final ByteArrayOutputStream compressedStream = new ByteArrayOutputStream((int) (buffer.getSize() / 4 + 64));
+            try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedStream);
+                 final InputStream bufferInputStream = buffer.getInputStream()) {
+                bufferInputStream.transferTo(gzipOutputStream);
+            }
+            return new ByteArrayEntity(compressedStream.toByteArray(), CONTENT_TYPE, compression.getOption());
+        }
+        return new BufferHttpEntity(buffer, CONTENT_TYPE);
+    }
+
     /**
      * * This method gets Auth Handler classes based on configuration
      *  @param authType AuthTypeOptions.
@@ -194,8 +428,7 @@ public class HttpSinkService {
             case UNAUTHENTICATED:
             default:
                 return authOptions.setHttpClientBuilder(httpClientBuilder
-                        .setConnectionManager(httpClientConnectionManager)
-                        .addResponseInterceptorLast(new FailedHttpResponseInterceptor(authOptions.getUrl()))).build();
+                        .setConnectionManager(httpClientConnectionManager)).build();
         }
         return multiAuthHttpSinkHandler.authenticate(authOptions);
     }
@@ -226,7 +459,9 @@ public class HttpSinkService {
                     .setClassicHttpRequestBuilder(classicRequestBuilder)
                     .setHttpClientBuilder(httpClientBuilder);
 
-            authMap.put(urlOption.getUrl(),getAuthHandlerByConfig(authType,authOptions));
+            final HttpAuthOptions urlAuthOptions = getAuthHandlerByConfig(authType,authOptions);
+            authMap.put(urlOption.getUrl(), urlAuthOptions);
+            httpClients.put(urlOption.getUrl(), urlAuthOptions.getHttpClientBuilder().build());
         });
         return authMap;
     }
@@ -248,4 +483,16 @@ public class HttpSinkService {
         }
         return classicRequestBuilder;
     }
-}
\ No newline at end of file
+
+    private static class HttpSinkBatch {
+        private final Buffer buffer;
+        private final int eventCount;
+        private final Collection<EventHandle> eventHandles;
+
+        private HttpSinkBatch(final Buffer buffer, final int eventCount, final Collection<EventHandle> eventHandles) {
+            this.buffer = buffer;
+            this.eventCount = eventCount;
+            this.eventHandles = eventHandles;
+        }
+    }
+}
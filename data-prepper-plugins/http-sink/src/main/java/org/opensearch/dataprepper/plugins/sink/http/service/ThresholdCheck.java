@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.service;
+
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.accumulator.Buffer;
+
+/**
+ * Check threshold limits of the http sink buffer.
+ */
+public class ThresholdCheck {
+
+    private ThresholdCheck() {
+    }
+
+    /**
+     * Check whether the buffered data should be sent to the end points.
+     * @param currentBuffer current buffer.
+     * @param maxEvents maximum event count provided by user as threshold, ignored when not positive.
+     * @param maxBytes maximum bytes provided by user as threshold.
+     * @param maxCollectionDuration maximum event collection duration in seconds provided by user as threshold.
+     * @return boolean value whether the threshold are met.
+     */
+    public static boolean checkThresholdExceed(final Buffer currentBuffer, final int maxEvents,
+                                               final ByteCount maxBytes, final long maxCollectionDuration) {
+        if (currentBuffer.getEventCount() == 0) {
+            return false;
+        }
+        if (maxEvents > 0 && currentBuffer.getEventCount() >= maxEvents) {
+            return true;
+        }
+        return currentBuffer.getSize() >= maxBytes.getBytes() ||
+                currentBuffer.getDuration() >= maxCollectionDuration;
+    }
+}
@@ -79,6 +79,11 @@ public class HttpSinkConfigurationTest {
         assertNull(new HttpSinkConfiguration().getCodec());
     }
 
+    @Test
+    void default_compression_test() {
+        assertThat(new HttpSinkConfiguration().getCompression(), equalTo(CompressionOption.NONE));
+    }
+
     @Test
     void default_proxy_test() {
         assertNull(new HttpSinkConfiguration().getProxy());
@@ -130,8 +135,11 @@ public class HttpSinkConfigurationTest {
     }
 
     @Test
-    void get_threshold_options_test() {
-        assertNull(new HttpSinkConfiguration().getThresholdOptions());
+    void default_threshold_options_test() {
+        final ThresholdOptions thresholdOptions = new HttpSinkConfiguration().getThresholdOptions();
+        assertThat(thresholdOptions, instanceOf(ThresholdOptions.class));
+        assertThat(thresholdOptions.getEventCount(), equalTo(0));
+        assertNull(thresholdOptions.getEventCollectTimeOut());
     }
 
     @Test
@@ -0,0 +1,388 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.accumulator.Buffer;
+import org.opensearch.dataprepper.plugins.accumulator.BufferFactory;
+import org.opensearch.dataprepper.plugins.accumulator.InMemoryBufferFactory;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.AuthTypeOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.CompressionOption;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.HTTPMethodOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.HttpSinkConfiguration;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.ThresholdOptions;
+import org.opensearch.dataprepper.plugins.sink.http.configuration.UrlConfigurationOption;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HttpSinkServiceTest {
+
+    private static final String URL = "http://localhost:8080/events";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @Mock
+    private HttpSinkConfiguration httpSinkConfiguration;
+
+    @Mock
+    private ThresholdOptions thresholdOptions;
+
+    @Mock
+    private UrlConfigurationOption urlConfigurationOption;
+
+    @Mock
+    private BufferFactory bufferFactory;
+
+    @Mock
+    private PluginSetting pluginSetting;
+
+    @Mock
+    private HttpClientBuilder httpClientBuilder;
+
+    @Mock
+    private CloseableHttpClient httpClient;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter successCounter;
+
+    @Mock
+    private Counter failedCounter;
+
+    @Mock
+    private DistributionSummary requestSizeSummary;
+
+    private List<Buffer> createdBuffers;
+
+    private List<ReceivedRequest> receivedRequests;
+
+    private HttpSinkService httpSinkService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createdBuffers = new CopyOnWriteArrayList<>();
+        receivedRequests = new CopyOnWriteArrayList<>();
+        final InMemoryBufferFactory inMemoryBufferFactory = new InMemoryBufferFactory();
+        lenient().when(bufferFactory.getBuffer()).thenAnswer(invocation -> {
+            final Buffer buffer = spy(inMemoryBufferFactory.getBuffer());
+            createdBuffers.add(buffer);
+            return buffer;
+        });
+
+        lenient().when(thresholdOptions.getEventCount()).thenReturn(0);
+        lenient().when(thresholdOptions.getMaximumSize()).thenReturn(ByteCount.parse("50mb"));
+        lenient().when(thresholdOptions.getEventCollectTimeOut()).thenReturn(Duration.ofSeconds(60));
+        lenient().when(httpSinkConfiguration.getThresholdOptions()).thenReturn(thresholdOptions);
+        lenient().when(httpSinkConfiguration.getCompression()).thenReturn(CompressionOption.NONE);
+        lenient().when(httpSinkConfiguration.getWorkers()).thenReturn(2);
+        lenient().when(httpSinkConfiguration.getHttpMethod()).thenReturn(HTTPMethodOptions.POST);
+        lenient().when(httpSinkConfiguration.getAuthType()).thenReturn(AuthTypeOptions.UNAUTHENTICATED);
+        lenient().when(httpSinkConfiguration.getUrlConfigurationOptions()).thenReturn(List.of(urlConfigurationOption));
+        lenient().when(urlConfigurationOption.getUrl()).thenReturn(URL);
+
+        lenient().when(httpClientBuilder.setConnectionManager(any())).thenReturn(httpClientBuilder);
+        lenient().when(httpClientBuilder.addResponseInterceptorLast(any())).thenReturn(httpClientBuilder);
+        lenient().when(httpClientBuilder.build()).thenReturn(httpClient);
+        lenient().when(httpClient.execute(any(ClassicHttpRequest.class), any(), any())).thenAnswer(invocation -> {
+            receivedRequests.add(new ReceivedRequest(invocation.getArgument(0)));
+            return 200;
+        });
+
+        lenient().when(pluginMetrics.counter(HttpSinkService.HTTP_SINK_RECORDS_SUCCESS_COUNTER)).thenReturn(successCounter);
+        lenient().when(pluginMetrics.counter(HttpSinkService.HTTP_SINK_RECORDS_FAILED_COUNTER)).thenReturn(failedCounter);
+        lenient().when(pluginMetrics.summary(HttpSinkService.HTTP_SINK_REQUEST_SIZE_BYTES)).thenReturn(requestSizeSummary);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (httpSinkService != null) {
+            httpSinkService.shutdown();
+        }
+    }
+
+    private HttpSinkService createObjectUnderTest() {
+        httpSinkService = new HttpSinkService(httpSinkConfiguration, bufferFactory, pluginSetting, httpClientBuilder, pluginMetrics);
+        return httpSinkService;
+    }
+
+    @Test
+    void output_sends_a_request_once_the_event_count_is_reached() {
+        when(thresholdOptions.getEventCount()).thenReturn(2);
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(3, eventHandles));
+
+        verify(successCounter, timeout(1000)).increment(2);
+        assertThat(receivedRequests.size(), equalTo(1));
+        assertThat(receivedRequests.get(0).body, equalTo(expectedBody(0, 2)));
+        verify(eventHandles.get(0), timeout(1000)).release(true);
+        verify(eventHandles.get(1), timeout(1000)).release(true);
+        verify(eventHandles.get(2), never()).release(anyBoolean());
+    }
+
+    @Test
+    void output_sends_a_request_once_the_maximum_size_is_reached() {
+        final String firstEvent = event(0);
+        when(thresholdOptions.getMaximumSize()).thenReturn(ByteCount.parse((firstEvent.length() + LINE_SEPARATOR.length()) + "b"));
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(2, new ArrayList<>()));
+
+        verify(successCounter, timeout(1000).times(2)).increment(1);
+        assertThat(receivedRequests.size(), equalTo(2));
+        assertThat(receivedRequests.get(0).body, equalTo(expectedBody(0, 1)));
+        assertThat(receivedRequests.get(1).body, equalTo(expectedBody(1, 2)));
+        verify(requestSizeSummary, timeout(1000).times(2)).record(anyDouble());
+    }
+
+    @Test
+    void output_without_records_sends_the_buffer_once_the_collect_timeout_elapsed() {
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(2, eventHandles));
+        assertThat(receivedRequests.size(), equalTo(0));
+
+        doReturn(60L).when(createdBuffers.get(0)).getDuration();
+        objectUnderTest.output(Collections.emptyList());
+
+        verify(successCounter, timeout(1000)).increment(2);
+        assertThat(receivedRequests.size(), equalTo(1));
+        assertThat(receivedRequests.get(0).body, equalTo(expectedBody(0, 2)));
+        verify(eventHandles.get(0), timeout(1000)).release(true);
+        verify(eventHandles.get(1), timeout(1000)).release(true);
+    }
+
+    @Test
+    void output_without_records_does_not_send_an_empty_buffer() {
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(Collections.emptyList());
+        doReturn(60L).when(createdBuffers.get(0)).getDuration();
+        objectUnderTest.output(Collections.emptyList());
+
+        assertThat(receivedRequests.size(), equalTo(0));
+    }
+
+    @Test
+    void output_compresses_the_request_with_gzip() {
+        when(httpSinkConfiguration.getCompression()).thenReturn(CompressionOption.GZIP);
+        when(thresholdOptions.getEventCount()).thenReturn(3);
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(3, new ArrayList<>()));
+
+        verify(successCounter, timeout(1000)).increment(3);
+        assertThat(receivedRequests.size(), equalTo(1));
+        assertThat(receivedRequests.get(0).contentEncoding, equalTo("gzip"));
+        assertThat(receivedRequests.get(0).body, equalTo(expectedBody(0, 3)));
+    }
+
+    @Test
+    void output_releases_event_handles_as_failed_when_the_request_fails() throws IOException {
+        when(thresholdOptions.getEventCount()).thenReturn(1);
+        when(httpClient.execute(any(ClassicHttpRequest.class), any(), any())).thenThrow(new IOException("connection refused"));
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(1, eventHandles));
+
+        verify(failedCounter, timeout(1000)).increment(1);
+        verify(eventHandles.get(0), timeout(1000)).release(false);
+    }
+
+    @Test
+    void output_retries_server_errors_until_the_request_succeeds() throws IOException {
+        when(thresholdOptions.getEventCount()).thenReturn(1);
+        when(httpSinkConfiguration.getMaxUploadRetries()).thenReturn(3);
+        when(httpSinkConfiguration.getHttpRetryInterval()).thenReturn(Duration.ofMillis(1));
+        respondWith(503, 500, 200);
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(1, eventHandles));
+
+        verify(successCounter, timeout(1000)).increment(1);
+        verify(eventHandles.get(0), timeout(1000)).release(true);
+        verify(failedCounter, never()).increment(anyDouble());
+        assertThat(receivedRequests.size(), equalTo(3));
+        assertThat(receivedRequests.get(2).body, equalTo(expectedBody(0, 1)));
+    }
+
+    @Test
+    void output_releases_event_handles_as_failed_once_the_retries_are_exhausted() throws IOException {
+        when(thresholdOptions.getEventCount()).thenReturn(1);
+        when(httpSinkConfiguration.getMaxUploadRetries()).thenReturn(2);
+        when(httpSinkConfiguration.getHttpRetryInterval()).thenReturn(Duration.ofMillis(1));
+        respondWith(429);
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(1, eventHandles));
+
+        verify(failedCounter, timeout(1000)).increment(1);
+        verify(eventHandles.get(0), timeout(1000)).release(false);
+        assertThat(receivedRequests.size(), equalTo(3));
+    }
+
+    @Test
+    void output_does_not_retry_client_errors() throws IOException {
+        when(thresholdOptions.getEventCount()).thenReturn(1);
+        when(httpSinkConfiguration.getMaxUploadRetries()).thenReturn(3);
+        respondWith(400);
+        final List<EventHandle> eventHandles = new ArrayList<>();
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(1, eventHandles));
+
+        verify(failedCounter, timeout(1000)).increment(1);
+        verify(eventHandles.get(0), timeout(1000)).release(false);
+        verify(successCounter, never()).increment(anyDouble());
+        assertThat(receivedRequests.size(), equalTo(1));
+    }
+
+    @Test
+    void output_blocks_when_workers_batches_are_in_flight() throws Exception {
+        when(httpSinkConfiguration.getWorkers()).thenReturn(1);
+        when(thresholdOptions.getEventCount()).thenReturn(1);
+        final CountDownLatch requestStarted = new CountDownLatch(1);
+        final CountDownLatch releaseRequest = new CountDownLatch(1);
+        when(httpClient.execute(any(ClassicHttpRequest.class), any(), any())).thenAnswer(invocation -> {
+            receivedRequests.add(new ReceivedRequest(invocation.getArgument(0)));
+            requestStarted.countDown();
+            releaseRequest.await(5, TimeUnit.SECONDS);
+            return 200;
+        });
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.output(createRecords(1, new ArrayList<>()));
+        assertThat(requestStarted.await(1, TimeUnit.SECONDS), equalTo(true));
+
+        final Thread secondOutput = new Thread(() -> objectUnderTest.output(createRecords(1, new ArrayList<>())));
+        secondOutput.start();
+        secondOutput.join(200);
+        assertThat(secondOutput.isAlive(), equalTo(true));
+        assertThat(receivedRequests.size(), equalTo(1));
+
+        releaseRequest.countDown();
+        secondOutput.join(1000);
+        assertThat(secondOutput.isAlive(), equalTo(false));
+        verify(successCounter, timeout(1000).times(2)).increment(1);
+        assertThat(receivedRequests.size(), equalTo(2));
+    }
+
+    @Test
+    void shutdown_sends_the_partially_filled_buffer() {
+        final HttpSinkService objectUnderTest = createObjectUnderTest();
+        objectUnderTest.output(createRecords(2, new ArrayList<>()));
+
+        objectUnderTest.shutdown();
+        httpSinkService = null;
+
+        assertThat(receivedRequests.size(), equalTo(1));
+        assertThat(receivedRequests.get(0).body, equalTo(expectedBody(0, 2)));
+    }
+
+    /**
+     * Answers the requests with the given status codes, repeating the last one.
+     */
+    private void respondWith(final Integer... statusCodes) throws IOException {
+        final AtomicInteger requestCount = new AtomicInteger();
+        when(httpClient.execute(any(ClassicHttpRequest.class), any(), any())).thenAnswer(invocation -> {
+            receivedRequests.add(new ReceivedRequest(invocation.getArgument(0)));
+            return statusCodes[Math.min(requestCount.getAndIncrement(), statusCodes.length - 1)];
+        });
+    }
+
+    private static Collection<Record<Event>> createRecords(final int count, final List<EventHandle> eventHandles) {
+        final int firstIndex = eventHandles.size();
+        final List<Record<Event>> records = new ArrayList<>(count);
+        for (int i = firstIndex; i < firstIndex + count; i++) {
+            final Event event = mock(Event.class);
+            final EventHandle eventHandle = mock(EventHandle.class);
+            when(event.toJsonString()).thenReturn(event(i));
+            when(event.getEventHandle()).thenReturn(eventHandle);
+            eventHandles.add(eventHandle);
+            records.add(new Record<>(event));
+        }
+        return records;
+    }
+
+    private static String event(final int index) {
+        return "{\"message\":\"event" + index + "\"}";
+    }
+
+    private static String expectedBody(final int fromIndex, final int toIndex) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = fromIndex; i < toIndex; i++) {
+            body.append(event(i)).append(LINE_SEPARATOR);
+        }
+        return body.toString();
+    }
+
+    /**
+     * Reads the request while it is executed, as the buffer behind the entity is released after the request.
+     */
+    private static class ReceivedRequest {
+        private final String contentEncoding;
+        private final String body;
+
+        private ReceivedRequest(final ClassicHttpRequest request) throws IOException {
+            final HttpEntity entity = request.getEntity();
+            this.contentEncoding = entity.getContentEncoding();
+            try (final InputStream content = "gzip".equals(contentEncoding) ?
+                    new GZIPInputStream(entity.getContent()) : entity.getContent()) {
+                this.body = new String(content.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.sink.http.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.accumulator.Buffer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThresholdCheckTest {
+
+    @Mock
+    private Buffer buffer;
+
+    @Test
+    void checkThresholdExceed_returns_false_for_empty_buffer() {
+        when(buffer.getEventCount()).thenReturn(0);
+        assertFalse(ThresholdCheck.checkThresholdExceed(buffer, 1, ByteCount.parse("1b"), 0));
+    }
+
+    @Test
+    void checkThresholdExceed_returns_true_when_event_count_is_reached() {
+        when(buffer.getEventCount()).thenReturn(10);
+        assertTrue(ThresholdCheck.checkThresholdExceed(buffer, 10, ByteCount.parse("50mb"), 60));
+    }
+
+    @Test
+    void checkThresholdExceed_returns_true_when_maximum_size_is_reached() {
+        when(buffer.getEventCount()).thenReturn(5);
+        when(buffer.getSize()).thenReturn(2048L);
+        assertTrue(ThresholdCheck.checkThresholdExceed(buffer, 10, ByteCount.parse("1kb"), 60));
+    }
+
+    @Test
+    void checkThresholdExceed_returns_true_when_collect_timeout_is_reached() {
+        when(buffer.getEventCount()).thenReturn(5);
+        when(buffer.getSize()).thenReturn(10L);
+        when(buffer.getDuration()).thenReturn(61L);
+        assertTrue(ThresholdCheck.checkThresholdExceed(buffer, 10, ByteCount.parse("1kb"), 60));
+    }
+
+    @Test
+    void checkThresholdExceed_ignores_event_count_when_not_positive() {
+        when(buffer.getEventCount()).thenReturn(100);
+        when(buffer.getSize()).thenReturn(10L);
+        when(buffer.getDuration()).thenReturn(1L);
+        assertFalse(ThresholdCheck.checkThresholdExceed(buffer, 0, ByteCount.parse("1kb"), 60));
+    }
+}
@@ -10,10 +10,12 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.log.Log;
 import org.opensearch.dataprepper.model.record.Record;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
@@ -24,8 +26,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -38,8 +42,10 @@ public class LogHTTPService {
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
+    private static final Set<String> NEWLINE_DELIMITED_JSON_SUBTYPES = Set.of("x-ndjson", "ndjson", "jsonl", "x-jsonlines");
+    static final int BUFFER_WRITE_BATCH_SIZE = 512;
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
+    // TODO: support other data-types as request body, e.g. msgpack
     private final JsonCodec jsonCodec = new JsonCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
@@ -70,20 +76,20 @@ public class LogHTTPService {
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
+        final List<ObjectNode> logs;
         final HttpData content = aggregatedHttpRequest.content();
         payloadSizeSummary.record(content.length());
+        final boolean newlineDelimited = isNewlineDelimitedJson(aggregatedHttpRequest.contentType());
         try {
-            jsonList = jsonCodec.parse(content);
+            logs = jsonCodec.parseObjects(content, newlineDelimited);
         } catch (IOException e) {
             LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-            return requestExceptionHandler.handleException(e, "Bad request data format. Needs to be json array.");
+            return requestExceptionHandler.handleException(e, newlineDelimited ?
+                    "Bad request data format. Needs to be newline delimited json objects." :
+                    "Bad request data format. Needs to be json array.");
         }
-        final List<Record<Log>> records = jsonList.stream()
-                .map(this::buildRecordLog)
-                .collect(Collectors.toList());
         try {
-            buffer.writeAll(records, bufferWriteTimeoutInMillis);
+            writeToBuffer(logs);
         } catch (Exception e) {
             LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
             return requestExceptionHandler.handleException(e);
@@ -92,13 +98,47 @@ public class LogHTTPService {
         return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    /**
+     * Writes the logs in batches, so requests with more logs than the buffer can hold at once are accepted
+     * while the buffer drains. All batches together are bounded by the buffer write timeout. The buffer cannot
+     * reserve room for a whole request, so when the timeout elapses the batches already written stay in the buffer
+     * and a client retrying the request writes them again: large requests are delivered at least once.
+     */
+    private void writeToBuffer(final List<ObjectNode> logs) throws Exception {
+        if (logs.size() <= BUFFER_WRITE_BATCH_SIZE) {
+            buffer.writeAll(buildRecordLogs(logs, 0, logs.size()), bufferWriteTimeoutInMillis);
+            return;
+        }
+        final long deadlineMillis = System.currentTimeMillis() + bufferWriteTimeoutInMillis;
+        for (int start = 0; start < logs.size(); start += BUFFER_WRITE_BATCH_SIZE) {
+            final long remainingMillis = deadlineMillis - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Timed out writing " + logs.size() + " logs to the buffer");
+            }
+            final int end = Math.min(start + BUFFER_WRITE_BATCH_SIZE, logs.size());
+            buffer.writeAll(buildRecordLogs(logs, start, end), (int) remainingMillis);
+        }
+    }
+
+    private List<Record<Log>> buildRecordLogs(final List<ObjectNode> logs, final int start, final int end) {
+        final List<Record<Log>> records = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            records.add(buildRecordLog(logs.get(i)));
+        }
+        return records;
+    }
+
+    private Record<Log> buildRecordLog(final ObjectNode json) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withUncopiedData(json)
                 .getThis()
                 .build();
 
         return new Record<>(log);
     }
+
+    private static boolean isNewlineDelimitedJson(final MediaType contentType) {
+        return contentType != null && NEWLINE_DELIMITED_JSON_SUBTYPES.contains(contentType.subtype());
+    }
 }
@@ -5,35 +5,76 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
  * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
  * <p>
+ * {@link #parseObjects(HttpData, boolean)} reads the request body in a single pass straight into json objects,
+ * which can be used as event data without serializing and parsing them again.
  */
 public class JsonCodec implements Codec<List<String>> {
     private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
 
     @Override
     public List<String> parse(HttpData httpData) throws IOException {
         List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
+        for (final ObjectNode log : parseObjects(httpData, false)) {
             final String recordString = mapper.writeValueAsString(log);
             jsonList.add(recordString);
         }
 
         return jsonList;
     }
+
+    /**
+     * Parse the request body into json objects.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param newlineDelimited whether the content is newline delimited json objects instead of a json array of objects
+     * @return The json objects in the order of the request
+     * @throws IOException if the content is not in the expected format
+     */
+    public List<ObjectNode> parseObjects(final HttpData httpData, final boolean newlineDelimited) throws IOException {
+        try (final InputStream inputStream = httpData.toInputStream();
+             final JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+            final List<ObjectNode> objects = new ArrayList<>();
+            if (newlineDelimited) {
+                while (parser.nextToken() != null) {
+                    objects.add(readObject(parser));
+                }
+                return objects;
+            }
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a json array of objects");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of json array");
+                }
+                objects.add(readObject(parser));
+            }
+            return objects;
+        }
+    }
+
+    private static ObjectNode readObject(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a json object but found " + parser.currentToken());
+        }
+        return mapper.readTree(parser);
+    }
 }
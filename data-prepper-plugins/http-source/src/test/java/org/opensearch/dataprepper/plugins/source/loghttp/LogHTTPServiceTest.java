@@ -126,6 +126,71 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
     }
 
+    @Test
+    public void testNewlineDelimitedJsonRequestSuccess() throws InterruptedException, ExecutionException {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.create("application", "x-ndjson"),
+                "{\"log\":\"one\"}\n{\"log\":\"two\"}\n");
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        verify(badRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testNewlineDelimitedJsonRequestWithNonObjectIsBadRequest() throws InterruptedException, ExecutionException {
+        // Prepare
+        AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.create("application", "x-ndjson"),
+                "{\"log\":\"one\"}\n[\"two\"]\n");
+
+        // When
+        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(successRequestsCounter, never()).increment();
+        verify(badRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestLargerThanWriteBatchSuccess() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        final int numJson = LogHTTPService.BUFFER_WRITE_BATCH_SIZE * 2 + 1;
+        final BlockingBuffer<Record<Log>> largeBuffer = new BlockingBuffer<>(numJson, numJson, "test-pipeline");
+        final LogHTTPService largeBufferService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, largeBuffer, pluginMetrics);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(numJson);
+
+        // When
+        AggregatedHttpResponse postResponse = largeBufferService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(successRequestsCounter, times(1)).increment();
+        assertEquals(numJson, largeBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().size());
+    }
+
+    @Test
+    public void testHTTPRequestTimeoutKeepsBatchesAlreadyWritten() throws InterruptedException, ExecutionException, JsonProcessingException {
+        // Prepare
+        final int capacity = LogHTTPService.BUFFER_WRITE_BATCH_SIZE + 1;
+        final BlockingBuffer<Record<Log>> smallBuffer = new BlockingBuffer<>(capacity, capacity, "test-pipeline");
+        final LogHTTPService smallBufferService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, smallBuffer, pluginMetrics);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(LogHTTPService.BUFFER_WRITE_BATCH_SIZE * 2);
+
+        // When
+        AggregatedHttpResponse postResponse = smallBufferService.doPost(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.REQUEST_TIMEOUT, postResponse.status());
+        verify(requestTimeoutsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+        assertEquals(LogHTTPService.BUFFER_WRITE_BATCH_SIZE, smallBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().size());
+    }
+
     @Test
     public void testHTTPRequestBadRequest() throws ExecutionException, InterruptedException {
         // Prepare
@@ -208,6 +273,16 @@ class LogHTTPServiceTest {
         return HttpRequest.of(requestHeaders, httpData).aggregate().get();
     }
 
+    private AggregatedHttpRequest generateHTTPRequest(final MediaType mediaType, final String content)
+            throws ExecutionException, InterruptedException {
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(mediaType)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        return HttpRequest.of(requestHeaders, HttpData.ofUtf8(content)).aggregate().get();
+    }
+
     private AggregatedHttpRequest generateBadHTTPRequest() throws ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
                 .contentType(MediaType.JSON)
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,9 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData goodTestDataJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":{\"d\":1}}\n");
+    private final HttpData badTestDataArrayOfStrings = HttpData.ofUtf8("[\"a\", \"b\"]");
+    private final HttpData badTestDataUnterminatedArray = HttpData.ofUtf8("[{\"a\":\"b\"}");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
@@ -45,4 +49,37 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseObjectsSuccess() throws IOException {
+        final List<ObjectNode> res = objectUnderTest.parseObjects(goodTestData, false);
+
+        assertEquals(2, res.size());
+        assertEquals("b", res.get(0).get("a").asText());
+        assertEquals("d", res.get(1).get("c").asText());
+    }
+
+    @Test
+    public void testParseObjectsJsonLinesSuccess() throws IOException {
+        final List<ObjectNode> res = objectUnderTest.parseObjects(goodTestDataJsonLines, true);
+
+        assertEquals(2, res.size());
+        assertEquals("b", res.get(0).get("a").asText());
+        assertEquals(1, res.get(1).get("c").get("d").asInt());
+    }
+
+    @Test
+    public void testParseObjectsJsonLinesFailureForNonObjects() {
+        assertThrows(IOException.class, () -> objectUnderTest.parseObjects(goodTestData, true));
+    }
+
+    @Test
+    public void testParseArrayOfNonObjectsFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataArrayOfStrings));
+    }
+
+    @Test
+    public void testParseUnterminatedArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataUnterminatedArray));
+    }
+}
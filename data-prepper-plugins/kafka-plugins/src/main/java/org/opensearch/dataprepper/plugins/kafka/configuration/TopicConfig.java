@@ -7,6 +7,9 @@ package org.opensearch.dataprepper.plugins.kafka.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
@@ -34,6 +37,8 @@ public class TopicConfig {
     private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(300000);
     private static final Integer CONSUMER_MAX_POLL_RECORDS = 500;
     private static final Integer NUM_OF_WORKERS = 5;
+    static final int DEFAULT_PROCESSING_WORKERS = 0;
+    static final int DEFAULT_PROCESSING_QUEUE_SIZE = 10;
     private static final Duration HEART_BEAT_INTERVAL_DURATION = Duration.ofSeconds(3);
 
     @JsonProperty("name")
@@ -51,6 +56,16 @@ public class TopicConfig {
     @Size(min = 1, max = 200, message = "Number of worker threads should lies between 1 and 200")
     private Integer workers = NUM_OF_WORKERS;
 
+    @JsonProperty("processing_workers")
+    @Min(0)
+    @Max(64)
+    private int processingWorkers = DEFAULT_PROCESSING_WORKERS;
+
+    @JsonProperty("processing_queue_size")
+    @Min(1)
+    @Max(1000)
+    private int processingQueueSize = DEFAULT_PROCESSING_QUEUE_SIZE;
+
     @JsonProperty("max_retry_attempts")
     @Valid
     @Size(min = 1, max = Integer.MAX_VALUE, message = " Max retry attempts should lies between 1 and Integer.MAX_VALUE")
@@ -248,6 +263,19 @@ public class TopicConfig {
         this.workers = workers;
     }
 
+    public int getProcessingWorkers() {
+        return processingWorkers;
+    }
+
+    public int getProcessingQueueSize() {
+        return processingQueueSize;
+    }
+
+    @AssertTrue(message = "auto_commit must be false when processing_workers is set")
+    boolean isAutoCommitDisabledForProcessingWorkers() {
+        return processingWorkers == 0 || !Boolean.TRUE.equals(autoCommit);
+    }
+
     public Duration getMaxRetryDelay() {
         return maxRetryDelay;
     }
@@ -4,10 +4,11 @@
  */
 package org.opensearch.dataprepper.plugins.kafka.consumer;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -38,9 +39,22 @@ import java.util.HashMap;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opensearch.dataprepper.plugins.kafka.util.GenericRecordJsonNodeConverter;
 import org.opensearch.dataprepper.plugins.kafka.util.MessageFormat;
 import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
 import org.apache.commons.lang3.Range;
@@ -55,6 +69,9 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
     static final String POSITIVE_ACKNOWLEDGEMENT_METRIC_NAME = "positiveAcknowledgementSetCounter";
     static final String NEGATIVE_ACKNOWLEDGEMENT_METRIC_NAME = "negativeAcknowledgementSetCounter";
     static final String DEFAULT_KEY = "message";
+    static final String PARTITION_PROCESSING_TIME_METRIC_NAME = "partitionProcessingTime";
+    static final String PARTITION_RECORDS_LAG_METRIC_NAME = "recordsLag";
+    private static final long PROCESSING_SHUTDOWN_TIMEOUT_SECONDS = 10;
 
     private volatile long lastCommitTime;
     private KafkaConsumer consumer= null;
@@ -63,10 +80,11 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
     private final TopicConfig topicConfig;
     private PluginMetrics pluginMetrics= null;
     private MessageFormat schema;
+    private final Duration bufferTimeout;
     private final BufferAccumulator<Record<Event>> bufferAccumulator;
     private final Buffer<Record<Event>> buffer;
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private final JsonFactory jsonFactory = new JsonFactory();
+    private final GenericRecordJsonNodeConverter genericRecordJsonNodeConverter = new GenericRecordJsonNodeConverter();
     private Map<TopicPartition, OffsetAndMetadata> offsetsToCommit;
     private final AcknowledgementSetManager acknowledgementSetManager;
     private final Map<Integer, TopicPartitionCommitTracker> partitionCommitTrackerMap;
@@ -74,6 +92,17 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
     private final Counter negativeAcknowledgementSetCounter;
     private final boolean acknowledgementsEnabled;
     private final Duration acknowledgementsTimeout;
+    private final int processingWorkers;
+    private final List<BlockingQueue<PartitionBatch>> processingQueues;
+    private final Map<TopicPartition, PartitionBatch> pendingBatches;
+    private final Map<TopicPartition, TopicPartitionCommitTracker> commitTrackers;
+    private final Map<TopicPartition, Long> lastCommittedOffsets;
+    private final Queue<CompletedOffsets> completedOffsets;
+    private final Map<TopicPartition, Long> partitionGenerations;
+    private final Queue<FailedBatch> failedBatches;
+    private final Map<Integer, Timer> partitionProcessingTimers;
+    private final Map<Integer, AtomicLong> partitionRecordsLags;
+    private ExecutorService processingExecutorService;
 
     public KafkaSourceCustomConsumer(final KafkaConsumer consumer,
                                      final AtomicBoolean shutdownInProgress,
@@ -96,11 +125,24 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
         this.pluginMetrics = pluginMetrics;
         this.partitionCommitTrackerMap = new HashMap<>();
         this.schema = MessageFormat.getByMessageFormatByName(schemaType);
-        Duration bufferTimeout = Duration.ofSeconds(1);
+        this.bufferTimeout = Duration.ofSeconds(1);
         this.bufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
         this.lastCommitTime = System.currentTimeMillis();
         this.positiveAcknowledgementSetCounter = pluginMetrics.counter(POSITIVE_ACKNOWLEDGEMENT_METRIC_NAME);
         this.negativeAcknowledgementSetCounter = pluginMetrics.counter(NEGATIVE_ACKNOWLEDGEMENT_METRIC_NAME);
+        this.processingWorkers = topicConfig.getProcessingWorkers();
+        this.processingQueues = new ArrayList<>(processingWorkers);
+        for (int i = 0; i < processingWorkers; i++) {
+            processingQueues.add(new ArrayBlockingQueue<>(topicConfig.getProcessingQueueSize()));
+        }
+        this.pendingBatches = new HashMap<>();
+        this.commitTrackers = new HashMap<>();
+        this.lastCommittedOffsets = new HashMap<>();
+        this.completedOffsets = new ConcurrentLinkedQueue<>();
+        this.partitionGenerations = new ConcurrentHashMap<>();
+        this.failedBatches = new ConcurrentLinkedQueue<>();
+        this.partitionProcessingTimers = new ConcurrentHashMap<>();
+        this.partitionRecordsLags = new HashMap<>();
     }
 
     public void updateOffsetsToCommit(final TopicPartition partition, final OffsetAndMetadata offsetAndMetadata) {
@@ -191,6 +233,10 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
 
     @Override
     public void run() {
+        if (processingWorkers > 0) {
+            runWithProcessingWorkers();
+            return;
+        }
         try {
             consumer.subscribe(Arrays.asList(topicName));
             while (!shutdownInProgress.get()) {
@@ -202,8 +248,280 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
         }
     }
 
+    /**
+     * Polls on this thread and decodes records on {@code processing_workers} threads. The records of each partition
+     * are always decoded by the same worker, in order. Workers are fed through bounded queues. When the queue of a
+     * worker is full, its partition is paused instead of blocking, so this thread keeps polling and stays in the
+     * consumer group however slow the buffer is. Offsets are committed asynchronously once all offsets before them
+     * are written to the buffer, or acknowledged when acknowledgements are enabled. When a worker fails to process a
+     * batch, its partition is sought back to the first offset of the batch and polled again.
+     */
+    private void runWithProcessingWorkers() {
+        startProcessingWorkers();
+        try {
+            consumer.subscribe(Arrays.asList(topicName), this);
+            while (!shutdownInProgress.get()) {
+                pollAndDispatch();
+                commitCompletedOffsets();
+            }
+        } catch (Exception exp) {
+            LOG.error("Error while reading the records from the topic...", exp);
+        } finally {
+            stopProcessingWorkers();
+            removeRecordsLags(new ArrayList<>(partitionRecordsLags.keySet()));
+        }
+    }
+
+    private void startProcessingWorkers() {
+        processingExecutorService = Executors.newFixedThreadPool(processingWorkers);
+        processingQueues.forEach(processingQueue -> processingExecutorService.submit(() -> processBatches(processingQueue)));
+    }
+
+    private void stopProcessingWorkers() {
+        processingExecutorService.shutdownNow();
+        try {
+            if (!processingExecutorService.awaitTermination(PROCESSING_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Processing workers of topic {} did not stop in time", topicName);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        collectCompletedOffsets();
+        commitOffsetsSync(new ArrayList<>(offsetsToCommit.keySet()));
+    }
+
+    void pollAndDispatch() throws Exception {
+        seekToFailedBatches();
+        dispatchPendingBatches();
+        try {
+            ConsumerRecords<String, Object> records = consumer.poll(Duration.ofMillis(topicConfig.getThreadWaitingTime().toMillis() / 2));
+            for (TopicPartition topicPartition : records.partitions()) {
+                final List<ConsumerRecord<String, Object>> partitionRecords = records.records(topicPartition);
+                commitTrackers.computeIfAbsent(topicPartition,
+                        partition -> new TopicPartitionCommitTracker(partition, partitionRecords.get(0).offset() - 1));
+                final PartitionBatch pendingBatch = pendingBatches.get(topicPartition);
+                if (pendingBatch != null) {
+                    pendingBatch.records.addAll(partitionRecords);
+                } else {
+                    final PartitionBatch partitionBatch = new PartitionBatch(topicPartition, new ArrayList<>(partitionRecords),
+                            partitionGenerations.getOrDefault(topicPartition, 0L));
+                    if (!getProcessingQueue(topicPartition).offer(partitionBatch)) {
+                        pendingBatches.put(topicPartition, partitionBatch);
+                        consumer.pause(Collections.singleton(topicPartition));
+                    }
+                }
+                updateRecordsLag(topicPartition);
+            }
+        } catch (AuthenticationException e) {
+            LOG.warn("Authentication Error while doing poll(). Will retry after 10 seconds", e);
+            Thread.sleep(10000);
+        }
+    }
+
+    /**
+     * Seeks the partitions of failed batches back to their first offset. Batches of a partition polled before the seek
+     * belong to an older generation and are dropped, so that the records after a failed batch are only written once it
+     * succeeds, and their offsets never overtake it.
+     */
+    private void seekToFailedBatches() {
+        FailedBatch failedBatch;
+        while ((failedBatch = failedBatches.poll()) != null) {
+            final TopicPartition topicPartition = failedBatch.topicPartition;
+            if (failedBatch.generation != partitionGenerations.getOrDefault(topicPartition, 0L)) {
+                // The partition was already sought back, or revoked since the batch was polled.
+                continue;
+            }
+            partitionGenerations.put(topicPartition, failedBatch.generation + 1);
+            getProcessingQueue(topicPartition).removeIf(partitionBatch -> partitionBatch.topicPartition.equals(topicPartition));
+            if (pendingBatches.remove(topicPartition) != null) {
+                consumer.resume(Collections.singleton(topicPartition));
+            }
+            consumer.seek(topicPartition, failedBatch.firstOffset);
+            LOG.info("Seeking partition {} back to offset {} to process its records again", topicPartition, failedBatch.firstOffset);
+        }
+    }
+
+    private void dispatchPendingBatches() {
+        final Iterator<PartitionBatch> iterator = pendingBatches.values().iterator();
+        while (iterator.hasNext()) {
+            final PartitionBatch pendingBatch = iterator.next();
+            if (getProcessingQueue(pendingBatch.topicPartition).offer(pendingBatch)) {
+                iterator.remove();
+                consumer.resume(Collections.singleton(pendingBatch.topicPartition));
+            }
+        }
+    }
+
+    private BlockingQueue<PartitionBatch> getProcessingQueue(final TopicPartition topicPartition) {
+        return processingQueues.get(Math.floorMod(topicPartition.partition(), processingWorkers));
+    }
+
+    private void updateRecordsLag(final TopicPartition topicPartition) {
+        final OptionalLong currentLag = consumer.currentLag(topicPartition);
+        if (currentLag.isPresent()) {
+            partitionRecordsLags.computeIfAbsent(topicPartition.partition(), partition ->
+                    pluginMetrics.gaugeWithTags(PARTITION_RECORDS_LAG_METRIC_NAME, new AtomicLong(),
+                            "topic", topicName, "partition", String.valueOf(partition)))
+                    .set(currentLag.getAsLong());
+        }
+    }
+
+    /**
+     * Removes the lag gauges of partitions this consumer no longer reads, so that the consumer they are assigned to
+     * next can register its own.
+     */
+    private void removeRecordsLags(final Collection<Integer> partitions) {
+        for (Integer partition : partitions) {
+            if (partitionRecordsLags.remove(partition) != null) {
+                pluginMetrics.removeGaugeWithTags(PARTITION_RECORDS_LAG_METRIC_NAME,
+                        "topic", topicName, "partition", String.valueOf(partition));
+            }
+        }
+    }
+
+    private void processBatches(final BlockingQueue<PartitionBatch> processingQueue) {
+        BufferAccumulator<Record<Event>> workerBufferAccumulator =
+                BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
+        final Map<TopicPartition, Long> failedGenerations = new HashMap<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            final PartitionBatch partitionBatch;
+            try {
+                partitionBatch = processingQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            final TopicPartition topicPartition = partitionBatch.topicPartition;
+            if (partitionBatch.generation != partitionGenerations.getOrDefault(topicPartition, 0L) ||
+                    Objects.equals(failedGenerations.get(topicPartition), partitionBatch.generation)) {
+                continue;
+            }
+            try {
+                processBatch(partitionBatch, workerBufferAccumulator);
+            } catch (Exception e) {
+                LOG.error("Failed to process records from {}, they will be polled again", topicPartition, e);
+                failedGenerations.put(topicPartition, partitionBatch.generation);
+                failedBatches.add(new FailedBatch(topicPartition, partitionBatch.records.get(0).offset(), partitionBatch.generation));
+                // Records of the failed batch which were not flushed must not be written with the next batch.
+                workerBufferAccumulator = BufferAccumulator.create(buffer, DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE, bufferTimeout);
+            }
+        }
+    }
+
+    private void processBatch(final PartitionBatch partitionBatch, final BufferAccumulator<Record<Event>> workerBufferAccumulator) throws Exception {
+        final long startTime = System.nanoTime();
+        final TopicPartition topicPartition = partitionBatch.topicPartition;
+        final List<ConsumerRecord<String, Object>> partitionRecords = partitionBatch.records;
+        final CompletedOffsets batchOffsets = new CompletedOffsets(topicPartition, Range.between(
+                partitionRecords.get(0).offset(), partitionRecords.get(partitionRecords.size() - 1).offset()));
+
+        AcknowledgementSet acknowledgementSet = null;
+        if (acknowledgementsEnabled) {
+            acknowledgementSet = acknowledgementSetManager.create(result -> {
+                if (result) {
+                    positiveAcknowledgementSetCounter.increment();
+                    completedOffsets.add(batchOffsets);
+                } else {
+                    negativeAcknowledgementSetCounter.increment();
+                }
+            }, acknowledgementsTimeout);
+        }
+        for (ConsumerRecord<String, Object> consumerRecord : partitionRecords) {
+            final Record<Event> record = getRecord(consumerRecord, topicPartition.partition());
+            // Always add record to acknowledgementSet before adding to
+            // buffer because another thread may take and process
+            // buffer contents before the event record is added
+            // to acknowledgement set
+            if (acknowledgementSet != null) {
+                acknowledgementSet.add(record.getData());
+            }
+            workerBufferAccumulator.add(record);
+        }
+        workerBufferAccumulator.flush();
+        if (acknowledgementSet != null) {
+            acknowledgementSet.complete();
+        } else {
+            completedOffsets.add(batchOffsets);
+        }
+        partitionProcessingTimers.computeIfAbsent(topicPartition.partition(), partition ->
+                pluginMetrics.timerWithTags(PARTITION_PROCESSING_TIME_METRIC_NAME, "topic", topicName, "partition", String.valueOf(partition)))
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Moves offsets completed by the workers into their partition trackers, which only return an offset to commit
+     * once every offset before it is complete.
+     */
+    private void collectCompletedOffsets() {
+        CompletedOffsets completed;
+        while ((completed = completedOffsets.poll()) != null) {
+            final TopicPartitionCommitTracker commitTracker = commitTrackers.get(completed.topicPartition);
+            if (commitTracker != null) {
+                updateOffsetsToCommit(completed.topicPartition, commitTracker.addCompletedOffsets(completed.offsetRange));
+            }
+        }
+    }
+
+    void commitCompletedOffsets() {
+        collectCompletedOffsets();
+        if (topicConfig.getAutoCommit()) {
+            return;
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        if ((currentTimeMillis - lastCommitTime) < COMMIT_OFFSET_INTERVAL_MS) {
+            return;
+        }
+        final Map<TopicPartition, OffsetAndMetadata> offsets;
+        synchronized (this) {
+            if (offsetsToCommit.isEmpty()) {
+                return;
+            }
+            offsets = new HashMap<>(offsetsToCommit);
+            offsetsToCommit.clear();
+        }
+        lastCommitTime = currentTimeMillis;
+        // Callbacks of commitAsync run on this thread, in the order of the commits.
+        consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+            if (exception == null) {
+                committedOffsets.forEach((partition, offsetAndMetadata) -> lastCommittedOffsets.put(partition, offsetAndMetadata.offset()));
+                return;
+            }
+            LOG.warn("Failed to commit offsets in topic {}, they will be retried", topicName, exception);
+            committedOffsets.forEach((partition, offsetAndMetadata) -> {
+                if (offsetAndMetadata.offset() > lastCommittedOffsets.getOrDefault(partition, -1L)) {
+                    synchronized (this) {
+                        offsetsToCommit.putIfAbsent(partition, offsetAndMetadata);
+                    }
+                }
+            });
+        });
+    }
+
+    private void commitOffsetsSync(final Collection<TopicPartition> partitions) {
+        if (topicConfig.getAutoCommit()) {
+            return;
+        }
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        synchronized (this) {
+            for (TopicPartition partition : partitions) {
+                final OffsetAndMetadata offsetAndMetadata = offsetsToCommit.remove(partition);
+                if (offsetAndMetadata != null) {
+                    offsets.put(partition, offsetAndMetadata);
+                }
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            consumer.commitSync(offsets);
+            offsets.forEach((partition, offsetAndMetadata) -> lastCommittedOffsets.put(partition, offsetAndMetadata.offset()));
+        } catch (Exception e) {
+            LOG.error("Failed to commit offsets in topic " + topicName, e);
+        }
+    }
+
     private <T> Record<Event> getRecord(ConsumerRecord<String, T> consumerRecord, int partition) {
-        Map<String, Object> data = new HashMap<>();
         Event event;
         Object value = consumerRecord.value();
         String key = (String)consumerRecord.key();
@@ -212,34 +530,36 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
         try {
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
-            } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
-                final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
-                value = objectMapper.readValue(jsonParser, Map.class);
+                value = objectMapper.readTree(j.getPayload());
+            } else if (value instanceof GenericRecord) {
+                value = genericRecordJsonNodeConverter.convert((GenericRecord) value);
+            } else if (schema == MessageFormat.AVRO) {
+                value = objectMapper.readTree(value.toString());
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
-            } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+            } else if (schema == MessageFormat.JSON && !(value instanceof JsonNode)) {
+                value = objectMapper.valueToTree(value);
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
         }
+        final Object data;
         if (!plainTextMode) {
-            if (!(value instanceof Map)) {
-                data.put(key, value);
+            if (!(value instanceof ObjectNode)) {
+                data = Collections.singletonMap(key, value);
             } else {
-                Map<String, Object> valueMap = (Map<String, Object>)value;
+                final ObjectNode valueNode = (ObjectNode) value;
                 if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
-                    valueMap.put("kafka_key", key);
+                    valueNode.put("kafka_key", key);
                 }
-                data = valueMap;
+                data = valueNode;
             }
         } else {
             if (Objects.isNull(key)) {
                 key = DEFAULT_KEY;
             }
-            data.put(key, value);
+            data = Collections.singletonMap(key, value);
         }
         event = JacksonLog.builder().withData(data).build();
         EventMetadata eventMetadata = event.getMetadata();
@@ -286,12 +606,62 @@ public class KafkaSourceCustomConsumer implements Runnable, ConsumerRebalanceLis
     @Override
     public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
         for (TopicPartition topicPartition : partitions) {
-            Long committedOffset = consumer.committed(topicPartition).offset();
-            consumer.seek(topicPartition, committedOffset);
+            OffsetAndMetadata committedOffsetAndMetadata = consumer.committed(topicPartition);
+            if (Objects.nonNull(committedOffsetAndMetadata)) {
+                consumer.seek(topicPartition, committedOffsetAndMetadata.offset());
+            }
         }
     }
 
     @Override
     public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (processingWorkers == 0) {
+            return;
+        }
+        processingQueues.forEach(processingQueue ->
+                processingQueue.removeIf(partitionBatch -> partitions.contains(partitionBatch.topicPartition)));
+        collectCompletedOffsets();
+        commitOffsetsSync(partitions);
+        for (TopicPartition topicPartition : partitions) {
+            partitionGenerations.merge(topicPartition, 1L, Long::sum);
+            commitTrackers.remove(topicPartition);
+            pendingBatches.remove(topicPartition);
+            lastCommittedOffsets.remove(topicPartition);
+            removeRecordsLags(Collections.singleton(topicPartition.partition()));
+        }
+    }
+
+    private static class PartitionBatch {
+        private final TopicPartition topicPartition;
+        private final List<ConsumerRecord<String, Object>> records;
+        private final long generation;
+
+        private PartitionBatch(final TopicPartition topicPartition, final List<ConsumerRecord<String, Object>> records, final long generation) {
+            this.topicPartition = topicPartition;
+            this.records = records;
+            this.generation = generation;
+        }
+    }
+
+    private static class FailedBatch {
+        private final TopicPartition topicPartition;
+        private final long firstOffset;
+        private final long generation;
+
+        private FailedBatch(final TopicPartition topicPartition, final long firstOffset, final long generation) {
+            this.topicPartition = topicPartition;
+            this.firstOffset = firstOffset;
+            this.generation = generation;
+        }
+    }
+
+    private static class CompletedOffsets {
+        private final TopicPartition topicPartition;
+        private final Range<Long> offsetRange;
+
+        private CompletedOffsets(final TopicPartition topicPartition, final Range<Long> offsetRange) {
+            this.topicPartition = topicPartition;
+            this.offsetRange = offsetRange;
+        }
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts Avro records into Jackson {@link ObjectNode}s directly from their fields, instead of rendering them as a
+ * JSON string and parsing it again. The field names of each record schema are looked up once and cached, and fields
+ * are read by position.
+ */
+public class GenericRecordJsonNodeConverter {
+    static final int MAX_CACHED_SCHEMAS = 1_000;
+
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Map<Schema, String[]> fieldNamesBySchema = new ConcurrentHashMap<>();
+
+    /**
+     * @param record the Avro record.
+     * @return an {@link ObjectNode} with a property for each field of the record.
+     */
+    public ObjectNode convert(final IndexedRecord record) {
+        final String[] fieldNames = getFieldNames(record.getSchema());
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        for (int position = 0; position < fieldNames.length; position++) {
+            objectNode.set(fieldNames[position], convertValue(record.get(position)));
+        }
+        return objectNode;
+    }
+
+    int getCachedSchemaCount() {
+        return fieldNamesBySchema.size();
+    }
+
+    private String[] getFieldNames(final Schema schema) {
+        final String[] cachedFieldNames = fieldNamesBySchema.get(schema);
+        if (cachedFieldNames != null) {
+            return cachedFieldNames;
+        }
+        final String[] fieldNames = schema.getFields().stream()
+                .map(Schema.Field::name)
+                .toArray(String[]::new);
+        if (fieldNamesBySchema.size() < MAX_CACHED_SCHEMAS) {
+            fieldNamesBySchema.putIfAbsent(schema, fieldNames);
+        }
+        return fieldNames;
+    }
+
+    private JsonNode convertValue(final Object value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof IndexedRecord) {
+            return convert((IndexedRecord) value);
+        } else if (value instanceof CharSequence) {
+            return nodeFactory.textNode(value.toString());
+        } else if (value instanceof Integer) {
+            return nodeFactory.numberNode((Integer) value);
+        } else if (value instanceof Long) {
+            return nodeFactory.numberNode((Long) value);
+        } else if (value instanceof Double) {
+            return nodeFactory.numberNode((Double) value);
+        } else if (value instanceof Float) {
+            return nodeFactory.numberNode((Float) value);
+        } else if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        } else if (value instanceof Map) {
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectNode.set(entry.getKey().toString(), convertValue(entry.getValue()));
+            }
+            return objectNode;
+        } else if (value instanceof Collection) {
+            final ArrayNode arrayNode = nodeFactory.arrayNode(((Collection<?>) value).size());
+            for (final Object element : (Collection<?>) value) {
+                arrayNode.add(convertValue(element));
+            }
+            return arrayNode;
+        } else if (value instanceof ByteBuffer) {
+            final ByteBuffer bytes = ((ByteBuffer) value).duplicate();
+            return nodeFactory.textNode(StandardCharsets.ISO_8859_1.decode(bytes).toString());
+        } else if (value instanceof GenericFixed) {
+            final byte[] bytes = ((GenericFixed) value).bytes();
+            final ArrayNode arrayNode = nodeFactory.arrayNode(bytes.length);
+            for (final byte element : bytes) {
+                arrayNode.add(element);
+            }
+            return arrayNode;
+        }
+        // Enum symbols and any other value are rendered as text, as GenericData#toString does.
+        return nodeFactory.textNode(value.toString());
+    }
+}
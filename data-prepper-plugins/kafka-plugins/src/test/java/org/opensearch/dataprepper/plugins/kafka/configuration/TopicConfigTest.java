@@ -25,6 +25,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
 class TopicConfigTest {
 
@@ -82,6 +83,8 @@ class TopicConfigTest {
         assertEquals(500L, topicConfig.getConsumerMaxPollRecords().longValue());
         assertEquals(5, topicConfig.getWorkers().intValue());
         assertEquals(Duration.ofSeconds(3), topicConfig.getHeartBeatInterval());
+        assertEquals(TopicConfig.DEFAULT_PROCESSING_WORKERS, topicConfig.getProcessingWorkers());
+        assertEquals(TopicConfig.DEFAULT_PROCESSING_QUEUE_SIZE, topicConfig.getProcessingQueueSize());
     }
 
     @Test
@@ -126,4 +129,29 @@ class TopicConfigTest {
         assertNotNull(topicConfig.getHeartBeatInterval());
     }
 
+    @Test
+    @Tag(YAML_FILE_WITH_CONSUMER_CONFIG)
+    void isAutoCommitDisabledForProcessingWorkers_returns_false_when_both_are_set() throws NoSuchFieldException, IllegalAccessException {
+        setField(TopicConfig.class, topicConfig, "processingWorkers", 2);
+        topicConfig.setAutoCommit(true);
+
+        assertEquals(false, topicConfig.isAutoCommitDisabledForProcessingWorkers());
+    }
+
+    @Test
+    @Tag(YAML_FILE_WITH_CONSUMER_CONFIG)
+    void isAutoCommitDisabledForProcessingWorkers_returns_true_without_processing_workers() {
+        topicConfig.setAutoCommit(true);
+
+        assertEquals(true, topicConfig.isAutoCommitDisabledForProcessingWorkers());
+    }
+
+    @Test
+    @Tag(YAML_FILE_WITH_CONSUMER_CONFIG)
+    void isAutoCommitDisabledForProcessingWorkers_returns_true_without_auto_commit() throws NoSuchFieldException, IllegalAccessException {
+        setField(TopicConfig.class, topicConfig, "processingWorkers", 2);
+        topicConfig.setAutoCommit(false);
+
+        assertEquals(true, topicConfig.isAutoCommitDisabledForProcessingWorkers());
+    }
 }
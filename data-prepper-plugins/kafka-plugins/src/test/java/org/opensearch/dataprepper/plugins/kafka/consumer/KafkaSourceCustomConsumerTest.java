@@ -7,6 +7,10 @@ package org.opensearch.dataprepper.plugins.kafka.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -26,14 +30,22 @@ import org.opensearch.dataprepper.plugins.kafka.util.MessageFormat;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.acknowledgements.DefaultAcknowledgementSetManager;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.MatcherAssert.assertThat;
 import org.junit.jupiter.api.Assertions;
@@ -51,7 +63,9 @@ import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;  
@@ -246,6 +260,117 @@ public class KafkaSourceCustomConsumerTest {
         }
     }
 
+    @Test
+    public void testAvroConsumeRecords() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        final Schema avroSchema = SchemaBuilder.record("TestRecord").fields()
+                .requiredString("key1")
+                .requiredInt("key2")
+                .endRecord();
+        final GenericRecord avroRecord = new GenericData.Record(avroSchema);
+        avroRecord.put("key1", "value1");
+        avroRecord.put("key2", 2);
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        ConsumerRecord<String, GenericRecord> record1 = new ConsumerRecord<>(topic, testJsonPartition, 100L, testKey1, avroRecord);
+        records.put(new TopicPartition(topic, testJsonPartition), Arrays.asList(record1));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(anyLong())).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("avro", false);
+
+        consumer.consumeRecords();
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(1, bufferedRecords.size());
+
+        final Event event = bufferedRecords.get(0).getData();
+        Assertions.assertEquals("value1", event.get("key1", String.class));
+        Assertions.assertEquals(2, event.get("key2", Integer.class));
+        Assertions.assertEquals(testKey1, event.get("kafka_key", String.class));
+    }
+
+    @Test
+    public void testJsonConsumeRecordsWithProcessingWorkers() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.JSON);
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        when(topicConfig.getProcessingWorkers()).thenReturn(2);
+        when(topicConfig.getProcessingQueueSize()).thenReturn(10);
+        when(pluginMetrics.timerWithTags(anyString(), any(String[].class))).thenReturn(mock(Timer.class));
+        when(pluginMetrics.gaugeWithTags(anyString(), any(AtomicLong.class), any(String[].class))).thenAnswer(i -> i.getArgument(1));
+        when(kafkaConsumer.currentLag(new TopicPartition(topic, testJsonPartition))).thenReturn(OptionalLong.of(5L));
+        consumerRecords = createJsonRecords(topic);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords, ConsumerRecords.empty());
+        consumer = createObjectUnderTest("json", false);
+
+        final Thread consumerThread = new Thread(consumer);
+        consumerThread.start();
+        final List<Record<Event>> bufferedRecords = new ArrayList<>();
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (bufferedRecords.size() < consumerRecords.count() && System.currentTimeMillis() < deadline) {
+            bufferedRecords.addAll(buffer.read(100).getKey());
+        }
+        shutdownInProgress.set(true);
+        consumerThread.join(10000);
+
+        Assertions.assertEquals(consumerRecords.count(), bufferedRecords.size());
+        for (Record<Event> record: bufferedRecords) {
+            Event event = record.getData();
+            Map<String, Object> eventMap = event.toMap();
+            String kafkaKey = event.get("kafka_key", String.class);
+            assertTrue(kafkaKey.equals(testKey1) || kafkaKey.equals(testKey2));
+            if (kafkaKey.equals(testKey1)) {
+                testMap1.forEach((k, v) -> assertThat(eventMap, hasEntry(k,v)));
+            }
+            if (kafkaKey.equals(testKey2)) {
+                testMap2.forEach((k, v) -> assertThat(eventMap, hasEntry(k,v)));
+            }
+        }
+        verify(kafkaConsumer).commitSync(Map.of(new TopicPartition(topic, testJsonPartition), new OffsetAndMetadata(102L)));
+        verify(kafkaConsumer, never()).poll(anyLong());
+        verify(pluginMetrics).gaugeWithTags(eq(KafkaSourceCustomConsumer.PARTITION_RECORDS_LAG_METRIC_NAME), any(AtomicLong.class),
+                eq("topic"), eq(topic), eq("partition"), eq(String.valueOf(testJsonPartition)));
+        verify(pluginMetrics).removeGaugeWithTags(KafkaSourceCustomConsumer.PARTITION_RECORDS_LAG_METRIC_NAME,
+                "topic", topic, "partition", String.valueOf(testJsonPartition));
+    }
+
+    @Test
+    public void testProcessingWorkersPollFailedBatchesAgain() throws Exception {
+        String topic = topicConfig.getName();
+        final TopicPartition topicPartition = new TopicPartition(topic, testJsonPartition);
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.JSON);
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        when(topicConfig.getProcessingWorkers()).thenReturn(2);
+        when(topicConfig.getProcessingQueueSize()).thenReturn(10);
+        when(pluginMetrics.timerWithTags(anyString(), any(String[].class))).thenReturn(mock(Timer.class));
+        buffer = spy(getBuffer());
+        doThrow(new RuntimeException("buffer failure")).doCallRealMethod().when(buffer).writeAll(anyCollection(), anyInt());
+        consumerRecords = createJsonRecords(topic);
+        final AtomicBoolean polled = new AtomicBoolean(false);
+        final AtomicBoolean sought = new AtomicBoolean(false);
+        when(kafkaConsumer.poll(any(Duration.class))).thenAnswer(invocation ->
+                !polled.getAndSet(true) || sought.getAndSet(false) ? consumerRecords : ConsumerRecords.empty());
+        doAnswer(invocation -> {
+            sought.set(true);
+            return null;
+        }).when(kafkaConsumer).seek(topicPartition, 100L);
+        consumer = createObjectUnderTest("json", false);
+
+        final Thread consumerThread = new Thread(consumer);
+        consumerThread.start();
+        final List<Record<Event>> bufferedRecords = new ArrayList<>();
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (bufferedRecords.size() < consumerRecords.count() && System.currentTimeMillis() < deadline) {
+            bufferedRecords.addAll(buffer.read(100).getKey());
+        }
+        shutdownInProgress.set(true);
+        consumerThread.join(10000);
+
+        Assertions.assertEquals(consumerRecords.count(), bufferedRecords.size());
+        verify(kafkaConsumer).seek(topicPartition, 100L);
+        verify(kafkaConsumer).commitSync(Map.of(topicPartition, new OffsetAndMetadata(102L)));
+    }
+
     private ConsumerRecords createPlainTextRecords(String topic) {
         Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
         ConsumerRecord<String, String> record1 = new ConsumerRecord<>(topic, testPartition, 0L, testKey1, testValue1);
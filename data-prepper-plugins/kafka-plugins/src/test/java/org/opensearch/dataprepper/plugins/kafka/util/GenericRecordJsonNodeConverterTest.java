@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GenericRecordJsonNodeConverterTest {
+    private static final Schema NESTED_SCHEMA = SchemaBuilder.record("Nested").fields()
+            .requiredString("name")
+            .endRecord();
+    private static final Schema SCHEMA = SchemaBuilder.record("Test").fields()
+            .requiredString("stringField")
+            .requiredInt("intField")
+            .requiredLong("longField")
+            .requiredDouble("doubleField")
+            .requiredBoolean("booleanField")
+            .optionalString("optionalField")
+            .name("arrayField").type().array().items().intType().noDefault()
+            .name("mapField").type().map().values().stringType().noDefault()
+            .name("enumField").type().enumeration("Color").symbols("RED", "GREEN").noDefault()
+            .name("nestedField").type(NESTED_SCHEMA).noDefault()
+            .endRecord();
+
+    private GenericRecord createRecord() {
+        final GenericRecord nested = new GenericData.Record(NESTED_SCHEMA);
+        nested.put("name", "inner");
+
+        final GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("stringField", "value");
+        record.put("intField", 1);
+        record.put("longField", 2L);
+        record.put("doubleField", 3.5);
+        record.put("booleanField", true);
+        record.put("optionalField", null);
+        record.put("arrayField", List.of(1, 2, 3));
+        record.put("mapField", Map.of("key", "mapValue"));
+        record.put("enumField", new GenericData.EnumSymbol(SCHEMA.getField("enumField").schema(), "GREEN"));
+        record.put("nestedField", nested);
+        return record;
+    }
+
+    @Test
+    void convert_matches_json_rendered_by_avro() throws Exception {
+        final GenericRecord record = createRecord();
+
+        final ObjectNode actual = new GenericRecordJsonNodeConverter().convert(record);
+
+        final JsonNode expected = new ObjectMapper().readTree(record.toString());
+        assertThat(actual.toString(), equalTo(expected.toString()));
+    }
+
+    @Test
+    void convert_caches_field_names_per_schema() {
+        final GenericRecordJsonNodeConverter objectUnderTest = new GenericRecordJsonNodeConverter();
+
+        objectUnderTest.convert(createRecord());
+        objectUnderTest.convert(createRecord());
+
+        assertThat(objectUnderTest.getCachedSchemaCount(), equalTo(2));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Splits a message into key-value pairs in a single pass when fields and values are delimited by single characters.
+ * The pairs are the same as splitting the message with a regex of alternated field split characters and then splitting
+ * each field once with a regex of alternated value split characters: empty fields are kept, except trailing ones.
+ * With value grouping, split characters inside quotes or brackets are skipped, as described in {@link ValueGrouping}.
+ */
+class CharacterDelimiterTokenizer {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final int ASCII_LIMIT = 128;
+
+    private final String fieldSplitCharacters;
+    private final String valueSplitCharacters;
+    private final boolean[] asciiFieldSplitCharacters = new boolean[ASCII_LIMIT];
+    private final boolean[] asciiValueSplitCharacters = new boolean[ASCII_LIMIT];
+    private final boolean valueGrouping;
+
+    CharacterDelimiterTokenizer(final String fieldSplitCharacters, final String valueSplitCharacters) {
+        this(fieldSplitCharacters, valueSplitCharacters, false);
+    }
+
+    CharacterDelimiterTokenizer(final String fieldSplitCharacters, final String valueSplitCharacters, final boolean valueGrouping) {
+        this.fieldSplitCharacters = fieldSplitCharacters;
+        this.valueSplitCharacters = valueSplitCharacters;
+        this.valueGrouping = valueGrouping;
+        markAsciiCharacters(fieldSplitCharacters, asciiFieldSplitCharacters);
+        markAsciiCharacters(valueSplitCharacters, asciiValueSplitCharacters);
+    }
+
+    /**
+     * @return Whether the regex built from the split characters only matches one of the characters, so the split
+     * characters can be tokenized without the regex
+     */
+    static boolean supports(final String splitCharacters) {
+        if (splitCharacters == null || splitCharacters.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < splitCharacters.length(); i++) {
+            final char c = splitCharacters.charAt(i);
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes every key and value to the consumer in message order. The value is null when the field has no value split
+     * character.
+     */
+    void tokenize(final String message, final BiConsumer<String, String> pairConsumer) {
+        int fieldStart = 0;
+        int valueSplitIndex = -1;
+        int skippedEmptyFields = 0;
+        boolean fieldSplitFound = false;
+        for (int i = 0; i < message.length(); i++) {
+            final char c = message.charAt(i);
+            if (isSplitCharacter(c, fieldSplitCharacters, asciiFieldSplitCharacters)) {
+                fieldSplitFound = true;
+                if (i == fieldStart) {
+                    // Empty fields are only passed on once a non-empty field follows, as trailing ones are dropped
+                    skippedEmptyFields++;
+                } else {
+                    skippedEmptyFields = acceptSkippedEmptyFields(skippedEmptyFields, pairConsumer);
+                    acceptField(message, fieldStart, valueSplitIndex, i, pairConsumer);
+                }
+                fieldStart = i + 1;
+                valueSplitIndex = -1;
+            } else if (valueSplitIndex < 0 && isSplitCharacter(c, valueSplitCharacters, asciiValueSplitCharacters)) {
+                valueSplitIndex = i;
+            } else if (valueGrouping && ValueGrouping.isGroupStart(c)) {
+                final int groupEnd = ValueGrouping.findGroupEnd(message, i);
+                if (groupEnd >= 0) {
+                    i = groupEnd;
+                }
+            }
+        }
+
+        if (!fieldSplitFound) {
+            acceptField(message, 0, valueSplitIndex, message.length(), pairConsumer);
+        } else if (fieldStart < message.length()) {
+            acceptSkippedEmptyFields(skippedEmptyFields, pairConsumer);
+            acceptField(message, fieldStart, valueSplitIndex, message.length(), pairConsumer);
+        }
+    }
+
+    private static int acceptSkippedEmptyFields(final int skippedEmptyFields, final BiConsumer<String, String> pairConsumer) {
+        for (int i = 0; i < skippedEmptyFields; i++) {
+            pairConsumer.accept("", null);
+        }
+        return 0;
+    }
+
+    private static void acceptField(final String message, final int fieldStart, final int valueSplitIndex, final int fieldEnd,
+                                    final BiConsumer<String, String> pairConsumer) {
+        if (valueSplitIndex < 0) {
+            pairConsumer.accept(message.substring(fieldStart, fieldEnd), null);
+        } else {
+            pairConsumer.accept(message.substring(fieldStart, valueSplitIndex), message.substring(valueSplitIndex + 1, fieldEnd));
+        }
+    }
+
+    private static boolean isSplitCharacter(final char c, final String splitCharacters, final boolean[] asciiSplitCharacters) {
+        return c < ASCII_LIMIT ? asciiSplitCharacters[c] : splitCharacters.indexOf(c) >= 0;
+    }
+
+    private static void markAsciiCharacters(final String splitCharacters, final boolean[] asciiSplitCharacters) {
+        for (int i = 0; i < splitCharacters.length(); i++) {
+            final char c = splitCharacters.charAt(i);
+            if (c < ASCII_LIMIT) {
+                asciiSplitCharacters[c] = true;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.regex.Matcher;
@@ -30,11 +31,14 @@ import java.util.regex.Matcher;
 @DataPrepperPlugin(name = "key_value", pluginType = Processor.class, pluginConfigurationType = KeyValueProcessorConfig.class)
 public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(KeyValueProcessor.class);
+    private static final Pattern BRACKET_PATTERN = Pattern.compile("[\\[\\]()<>]");
 
     private final KeyValueProcessorConfig keyValueProcessorConfig;
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final CharacterDelimiterTokenizer characterDelimiterTokenizer;
+    private final Map<String, Pattern> deleteRegexPatterns = new ConcurrentHashMap<>();
     private final Set<String> includeKeysSet = new HashSet<String>();
     private final Set<String> excludeKeysSet = new HashSet<String>();
     private final String lowercaseKey = "lowercase";
@@ -49,6 +53,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
+        final String fieldSplitCharacters;
+        final String valueSplitCharacters;
 
         if(keyValueProcessorConfig.getFieldDelimiterRegex() != null
                 && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty()) {
@@ -60,12 +66,15 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
 
             fieldDelimiterPattern = Pattern.compile(keyValueProcessorConfig.getFieldDelimiterRegex());
+            fieldSplitCharacters = null;
         } else {
             String regex;
             if (keyValueProcessorConfig.getFieldSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
+                fieldSplitCharacters = KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS;
             } else {
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getFieldSplitCharacters());
+                fieldSplitCharacters = keyValueProcessorConfig.getFieldSplitCharacters();
             }
 
             fieldDelimiterPattern = Pattern.compile(regex);
@@ -81,17 +90,28 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             }
 
             keyValueDelimiterPattern = Pattern.compile(keyValueProcessorConfig.getKeyValueDelimiterRegex());
+            valueSplitCharacters = null;
         } else {
             String regex;
             if(keyValueProcessorConfig.getValueSplitCharacters().isEmpty()) {
                 regex = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
+                valueSplitCharacters = KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS;
             } else {
                 regex = buildRegexFromCharacters(keyValueProcessorConfig.getValueSplitCharacters());
+                valueSplitCharacters = keyValueProcessorConfig.getValueSplitCharacters();
             }
 
             keyValueDelimiterPattern = Pattern.compile(regex);
         }
 
+        // Split characters which are not regex metacharacters are split without the regex
+        if (CharacterDelimiterTokenizer.supports(fieldSplitCharacters) && CharacterDelimiterTokenizer.supports(valueSplitCharacters)) {
+            characterDelimiterTokenizer = new CharacterDelimiterTokenizer(fieldSplitCharacters, valueSplitCharacters,
+                    keyValueProcessorConfig.getValueGrouping());
+        } else {
+            characterDelimiterTokenizer = null;
+        }
+
         if (!validateRegex(keyValueProcessorConfig.getDeleteKeyRegex())) {
             throw new PatternSyntaxException("delete_key_regex is not a valid regex string", keyValueProcessorConfig.getDeleteKeyRegex(), -1);
         }
@@ -170,66 +190,86 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Event recordEvent = record.getData();
 
             final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
-            final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
-            for(final String group : groups) {
-                final String[] terms = keyValueDelimiterPattern.split(group, 2);
-                String key = terms[0];
-                Object value;
-
-                if (!includeKeysSet.isEmpty() && !includeKeysSet.contains(key)) {
-                    LOG.debug(String.format("Skipping not included key: '%s'", key));
-                    continue;
+            if (characterDelimiterTokenizer != null) {
+                characterDelimiterTokenizer.tokenize(groupsRaw, (key, value) -> addKeyValue(parsedMap, key, value));
+            } else {
+                final String[] groups = split(fieldDelimiterPattern, groupsRaw, 0);
+                for(final String group : groups) {
+                    final String[] terms = split(keyValueDelimiterPattern, group, 2);
+                    addKeyValue(parsedMap, terms[0], terms.length == 2 ? terms[1] : null);
                 }
+            }
 
-                if (!excludeKeysSet.isEmpty() && excludeKeysSet.contains(key)) {
-                    LOG.debug(String.format("Key is being excluded: '%s'", key));
-                    continue;
-                }
+            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+        }
 
-                if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
-                    key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
-                }
-                key = keyValueProcessorConfig.getPrefix() + key;
+        return records;
+    }
 
-                if (terms.length == 2) {
-                    value = terms[1];
-                } else {
-                    LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
-                    value = keyValueProcessorConfig.getNonMatchValue();
-                }
+    private String[] split(final Pattern pattern, final String input, final int limit) {
+        if (keyValueProcessorConfig.getValueGrouping()) {
+            return ValueGrouping.split(pattern, input, limit);
+        }
+        return pattern.split(input, limit);
+    }
 
-                if(value != null
-                        && value instanceof String
-                        && keyValueProcessorConfig.getDeleteValueRegex() != null
-                        && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
-                    value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
-                }
+    /**
+     * @param rawValue The value of the key, or null if the field has no value delimiter
+     */
+    private void addKeyValue(final Map<String, Object> parsedMap, String key, final String rawValue) {
+        Object value;
 
-                if (keyValueProcessorConfig.getWhitespace().equals(whitespaceStrict)) {
-                    String[] whitespace_arr = trimWhitespace(key, value);
-                    key = whitespace_arr[0];
-                    value = whitespace_arr[1];
-                }
+        if (!includeKeysSet.isEmpty() && !includeKeysSet.contains(key)) {
+            LOG.debug("Skipping not included key: '{}'", key);
+            return;
+        }
 
-                if (keyValueProcessorConfig.getTransformKey() != null
-                        && !keyValueProcessorConfig.getTransformKey().isEmpty()) {
-                    key = transformKey(key);
-                }
+        if (!excludeKeysSet.isEmpty() && excludeKeysSet.contains(key)) {
+            LOG.debug("Key is being excluded: '{}'", key);
+            return;
+        }
 
-                if (keyValueProcessorConfig.getRemoveBrackets()) {
-                    final String bracketRegex = "[\\[\\]()<>]";
-                    if (value != null) {
-                        value = value.toString().replaceAll(bracketRegex,"");
-                    }
-                }
+        if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
+            key = getDeleteRegexPattern(keyValueProcessorConfig.getDeleteKeyRegex()).matcher(key).replaceAll("");
+        }
+        key = keyValueProcessorConfig.getPrefix() + key;
 
-                addKeyValueToMap(parsedMap, key, value);
-            }
+        if (rawValue != null) {
+            value = rawValue;
+        } else {
+            LOG.debug("Unsuccessful match: '{}'", key);
+            value = keyValueProcessorConfig.getNonMatchValue();
+        }
 
-            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+        if(value != null
+                && value instanceof String
+                && keyValueProcessorConfig.getDeleteValueRegex() != null
+                && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
+            value = getDeleteRegexPattern(keyValueProcessorConfig.getDeleteValueRegex()).matcher((String)value).replaceAll("");
         }
 
-        return records;
+        if (keyValueProcessorConfig.getWhitespace().equals(whitespaceStrict)) {
+            String[] whitespace_arr = trimWhitespace(key, value);
+            key = whitespace_arr[0];
+            value = whitespace_arr[1];
+        }
+
+        if (keyValueProcessorConfig.getTransformKey() != null
+                && !keyValueProcessorConfig.getTransformKey().isEmpty()) {
+            key = transformKey(key);
+        }
+
+        if (keyValueProcessorConfig.getRemoveBrackets()) {
+            if (value != null) {
+                value = BRACKET_PATTERN.matcher(value.toString()).replaceAll("");
+            }
+        }
+
+        addKeyValueToMap(parsedMap, key, value);
+    }
+
+    private Pattern getDeleteRegexPattern(final String regex) {
+        return deleteRegexPatterns.computeIfAbsent(regex, Pattern::compile);
     }
 
     private String[] trimWhitespace(String key, Object value) {
@@ -27,6 +27,7 @@ public class KeyValueProcessorConfig {
     static final String DEFAULT_WHITESPACE = "lenient";
     static final boolean DEFAULT_SKIP_DUPLICATE_VALUES = false;
     static final boolean DEFAULT_REMOVE_BRACKETS = false;
+    static final boolean DEFAULT_VALUE_GROUPING = false;
 
     @NotEmpty
     private String source = DEFAULT_SOURCE;
@@ -85,6 +86,9 @@ public class KeyValueProcessorConfig {
     @NotNull
     private boolean removeBrackets = DEFAULT_REMOVE_BRACKETS;
 
+    @JsonProperty("value_grouping")
+    private boolean valueGrouping = DEFAULT_VALUE_GROUPING;
+
     public String getSource() {
         return source;
     }
@@ -148,4 +152,8 @@ public class KeyValueProcessorConfig {
     public boolean getRemoveBrackets() {
         return removeBrackets;
     }
+
+    public boolean getValueGrouping() {
+        return valueGrouping;
+    }
 }
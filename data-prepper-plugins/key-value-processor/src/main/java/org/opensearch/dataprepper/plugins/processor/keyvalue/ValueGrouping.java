@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the quoted and bracketed groups of a message when {@code value_grouping} is enabled. A group starts with
+ * {@code "}, {@code '}, {@code (}, {@code [} or <code>{</code> and ends with the matching closing character, so split
+ * characters inside it do not split the message. Brackets of the same kind nest, quotes do not. A group which is never
+ * closed is not a group, and its opening character is an ordinary character.
+ */
+final class ValueGrouping {
+    private static final String GROUP_START_CHARACTERS = "\"'([{";
+    private static final String GROUP_END_CHARACTERS = "\"')]}";
+
+    private ValueGrouping() {
+    }
+
+    static boolean isGroupStart(final char c) {
+        return GROUP_START_CHARACTERS.indexOf(c) >= 0;
+    }
+
+    /**
+     * @param message The message
+     * @param groupStart The index of a group start character in the message
+     * @return The index of the character closing the group, or -1 if the group is not closed
+     */
+    static int findGroupEnd(final String message, final int groupStart) {
+        final char open = message.charAt(groupStart);
+        final char close = GROUP_END_CHARACTERS.charAt(GROUP_START_CHARACTERS.indexOf(open));
+        int depth = 1;
+        for (int i = groupStart + 1; i < message.length(); i++) {
+            final char c = message.charAt(i);
+            if (c == close) {
+                if (--depth == 0) {
+                    return i;
+                }
+            } else if (c == open) {
+                depth++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits the message like {@link Pattern#split(CharSequence, int)}, except that matches starting inside a group
+     * do not split it.
+     */
+    static String[] split(final Pattern pattern, final String message, final int limit) {
+        final List<String> parts = new ArrayList<>();
+        final Matcher matcher = pattern.matcher(message);
+        int partStart = 0;
+        int searchStart = 0;
+        int groupScanIndex = 0;
+        boolean matchFound = false;
+        while ((limit <= 0 || parts.size() < limit - 1) && searchStart <= message.length() && matcher.find(searchStart)) {
+            final int matchStart = matcher.start();
+            final int matchEnd = matcher.end();
+
+            int enclosingGroupEnd = -1;
+            while (groupScanIndex < matchStart) {
+                if (isGroupStart(message.charAt(groupScanIndex))) {
+                    final int groupEnd = findGroupEnd(message, groupScanIndex);
+                    if (groupEnd >= matchStart) {
+                        enclosingGroupEnd = groupEnd;
+                        break;
+                    } else if (groupEnd >= 0) {
+                        groupScanIndex = groupEnd + 1;
+                        continue;
+                    }
+                }
+                groupScanIndex++;
+            }
+            if (enclosingGroupEnd >= 0) {
+                searchStart = enclosingGroupEnd + 1;
+                groupScanIndex = searchStart;
+                continue;
+            }
+
+            searchStart = matchEnd == matchStart ? matchEnd + 1 : matchEnd;
+            groupScanIndex = Math.max(groupScanIndex, matchEnd);
+            // As with Pattern.split, a zero-width match at the beginning does not add a leading empty part
+            if (matchEnd == 0) {
+                continue;
+            }
+            matchFound = true;
+            parts.add(message.substring(partStart, matchStart));
+            partStart = matchEnd;
+        }
+
+        if (!matchFound) {
+            return new String[] {message};
+        }
+        parts.add(message.substring(partStart));
+        if (limit == 0) {
+            int size = parts.size();
+            while (size > 0 && parts.get(size - 1).isEmpty()) {
+                size--;
+            }
+            return parts.subList(0, size).toArray(new String[0]);
+        }
+        return parts.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CharacterDelimiterTokenizerTest {
+
+    @Test
+    void supports_returns_true_for_plain_characters() {
+        assertThat(CharacterDelimiterTokenizer.supports("&"), is(true));
+        assertThat(CharacterDelimiterTokenizer.supports("&,; "), is(true));
+        assertThat(CharacterDelimiterTokenizer.supports(":="), is(true));
+    }
+
+    @Test
+    void supports_returns_false_for_regex_metacharacters() {
+        assertThat(CharacterDelimiterTokenizer.supports(null), is(false));
+        assertThat(CharacterDelimiterTokenizer.supports(""), is(false));
+        assertThat(CharacterDelimiterTokenizer.supports("|"), is(false));
+        assertThat(CharacterDelimiterTokenizer.supports("&."), is(false));
+        assertThat(CharacterDelimiterTokenizer.supports("\\&"), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "&", "&&", "a", "a=1", "a=1&b=2", "a=1&&b=2", "a=1&&", "&a=1", "=b", "a=", "a==b=c",
+            "a=1!b=2&c", "a:1!b:=2", "&=&a&", "kéy=välue&b=2"})
+    void tokenize_returns_the_same_pairs_as_splitting_with_the_regex(final String message) {
+        final CharacterDelimiterTokenizer objectUnderTest = new CharacterDelimiterTokenizer("&!", "=:");
+
+        assertThat(tokenize(objectUnderTest, message), equalTo(split(Pattern.compile("&|!"), Pattern.compile("=|:"), message)));
+    }
+
+    @Test
+    void tokenize_splits_non_ascii_characters() {
+        final CharacterDelimiterTokenizer objectUnderTest = new CharacterDelimiterTokenizer("§", "→");
+
+        assertThat(tokenize(objectUnderTest, "a→1§b→2§c"),
+                equalTo(List.of(Arrays.asList("a", "1"), Arrays.asList("b", "2"), Arrays.asList("c", null))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a=1&b=2", "a=\"1&2\"&b=2", "a='1=2&3'&b", "a=(1&(2&3))&b=[x!y]", "a={1&2}!b=2",
+            "\"a&b\"=1", "a=(1&b=2", "a=1)&b=(2", "a=\"1&b='2&c=3\"'", "(a&b)", "a=[1&2]&&", "a=[1&2]&\"\"&"})
+    void tokenize_with_value_grouping_returns_the_same_pairs_as_splitting_with_the_regex(final String message) {
+        final CharacterDelimiterTokenizer objectUnderTest = new CharacterDelimiterTokenizer("&!", "=:", true);
+
+        assertThat(tokenize(objectUnderTest, message),
+                equalTo(splitWithValueGrouping(Pattern.compile("&|!"), Pattern.compile("=|:"), message)));
+    }
+
+    @Test
+    void tokenize_with_value_grouping_keeps_quoted_and_bracketed_values_together() {
+        final CharacterDelimiterTokenizer objectUnderTest = new CharacterDelimiterTokenizer(" ", "=", true);
+
+        assertThat(tokenize(objectUnderTest, "msg=\"a b=c\" list=[1 2 [3 4]] obj={x y} fn=(p q) open=(r s"),
+                equalTo(List.of(Arrays.asList("msg", "\"a b=c\""), Arrays.asList("list", "[1 2 [3 4]]"),
+                        Arrays.asList("obj", "{x y}"), Arrays.asList("fn", "(p q)"), Arrays.asList("open", "(r"),
+                        Arrays.asList("s", null))));
+    }
+
+    @Test
+    void tokenize_without_value_grouping_splits_quoted_values() {
+        final CharacterDelimiterTokenizer objectUnderTest = new CharacterDelimiterTokenizer(" ", "=");
+
+        assertThat(tokenize(objectUnderTest, "msg=\"a b\""),
+                equalTo(List.of(Arrays.asList("msg", "\"a"), Arrays.asList("b\"", null))));
+    }
+
+    private static List<List<String>> tokenize(final CharacterDelimiterTokenizer tokenizer, final String message) {
+        final List<List<String>> pairs = new ArrayList<>();
+        tokenizer.tokenize(message, (key, value) -> pairs.add(Arrays.asList(key, value)));
+        return pairs;
+    }
+
+    private static List<List<String>> split(final Pattern fieldPattern, final Pattern valuePattern, final String message) {
+        final List<List<String>> pairs = new ArrayList<>();
+        for (final String group : fieldPattern.split(message, 0)) {
+            final String[] terms = valuePattern.split(group, 2);
+            pairs.add(Arrays.asList(terms[0], terms.length == 2 ? terms[1] : null));
+        }
+        return pairs;
+    }
+
+    private static List<List<String>> splitWithValueGrouping(final Pattern fieldPattern, final Pattern valuePattern, final String message) {
+        final List<List<String>> pairs = new ArrayList<>();
+        for (final String group : ValueGrouping.split(fieldPattern, message, 0)) {
+            final String[] terms = ValueGrouping.split(valuePattern, group, 2);
+            pairs.add(Arrays.asList(terms[0], terms.length == 2 ? terms[1] : null));
+        }
+        return pairs;
+    }
+}
@@ -68,6 +68,7 @@ public class KeyValueProcessorTests {
         lenient().when(mockConfig.getWhitespace()).thenReturn(defaultConfig.getWhitespace());
         lenient().when(mockConfig.getSkipDuplicateValues()).thenReturn(defaultConfig.getSkipDuplicateValues());
         lenient().when(mockConfig.getRemoveBrackets()).thenReturn(defaultConfig.getRemoveBrackets());
+        lenient().when(mockConfig.getValueGrouping()).thenReturn(defaultConfig.getValueGrouping());
 
         keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
     }
@@ -217,6 +218,36 @@ public class KeyValueProcessorTests {
         assertThatKeyEquals(parsed_message, "key1", expectedValue);
     }
 
+    @Test
+    void testRegexMetacharacterFieldSplitCharactersKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("|.");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=value1|key2=value2.key3");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+        assertThatKeyEquals(parsed_message, "key3", null);
+    }
+
+    @Test
+    void testEmptyFieldsKeyValueProcessor() {
+        final Record<Event> record = getMessage("&key1=value1&&key2=&");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        final ArrayList<Object> expectedValue = new ArrayList();
+        expectedValue.add(null);
+        expectedValue.add(null);
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "", expectedValue);
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "");
+    }
+
     @Test
     void testFieldSplitCharactersDoesntSupercedeDelimiterKeyValueProcessor() {
         when(mockConfig.getFieldDelimiterRegex()).thenReturn(":d+:");
@@ -533,6 +564,54 @@ public class KeyValueProcessorTests {
         assertThatKeyEquals(parsed_message, "key2", "value1value2");
     }
 
+    @Test
+    void testValueGroupingKvProcessor() {
+        when(mockConfig.getValueGrouping()).thenReturn(true);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=(value1&value2)&key2=\"value3&value4\"&key3=value5");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "key1", "(value1&value2)");
+        assertThatKeyEquals(parsed_message, "key2", "\"value3&value4\"");
+        assertThatKeyEquals(parsed_message, "key3", "value5");
+    }
+
+    @Test
+    void testValueGroupingWithRegexDelimitersKvProcessor() {
+        when(mockConfig.getValueGrouping()).thenReturn(true);
+        when(mockConfig.getFieldDelimiterRegex()).thenReturn(":_*:");
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(null);
+        when(mockConfig.getKeyValueDelimiterRegex()).thenReturn("=+");
+        when(mockConfig.getValueSplitCharacters()).thenReturn(null);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=[value1:__:a==b]:___:key2=='value2:_:'");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "[value1:__:a==b]");
+        assertThatKeyEquals(parsed_message, "key2", "'value2:_:'");
+    }
+
+    @Test
+    void testValueGroupingWithRemoveBracketsKvProcessor() {
+        when(mockConfig.getValueGrouping()).thenReturn(true);
+        when(mockConfig.getRemoveBrackets()).thenReturn(true);
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=(value1&value2)&key2=value3");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1&value2");
+        assertThatKeyEquals(parsed_message, "key2", "value3");
+    }
+
     @Test
     void testShutdownIsReady() {
         assertThat(keyValueProcessor.isReadyForShutdown(), is(true));
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+import org.mapdb.Serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Base class for value serializers that write a value's fields directly instead of using Java serialization, which
+ * stores class descriptors alongside every value. Nullable fields are written as a packed length that is one greater
+ * than the field's length, with zero marking a null value.
+ *
+ * @param <V> The type of the serialized values
+ */
+public abstract class CompactValueSerializer<V> implements Serializer<V> {
+
+    protected static void writeNullableString(final DataOutput2 out, final String value) throws IOException {
+        writeNullableBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static String readNullableString(final DataInput2 input) throws IOException {
+        final byte[] bytes = readNullableBytes(input);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected static void writeNullableBytes(final DataOutput2 out, final byte[] value) throws IOException {
+        if (value == null) {
+            out.packInt(0);
+            return;
+        }
+        out.packInt(value.length + 1);
+        out.write(value);
+    }
+
+    protected static byte[] readNullableBytes(final DataInput2 input) throws IOException {
+        final int lengthPlusOne = input.unpackInt();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[lengthPlusOne - 1];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean isTrusted() {
+        return true;
+    }
+}
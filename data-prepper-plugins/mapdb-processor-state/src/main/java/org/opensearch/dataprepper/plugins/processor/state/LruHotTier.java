@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A bounded, least-recently-used set of entries kept on heap in front of a serialized store. Entries written through
+ * the hot tier are only written to the store when they are evicted or the hot tier is flushed, so keys that are
+ * updated repeatedly are serialized once. The tier is split into independently locked segments to limit contention
+ * between worker threads.
+ *
+ * @param <V> The type of the values
+ */
+class LruHotTier<V> {
+    static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    LruHotTier(final int capacity, final int segmentCount, final BiConsumer<byte[], V> writeBack) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        final int actualSegmentCount = Math.max(1, Math.min(segmentCount, capacity));
+        this.segments = new Segment[actualSegmentCount];
+        final int segmentCapacity = (capacity + actualSegmentCount - 1) / actualSegmentCount;
+        for (int i = 0; i < actualSegmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, writeBack);
+        }
+    }
+
+    /**
+     * Puts a value that has not been written to the store yet.
+     */
+    void put(final byte[] key, final V value) {
+        final ByteBuffer wrappedKey = ByteBuffer.wrap(key);
+        final Segment<V> segment = segmentFor(wrappedKey);
+        synchronized (segment) {
+            segment.put(wrappedKey, new HotEntry<>(key, value, true));
+        }
+    }
+
+    /**
+     * Gets the value of a key, loading it from the store when it is not in the hot tier. The store is read while the
+     * segment of the key is locked, so a value written back by a concurrent eviction cannot be replaced by the older
+     * value read before it.
+     */
+    V computeIfAbsent(final byte[] key, final Function<byte[], V> load) {
+        final ByteBuffer wrappedKey = ByteBuffer.wrap(key);
+        final Segment<V> segment = segmentFor(wrappedKey);
+        synchronized (segment) {
+            final HotEntry<V> hotEntry = segment.get(wrappedKey);
+            if (hotEntry != null) {
+                return hotEntry.value;
+            }
+            final V value = load.apply(key);
+            if (value != null) {
+                segment.put(wrappedKey, new HotEntry<>(key, value, false));
+            }
+            return value;
+        }
+    }
+
+    V get(final byte[] key) {
+        final ByteBuffer wrappedKey = ByteBuffer.wrap(key);
+        final Segment<V> segment = segmentFor(wrappedKey);
+        synchronized (segment) {
+            final HotEntry<V> hotEntry = segment.get(wrappedKey);
+            return hotEntry == null ? null : hotEntry.value;
+        }
+    }
+
+    /**
+     * Writes every entry that has not been written to the store yet. Entries stay in the hot tier.
+     */
+    void flush() {
+        for (final Segment<V> segment : segments) {
+            synchronized (segment) {
+                for (final HotEntry<V> hotEntry : segment.values()) {
+                    if (hotEntry.dirty) {
+                        segment.writeBack.accept(hotEntry.key, hotEntry.value);
+                        hotEntry.dirty = false;
+                    }
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (final Segment<V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (final Segment<V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment<V> segmentFor(final ByteBuffer wrappedKey) {
+        final int hash = wrappedKey.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private static class HotEntry<V> {
+        private final byte[] key;
+        private final V value;
+        private boolean dirty;
+
+        private HotEntry(final byte[] key, final V value, final boolean dirty) {
+            this.key = key;
+            this.value = value;
+            this.dirty = dirty;
+        }
+    }
+
+    private static class Segment<V> extends LinkedHashMap<ByteBuffer, HotEntry<V>> {
+        private final int capacity;
+        private final BiConsumer<byte[], V> writeBack;
+
+        private Segment(final int capacity, final BiConsumer<byte[], V> writeBack) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.writeBack = writeBack;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ByteBuffer, HotEntry<V>> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            final HotEntry<V> hotEntry = eldest.getValue();
+            if (hotEntry.dirty) {
+                writeBack.accept(hotEntry.key, hotEntry.value);
+            }
+            return true;
+        }
+    }
+}
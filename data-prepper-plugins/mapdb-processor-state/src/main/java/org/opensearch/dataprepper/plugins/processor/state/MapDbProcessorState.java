@@ -8,7 +8,7 @@ package org.opensearch.dataprepper.plugins.processor.state;
 import org.opensearch.dataprepper.processor.state.ProcessorState;
 import com.google.common.primitives.SignedBytes;
 import org.mapdb.BTreeMap;
-import org.mapdb.DBMaker;
+import org.mapdb.DB;
 import org.mapdb.Serializer;
 import org.mapdb.serializer.SerializerByteArray;
 
@@ -21,6 +21,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
+/**
+ * Processor state kept in a MapDB B-tree on heap, in direct memory or in a memory-mapped file.
+ */
 public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
 
 
@@ -34,44 +37,77 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
     private static final SignedByteArraySerializer SIGNED_BYTE_ARRAY_SERIALIZER = new SignedByteArraySerializer();
 
     private final BTreeMap<byte[], V> map;
+    private final DB db;
     private final File dbFile;
+    private final LruHotTier<V> hotTier;
 
     public MapDbProcessorState(final File dbPath, final String dbName, final int concurrencyScale) {
-        // TODO: Cleanup references to file-based map
+        this(dbPath, dbName, concurrencyScale, MapDbStorageType.HEAP, (Serializer<V>) (Serializer<?>) Serializer.JAVA, 0);
+    }
+
+    /**
+     * @param storageType Where the entries are kept
+     * @param valueSerializer Serializer for values that are kept outside of the heap
+     * @param hotTierCapacity Number of recently used entries to keep deserialized on heap in front of the store, or 0 to
+     *                        read and write the store directly
+     */
+    public MapDbProcessorState(final File dbPath, final String dbName, final int concurrencyScale,
+                               final MapDbStorageType storageType, final Serializer<V> valueSerializer, final int hotTierCapacity) {
         this.dbFile = new File(String.join("/", dbPath.getPath(), dbName));
+        this.db = storageType.createDbMaker(dbFile)
+                .executorEnable()
+                .closeOnJvmShutdown()
+                .concurrencyScale(concurrencyScale)
+                .make();
         map =
-                (BTreeMap<byte[], V>) DBMaker.heapDB()
-                        .executorEnable()
-                        .closeOnJvmShutdown()
-                        .concurrencyScale(concurrencyScale)
-                        .make()
+                (BTreeMap<byte[], V>) db
                         .treeMap(dbName)
                         .counterEnable() //Treemap doesnt keep:q size counter by default
                         .keySerializer(SIGNED_BYTE_ARRAY_SERIALIZER)
-                        .valueSerializer(Serializer.JAVA).createOrOpen();
+                        .valueSerializer(valueSerializer).createOrOpen();
+        this.hotTier = hotTierCapacity > 0 ? new LruHotTier<>(hotTierCapacity, LruHotTier.DEFAULT_SEGMENT_COUNT, map::put) : null;
+    }
+
+    private void flushHotTier() {
+        if (hotTier != null) {
+            hotTier.flush();
+        }
     }
 
     @Override
     public void put(byte[] key, V value) {
-        map.put(key, value);
+        if (hotTier != null) {
+            hotTier.put(key, value);
+        } else {
+            map.put(key, value);
+        }
     }
 
     public void putAll(final Map<byte[], V> data) {
-        map.putAll(data);
+        if (hotTier != null) {
+            data.forEach(hotTier::put);
+        } else {
+            map.putAll(data);
+        }
     }
 
     @Override
     public V get(byte[] key) {
-        return map.get(key);
+        if (hotTier == null) {
+            return map.get(key);
+        }
+        return hotTier.computeIfAbsent(key, map::get);
     }
 
     @Override
     public Map<byte[], V> getAll() {
+        flushHotTier();
         return map;
     }
 
     @Override
     public <R> List<R> iterate(BiFunction<byte[], V, R> fn) {
+        flushHotTier();
         final List<R> returnList = new ArrayList<>();
         map.entryIterator().forEachRemaining(
                 entry -> returnList.add(fn.apply(entry.getKey(), entry.getValue()))
@@ -80,6 +116,7 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
     }
 
     public <R> List<R> iterate(BiFunction<byte[], V, R> fn, final int segments, final int index) {
+        flushHotTier();
         if (map.isEmpty()) {
             return Collections.EMPTY_LIST;
         }
@@ -92,6 +129,7 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
     }
 
     public Iterator<Map.Entry<byte[], V>> getIterator(final int segments, final int index) {
+        flushHotTier();
         final KeyRange iterationEndpoints = getIterationEndpoints(segments, index);
         return map.entryIterator(iterationEndpoints.low, true, iterationEndpoints.high, false);
     }
@@ -119,6 +157,7 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
 
     @Override
     public long size() {
+        flushHotTier();
         return map.size();
     }
 
@@ -130,12 +169,18 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
 
     @Override
     public void clear() {
+        if (hotTier != null) {
+            hotTier.clear();
+        }
         map.clear();
     }
 
     @Override
     public void delete() {
-        map.close();
+        if (hotTier != null) {
+            hotTier.clear();
+        }
+        db.close();
     }
 
     private static class KeyRange {
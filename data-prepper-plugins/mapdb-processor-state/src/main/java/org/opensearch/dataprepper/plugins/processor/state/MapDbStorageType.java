@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.mapdb.DBMaker;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Where a {@link MapDbProcessorState} keeps its entries.
+ */
+public enum MapDbStorageType {
+    /**
+     * Entries are kept as objects on the Java heap.
+     */
+    HEAP("heap"),
+
+    /**
+     * Entries are serialized into direct memory outside of the Java heap.
+     */
+    DIRECT_MEMORY("direct_memory"),
+
+    /**
+     * Entries are serialized into a memory-mapped file under the state directory, which is deleted when the
+     * state is deleted. The operating system pages the file in and out, so the state can grow beyond physical memory.
+     */
+    MEMORY_MAPPED_FILE("memory_mapped_file");
+
+    private static final Map<String, MapDbStorageType> OPTIONS_MAP = Arrays.stream(MapDbStorageType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    MapDbStorageType(final String option) {
+        this.option = option;
+    }
+
+    public String getOption() {
+        return option;
+    }
+
+    /**
+     * @param dbFile The file of the database, which is only used for {@link #MEMORY_MAPPED_FILE}
+     * @return A maker for a database kept in this storage
+     */
+    public DBMaker.Maker createDbMaker(final File dbFile) {
+        switch (this) {
+            case DIRECT_MEMORY:
+                return DBMaker.memoryDirectDB();
+            case MEMORY_MAPPED_FILE:
+                // State does not outlive the process, so a file left behind by an earlier run is discarded
+                if (dbFile.exists() && !dbFile.delete()) {
+                    throw new IllegalStateException(String.format("Unable to delete existing processor state file %s", dbFile.getPath()));
+                }
+                return DBMaker.fileDB(dbFile)
+                        .fileMmapEnableIfSupported()
+                        .fileDeleteAfterClose();
+            case HEAP:
+            default:
+                return DBMaker.heapDB();
+        }
+    }
+
+    public static MapDbStorageType fromOptionValue(final String option) {
+        final MapDbStorageType storageType = OPTIONS_MAP.get(option);
+        if (storageType == null) {
+            throw new IllegalArgumentException(String.format("Unsupported processor state storage: %s. Supported values are %s",
+                    option, OPTIONS_MAP.keySet()));
+        }
+        return storageType;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+
+import java.io.IOException;
+
+class DataClassSerializer extends CompactValueSerializer<ProcessorStateTest.DataClass> {
+    @Override
+    public void serialize(final DataOutput2 out, final ProcessorStateTest.DataClass value) throws IOException {
+        writeNullableString(out, value.stringVal);
+        out.packInt(value.intVal);
+    }
+
+    @Override
+    public ProcessorStateTest.DataClass deserialize(final DataInput2 input, final int available) throws IOException {
+        return new ProcessorStateTest.DataClass(readNullableString(input), input.unpackInt());
+    }
+}
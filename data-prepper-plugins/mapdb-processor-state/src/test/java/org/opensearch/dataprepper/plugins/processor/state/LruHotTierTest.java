@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LruHotTierTest {
+    private Map<ByteBuffer, String> store;
+
+    @Before
+    public void setUp() {
+        store = new HashMap<>();
+    }
+
+    private LruHotTier<String> createObjectUnderTest(final int capacity) {
+        return new LruHotTier<>(capacity, 1, (key, value) -> store.put(ByteBuffer.wrap(key), value));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        createObjectUnderTest(0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDirtyEntryIsWrittenBack() {
+        final LruHotTier<String> objectUnderTest = createObjectUnderTest(2);
+        objectUnderTest.put(new byte[]{1}, "one");
+        objectUnderTest.put(new byte[]{2}, "two");
+        Assert.assertEquals("one", objectUnderTest.get(new byte[]{1}));
+
+        objectUnderTest.put(new byte[]{3}, "three");
+
+        Assert.assertEquals(2, objectUnderTest.size());
+        Assert.assertNull(objectUnderTest.get(new byte[]{2}));
+        Assert.assertEquals("two", store.get(ByteBuffer.wrap(new byte[]{2})));
+        Assert.assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testCleanEntriesAreNotWrittenBack() {
+        final LruHotTier<String> objectUnderTest = createObjectUnderTest(1);
+        objectUnderTest.computeIfAbsent(new byte[]{1}, key -> "one");
+        objectUnderTest.computeIfAbsent(new byte[]{2}, key -> "two");
+
+        Assert.assertTrue(store.isEmpty());
+        Assert.assertEquals("two", objectUnderTest.get(new byte[]{2}));
+    }
+
+    @Test
+    public void testComputeIfAbsentDoesNotLoadHotValue() {
+        final LruHotTier<String> objectUnderTest = createObjectUnderTest(2);
+        objectUnderTest.put(new byte[]{1}, "newer");
+
+        Assert.assertEquals("newer", objectUnderTest.computeIfAbsent(new byte[]{1}, key -> {
+            throw new AssertionError("the store must not be read");
+        }));
+        Assert.assertEquals("newer", objectUnderTest.get(new byte[]{1}));
+    }
+
+    @Test
+    public void testComputeIfAbsentReadsValueWrittenBackByEviction() {
+        final LruHotTier<String> objectUnderTest = createObjectUnderTest(1);
+        store.put(ByteBuffer.wrap(new byte[]{1}), "older");
+        objectUnderTest.put(new byte[]{1}, "newer");
+        objectUnderTest.put(new byte[]{2}, "two");
+
+        Assert.assertEquals("newer", objectUnderTest.computeIfAbsent(new byte[]{1}, key -> store.get(ByteBuffer.wrap(key))));
+    }
+
+    @Test
+    public void testComputeIfAbsentDoesNotKeepMissingValues() {
+        final LruHotTier<String> objectUnderTest = createObjectUnderTest(1);
+
+        Assert.assertNull(objectUnderTest.computeIfAbsent(new byte[]{1}, key -> null));
+        Assert.assertEquals(0, objectUnderTest.size());
+    }
+
+    @Test
+    public void testFlushWritesDirtyEntriesOnce() {
+        final LruHotTier<String> objectUnderTest = new LruHotTier<>(8, 1, (key, value) -> {
+            Assert.assertNull(store.put(ByteBuffer.wrap(key), value));
+        });
+        objectUnderTest.put(new byte[]{1}, "one");
+        objectUnderTest.put(new byte[]{2}, "two");
+        objectUnderTest.computeIfAbsent(new byte[]{3}, key -> "three");
+
+        objectUnderTest.flush();
+        objectUnderTest.flush();
+
+        Assert.assertEquals(2, store.size());
+        Assert.assertEquals(3, objectUnderTest.size());
+
+        objectUnderTest.clear();
+        Assert.assertEquals(0, objectUnderTest.size());
+    }
+}
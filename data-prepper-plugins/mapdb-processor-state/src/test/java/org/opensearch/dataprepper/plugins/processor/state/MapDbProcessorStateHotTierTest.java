@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+public class MapDbProcessorStateHotTierTest extends ProcessorStateTest {
+    private static final int HOT_TIER_CAPACITY = 4;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Override
+    public void setProcessorState() throws Exception {
+        this.processorState = new MapDbProcessorState<>(temporaryFolder.newFolder(), "testDb", 16,
+                MapDbStorageType.DIRECT_MEMORY, new DataClassSerializer(), HOT_TIER_CAPACITY);
+    }
+
+    @Test
+    public void testEntriesEvictedFromHotTierAreReadFromStore() {
+        final Map<String, DataClass> expected = new HashMap<>();
+        for (int i = 0; i < HOT_TIER_CAPACITY * 10; i++) {
+            final String key = UUID.randomUUID().toString();
+            final DataClass data = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+            expected.put(key, data);
+            processorState.put(key.getBytes(), data);
+        }
+
+        for (final Map.Entry<String, DataClass> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getValue(), processorState.get(entry.getKey().getBytes()));
+        }
+        Assert.assertEquals(expected.size(), processorState.size());
+    }
+
+    @Test
+    public void testLatestValueWinsAfterEviction() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        processorState.put(key, new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+        for (int i = 0; i < HOT_TIER_CAPACITY * 10; i++) {
+            processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+        }
+
+        final DataClass latest = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        processorState.put(key, latest);
+
+        Assert.assertEquals(latest, processorState.get(key));
+        final List<DataClass> values = processorState.iterate(new BiFunction<byte[], DataClass, DataClass>() {
+            @Override
+            public DataClass apply(final byte[] bytes, final DataClass dataClass) {
+                return dataClass;
+            }
+        });
+        Assert.assertTrue(values.contains(latest));
+        Assert.assertEquals(HOT_TIER_CAPACITY * 10 + 1, values.size());
+    }
+
+    @Test
+    public void testPutAllAndClear() {
+        final Map<byte[], DataClass> batch = new HashMap<>();
+        final List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < HOT_TIER_CAPACITY * 2; i++) {
+            final byte[] key = UUID.randomUUID().toString().getBytes();
+            keys.add(key);
+            batch.put(key, new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+        }
+
+        ((MapDbProcessorState<DataClass>) processorState).putAll(batch);
+        Assert.assertEquals(batch.size(), processorState.getAll().size());
+
+        processorState.clear();
+        Assert.assertEquals(0, processorState.size());
+        for (final byte[] key : keys) {
+            Assert.assertNull(processorState.get(key));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.UUID;
+
+public class MapDbProcessorStateMemoryMappedFileTest extends ProcessorStateTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Override
+    public void setProcessorState() throws Exception {
+        this.processorState = new MapDbProcessorState<>(temporaryFolder.newFolder(), "testDb", 16,
+                MapDbStorageType.MEMORY_MAPPED_FILE, new DataClassSerializer(), 0);
+    }
+
+    @Test
+    public void testNullFieldsAreSerialized() {
+        final DataClass data = new DataClass(null, random.nextInt());
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+
+        processorState.put(key, data);
+
+        Assert.assertEquals(data, processorState.get(key));
+    }
+
+    @Test
+    public void testSizeInBytesReflectsFile() {
+        processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+
+        Assert.assertTrue(processorState.sizeInBytes() > 0);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MapDbStorageTypeTest {
+
+    @Test
+    public void testFromOptionValue() {
+        for (final MapDbStorageType storageType : MapDbStorageType.values()) {
+            Assert.assertEquals(storageType, MapDbStorageType.fromOptionValue(storageType.getOption()));
+        }
+        Assert.assertEquals(MapDbStorageType.MEMORY_MAPPED_FILE, MapDbStorageType.fromOptionValue("memory_mapped_file"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromOptionValueWithUnknownOption() {
+        MapDbStorageType.fromOptionValue("unknown");
+    }
+}
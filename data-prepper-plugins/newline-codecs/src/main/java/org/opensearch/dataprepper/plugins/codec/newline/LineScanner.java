@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Reads UTF-8 lines from an {@link InputStream} through a single reusable byte buffer. Line terminators are found
+ * eight bytes at a time with SWAR (SIMD within a register) arithmetic on {@code long} words, and each line is decoded
+ * from the buffer directly into its {@link String}, without the intermediate {@code char} buffers of a
+ * {@link java.io.BufferedReader}.
+ * <p>
+ * Lines are terminated by {@code \n}, {@code \r} or {@code \r\n}, as with {@link java.io.BufferedReader#readLine()}.
+ * Neither byte can occur inside a multi-byte UTF-8 sequence, so the search works on raw bytes. The buffer grows
+ * when a single line does not fit in it. This class is not thread-safe.
+ */
+class LineScanner {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LINE_FEEDS = ONES * '\n';
+    private static final long CARRIAGE_RETURNS = ONES * '\r';
+
+    private final InputStream inputStream;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    LineScanner(final InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    LineScanner(final InputStream inputStream, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        this.inputStream = Objects.requireNonNull(inputStream);
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * @return the next line without its terminator, or null at the end of the stream.
+     */
+    String nextLine() throws IOException {
+        int scanOffset = 0;
+        while (true) {
+            final int terminator = findTerminator(position + scanOffset, limit);
+            if (terminator >= 0) {
+                if (buffer[terminator] == '\r' && terminator + 1 == limit && !endOfStream) {
+                    // The next byte decides whether this is a \r\n terminator.
+                    scanOffset = terminator - position;
+                    fill();
+                    continue;
+                }
+                final String line = decode(position, terminator);
+                position = terminator + 1;
+                if (buffer[terminator] == '\r' && position < limit && buffer[position] == '\n') {
+                    position++;
+                }
+                return line;
+            }
+            if (endOfStream) {
+                if (position == limit) {
+                    return null;
+                }
+                final String line = decode(position, limit);
+                position = limit;
+                return line;
+            }
+            scanOffset = limit - position;
+            fill();
+        }
+    }
+
+    private String decode(final int start, final int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, growing it when it is full of a single line, and reads more
+     * bytes after them.
+     */
+    private void fill() throws IOException {
+        final int unread = limit - position;
+        if (unread == buffer.length) {
+            final byte[] grownBuffer = new byte[Math.multiplyExact(buffer.length, 2)];
+            System.arraycopy(buffer, position, grownBuffer, 0, unread);
+            buffer = grownBuffer;
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, unread);
+        }
+        position = 0;
+        limit = unread;
+
+        final int bytesRead = inputStream.read(buffer, limit, buffer.length - limit);
+        if (bytesRead < 0) {
+            endOfStream = true;
+        } else {
+            limit += bytesRead;
+        }
+    }
+
+    /**
+     * @return the index of the first {@code \n} or {@code \r} in {@code [from, to)}, or -1.
+     */
+    private int findTerminator(final int from, final int to) {
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(buffer, index);
+            final long matches = zeroBytes(word ^ LINE_FEEDS) | zeroBytes(word ^ CARRIAGE_RETURNS);
+            if (matches != 0) {
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            final byte value = buffer[index];
+            if (value == '\n' || value == '\r') {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the high bit of the lowest zero byte of {@code word}. Bytes above it may be flagged too, which does not
+     * matter because only the lowest flagged byte is used.
+     */
+    private static long zeroBytes(final long word) {
+        return (word - ONES) & ~word & HIGH_BITS;
+    }
+}
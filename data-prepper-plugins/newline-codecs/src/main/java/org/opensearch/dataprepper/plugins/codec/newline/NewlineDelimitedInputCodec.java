@@ -5,27 +5,27 @@
 
 package org.opensearch.dataprepper.plugins.codec.newline;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
 import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.codec.SplittableInputCodec;
 import org.opensearch.dataprepper.model.io.InputFile;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 @DataPrepperPlugin(name = "newline", pluginType = InputCodec.class, pluginConfigurationType = NewlineDelimitedInputConfig.class)
-public class NewlineDelimitedInputCodec implements InputCodec {
+public class NewlineDelimitedInputCodec implements SplittableInputCodec {
     private static final String MESSAGE_FIELD_NAME = "message";
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
     private final int skipLines;
     private final String headerDestination;
 
@@ -43,24 +43,29 @@ public class NewlineDelimitedInputCodec implements InputCodec {
 
     @Override
     public void parse(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            parseBufferedReader(reader, eventConsumer);
+        try (final InputStream lineInputStream = inputStream) {
+            parseLines(new LineScanner(lineInputStream), eventConsumer);
         }
     }
 
+    @Override
+    public int getHeaderLineCount() {
+        return Objects.nonNull(headerDestination) ? skipLines + 1 : skipLines;
+    }
+
     @Override
     public void parse(final InputFile inputFile, final DecompressionEngine decompressionEngine, final Consumer<Record<Event>> eventConsumer) throws IOException {
         parse(decompressionEngine.createInputStream(inputFile.newStream()), eventConsumer);
     }
 
-    private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
+    private void parseLines(final LineScanner lineScanner, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final boolean doAddHeaderToOutgoingEvents = Objects.nonNull(headerDestination);
         boolean hasReadHeader = false;
         String header = "";
 
         int linesToSkip = skipLines;
         String line;
-        while ((line = reader.readLine()) != null) {
+        while ((line = lineScanner.nextLine()) != null) {
             final boolean shouldSkipBecauseThisLineIsHeader = doAddHeaderToOutgoingEvents && !hasReadHeader;
             final boolean shouldSkipThisLine = linesToSkip > 0 || shouldSkipBecauseThisLineIsHeader;
 
@@ -74,7 +79,7 @@ public class NewlineDelimitedInputCodec implements InputCodec {
                 continue;
             }
 
-            final Map<String, String> eventData = new HashMap<>();
+            final ObjectNode eventData = NODE_FACTORY.objectNode();
 
             if (doAddHeaderToOutgoingEvents) {
                 eventData.put(headerDestination, header);
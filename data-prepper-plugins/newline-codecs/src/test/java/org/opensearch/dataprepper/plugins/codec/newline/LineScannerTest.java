@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LineScannerTest {
+
+    private static List<String> scanLines(final String content, final int bufferSize) throws IOException {
+        final InputStream inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        final LineScanner lineScanner = new LineScanner(inputStream, bufferSize);
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = lineScanner.nextLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private static List<String> readLines(final String content) throws IOException {
+        final BufferedReader reader = new BufferedReader(new StringReader(content));
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    static Stream<Arguments> contents() {
+        return Stream.of(
+                Arguments.of(""),
+                Arguments.of("single line"),
+                Arguments.of("single line\n"),
+                Arguments.of("first\nsecond\nthird"),
+                Arguments.of("first\r\nsecond\r\nthird\r\n"),
+                Arguments.of("first\rsecond\r\rthird\r"),
+                Arguments.of("\n\nempty lines\n\n\n"),
+                Arguments.of("\r\n\r\n"),
+                Arguments.of("a line that is longer than the buffer it is read through\nshort\n"),
+                Arguments.of("\u00fcn\u00efc\u00f6d\u00e9 l\u00efn\u00ebs\n\u65e5\u672c\u8a9e\u306e\u30c6\u30ad\u30b9\u30c8\r\nemoji \ud83d\ude00 line\n"),
+                Arguments.of("127.0.0.1 - - [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326\n" +
+                        "127.0.0.1 - - [10/Oct/2000:13:55:37 -0700] \"POST /login HTTP/1.0\" 302 -\n")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("contents")
+    void nextLine_returns_the_same_lines_as_BufferedReader(final String content) throws IOException {
+        final List<String> expectedLines = readLines(content);
+
+        assertThat(scanLines(content, LineScanner.DEFAULT_BUFFER_SIZE), equalTo(expectedLines));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 8, 9, 16})
+    void nextLine_returns_the_same_lines_as_BufferedReader_with_small_buffers(final int bufferSize) throws IOException {
+        final List<String> contents = new ArrayList<>();
+        contents().forEach(arguments -> contents.add((String) arguments.get()[0]));
+
+        for (final String content : contents) {
+            assertThat(scanLines(content, bufferSize), equalTo(readLines(content)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 64})
+    void nextLine_reads_streams_returning_few_bytes_per_read(final int bufferSize) throws IOException {
+        final String content = "first\r\nsecond line\rthird \u00fcn\u00efc\u00f6d\u00e9\n\nlast";
+        final InputStream oneByteInputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(final byte[] bytes, final int offset, final int length) {
+                return super.read(bytes, offset, Math.min(length, 1));
+            }
+        };
+
+        final LineScanner lineScanner = new LineScanner(oneByteInputStream, bufferSize);
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = lineScanner.nextLine()) != null) {
+            lines.add(line);
+        }
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+        final List<String> expectedLines = new ArrayList<>();
+        while ((line = reader.readLine()) != null) {
+            expectedLines.add(line);
+        }
+        assertThat(lines, equalTo(expectedLines));
+    }
+}
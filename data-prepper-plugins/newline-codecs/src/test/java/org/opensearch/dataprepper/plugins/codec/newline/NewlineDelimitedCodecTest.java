@@ -74,6 +74,21 @@ class NewlineDelimitedCodecTest {
         assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
     }
 
+    @Test
+    void getHeaderLineCount_returns_skipLines_without_header_destination() {
+        when(config.getSkipLines()).thenReturn(2);
+
+        assertThat(createObjectUnderTest().getHeaderLineCount(), equalTo(2));
+    }
+
+    @Test
+    void getHeaderLineCount_includes_header_line_with_header_destination() {
+        when(config.getSkipLines()).thenReturn(2);
+        when(config.getHeaderDestination()).thenReturn(UUID.randomUUID().toString());
+
+        assertThat(createObjectUnderTest().getHeaderLineCount(), equalTo(3));
+    }
+
     @Test
     void parse_inputFile() throws IOException {
         final List<String> linesList = generateLinesAsList(100);
@@ -6,20 +6,44 @@
 package org.opensearch.dataprepper.plugins.processor.obfuscation;
 
 enum CommonPattern {
-    EMAIL_ADDRESS("[A-Za-z0-9+_.-]+@([\\w-]+\\.)+[\\w-]{2,4}"),
-    IP_ADDRESS_V4("((25[0-5]|(2[0-4]|1\\d|[1-9]|)\\d)\\.?\\b){4}"),
-    BASE_NUMBER("[0-9]*\\.?[0-9]+"),
-    CREDIT_CARD_NUMBER("(\\d[ -]*?){13,16}"),
-    US_PHONE_NUMBER("\\+?\\d?[\\s-]?(\\(\\d{3}\\)|\\d{3})[\\s-]?\\d{3}[\\s-]?\\d{4}"),
-    US_SSN_NUMBER("[0-9]{3}-[0-9]{2}-[0-9]{4}");
+    EMAIL_ADDRESS("[A-Za-z0-9+_.-]+@([\\w-]+\\.)+[\\w-]{2,4}", 0, "@."),
+    IP_ADDRESS_V4("((25[0-5]|(2[0-4]|1\\d|[1-9]|)\\d)\\.?\\b){4}", 4, "."),
+    BASE_NUMBER("[0-9]*\\.?[0-9]+", 1, ""),
+    CREDIT_CARD_NUMBER("(\\d[ -]*?){13,16}", 13, ""),
+    US_PHONE_NUMBER("\\+?\\d?[\\s-]?(\\(\\d{3}\\)|\\d{3})[\\s-]?\\d{3}[\\s-]?\\d{4}", 10, ""),
+    US_SSN_NUMBER("[0-9]{3}-[0-9]{2}-[0-9]{4}", 9, "-");
 
     final String expr;
+    private final int minimumDigits;
+    private final String requiredCharacters;
 
-    CommonPattern(String expr) {
+    CommonPattern(String expr, int minimumDigits, String requiredCharacters) {
         this.expr = expr;
+        this.minimumDigits = minimumDigits;
+        this.requiredCharacters = requiredCharacters;
     }
 
     public String getExpr() {
         return expr;
     }
+
+    /**
+     * Cheap check of characters which every match of the pattern contains, so values which cannot match are skipped
+     * without running the regex. A true result does not mean the pattern matches.
+     */
+    boolean mayMatch(final String value) {
+        for (int i = 0; i < requiredCharacters.length(); i++) {
+            if (value.indexOf(requiredCharacters.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        int digits = 0;
+        for (int i = 0; i < value.length() && digits < minimumDigits; i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            }
+        }
+        return digits >= minimumDigits;
+    }
 }
@@ -31,12 +31,13 @@ import java.util.regex.Pattern;
 @DataPrepperPlugin(name = "obfuscate", pluginType = Processor.class, pluginConfigurationType = ObfuscationProcessorConfig.class)
 public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
 
-    private static final String COMMON_PATTERN_REGEX = "^%\\{([A-Z_0-9]+)}$";
+    private static final Pattern COMMON_PATTERN_REGEX = Pattern.compile("^%\\{([A-Z_0-9]+)}$");
     private static final Logger LOG = LoggerFactory.getLogger(ObfuscationProcessor.class);
     private final String source;
     private final String target;
 
     private final List<Pattern> patterns;
+    private final List<CommonPattern> commonPatterns;
     private final ObfuscationAction action;
 
 
@@ -48,6 +49,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
         this.source = config.getSource();
         this.target = config.getTarget();
         this.patterns = new ArrayList<>();
+        this.commonPatterns = new ArrayList<>();
 
         final PluginModel actionPlugin = config.getAction();
         if (actionPlugin == null) {
@@ -63,11 +65,11 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
             for (String rawPattern : config.getPatterns()) {
                 // Get the regex pattern
                 // If it's in a format of %{xxx}, look for expr from predefined patterns.
-                Pattern pattern = Pattern.compile(COMMON_PATTERN_REGEX);
-                Matcher matcher = pattern.matcher(rawPattern);
+                Matcher matcher = COMMON_PATTERN_REGEX.matcher(rawPattern);
+                CommonPattern cp = null;
                 if (matcher.matches()) {
                     try {
-                        CommonPattern cp = CommonPattern.valueOf(matcher.group(1));
+                        cp = CommonPattern.valueOf(matcher.group(1));
                         // If found, used the common pattern regex
                         rawPattern = cp.getExpr();
                     } catch (IllegalArgumentException e) {
@@ -79,6 +81,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
                 try {
                     Pattern p = Pattern.compile(rawPattern);
                     patterns.add(p);
+                    commonPatterns.add(cp);
                 } catch (Exception e) {
                     LOG.error(e.getMessage());
                     throw new InvalidPluginConfigurationException("Invalid Pattern: \"" + rawPattern + "\" for source field " + this.source);
@@ -99,8 +102,9 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
             }
 
             String rawValue = recordEvent.get(source, String.class);
-            // Call obfuscation action
-            String newValue = this.action.obfuscate(rawValue, patterns);
+            // Call obfuscation action, unless none of the patterns can match
+            final List<Pattern> applicablePatterns = getApplicablePatterns(rawValue);
+            String newValue = applicablePatterns == null ? rawValue : this.action.obfuscate(rawValue, applicablePatterns);
 
             // Update the event record.
             if (target == null || target.isEmpty()) {
@@ -112,6 +116,25 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
         return records;
     }
 
+    /**
+     * Skips the leading predefined patterns which cannot match the value. A skipped pattern leaves the value unchanged,
+     * so the patterns after it still see the original value and the result is the same as applying every pattern.
+     *
+     * @return The patterns to apply, or null if none of the patterns can match the value
+     */
+    private List<Pattern> getApplicablePatterns(final String value) {
+        if (patterns.isEmpty() || value == null) {
+            return patterns;
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            final CommonPattern commonPattern = commonPatterns.get(i);
+            if (commonPattern == null || commonPattern.mayMatch(value)) {
+                return i == 0 ? patterns : patterns.subList(i, patterns.size());
+            }
+        }
+        return null;
+    }
+
     private ObfuscationAction createDefaultAction() {
         LOG.debug("Create a default mask action");
         final MaskActionConfig config = new MaskActionConfig();
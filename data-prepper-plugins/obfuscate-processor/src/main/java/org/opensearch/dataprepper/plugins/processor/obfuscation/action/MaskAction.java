@@ -9,10 +9,14 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 
 import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @DataPrepperPlugin(name = "mask", pluginType = ObfuscationAction.class, pluginConfigurationType = MaskActionConfig.class)
 public class MaskAction implements ObfuscationAction {
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> REPLACEMENT_BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
     private final String baseReplacement;
 
     @DataPrepperPluginConstructor
@@ -28,11 +32,34 @@ public class MaskAction implements ObfuscationAction {
             return baseReplacement;
         }
         for (Pattern pattern : patterns) {
-            // Simply use the replaceAll function with baseReplacement string.
-            source = source.replaceAll(pattern.pattern(), baseReplacement);
+            source = replaceAll(source, pattern);
         }
         return source;
     }
 
+    /**
+     * Same as {@link Matcher#replaceAll(String)} with the base replacement, but uses the compiled pattern and a
+     * reused builder, and returns the source itself when nothing matches.
+     */
+    private String replaceAll(final String source, final Pattern pattern) {
+        final Matcher matcher = pattern.matcher(source);
+        if (!matcher.find()) {
+            return source;
+        }
+        final StringBuilder builder = REPLACEMENT_BUILDER.get();
+        builder.setLength(0);
+        int lastEnd = 0;
+        do {
+            builder.append(source, lastEnd, matcher.start()).append(baseReplacement);
+            lastEnd = matcher.end();
+        } while (matcher.find());
+        builder.append(source, lastEnd, source.length());
+        final String result = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+            REPLACEMENT_BUILDER.remove();
+        }
+        return result;
+    }
+
 
 }
@@ -38,6 +38,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -343,6 +344,45 @@ class ObfuscationProcessorTest {
         assertThat(data.get("message", String.class), equalTo(expected));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "My secret is abc@test.com,My *** is ***",
+            "My email is abc@test.com,My email is ***",
+            "My SSN is 123-45-6789 and a secret,My SSN is *** and a ***",
+            "Hello World,Hello World",
+    })
+    void testProcessorWithCustomPatternBeforePredefinedPatterns(String message, String expected) {
+        when(mockConfig.getPatterns()).thenReturn(List.of("%{US_SSN_NUMBER}", "secret", "%{EMAIL_ADDRESS}"));
+        obfuscationProcessor = new ObfuscationProcessor(pluginMetrics, mockConfig, mockFactory);
+
+        final Record<Event> record = createRecord(message);
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(editedRecords.size(), equalTo(1));
+        Event data = editedRecords.get(0).getData();
+        assertThat(data.get("message", String.class), equalTo(expected));
+    }
+
+    @Test
+    void testProcessorSkipsActionWhenNoPredefinedPatternCanMatch() {
+        final PluginModel mockModel = mock(PluginModel.class);
+        final ObfuscationAction mockAction = mock(ObfuscationAction.class);
+        when(mockModel.getPluginName()).thenReturn("mock");
+        when(mockModel.getPluginSettings()).thenReturn(new HashMap<>());
+        when(mockConfig.getAction()).thenReturn(mockModel);
+        when(mockConfig.getPatterns()).thenReturn(List.of("%{EMAIL_ADDRESS}", "%{CREDIT_CARD_NUMBER}"));
+        when(mockFactory.loadPlugin(eq(ObfuscationAction.class), any(PluginSetting.class)))
+                .thenReturn(mockAction);
+        obfuscationProcessor = new ObfuscationProcessor(pluginMetrics, mockConfig, mockFactory);
+
+        final Record<Event> record = createRecord("Order 1234 shipped");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(editedRecords.size(), equalTo(1));
+        Event data = editedRecords.get(0).getData();
+        assertThat(data.get("message", String.class), equalTo("Order 1234 shipped"));
+        verifyNoInteractions(mockAction);
+    }
 
     @Test
     void testIsReadyForShutdown() {
@@ -43,6 +43,28 @@ class MaskActionTest {
         assertThat(result, equalTo(expected));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "Hello 33 and 44,\\d+,Hello *** and ***",
+            "Hello,\\d+,Hello",
+            "Hello,l,He******o",
+            "abc,x*,***a***b***c***",
+            "33 Hello,^\\d+,*** Hello",
+    })
+    void testObfuscateWithPatternMatchesReplaceAll(String message, String pattern, String expected) {
+        maskAction = createMaskAction("*", 3);
+        String result = maskAction.obfuscate(message, List.of(Pattern.compile(pattern)));
+        assertThat(result, equalTo(expected));
+        assertThat(result, equalTo(message.replaceAll(pattern, "***")));
+    }
+
+    @Test
+    void testObfuscateWithMultiplePatternsAppliesThemInOrder() {
+        maskAction = createMaskAction("#", 2);
+        String result = maskAction.obfuscate("a1b22", List.of(Pattern.compile("\\d+"), Pattern.compile("##b")));
+        assertThat(result, equalTo("a####"));
+    }
+
     private MaskAction createMaskAction(String maskCharacter, int maskCharacterLength) {
         final MaskActionConfig config = new MaskActionConfig(maskCharacter, maskCharacterLength);
         return new MaskAction(config);
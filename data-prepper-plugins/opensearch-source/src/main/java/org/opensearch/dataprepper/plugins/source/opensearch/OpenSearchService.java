@@ -16,11 +16,14 @@ import org.opensearch.dataprepper.plugins.source.opensearch.worker.ScrollWorker;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.SearchWorker;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.ClusterClientFactory;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.SearchAccessor;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.SearchContextType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -39,51 +42,44 @@ public class OpenSearchService {
     private final Buffer<Record<Event>> buffer;
     private final OpenSearchIndexPartitionCreationSupplier openSearchIndexPartitionCreationSupplier;
     private final ScheduledExecutorService scheduledExecutorService;
-    private final BufferAccumulator<Record<Event>> bufferAccumulator;
-
-    private SearchWorker searchWorker;
-    private ScheduledFuture<?> searchWorkerFuture;
+    private final int searchWorkers;
+    private final List<ScheduledFuture<?>> searchWorkerFutures;
 
     public static OpenSearchService createOpenSearchService(final SearchAccessor searchAccessor,
                                                             final SourceCoordinator<OpenSearchIndexProgressState> sourceCoordinator,
                                                             final OpenSearchSourceConfiguration openSearchSourceConfiguration,
                                                             final Buffer<Record<Event>> buffer) {
         return new OpenSearchService(
-                searchAccessor, sourceCoordinator, openSearchSourceConfiguration, buffer, Executors.newSingleThreadScheduledExecutor(),
-                BufferAccumulator.create(buffer, openSearchSourceConfiguration.getSearchConfiguration().getBatchSize(), BUFFER_TIMEOUT));
+                searchAccessor, sourceCoordinator, openSearchSourceConfiguration, buffer,
+                Executors.newScheduledThreadPool(openSearchSourceConfiguration.getSearchConfiguration().getWorkers()));
     }
 
     private OpenSearchService(final SearchAccessor searchAccessor,
                               final SourceCoordinator<OpenSearchIndexProgressState> sourceCoordinator,
                               final OpenSearchSourceConfiguration openSearchSourceConfiguration,
                               final Buffer<Record<Event>> buffer,
-                              final ScheduledExecutorService scheduledExecutorService,
-                              final BufferAccumulator<Record<Event>> bufferAccumulator) {
+                              final ScheduledExecutorService scheduledExecutorService) {
         this.searchAccessor = searchAccessor;
         this.openSearchSourceConfiguration = openSearchSourceConfiguration;
         this.buffer = buffer;
         this.sourceCoordinator = sourceCoordinator;
         this.sourceCoordinator.initialize();
-        this.openSearchIndexPartitionCreationSupplier = new OpenSearchIndexPartitionCreationSupplier(openSearchSourceConfiguration, (ClusterClientFactory) searchAccessor);
+        // Slices are only consistent within a point in time or scroll context, so searches without one read whole indices
+        final int slicesPerIndex = searchAccessor.getSearchContextType() == SearchContextType.NONE ?
+                1 : openSearchSourceConfiguration.getSearchConfiguration().getSlices();
+        // The slices of an index share one point in time, which the partition creation opens
+        final SearchAccessor pitSearchAccessor = searchAccessor.getSearchContextType() == SearchContextType.POINT_IN_TIME ? searchAccessor : null;
+        this.openSearchIndexPartitionCreationSupplier = new OpenSearchIndexPartitionCreationSupplier(openSearchSourceConfiguration,
+                (ClusterClientFactory) searchAccessor, slicesPerIndex, pitSearchAccessor);
         this.scheduledExecutorService = scheduledExecutorService;
-        this.bufferAccumulator = bufferAccumulator;
+        this.searchWorkers = openSearchSourceConfiguration.getSearchConfiguration().getWorkers();
+        this.searchWorkerFutures = new ArrayList<>(searchWorkers);
     }
 
     public void start() {
-        switch(searchAccessor.getSearchContextType()) {
-            case POINT_IN_TIME:
-                searchWorker = new PitWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
-                break;
-            case SCROLL:
-                searchWorker = new ScrollWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
-                break;
-            case NONE:
-                searchWorker = new NoSearchContextWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
-                break;
-            default:
-                throw new IllegalArgumentException(
-                        String.format("Search context type must be POINT_IN_TIME or SCROLL, type %s was given instead",
-                                searchAccessor.getSearchContextType()));
+        final List<SearchWorker> workers = new ArrayList<>(searchWorkers);
+        for (int i = 0; i < searchWorkers; i++) {
+            workers.add(createSearchWorker());
         }
 
         final Instant startTime = openSearchSourceConfiguration.getSchedulingParameterConfiguration().getStartTime();
@@ -92,13 +88,15 @@ public class OpenSearchService {
 
         LOG.info("The opensearch source will start processing data at {}. It is currently {}", startTime, Instant.now());
 
-        searchWorkerFuture = scheduledExecutorService.schedule(() -> searchWorker.run(), waitTimeBeforeStartMillis, TimeUnit.MILLISECONDS);
+        for (final SearchWorker searchWorker : workers) {
+            searchWorkerFutures.add(scheduledExecutorService.schedule(() -> searchWorker.run(), waitTimeBeforeStartMillis, TimeUnit.MILLISECONDS));
+        }
     }
 
     public void stop() {
         scheduledExecutorService.shutdown();
         try {
-            searchWorkerFuture.cancel(true);
+            searchWorkerFutures.forEach(searchWorkerFuture -> searchWorkerFuture.cancel(true));
             if (scheduledExecutorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT.getSeconds(), TimeUnit.SECONDS)) {
                 LOG.info("Successfully waited for the search worker to terminate");
             } else {
@@ -111,4 +109,25 @@ public class OpenSearchService {
         }
 
     }
+
+    /**
+     * Each search worker writes to the buffer through its own {@link BufferAccumulator}, which is not thread-safe.
+     */
+    private SearchWorker createSearchWorker() {
+        final BufferAccumulator<Record<Event>> bufferAccumulator = BufferAccumulator.create(
+                buffer, openSearchSourceConfiguration.getSearchConfiguration().getBatchSize(), BUFFER_TIMEOUT);
+
+        switch(searchAccessor.getSearchContextType()) {
+            case POINT_IN_TIME:
+                return new PitWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
+            case SCROLL:
+                return new ScrollWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
+            case NONE:
+                return new NoSearchContextWorker(searchAccessor, openSearchSourceConfiguration, sourceCoordinator, bufferAccumulator, openSearchIndexPartitionCreationSupplier);
+            default:
+                throw new IllegalArgumentException(
+                        String.format("Search context type must be POINT_IN_TIME or SCROLL, type %s was given instead",
+                                searchAccessor.getSearchContextType()));
+        }
+    }
 }
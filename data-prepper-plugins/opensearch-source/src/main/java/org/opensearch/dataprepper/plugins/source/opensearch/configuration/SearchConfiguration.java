@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.SearchContextType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +30,16 @@ public class SearchConfiguration {
     @JsonProperty("batch_size")
     private Integer batchSize = 1000;
 
+    @JsonProperty("workers")
+    @Min(1)
+    @Max(64)
+    private Integer workers = 1;
+
+    @JsonProperty("slices")
+    @Min(1)
+    @Max(1024)
+    private Integer slices = 1;
+
     @JsonProperty("query")
     private String queryString = "{ \"query\": { \"match_all\": {} }}";
 
@@ -42,6 +54,14 @@ public class SearchConfiguration {
         return batchSize;
     }
 
+    public Integer getWorkers() {
+        return workers;
+    }
+
+    public Integer getSlices() {
+        return slices;
+    }
+
     public Map<String, Object> getQuery() {
         return queryMap;
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source.opensearch.worker;
+
+import java.util.Objects;
+
+/**
+ * The partition key of an index, or of one slice of an index when the index is read with sliced point in time or
+ * scroll searches. A sliced partition key has the form {@code <index>|<slice id>|<max slices>}. The slices of an
+ * index read with point in time searches share one point in time, so their partition keys also carry its creation
+ * time and id: {@code <index>|<slice id>|<max slices>|<pit creation time>|<pit id>}. The separator is safe to use
+ * because index names cannot contain {@code |}.
+ */
+public class IndexPartitionKey {
+
+    static final String SEPARATOR = "|";
+    private static final String SEPARATOR_REGEX = "\\|";
+
+    private final String indexName;
+    private final Integer sliceId;
+    private final Integer maxSlices;
+    private final Long pitCreationTime;
+    private final String pitId;
+
+    private IndexPartitionKey(final String indexName, final Integer sliceId, final Integer maxSlices,
+                              final Long pitCreationTime, final String pitId) {
+        this.indexName = indexName;
+        this.sliceId = sliceId;
+        this.maxSlices = maxSlices;
+        this.pitCreationTime = pitCreationTime;
+        this.pitId = pitId;
+    }
+
+    public static String forIndex(final String indexName) {
+        return indexName;
+    }
+
+    public static String forSlice(final String indexName, final int sliceId, final int maxSlices) {
+        return indexName + SEPARATOR + sliceId + SEPARATOR + maxSlices;
+    }
+
+    public static String forSliceWithPit(final String indexName, final int sliceId, final int maxSlices,
+                                         final long pitCreationTime, final String pitId) {
+        return forSlice(indexName, sliceId, maxSlices) + SEPARATOR + pitCreationTime + SEPARATOR + pitId;
+    }
+
+    public static IndexPartitionKey fromPartitionKey(final String partitionKey) {
+        Objects.requireNonNull(partitionKey);
+        final String[] parts = partitionKey.split(SEPARATOR_REGEX, 5);
+        if (parts.length != 3 && parts.length != 5) {
+            return new IndexPartitionKey(partitionKey, null, null, null, null);
+        }
+        try {
+            if (parts.length == 5) {
+                return new IndexPartitionKey(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                        Long.parseLong(parts[3]), parts[4]);
+            }
+            return new IndexPartitionKey(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), null, null);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("The partition key '%s' is not a valid index slice", partitionKey), e);
+        }
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * @return the id of the slice, or null when the whole index is read as one partition.
+     */
+    public Integer getSliceId() {
+        return sliceId;
+    }
+
+    /**
+     * @return the number of slices of the index, or null when the whole index is read as one partition.
+     */
+    public Integer getMaxSlices() {
+        return maxSlices;
+    }
+
+    /**
+     * @return the id of the point in time shared by the slices of the index, or null when the partition has none.
+     */
+    public String getPitId() {
+        return pitId;
+    }
+
+    /**
+     * @return the creation time in epoch milliseconds of the shared point in time, or null when the partition has none.
+     */
+    public Long getPitCreationTime() {
+        return pitCreationTime;
+    }
+
+    public boolean hasSharedPit() {
+        return Objects.nonNull(pitId);
+    }
+
+    public boolean isSliced() {
+        return Objects.nonNull(sliceId);
+    }
+}
@@ -15,32 +15,70 @@ import org.opensearch.dataprepper.plugins.source.opensearch.OpenSearchSourceConf
 import org.opensearch.dataprepper.plugins.source.opensearch.configuration.IndexParametersConfiguration;
 import org.opensearch.dataprepper.plugins.source.opensearch.configuration.OpenSearchIndex;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.ClusterClientFactory;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.SearchAccessor;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.CreatePointInTimeRequest;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.CreatePointInTimeResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class OpenSearchIndexPartitionCreationSupplier implements Function<Map<String, Object>, List<PartitionIdentifier>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OpenSearchIndexPartitionCreationSupplier.class);
 
+    static final String SHARED_PIT_GLOBAL_STATE_PREFIX = "shared_pit|";
+    static final String PIT_ID_KEY = "pit_id";
+    static final String PIT_CREATION_TIME_KEY = "pit_creation_time";
+
     private final OpenSearchSourceConfiguration openSearchSourceConfiguration;
     private final IndexParametersConfiguration indexParametersConfiguration;
+    private final int slicesPerIndex;
+    private final SearchAccessor pitSearchAccessor;
     private OpenSearchClient openSearchClient;
     private ElasticsearchClient elasticsearchClient;
 
 
     public OpenSearchIndexPartitionCreationSupplier(final OpenSearchSourceConfiguration openSearchSourceConfiguration,
                                                     final ClusterClientFactory clusterClientFactory) {
+        this(openSearchSourceConfiguration, clusterClientFactory, 1);
+    }
+
+    /**
+     * @param slicesPerIndex number of partitions created for each index. When greater than 1, each partition is one
+     *                       slice of a sliced point in time or scroll search on the index.
+     */
+    public OpenSearchIndexPartitionCreationSupplier(final OpenSearchSourceConfiguration openSearchSourceConfiguration,
+                                                    final ClusterClientFactory clusterClientFactory,
+                                                    final int slicesPerIndex) {
+        this(openSearchSourceConfiguration, clusterClientFactory, slicesPerIndex, null);
+    }
+
+    /**
+     * @param pitSearchAccessor creates one point in time per sliced index, which every slice of the index searches.
+     *                          The id of the point in time is kept in the global state of the source coordination, so
+     *                          later runs create the same partitions. Null when the indices are not read with point in
+     *                          time searches.
+     */
+    public OpenSearchIndexPartitionCreationSupplier(final OpenSearchSourceConfiguration openSearchSourceConfiguration,
+                                                    final ClusterClientFactory clusterClientFactory,
+                                                    final int slicesPerIndex,
+                                                    final SearchAccessor pitSearchAccessor) {
         this.openSearchSourceConfiguration = openSearchSourceConfiguration;
         this.indexParametersConfiguration = openSearchSourceConfiguration.getIndexParametersConfiguration();
+        this.slicesPerIndex = slicesPerIndex;
+        this.pitSearchAccessor = pitSearchAccessor;
 
         final Object client = clusterClientFactory.getClient();
 
@@ -78,7 +116,7 @@ public class OpenSearchIndexPartitionCreationSupplier implements Function<Map<St
 
         return indicesResponse.valueBody().stream()
                 .filter(osIndicesRecord -> shouldIndexBeProcessed(osIndicesRecord.index()))
-                .map(indexRecord -> PartitionIdentifier.builder().withPartitionKey(indexRecord.index()).build())
+                .flatMap(indexRecord -> createPartitionIdentifiers(indexRecord.index(), globalStateMap))
                 .collect(Collectors.toList());
     }
 
@@ -93,10 +131,68 @@ public class OpenSearchIndexPartitionCreationSupplier implements Function<Map<St
 
         return indicesResponse.valueBody().stream()
                 .filter(esIndicesRecord -> shouldIndexBeProcessed(esIndicesRecord.index()))
-                .map(indexRecord -> PartitionIdentifier.builder().withPartitionKey(indexRecord.index()).build())
+                .flatMap(indexRecord -> createPartitionIdentifiers(indexRecord.index(), globalStateMap))
                 .collect(Collectors.toList());
     }
 
+    private Stream<PartitionIdentifier> createPartitionIdentifiers(final String indexName, final Map<String, Object> globalStateMap) {
+        if (slicesPerIndex <= 1) {
+            return Stream.of(PartitionIdentifier.builder().withPartitionKey(IndexPartitionKey.forIndex(indexName)).build());
+        }
+
+        if (Objects.isNull(pitSearchAccessor)) {
+            return IntStream.range(0, slicesPerIndex)
+                    .mapToObj(sliceId -> PartitionIdentifier.builder()
+                            .withPartitionKey(IndexPartitionKey.forSlice(indexName, sliceId, slicesPerIndex))
+                            .build());
+        }
+
+        final Optional<Map<String, Object>> sharedPit = getOrCreateSharedPit(indexName, globalStateMap);
+        if (sharedPit.isEmpty()) {
+            return Stream.empty();
+        }
+
+        final String pitId = (String) sharedPit.get().get(PIT_ID_KEY);
+        final long pitCreationTime = ((Number) sharedPit.get().get(PIT_CREATION_TIME_KEY)).longValue();
+        return IntStream.range(0, slicesPerIndex)
+                .mapToObj(sliceId -> PartitionIdentifier.builder()
+                        .withPartitionKey(IndexPartitionKey.forSliceWithPit(indexName, sliceId, slicesPerIndex, pitCreationTime, pitId))
+                        .build());
+    }
+
+    /**
+     * The point in time of an index is created once and never replaced, as the partition keys of its slices contain
+     * its id. Slices which find it expired open their own point in time.
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<Map<String, Object>> getOrCreateSharedPit(final String indexName, final Map<String, Object> globalStateMap) {
+        final String globalStateKey = SHARED_PIT_GLOBAL_STATE_PREFIX + indexName;
+        final Object existingSharedPit = globalStateMap.get(globalStateKey);
+        if (existingSharedPit instanceof Map) {
+            return Optional.of((Map<String, Object>) existingSharedPit);
+        }
+
+        final CreatePointInTimeResponse createPointInTimeResponse;
+        try {
+            createPointInTimeResponse = pitSearchAccessor.createPit(CreatePointInTimeRequest.builder()
+                    .withIndex(indexName)
+                    .withKeepAlive(PitWorker.STARTING_KEEP_ALIVE)
+                    .build());
+        } catch (final RuntimeException e) {
+            LOG.warn("Unable to create the point in time shared by the slices of index {}, the slices will be created later: {}",
+                    indexName, e.getMessage());
+            return Optional.empty();
+        }
+
+        LOG.debug("Created point in time for the slices of index {} with pit id {}", indexName, createPointInTimeResponse.getPitId());
+
+        final Map<String, Object> sharedPit = new HashMap<>();
+        sharedPit.put(PIT_ID_KEY, createPointInTimeResponse.getPitId());
+        sharedPit.put(PIT_CREATION_TIME_KEY, createPointInTimeResponse.getPitCreationTime());
+        globalStateMap.put(globalStateKey, sharedPit);
+        return Optional.of(sharedPit);
+    }
+
     private boolean shouldIndexBeProcessed(final String indexName) {
 
         if (Objects.isNull(indexName)) {
@@ -109,11 +109,13 @@ public class PitWorker implements SearchWorker, Runnable {
     }
 
     private void processIndex(final SourcePartition<OpenSearchIndexProgressState> openSearchIndexPartition) {
-        final String indexName = openSearchIndexPartition.getPartitionKey();
+        final String partitionKey = openSearchIndexPartition.getPartitionKey();
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(partitionKey);
+        final String indexName = indexPartitionKey.getIndexName();
         Optional<OpenSearchIndexProgressState> openSearchIndexProgressStateOptional = openSearchIndexPartition.getPartitionState();
 
         if (openSearchIndexProgressStateOptional.isEmpty()) {
-            openSearchIndexProgressStateOptional = Optional.of(initializeProgressState());
+            openSearchIndexProgressStateOptional = Optional.of(initializeProgressState(indexPartitionKey));
         }
 
         final OpenSearchIndexProgressState openSearchIndexProgressState = openSearchIndexProgressStateOptional.get();
@@ -143,6 +145,8 @@ public class PitWorker implements SearchWorker, Runnable {
                         .withKeepAlive(EXTEND_KEEP_ALIVE_TIME)
                         .withPaginationSize(searchConfiguration.getBatchSize())
                         .withSearchAfter(getSearchAfter(openSearchIndexProgressState, searchWithSearchAfterResults))
+                        .withSliceId(indexPartitionKey.getSliceId())
+                        .withMaxSlices(indexPartitionKey.getMaxSlices())
                         .build());
 
                 searchWithSearchAfterResults.getDocuments().stream().map(Record::new).forEach(record -> {
@@ -161,7 +165,7 @@ public class PitWorker implements SearchWorker, Runnable {
 
             openSearchIndexProgressState.setSearchAfter(searchWithSearchAfterResults.getNextSearchAfter());
             openSearchIndexProgressState.setKeepAlive(Duration.ofMillis(openSearchIndexProgressState.getKeepAlive()).plus(EXTEND_KEEP_ALIVE_DURATION).toMillis());
-            sourceCoordinator.saveProgressStateForPartition(indexName, openSearchIndexProgressState);
+            sourceCoordinator.saveProgressStateForPartition(partitionKey, openSearchIndexProgressState);
         } while (searchWithSearchAfterResults.getDocuments().size() == searchConfiguration.getBatchSize());
 
         try {
@@ -170,12 +174,27 @@ public class PitWorker implements SearchWorker, Runnable {
             LOG.error("Failed flushing remaining OpenSearch documents to buffer due to: {}", e.getMessage());
         }
 
+        // The point in time shared by the slices of an index expires once no slice extends its keep alive anymore
+        if (indexPartitionKey.hasSharedPit() && indexPartitionKey.getPitId().equals(openSearchIndexProgressState.getPitId())) {
+            return;
+        }
+
         // todo: This API call is failing with sigv4 enabled due to a mismatch in the signature. Tracking issue (https://github.com/opensearch-project/opensearch-java/issues/521)
         searchAccessor.deletePit(DeletePointInTimeRequest.builder().withPitId(openSearchIndexProgressState.getPitId()).build());
     }
 
-    private OpenSearchIndexProgressState initializeProgressState() {
-        return new OpenSearchIndexProgressState();
+    /**
+     * Slices of an index start on the point in time the partition creation opened for the index. A slice which finds
+     * it expired opens its own point in time.
+     */
+    private OpenSearchIndexProgressState initializeProgressState(final IndexPartitionKey indexPartitionKey) {
+        final OpenSearchIndexProgressState openSearchIndexProgressState = new OpenSearchIndexProgressState();
+        if (indexPartitionKey.hasSharedPit()) {
+            openSearchIndexProgressState.setPitId(indexPartitionKey.getPitId());
+            openSearchIndexProgressState.setPitCreationTime(indexPartitionKey.getPitCreationTime());
+            openSearchIndexProgressState.setKeepAlive(STARTING_KEEP_ALIVE_DURATION.toMillis());
+        }
+        return openSearchIndexProgressState;
     }
 
     private List<String> getSearchAfter(final OpenSearchIndexProgressState openSearchIndexProgressState, final SearchWithSearchAfterResults searchWithSearchAfterResults) {
@@ -102,7 +102,9 @@ public class ScrollWorker implements SearchWorker {
     }
 
     private void processIndex(final SourcePartition<OpenSearchIndexProgressState> openSearchIndexPartition) {
-        final String indexName = openSearchIndexPartition.getPartitionKey();
+        final String partitionKey = openSearchIndexPartition.getPartitionKey();
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(partitionKey);
+        final String indexName = indexPartitionKey.getIndexName();
 
         final Integer batchSize = openSearchSourceConfiguration.getSearchConfiguration().getBatchSize();
 
@@ -110,6 +112,8 @@ public class ScrollWorker implements SearchWorker {
                 .withScrollTime(SCROLL_TIME_PER_BATCH)
                 .withSize(openSearchSourceConfiguration.getSearchConfiguration().getBatchSize())
                 .withIndex(indexName)
+                .withSliceId(indexPartitionKey.getSliceId())
+                .withMaxSlices(indexPartitionKey.getMaxSlices())
                 .build());
 
         writeDocumentsToBuffer(createScrollResponse.getDocuments());
@@ -125,7 +129,7 @@ public class ScrollWorker implements SearchWorker {
                             .build());
 
                     writeDocumentsToBuffer(searchScrollResponse.getDocuments());
-                    sourceCoordinator.saveProgressStateForPartition(indexName, null);
+                    sourceCoordinator.saveProgressStateForPartition(partitionKey, null);
                 } catch (final Exception e) {
                     deleteScroll(createScrollResponse.getScrollId());
                     throw e;
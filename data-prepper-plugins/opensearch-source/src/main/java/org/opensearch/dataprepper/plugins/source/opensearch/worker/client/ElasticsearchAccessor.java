@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.source.opensearch.worker.client;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.ScoreSort;
+import co.elastic.clients.elasticsearch._types.SlicedScroll;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.Time;
@@ -111,6 +112,10 @@ public class ElasticsearchAccessor implements SearchAccessor, ClusterClientFacto
                 if (Objects.nonNull(searchPointInTimeRequest.getSearchAfter())) {
                     builder.searchAfter(searchPointInTimeRequest.getSearchAfter());
                 }
+
+                if (isSliced(searchPointInTimeRequest.getSliceId(), searchPointInTimeRequest.getMaxSlices())) {
+                    builder.slice(SlicedScroll.of(slice -> slice.id(searchPointInTimeRequest.getSliceId()).max(searchPointInTimeRequest.getMaxSlices())));
+                }
             return builder;
         });
 
@@ -139,10 +144,18 @@ public class ElasticsearchAccessor implements SearchAccessor, ClusterClientFacto
         SearchResponse<ObjectNode> searchResponse;
 
         try {
-            searchResponse = elasticsearchClient.search(SearchRequest.of(request -> request
-                    .scroll(Time.of(time -> time.time(createScrollRequest.getScrollTime())))
-                    .size(createScrollRequest.getSize())
-                    .index(createScrollRequest.getIndex())), ObjectNode.class);
+            searchResponse = elasticsearchClient.search(SearchRequest.of(request -> {
+                request
+                        .scroll(Time.of(time -> time.time(createScrollRequest.getScrollTime())))
+                        .size(createScrollRequest.getSize())
+                        .index(createScrollRequest.getIndex());
+
+                if (isSliced(createScrollRequest.getSliceId(), createScrollRequest.getMaxSlices())) {
+                    request.slice(SlicedScroll.of(slice -> slice.id(createScrollRequest.getSliceId()).max(createScrollRequest.getMaxSlices())));
+                }
+
+                return request;
+            }), ObjectNode.class);
         } catch (final ElasticsearchException e) {
             LOG.error("There was an error creating a scroll context for Elasticsearch: ", e);
             throw e;
@@ -242,6 +255,10 @@ public class ElasticsearchAccessor implements SearchAccessor, ClusterClientFacto
         }
     }
 
+    private boolean isSliced(final Integer sliceId, final Integer maxSlices) {
+        return Objects.nonNull(sliceId) && Objects.nonNull(maxSlices) && maxSlices > 1;
+    }
+
     private boolean isDueToPitLimitExceeded(final ElasticsearchException e) {
         return Objects.nonNull(e.error()) && Objects.nonNull(e.error().causedBy()) && Objects.nonNull(e.error().causedBy().type())
                 && PIT_RESOURCE_LIMIT_ERROR_TYPE.equals(e.error().causedBy().type());
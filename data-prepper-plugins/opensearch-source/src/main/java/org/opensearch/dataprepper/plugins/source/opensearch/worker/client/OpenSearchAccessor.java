@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.ScoreSort;
+import org.opensearch.client.opensearch._types.SlicedScroll;
 import org.opensearch.client.opensearch._types.SortOptions;
 import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.Time;
@@ -111,6 +112,10 @@ public class OpenSearchAccessor implements SearchAccessor, ClusterClientFactory
                 builder.searchAfter(searchPointInTimeRequest.getSearchAfter());
             }
 
+            if (isSliced(searchPointInTimeRequest.getSliceId(), searchPointInTimeRequest.getMaxSlices())) {
+                builder.slice(SlicedScroll.of(slice -> slice.id(searchPointInTimeRequest.getSliceId()).max(searchPointInTimeRequest.getMaxSlices())));
+            }
+
             return builder;
         });
 
@@ -136,10 +141,18 @@ public class OpenSearchAccessor implements SearchAccessor, ClusterClientFactory
 
         SearchResponse<ObjectNode> searchResponse;
         try {
-            searchResponse = openSearchClient.search(SearchRequest.of(request -> request
-                    .scroll(Time.of(time -> time.time(createScrollRequest.getScrollTime())))
-                    .size(createScrollRequest.getSize())
-                    .index(createScrollRequest.getIndex())), ObjectNode.class);
+            searchResponse = openSearchClient.search(SearchRequest.of(request -> {
+                request
+                        .scroll(Time.of(time -> time.time(createScrollRequest.getScrollTime())))
+                        .size(createScrollRequest.getSize())
+                        .index(createScrollRequest.getIndex());
+
+                if (isSliced(createScrollRequest.getSliceId(), createScrollRequest.getMaxSlices())) {
+                    request.slice(SlicedScroll.of(slice -> slice.id(createScrollRequest.getSliceId()).max(createScrollRequest.getMaxSlices())));
+                }
+
+                return request;
+            }), ObjectNode.class);
         } catch (final OpenSearchException e) {
             LOG.error("There was an error creating a scroll context for OpenSearch: ", e);
             throw e;
@@ -219,6 +232,10 @@ public class OpenSearchAccessor implements SearchAccessor, ClusterClientFactory
         return openSearchClient;
     }
 
+    private boolean isSliced(final Integer sliceId, final Integer maxSlices) {
+        return Objects.nonNull(sliceId) && Objects.nonNull(maxSlices) && maxSlices > 1;
+    }
+
     private boolean isPitDeletedSuccessfully(final DeletePitResponse deletePitResponse) {
         return Objects.nonNull(deletePitResponse.pits()) && deletePitResponse.pits().size() == 1
                 && Objects.nonNull(deletePitResponse.pits().get(0)) && deletePitResponse.pits().get(0).successful();
@@ -9,6 +9,8 @@ public class CreateScrollRequest {
     private final String index;
     private final String scrollTime;
     private final Integer size;
+    private final Integer sliceId;
+    private final Integer maxSlices;
 
     public String getIndex() {
         return index;
@@ -18,10 +20,16 @@ public class CreateScrollRequest {
 
     public String getScrollTime() { return scrollTime; }
 
+    public Integer getSliceId() { return sliceId; }
+
+    public Integer getMaxSlices() { return maxSlices; }
+
     private CreateScrollRequest(final CreateScrollRequest.Builder builder) {
         this.index = builder.index;
         this.size = builder.size;
         this.scrollTime = builder.scrollTime;
+        this.sliceId = builder.sliceId;
+        this.maxSlices = builder.maxSlices;
     }
 
     public static CreateScrollRequest.Builder builder() {
@@ -33,6 +41,8 @@ public class CreateScrollRequest {
         private String index;
         private Integer size;
         private String scrollTime;
+        private Integer sliceId;
+        private Integer maxSlices;
 
         public Builder() {
 
@@ -53,6 +63,16 @@ public class CreateScrollRequest {
             return this;
         }
 
+        public CreateScrollRequest.Builder withSliceId(final Integer sliceId) {
+            this.sliceId = sliceId;
+            return this;
+        }
+
+        public CreateScrollRequest.Builder withMaxSlices(final Integer maxSlices) {
+            this.maxSlices = maxSlices;
+            return this;
+        }
+
         public CreateScrollRequest build() {
             return new CreateScrollRequest(this);
         }
@@ -15,6 +15,8 @@ public class SearchPointInTimeRequest {
     private final Integer paginationSize;
     private final String query;
     private final List<SortingOptions> sortingOptions;
+    private final Integer sliceId;
+    private final Integer maxSlices;
 
     public String getIndex() {
         return index;
@@ -42,6 +44,10 @@ public class SearchPointInTimeRequest {
 
     public String getKeepAlive() { return keepAlive; }
 
+    public Integer getSliceId() { return sliceId; }
+
+    public Integer getMaxSlices() { return maxSlices; }
+
     private SearchPointInTimeRequest(final SearchPointInTimeRequest.Builder builder) {
         this.pitId = builder.pitId;
         this.keepAlive = builder.keepAlive;
@@ -50,6 +56,8 @@ public class SearchPointInTimeRequest {
         this.paginationSize = builder.paginationSize;
         this.query = builder.query;
         this.sortingOptions = builder.sortingOptions;
+        this.sliceId = builder.sliceId;
+        this.maxSlices = builder.maxSlices;
     }
 
     public static SearchPointInTimeRequest.Builder builder() {
@@ -65,7 +73,8 @@ public class SearchPointInTimeRequest {
         private Integer paginationSize;
         private String query;
         private List<SortingOptions> sortingOptions;
-
+        private Integer sliceId;
+        private Integer maxSlices;
 
         public Builder() {
 
@@ -106,6 +115,16 @@ public class SearchPointInTimeRequest {
             return this;
         }
 
+        public SearchPointInTimeRequest.Builder withSliceId(final Integer sliceId) {
+            this.sliceId = sliceId;
+            return this;
+        }
+
+        public SearchPointInTimeRequest.Builder withMaxSlices(final Integer maxSlices) {
+            this.maxSlices = maxSlices;
+            return this;
+        }
+
         public SearchPointInTimeRequest build() {
             return new SearchPointInTimeRequest(this);
         }
@@ -42,6 +42,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.source.opensearch.OpenSearchService.BUFFER_TIMEOUT;
@@ -77,6 +78,7 @@ public class OpenSearchServiceTest {
     void setup() {
         final SearchConfiguration searchConfiguration = mock(SearchConfiguration.class);
         when(searchConfiguration.getBatchSize()).thenReturn(1000);
+        when(searchConfiguration.getWorkers()).thenReturn(1);
 
         when(openSearchSourceConfiguration.getSearchConfiguration()).thenReturn(searchConfiguration);
     }
@@ -87,7 +89,7 @@ public class OpenSearchServiceTest {
              final MockedConstruction<OpenSearchIndexPartitionCreationSupplier> mockedConstruction = mockConstruction(OpenSearchIndexPartitionCreationSupplier.class, (mock, context) -> {
                  openSearchIndexPartitionCreationSupplier = mock;
              })) {
-            executorsMockedStatic.when(Executors::newSingleThreadScheduledExecutor).thenReturn(scheduledExecutorService);
+            executorsMockedStatic.when(() -> Executors.newScheduledThreadPool(openSearchSourceConfiguration.getSearchConfiguration().getWorkers())).thenReturn(scheduledExecutorService);
             bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, openSearchSourceConfiguration.getSearchConfiguration().getBatchSize(), BUFFER_TIMEOUT)).thenReturn(bufferAccumulator);
             return OpenSearchService.createOpenSearchService(openSearchAccessor, sourceCoordinator, openSearchSourceConfiguration, buffer);
         }
@@ -158,4 +160,19 @@ public class OpenSearchServiceTest {
 
         verify(scheduledExecutorService).schedule(ArgumentMatchers.any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
     }
+
+    @Test
+    void start_schedules_one_search_worker_per_configured_worker() {
+        when(openSearchSourceConfiguration.getSearchConfiguration().getWorkers()).thenReturn(3);
+        when(openSearchAccessor.getSearchContextType()).thenReturn(SearchContextType.POINT_IN_TIME);
+        final Instant startTime = Instant.now().minusSeconds(60);
+
+        final SchedulingParameterConfiguration schedulingParameterConfiguration = mock(SchedulingParameterConfiguration.class);
+        when(schedulingParameterConfiguration.getStartTime()).thenReturn(startTime);
+        when(openSearchSourceConfiguration.getSchedulingParameterConfiguration()).thenReturn(schedulingParameterConfiguration);
+
+        createObjectUnderTest().start();
+
+        verify(scheduledExecutorService, times(3)).schedule(ArgumentMatchers.any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
 }
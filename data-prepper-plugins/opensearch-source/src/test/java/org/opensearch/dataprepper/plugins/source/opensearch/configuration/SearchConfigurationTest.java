@@ -27,6 +27,8 @@ public class SearchConfigurationTest {
 
         assertThat(searchConfiguration.getQuery(), equalTo(null));
         assertThat(searchConfiguration.getBatchSize(), equalTo(1000));
+        assertThat(searchConfiguration.getWorkers(), equalTo(1));
+        assertThat(searchConfiguration.getSlices(), equalTo(1));
     }
 
     @Test
@@ -34,9 +36,13 @@ public class SearchConfigurationTest {
         final Map<String, Object> pluginSettings = new HashMap<>();
         pluginSettings.put("batch_size", 2000);
         pluginSettings.put("query", "{\"query\": {\"match_all\": {} }}");
+        pluginSettings.put("workers", 4);
+        pluginSettings.put("slices", 8);
 
         final SearchConfiguration searchConfiguration = objectMapper.convertValue(pluginSettings, SearchConfiguration.class);
         assertThat(searchConfiguration.getBatchSize(),equalTo(2000));
+        assertThat(searchConfiguration.getWorkers(), equalTo(4));
+        assertThat(searchConfiguration.getSlices(), equalTo(8));
         assertThat(searchConfiguration.isQueryValid(), equalTo(true));
         assertThat(searchConfiguration.getQuery(), notNullValue());
         assertThat(searchConfiguration.getQuery().containsKey("query"), equalTo(true));
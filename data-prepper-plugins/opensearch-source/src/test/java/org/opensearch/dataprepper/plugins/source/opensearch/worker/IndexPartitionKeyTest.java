@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.opensearch.worker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IndexPartitionKeyTest {
+
+    @Test
+    void fromPartitionKey_of_index_partition_key_is_not_sliced() {
+        final String indexName = UUID.randomUUID().toString();
+
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(IndexPartitionKey.forIndex(indexName));
+
+        assertThat(indexPartitionKey.getIndexName(), equalTo(indexName));
+        assertThat(indexPartitionKey.isSliced(), equalTo(false));
+        assertThat(indexPartitionKey.getSliceId(), nullValue());
+        assertThat(indexPartitionKey.getMaxSlices(), nullValue());
+    }
+
+    @Test
+    void fromPartitionKey_of_slice_partition_key_returns_the_slice() {
+        final String indexName = UUID.randomUUID().toString();
+
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(IndexPartitionKey.forSlice(indexName, 2, 5));
+
+        assertThat(indexPartitionKey.getIndexName(), equalTo(indexName));
+        assertThat(indexPartitionKey.isSliced(), equalTo(true));
+        assertThat(indexPartitionKey.getSliceId(), equalTo(2));
+        assertThat(indexPartitionKey.getMaxSlices(), equalTo(5));
+    }
+
+    @Test
+    void fromPartitionKey_of_slice_partition_key_with_pit_returns_the_slice_and_pit() {
+        final String indexName = UUID.randomUUID().toString();
+        final String pitId = UUID.randomUUID().toString();
+
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(IndexPartitionKey.forSliceWithPit(indexName, 2, 5, 1000L, pitId));
+
+        assertThat(indexPartitionKey.getIndexName(), equalTo(indexName));
+        assertThat(indexPartitionKey.getSliceId(), equalTo(2));
+        assertThat(indexPartitionKey.getMaxSlices(), equalTo(5));
+        assertThat(indexPartitionKey.hasSharedPit(), equalTo(true));
+        assertThat(indexPartitionKey.getPitId(), equalTo(pitId));
+        assertThat(indexPartitionKey.getPitCreationTime(), equalTo(1000L));
+    }
+
+    @Test
+    void fromPartitionKey_of_slice_partition_key_has_no_pit() {
+        final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(IndexPartitionKey.forSlice("my-index", 2, 5));
+
+        assertThat(indexPartitionKey.hasSharedPit(), equalTo(false));
+        assertThat(indexPartitionKey.getPitId(), nullValue());
+        assertThat(indexPartitionKey.getPitCreationTime(), nullValue());
+    }
+
+    @Test
+    void fromPartitionKey_with_invalid_slice_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexPartitionKey.fromPartitionKey("my-index|first|5"));
+    }
+}
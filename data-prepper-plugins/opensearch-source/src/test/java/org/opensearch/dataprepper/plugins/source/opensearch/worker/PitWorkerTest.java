@@ -29,6 +29,7 @@ import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.SearchWithSearchAfterResults;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -175,6 +176,141 @@ public class PitWorkerTest {
         assertThat(deletePointInTimeRequest.getPitId(), equalTo(pitId));
     }
 
+    @Test
+    void run_with_getNextPartition_with_slice_partition_searches_that_slice_of_the_index() throws Exception {
+        final SourcePartition<OpenSearchIndexProgressState> sourcePartition = mock(SourcePartition.class);
+        final String indexName = UUID.randomUUID().toString();
+        final String partitionKey = IndexPartitionKey.forSlice(indexName, 1, 4);
+        when(sourcePartition.getPartitionKey()).thenReturn(partitionKey);
+        when(sourcePartition.getPartitionState()).thenReturn(Optional.empty());
+
+        final String pitId = UUID.randomUUID().toString();
+        final ArgumentCaptor<CreatePointInTimeRequest> requestArgumentCaptor = ArgumentCaptor.forClass(CreatePointInTimeRequest.class);
+        final CreatePointInTimeResponse createPointInTimeResponse = mock(CreatePointInTimeResponse.class);
+        when(createPointInTimeResponse.getPitId()).thenReturn(pitId);
+        when(searchAccessor.createPit(requestArgumentCaptor.capture())).thenReturn(createPointInTimeResponse);
+
+        final SearchConfiguration searchConfiguration = mock(SearchConfiguration.class);
+        when(searchConfiguration.getBatchSize()).thenReturn(2);
+        when(openSearchSourceConfiguration.getSearchConfiguration()).thenReturn(searchConfiguration);
+
+        final SearchWithSearchAfterResults searchWithSearchAfterResults = mock(SearchWithSearchAfterResults.class);
+        when(searchWithSearchAfterResults.getDocuments()).thenReturn(List.of(mock(Event.class)));
+
+        final ArgumentCaptor<SearchPointInTimeRequest> searchPointInTimeRequestArgumentCaptor = ArgumentCaptor.forClass(SearchPointInTimeRequest.class);
+        when(searchAccessor.searchWithPit(searchPointInTimeRequestArgumentCaptor.capture())).thenReturn(searchWithSearchAfterResults);
+
+        when(sourceCoordinator.getNextPartition(openSearchIndexPartitionCreationSupplier)).thenReturn(Optional.of(sourcePartition)).thenReturn(Optional.empty());
+
+        final SchedulingParameterConfiguration schedulingParameterConfiguration = mock(SchedulingParameterConfiguration.class);
+        when(schedulingParameterConfiguration.getJobCount()).thenReturn(1);
+        when(schedulingParameterConfiguration.getRate()).thenReturn(Duration.ZERO);
+        when(openSearchSourceConfiguration.getSchedulingParameterConfiguration()).thenReturn(schedulingParameterConfiguration);
+
+        final Future<?> future = executorService.submit(() -> createObjectUnderTest().run());
+        Thread.sleep(100);
+        executorService.shutdown();
+        future.cancel(true);
+        assertThat(executorService.awaitTermination(100, TimeUnit.MILLISECONDS), equalTo(true));
+
+        assertThat(requestArgumentCaptor.getValue().getIndex(), equalTo(indexName));
+
+        final SearchPointInTimeRequest searchPointInTimeRequest = searchPointInTimeRequestArgumentCaptor.getValue();
+        assertThat(searchPointInTimeRequest.getPitId(), equalTo(pitId));
+        assertThat(searchPointInTimeRequest.getSliceId(), equalTo(1));
+        assertThat(searchPointInTimeRequest.getMaxSlices(), equalTo(4));
+
+        verify(sourceCoordinator).saveProgressStateForPartition(eq(partitionKey), any(OpenSearchIndexProgressState.class));
+        verify(sourceCoordinator).closePartition(partitionKey, Duration.ZERO, 1);
+    }
+
+    @Test
+    void run_with_getNextPartition_with_slice_partition_with_shared_pit_searches_the_shared_pit_and_does_not_delete_it() throws Exception {
+        final SourcePartition<OpenSearchIndexProgressState> sourcePartition = mock(SourcePartition.class);
+        final String indexName = UUID.randomUUID().toString();
+        final String pitId = UUID.randomUUID().toString();
+        final String partitionKey = IndexPartitionKey.forSliceWithPit(indexName, 1, 4, Instant.now().toEpochMilli(), pitId);
+        when(sourcePartition.getPartitionKey()).thenReturn(partitionKey);
+        when(sourcePartition.getPartitionState()).thenReturn(Optional.empty());
+
+        final SearchConfiguration searchConfiguration = mock(SearchConfiguration.class);
+        when(searchConfiguration.getBatchSize()).thenReturn(2);
+        when(openSearchSourceConfiguration.getSearchConfiguration()).thenReturn(searchConfiguration);
+
+        final SearchWithSearchAfterResults searchWithSearchAfterResults = mock(SearchWithSearchAfterResults.class);
+        when(searchWithSearchAfterResults.getDocuments()).thenReturn(List.of(mock(Event.class)));
+
+        final ArgumentCaptor<SearchPointInTimeRequest> searchPointInTimeRequestArgumentCaptor = ArgumentCaptor.forClass(SearchPointInTimeRequest.class);
+        when(searchAccessor.searchWithPit(searchPointInTimeRequestArgumentCaptor.capture())).thenReturn(searchWithSearchAfterResults);
+
+        when(sourceCoordinator.getNextPartition(openSearchIndexPartitionCreationSupplier)).thenReturn(Optional.of(sourcePartition)).thenReturn(Optional.empty());
+
+        final SchedulingParameterConfiguration schedulingParameterConfiguration = mock(SchedulingParameterConfiguration.class);
+        when(schedulingParameterConfiguration.getJobCount()).thenReturn(1);
+        when(schedulingParameterConfiguration.getRate()).thenReturn(Duration.ZERO);
+        when(openSearchSourceConfiguration.getSchedulingParameterConfiguration()).thenReturn(schedulingParameterConfiguration);
+
+        final Future<?> future = executorService.submit(() -> createObjectUnderTest().run());
+        Thread.sleep(100);
+        executorService.shutdown();
+        future.cancel(true);
+        assertThat(executorService.awaitTermination(100, TimeUnit.MILLISECONDS), equalTo(true));
+
+        final SearchPointInTimeRequest searchPointInTimeRequest = searchPointInTimeRequestArgumentCaptor.getValue();
+        assertThat(searchPointInTimeRequest.getPitId(), equalTo(pitId));
+        assertThat(searchPointInTimeRequest.getSliceId(), equalTo(1));
+        assertThat(searchPointInTimeRequest.getMaxSlices(), equalTo(4));
+
+        verify(searchAccessor, never()).createPit(any(CreatePointInTimeRequest.class));
+        verify(searchAccessor, never()).deletePit(any(DeletePointInTimeRequest.class));
+        verify(sourceCoordinator).closePartition(partitionKey, Duration.ZERO, 1);
+    }
+
+    @Test
+    void run_with_getNextPartition_with_slice_partition_with_expired_shared_pit_creates_its_own_pit() throws Exception {
+        final SourcePartition<OpenSearchIndexProgressState> sourcePartition = mock(SourcePartition.class);
+        final String indexName = UUID.randomUUID().toString();
+        final String sharedPitId = UUID.randomUUID().toString();
+        final String partitionKey = IndexPartitionKey.forSliceWithPit(indexName, 1, 4,
+                Instant.now().minus(Duration.ofHours(1)).toEpochMilli(), sharedPitId);
+        when(sourcePartition.getPartitionKey()).thenReturn(partitionKey);
+        when(sourcePartition.getPartitionState()).thenReturn(Optional.empty());
+
+        final String pitId = UUID.randomUUID().toString();
+        final CreatePointInTimeResponse createPointInTimeResponse = mock(CreatePointInTimeResponse.class);
+        when(createPointInTimeResponse.getPitId()).thenReturn(pitId);
+        when(searchAccessor.createPit(any(CreatePointInTimeRequest.class))).thenReturn(createPointInTimeResponse);
+
+        final SearchConfiguration searchConfiguration = mock(SearchConfiguration.class);
+        when(searchConfiguration.getBatchSize()).thenReturn(2);
+        when(openSearchSourceConfiguration.getSearchConfiguration()).thenReturn(searchConfiguration);
+
+        final SearchWithSearchAfterResults searchWithSearchAfterResults = mock(SearchWithSearchAfterResults.class);
+        when(searchWithSearchAfterResults.getDocuments()).thenReturn(List.of(mock(Event.class)));
+
+        final ArgumentCaptor<SearchPointInTimeRequest> searchPointInTimeRequestArgumentCaptor = ArgumentCaptor.forClass(SearchPointInTimeRequest.class);
+        when(searchAccessor.searchWithPit(searchPointInTimeRequestArgumentCaptor.capture())).thenReturn(searchWithSearchAfterResults);
+
+        final ArgumentCaptor<DeletePointInTimeRequest> deleteRequestArgumentCaptor = ArgumentCaptor.forClass(DeletePointInTimeRequest.class);
+        doNothing().when(searchAccessor).deletePit(deleteRequestArgumentCaptor.capture());
+
+        when(sourceCoordinator.getNextPartition(openSearchIndexPartitionCreationSupplier)).thenReturn(Optional.of(sourcePartition)).thenReturn(Optional.empty());
+
+        final SchedulingParameterConfiguration schedulingParameterConfiguration = mock(SchedulingParameterConfiguration.class);
+        when(schedulingParameterConfiguration.getJobCount()).thenReturn(1);
+        when(schedulingParameterConfiguration.getRate()).thenReturn(Duration.ZERO);
+        when(openSearchSourceConfiguration.getSchedulingParameterConfiguration()).thenReturn(schedulingParameterConfiguration);
+
+        final Future<?> future = executorService.submit(() -> createObjectUnderTest().run());
+        Thread.sleep(100);
+        executorService.shutdown();
+        future.cancel(true);
+        assertThat(executorService.awaitTermination(100, TimeUnit.MILLISECONDS), equalTo(true));
+
+        assertThat(searchPointInTimeRequestArgumentCaptor.getValue().getPitId(), equalTo(pitId));
+        assertThat(deleteRequestArgumentCaptor.getValue().getPitId(), equalTo(pitId));
+    }
+
     @Test
     void run_with_getNextPartition_with_valid_existing_point_in_time_does_not_create_another_point_in_time() throws Exception {
         final SourcePartition<OpenSearchIndexProgressState> sourcePartition = mock(SourcePartition.class);
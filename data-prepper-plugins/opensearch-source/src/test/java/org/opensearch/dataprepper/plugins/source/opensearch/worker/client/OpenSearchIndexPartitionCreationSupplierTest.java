@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.opensearch.OpenSearchClient;
@@ -24,12 +25,19 @@ import org.opensearch.dataprepper.model.source.coordinator.PartitionIdentifier;
 import org.opensearch.dataprepper.plugins.source.opensearch.OpenSearchSourceConfiguration;
 import org.opensearch.dataprepper.plugins.source.opensearch.configuration.IndexParametersConfiguration;
 import org.opensearch.dataprepper.plugins.source.opensearch.configuration.OpenSearchIndex;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.IndexPartitionKey;
 import org.opensearch.dataprepper.plugins.source.opensearch.worker.OpenSearchIndexPartitionCreationSupplier;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.exceptions.SearchContextLimitException;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.CreatePointInTimeRequest;
+import org.opensearch.dataprepper.plugins.source.opensearch.worker.client.model.CreatePointInTimeResponse;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -37,7 +45,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -247,4 +258,89 @@ public class OpenSearchIndexPartitionCreationSupplierTest {
         return Stream.of(Arguments.of(IOException.class),
                 Arguments.of(ElasticsearchException.class));
     }
+
+    @Test
+    void apply_with_slices_creates_a_partition_per_slice_of_each_index() throws IOException {
+        when(clusterClientFactory.getClient()).thenReturn(openSearchClient);
+
+        final OpenSearchCatClient openSearchCatClient = mock(OpenSearchCatClient.class);
+        final IndicesResponse indicesResponse = mock(IndicesResponse.class);
+        final IndicesRecord indicesRecord = mock(IndicesRecord.class);
+        when(indicesRecord.index()).thenReturn("my-index");
+        when(indicesResponse.valueBody()).thenReturn(List.of(indicesRecord));
+        when(openSearchCatClient.indices()).thenReturn(indicesResponse);
+        when(openSearchClient.cat()).thenReturn(openSearchCatClient);
+
+        final List<PartitionIdentifier> partitionIdentifierList =
+                new OpenSearchIndexPartitionCreationSupplier(openSearchSourceConfiguration, clusterClientFactory, 3).apply(Collections.emptyMap());
+
+        assertThat(partitionIdentifierList.size(), equalTo(3));
+        for (int sliceId = 0; sliceId < 3; sliceId++) {
+            final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(partitionIdentifierList.get(sliceId).getPartitionKey());
+            assertThat(indexPartitionKey.getIndexName(), equalTo("my-index"));
+            assertThat(indexPartitionKey.getSliceId(), equalTo(sliceId));
+            assertThat(indexPartitionKey.getMaxSlices(), equalTo(3));
+        }
+    }
+
+    @Test
+    void apply_with_slices_and_pit_search_accessor_creates_one_pit_per_index_for_all_slices() throws IOException {
+        when(clusterClientFactory.getClient()).thenReturn(openSearchClient);
+        mockIndices("my-index");
+        final SearchAccessor searchAccessor = mock(SearchAccessor.class);
+        final CreatePointInTimeResponse createPointInTimeResponse = mock(CreatePointInTimeResponse.class);
+        final String pitId = UUID.randomUUID().toString();
+        when(createPointInTimeResponse.getPitId()).thenReturn(pitId);
+        when(createPointInTimeResponse.getPitCreationTime()).thenReturn(1000L);
+        final ArgumentCaptor<CreatePointInTimeRequest> createPointInTimeRequestArgumentCaptor = ArgumentCaptor.forClass(CreatePointInTimeRequest.class);
+        when(searchAccessor.createPit(createPointInTimeRequestArgumentCaptor.capture())).thenReturn(createPointInTimeResponse);
+        final Map<String, Object> globalStateMap = new HashMap<>();
+        final OpenSearchIndexPartitionCreationSupplier objectUnderTest =
+                new OpenSearchIndexPartitionCreationSupplier(openSearchSourceConfiguration, clusterClientFactory, 3, searchAccessor);
+
+        final List<PartitionIdentifier> partitionIdentifierList = objectUnderTest.apply(globalStateMap);
+        final List<PartitionIdentifier> partitionIdentifierListOfNextRun = objectUnderTest.apply(globalStateMap);
+
+        verify(searchAccessor, times(1)).createPit(any(CreatePointInTimeRequest.class));
+        assertThat(createPointInTimeRequestArgumentCaptor.getValue().getIndex(), equalTo("my-index"));
+        assertThat(partitionIdentifierList.size(), equalTo(3));
+        for (int sliceId = 0; sliceId < 3; sliceId++) {
+            final IndexPartitionKey indexPartitionKey = IndexPartitionKey.fromPartitionKey(partitionIdentifierList.get(sliceId).getPartitionKey());
+            assertThat(indexPartitionKey.getIndexName(), equalTo("my-index"));
+            assertThat(indexPartitionKey.getSliceId(), equalTo(sliceId));
+            assertThat(indexPartitionKey.getMaxSlices(), equalTo(3));
+            assertThat(indexPartitionKey.getPitId(), equalTo(pitId));
+            assertThat(indexPartitionKey.getPitCreationTime(), equalTo(1000L));
+            assertThat(partitionIdentifierListOfNextRun.get(sliceId).getPartitionKey(), equalTo(partitionIdentifierList.get(sliceId).getPartitionKey()));
+        }
+    }
+
+    @Test
+    void apply_with_slices_and_pit_search_accessor_creates_no_partitions_for_index_when_create_pit_fails() throws IOException {
+        when(clusterClientFactory.getClient()).thenReturn(openSearchClient);
+        mockIndices("my-index");
+        final SearchAccessor searchAccessor = mock(SearchAccessor.class);
+        when(searchAccessor.createPit(any(CreatePointInTimeRequest.class))).thenThrow(SearchContextLimitException.class);
+        final Map<String, Object> globalStateMap = new HashMap<>();
+
+        final List<PartitionIdentifier> partitionIdentifierList =
+                new OpenSearchIndexPartitionCreationSupplier(openSearchSourceConfiguration, clusterClientFactory, 3, searchAccessor).apply(globalStateMap);
+
+        assertThat(partitionIdentifierList.isEmpty(), equalTo(true));
+        assertThat(globalStateMap.isEmpty(), equalTo(true));
+    }
+
+    private void mockIndices(final String... indexNames) throws IOException {
+        final OpenSearchCatClient openSearchCatClient = mock(OpenSearchCatClient.class);
+        final IndicesResponse indicesResponse = mock(IndicesResponse.class);
+        final List<IndicesRecord> indicesRecords = new ArrayList<>();
+        for (final String indexName : indexNames) {
+            final IndicesRecord indicesRecord = mock(IndicesRecord.class);
+            when(indicesRecord.index()).thenReturn(indexName);
+            indicesRecords.add(indicesRecord);
+        }
+        when(indicesResponse.valueBody()).thenReturn(indicesRecords);
+        when(openSearchCatClient.indices()).thenReturn(indicesResponse);
+        when(openSearchClient.cat()).thenReturn(openSearchCatClient);
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the OpenSearch friendly names of OTel attribute keys. Attribute keys repeat across nearly every span, log and
+ * metric, so each key is only transformed once. The cache stops growing once it holds {@code maxSize} keys, so
+ * clients sending unbounded numbers of distinct keys only lose the caching, not memory.
+ */
+class AttributeKeyCache {
+    static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Function<String, String> keyTransformation;
+    private final int maxSize;
+    private final Map<String, String> transformedKeys;
+
+    AttributeKeyCache(final Function<String, String> keyTransformation) {
+        this(keyTransformation, DEFAULT_MAX_SIZE);
+    }
+
+    AttributeKeyCache(final Function<String, String> keyTransformation, final int maxSize) {
+        this.keyTransformation = keyTransformation;
+        this.maxSize = maxSize;
+        this.transformedKeys = new ConcurrentHashMap<>();
+    }
+
+    String get(final String key) {
+        final String transformedKey = transformedKeys.get(key);
+        if (transformedKey != null) {
+            return transformedKey;
+        }
+        final String newTransformedKey = keyTransformation.apply(key);
+        if (transformedKeys.size() < maxSize) {
+            transformedKeys.putIfAbsent(key, newTransformedKey);
+        }
+        return newTransformedKey;
+    }
+
+    int size() {
+        return transformedKeys.size();
+    }
+}
@@ -48,7 +48,6 @@ import org.opensearch.dataprepper.model.trace.TraceGroupFields;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,6 +102,16 @@ public class OTelProtoCodec {
     public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
     public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT);
 
+    private static final AttributeKeyCache ATTRIBUTE_KEYS = new AttributeKeyCache(REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache SPAN_ATTRIBUTE_KEYS = new AttributeKeyCache(SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache RESOURCE_ATTRIBUTE_KEYS = new AttributeKeyCache(RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache LOG_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache METRIC_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    private static final AttributeKeyCache EXEMPLAR_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<char[]> HEX_BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
     private static final Map<BoundsKey, double[]> EXPONENTIAL_BUCKET_BOUNDS = new ConcurrentHashMap<>();
 
     static class BoundsKey {
@@ -222,12 +231,12 @@ public class OTelProtoCodec {
         private <T> List<Span> parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final T scope,
                                           final Function<T, Map<String, Object>> scopeAttributesGetter,
                                           final String serviceName, final Map<String, Object> resourceAttributes) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes);
-                    })
-                    .collect(Collectors.toList());
+            final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
+            final List<Span> parsedSpans = new ArrayList<>(spans.size());
+            for (final io.opentelemetry.proto.trace.v1.Span span : spans) {
+                parsedSpans.add(parseSpan(span, scopeAttributes, serviceName, resourceAttributes));
+            }
+            return parsedSpans;
         }
 
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
@@ -240,13 +249,7 @@ public class OTelProtoCodec {
                             .withTime(OTelProtoCodec.convertUnixNanosToISO8601(log.getTimeUnixNano()))
                             .withObservedTime(OTelProtoCodec.convertUnixNanosToISO8601(log.getObservedTimeUnixNano()))
                             .withServiceName(serviceName)
-                            .withAttributes(OTelProtoCodec.mergeAllAttributes(
-                                    Arrays.asList(
-                                            OTelProtoCodec.unpackKeyValueListLog(log.getAttributesList()),
-                                            resourceAttributes,
-                                            ils
-                                    )
-                            ))
+                            .withAttributes(getLogAttributes(log, resourceAttributes, ils))
                             .withSchemaUrl(schemaUrl)
                             .withFlags(log.getFlags())
                             .withTraceId(OTelProtoCodec.convertByteStringToString(log.getTraceId()))
@@ -270,18 +273,11 @@ public class OTelProtoCodec {
                     .withKind(sp.getKind().name())
                     .withStartTime(getStartTimeISO8601(sp))
                     .withEndTime(getEndTimeISO8601(sp))
-                    .withAttributes(mergeAllAttributes(
-                            Arrays.asList(
-                                    getSpanAttributes(sp),
-                                    resourceAttributes,
-                                    instrumentationScopeAttributes,
-                                    getSpanStatusAttributes(sp.getStatus())
-                            )
-                    ))
+                    .withAttributes(getAllSpanAttributes(sp, resourceAttributes, instrumentationScopeAttributes))
                     .withDroppedAttributesCount(sp.getDroppedAttributesCount())
-                    .withEvents(sp.getEventsList().stream().map(this::getSpanEvent).collect(Collectors.toList()))
+                    .withEvents(getSpanEvents(sp))
                     .withDroppedEventsCount(sp.getDroppedEventsCount())
-                    .withLinks(sp.getLinksList().stream().map(this::getLink).collect(Collectors.toList()))
+                    .withLinks(getLinks(sp))
                     .withDroppedLinksCount(sp.getDroppedLinksCount())
                     .withTraceGroup(getTraceGroup(sp))
                     .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
@@ -315,7 +311,7 @@ public class OTelProtoCodec {
                 case KVLIST_VALUE:
                     try {
                         return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                                .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()),
+                                .collect(Collectors.toMap(i -> ATTRIBUTE_KEYS.get(i.getKey()),
                                         i ->convertAnyValue(i.getValue()))));
                     } catch (JsonProcessingException e) {
                         throw new OTelDecodingException(e);
@@ -331,6 +327,52 @@ public class OTelProtoCodec {
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         }
 
+        /**
+         * Collects the span, resource, instrumentation scope and status attributes of a span into a single map,
+         * without building a map per attribute group first.
+         */
+        protected Map<String, Object> getAllSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span,
+                                                           final Map<String, Object> resourceAttributes,
+                                                           final Map<String, Object> instrumentationScopeAttributes) {
+            final Map<String, Object> attributes = newAttributesMap(span.getAttributesCount() + resourceAttributes.size()
+                    + instrumentationScopeAttributes.size() + 2);
+            putAttributes(attributes, span.getAttributesList(), SPAN_ATTRIBUTE_KEYS);
+            attributes.putAll(resourceAttributes);
+            attributes.putAll(instrumentationScopeAttributes);
+            final Status status = span.getStatus();
+            attributes.put(STATUS_CODE, status.getCodeValue());
+            if (!status.getMessage().isEmpty()) {
+                attributes.put(STATUS_MESSAGE, status.getMessage());
+            }
+            return attributes;
+        }
+
+        protected Map<String, Object> getLogAttributes(final LogRecord log, final Map<String, Object> resourceAttributes,
+                                                       final Map<String, Object> instrumentationScopeAttributes) {
+            final Map<String, Object> attributes = newAttributesMap(log.getAttributesCount() + resourceAttributes.size()
+                    + instrumentationScopeAttributes.size());
+            putAttributes(attributes, log.getAttributesList(), LOG_ATTRIBUTE_KEYS);
+            attributes.putAll(resourceAttributes);
+            attributes.putAll(instrumentationScopeAttributes);
+            return attributes;
+        }
+
+        private List<SpanEvent> getSpanEvents(final io.opentelemetry.proto.trace.v1.Span span) {
+            final List<SpanEvent> spanEvents = new ArrayList<>(span.getEventsCount());
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+                spanEvents.add(getSpanEvent(event));
+            }
+            return spanEvents;
+        }
+
+        private List<Link> getLinks(final io.opentelemetry.proto.trace.v1.Span span) {
+            final List<Link> links = new ArrayList<>(span.getLinksCount());
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+                links.add(getLink(link));
+            }
+            return links;
+        }
+
         protected SpanEvent getSpanEvent(final io.opentelemetry.proto.trace.v1.Span.Event event) {
             return DefaultSpanEvent.builder()
                     .withTime(getTimeISO8601(event))
@@ -351,19 +393,19 @@ public class OTelProtoCodec {
         }
 
         protected Map<String, Object> getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span) {
-            return span.getAttributesList().stream().collect(Collectors.toMap(i -> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return putAttributes(newAttributesMap(span.getAttributesCount()), span.getAttributesList(), SPAN_ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getResourceAttributes(final Resource resource) {
-            return resource.getAttributesList().stream().collect(Collectors.toMap(i -> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return putAttributes(newAttributesMap(resource.getAttributesCount()), resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getLinkAttributes(final io.opentelemetry.proto.trace.v1.Span.Link link) {
-            return link.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return putAttributes(newAttributesMap(link.getAttributesCount()), link.getAttributesList(), ATTRIBUTE_KEYS);
         }
 
         protected Map<String, Object> getEventAttributes(final io.opentelemetry.proto.trace.v1.Span.Event event) {
-            return event.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return putAttributes(newAttributesMap(event.getAttributesCount()), event.getAttributesList(), ATTRIBUTE_KEYS);
         }
 
         /**
@@ -653,7 +695,7 @@ public class OTelProtoCodec {
             case KVLIST_VALUE:
                 try {
                     return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                            .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue()))));
+                            .collect(Collectors.toMap(i -> ATTRIBUTE_KEYS.get(i.getKey()), i -> convertAnyValue(i.getValue()))));
                 } catch (JsonProcessingException e) {
                     throw new RuntimeException(e);
                 }
@@ -670,8 +712,7 @@ public class OTelProtoCodec {
      * @return A Map containing all attributes of `numberDataPoint` with keys converted into an OS-friendly format
      */
     public static Map<String, Object> convertKeysOfDataPointAttributes(final NumberDataPoint numberDataPoint) {
-        return numberDataPoint.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return putAttributes(newAttributesMap(numberDataPoint.getAttributesCount()), numberDataPoint.getAttributesList(), METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -683,8 +724,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return putAttributes(newAttributesMap(attributesList.size()), attributesList, METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -696,8 +736,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueListLog(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return putAttributes(newAttributesMap(attributesList.size()), attributesList, LOG_ATTRIBUTE_KEYS);
     }
 
 
@@ -710,8 +749,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackExemplarValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return putAttributes(newAttributesMap(attributesList.size()), attributesList, EXEMPLAR_ATTRIBUTE_KEYS);
     }
 
 
@@ -752,8 +790,28 @@ public class OTelProtoCodec {
     }
 
     public static Map<String, Object> getResourceAttributes(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return putAttributes(newAttributesMap(resource.getAttributesCount()), resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
+    }
+
+    /**
+     * Puts the converted values of the attributes into the target map under their OpenSearch friendly keys.
+     * A key repeated in the attributes list keeps its last value.
+     *
+     * @param target the map to put the attributes into
+     * @param attributesList the list of {@link KeyValue} objects to process
+     * @param keyCache cache of the transformed keys
+     * @return the target map
+     */
+    static Map<String, Object> putAttributes(final Map<String, Object> target, final List<KeyValue> attributesList,
+                                             final AttributeKeyCache keyCache) {
+        for (final KeyValue keyValue : attributesList) {
+            target.put(keyCache.get(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+        }
+        return target;
+    }
+
+    private static Map<String, Object> newAttributesMap(final int expectedSize) {
+        return new HashMap<>((int) (expectedSize / 0.75f) + 1);
     }
 
     /**
@@ -941,7 +999,25 @@ public class OTelProtoCodec {
         return mappedBuckets;
     }
 
+    /**
+     * Hex encodes trace and span ids. The bytes are read in place and encoded into a per thread char buffer,
+     * so the only allocation is the resulting string.
+     *
+     * @param bs the id to encode
+     * @return lower case hex representation of the id
+     */
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int length = bs.size() * 2;
+        char[] hexChars = HEX_BUFFER.get();
+        if (hexChars.length < length) {
+            hexChars = new char[length];
+            HEX_BUFFER.set(hexChars);
+        }
+        for (int i = 0; i < bs.size(); i++) {
+            final int b = bs.byteAt(i) & 0xFF;
+            hexChars[i * 2] = HEX_DIGITS[b >>> 4];
+            hexChars[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(hexChars, 0, length);
     }
 }
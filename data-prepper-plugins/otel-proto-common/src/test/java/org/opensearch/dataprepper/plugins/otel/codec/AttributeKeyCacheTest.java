@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AttributeKeyCacheTest {
+
+    @Test
+    void get_transforms_each_key_once() {
+        final AtomicInteger transformations = new AtomicInteger();
+        final Function<String, String> keyTransformation = key -> {
+            transformations.incrementAndGet();
+            return OTelProtoCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(key);
+        };
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(keyTransformation);
+
+        final String first = objectUnderTest.get("http.method");
+        final String second = objectUnderTest.get("http.method");
+
+        assertThat(first, equalTo("span.attributes.http@method"));
+        assertThat(second, sameInstance(first));
+        assertThat(transformations.get(), equalTo(1));
+    }
+
+    @Test
+    void get_stops_caching_when_full() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(OTelProtoCodec.REPLACE_DOT_WITH_AT, 2);
+
+        assertThat(objectUnderTest.get("a.1"), equalTo("a@1"));
+        assertThat(objectUnderTest.get("a.2"), equalTo("a@2"));
+        assertThat(objectUnderTest.get("a.3"), equalTo("a@3"));
+
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+}
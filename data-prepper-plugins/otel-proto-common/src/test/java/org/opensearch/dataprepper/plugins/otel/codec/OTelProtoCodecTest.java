@@ -1154,4 +1154,14 @@ public class OTelProtoCodecTest {
         assertNotEquals(k1, k2);
     }
 
+    @Test
+    public void testConvertByteStringToStringMatchesHexEncoding() {
+        final byte[] bytes = new byte[64];
+        new Random().nextBytes(bytes);
+        for (final int length : new int[] {0, 8, 16, 64}) {
+            final byte[] id = Arrays.copyOf(bytes, length);
+            assertEquals(Hex.encodeHexString(id), OTelProtoCodec.convertByteStringToString(ByteString.copyFrom(id)));
+        }
+    }
+
 }
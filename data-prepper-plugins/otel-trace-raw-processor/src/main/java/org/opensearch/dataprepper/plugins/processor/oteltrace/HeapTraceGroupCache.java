@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps trace groups as objects on the Java heap.
+ */
+class HeapTraceGroupCache implements TraceGroupCache {
+    private final Cache<TraceIdKey, TraceGroup> traceIdTraceGroupCache;
+
+    HeapTraceGroupCache(final int concurrencyLevel, final long maximumSize, final Duration timeToLive) {
+        traceIdTraceGroupCache = CacheBuilder.newBuilder()
+                .concurrencyLevel(concurrencyLevel)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public void put(final TraceIdKey traceIdKey, final TraceGroup traceGroup) {
+        traceIdTraceGroupCache.put(traceIdKey, traceGroup);
+    }
+
+    @Override
+    public TraceGroup getIfPresent(final TraceIdKey traceIdKey) {
+        return traceIdTraceGroupCache.getIfPresent(traceIdKey);
+    }
+
+    @Override
+    public long size() {
+        return traceIdTraceGroupCache.size();
+    }
+
+    @Override
+    public void close() {
+        traceIdTraceGroupCache.cleanUp();
+    }
+}
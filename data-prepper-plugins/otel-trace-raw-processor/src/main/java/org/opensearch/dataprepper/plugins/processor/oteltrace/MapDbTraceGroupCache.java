@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.mapdb.DB;
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+import org.mapdb.HTreeMap;
+import org.mapdb.Serializer;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+import org.opensearch.dataprepper.plugins.processor.state.CompactValueSerializer;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps serialized trace groups in direct memory or in a memory-mapped file, outside of the Java heap. Expired trace
+ * groups and the oldest trace groups beyond the maximum size are removed while trace groups are written.
+ */
+class MapDbTraceGroupCache implements TraceGroupCache {
+    static final String DB_NAME_PREFIX = "trace-group-cache-";
+    private static final TraceGroupSerializer TRACE_GROUP_SERIALIZER = new TraceGroupSerializer();
+
+    private final DB db;
+    private final HTreeMap<byte[], TraceGroup> traceGroups;
+
+    /**
+     * @param dbPath Directory of the memory-mapped file, which is deleted when the cache is closed
+     */
+    MapDbTraceGroupCache(final MapDbStorageType storageType, final File dbPath, final int concurrencyScale,
+                         final long maximumSize, final Duration timeToLive) {
+        if (storageType == MapDbStorageType.MEMORY_MAPPED_FILE && !dbPath.isDirectory() && !dbPath.mkdirs()) {
+            throw new IllegalStateException(String.format("Unable to create trace group cache directory %s", dbPath.getPath()));
+        }
+        // Every processor instance has its own cache, so each needs its own file
+        final String dbName = DB_NAME_PREFIX + UUID.randomUUID();
+        db = storageType.createDbMaker(new File(dbPath, dbName))
+                .concurrencyScale(concurrencyScale)
+                .closeOnJvmShutdown()
+                .make();
+        traceGroups = db.hashMap(dbName, Serializer.BYTE_ARRAY, TRACE_GROUP_SERIALIZER)
+                .counterEnable()
+                .expireAfterCreate(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .expireAfterUpdate(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .expireMaxSize(maximumSize)
+                .createOrOpen();
+    }
+
+    @Override
+    public void put(final TraceIdKey traceIdKey, final TraceGroup traceGroup) {
+        traceGroups.put(traceIdKey.toBytes(), traceGroup);
+    }
+
+    @Override
+    public TraceGroup getIfPresent(final TraceIdKey traceIdKey) {
+        return traceGroups.get(traceIdKey.toBytes());
+    }
+
+    @Override
+    public long size() {
+        return traceGroups.sizeLong();
+    }
+
+    @Override
+    public void close() {
+        db.close();
+    }
+
+    static class TraceGroupSerializer extends CompactValueSerializer<TraceGroup> {
+        @Override
+        public void serialize(final DataOutput2 out, final TraceGroup value) throws IOException {
+            writeNullableString(out, value.getTraceGroup());
+            final TraceGroupFields traceGroupFields = value.getTraceGroupFields();
+            out.writeBoolean(traceGroupFields != null);
+            if (traceGroupFields == null) {
+                return;
+            }
+            writeNullableString(out, traceGroupFields.getEndTime());
+            final Long durationInNanos = traceGroupFields.getDurationInNanos();
+            out.writeBoolean(durationInNanos != null);
+            if (durationInNanos != null) {
+                out.writeLong(durationInNanos);
+            }
+            final Integer statusCode = traceGroupFields.getStatusCode();
+            out.writeBoolean(statusCode != null);
+            if (statusCode != null) {
+                out.writeInt(statusCode);
+            }
+        }
+
+        @Override
+        public TraceGroup deserialize(final DataInput2 input, final int available) throws IOException {
+            final String traceGroup = readNullableString(input);
+            if (!input.readBoolean()) {
+                return new TraceGroup(traceGroup, null);
+            }
+            final String endTime = readNullableString(input);
+            final Long durationInNanos = input.readBoolean() ? input.readLong() : null;
+            final Integer statusCode = input.readBoolean() ? input.readInt() : null;
+            return new TraceGroup(traceGroup, DefaultTraceGroupFields.builder()
+                    .withEndTime(endTime)
+                    .withDurationInNanos(durationInNanos)
+                    .withStatusCode(statusCode)
+                    .build());
+        }
+    }
+}
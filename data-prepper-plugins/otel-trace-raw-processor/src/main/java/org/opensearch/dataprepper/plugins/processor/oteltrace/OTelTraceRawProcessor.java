@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -14,24 +15,21 @@ import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.micrometer.core.instrument.util.StringUtils;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -42,16 +40,19 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceRawProcessor.class);
     public static final String TRACE_GROUP_CACHE_COUNT_METRIC_NAME = "traceGroupCacheCount";
     public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String BUFFERED_SPAN_COUNT_METRIC_NAME = "bufferedSpanCount";
+    public static final String SPAN_SETS_EVICTED_METRIC_NAME = "spanSetsEvicted";
+    private static final int MINIMUM_SPAN_SET_SHARD_COUNT = 16;
+    private static final int SPAN_SET_SHARDS_PER_WORKER = 4;
 
     private final long traceFlushInterval;
 
-    private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+    private final SpanSetStore spanSetStore;
 
-    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
+    private final TraceGroupCache traceIdTraceGroupCache;
 
-    private long lastTraceFlushTime = 0L;
+    private final Counter spanSetsEvictedCounter;
 
-    private final ReentrantLock traceFlushLock = new ReentrantLock();
     private final ReentrantLock prepareForShutdownLock = new ReentrantLock();
 
     private volatile boolean isShuttingDown = false;
@@ -63,18 +64,30 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         super(pluginMetrics);
         traceFlushInterval = SEC_TO_MILLIS * otelTraceRawProcessorConfig.getTraceFlushIntervalSeconds();
         final int numProcessWorkers = pipelineDescription.getNumberOfProcessWorkers();
-        traceIdTraceGroupCache = CacheBuilder.newBuilder()
-                .concurrencyLevel(numProcessWorkers)
-                .maximumSize(otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize())
-                .expireAfterWrite(otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
-                .build();
+        traceIdTraceGroupCache = createTraceGroupCache(otelTraceRawProcessorConfig, numProcessWorkers);
+        spanSetStore = new SpanSetStore(Math.max(MINIMUM_SPAN_SET_SHARD_COUNT, numProcessWorkers * SPAN_SET_SHARDS_PER_WORKER),
+                traceFlushInterval, otelTraceRawProcessorConfig.getMaxBufferedSpans());
 
         pluginMetrics.gauge(TRACE_GROUP_CACHE_COUNT_METRIC_NAME, traceIdTraceGroupCache, cache -> (double) cache.size());
-        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, traceIdSpanSetMap, cache -> (double) cache.size());
+        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.getSpanSetCount());
+        pluginMetrics.gauge(BUFFERED_SPAN_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.getSpanCount());
+        spanSetsEvictedCounter = pluginMetrics.counter(SPAN_SETS_EVICTED_METRIC_NAME);
 
         LOG.info("Configured Trace Raw Processor with a trace flush interval of {} ms.", traceFlushInterval);
     }
 
+    private static TraceGroupCache createTraceGroupCache(final OtelTraceRawProcessorConfig otelTraceRawProcessorConfig,
+                                                         final int numProcessWorkers) {
+        final MapDbStorageType storageType = MapDbStorageType.fromOptionValue(otelTraceRawProcessorConfig.getTraceGroupCacheStorage());
+        if (storageType == MapDbStorageType.HEAP) {
+            return new HeapTraceGroupCache(numProcessWorkers, otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize(),
+                    otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive());
+        }
+        return new MapDbTraceGroupCache(storageType, new File(OtelTraceRawProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_PATH),
+                numProcessWorkers, otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize(),
+                otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive());
+    }
+
     /**
      * execute the processor logic which could potentially modify the incoming record. The level to which the record has
      * been modified depends on the implementation
@@ -84,7 +97,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      */
     @Override
     public Collection<Record<Span>> doExecute(Collection<Record<Span>> records) {
-        final List<Span> processedSpans = new LinkedList<>();
+        final List<Span> processedSpans = new ArrayList<>();
 
         for (Record<Span> record : records) {
             final Span span = record.getData();
@@ -108,7 +121,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
             final List<Span> rootSpanAndChildren = processRootSpan(span);
             spanSet.addAll(rootSpanAndChildren);
         } else {
-            final Optional<Span> populatedChildSpanOptional = processChildSpan(span);
+            final Optional<Span> populatedChildSpanOptional = processChildSpan(span, spanSet);
             if (populatedChildSpanOptional.isPresent()) {
                 spanSet.add(populatedChildSpanOptional.get());
             }
@@ -125,20 +138,18 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      */
     private List<Span> processRootSpan(final Span parentSpan) {
         final TraceGroup traceGroup = TraceGroup.fromSpan(parentSpan);
-        final String parentSpanTraceId = parentSpan.getTraceId();
-        traceIdTraceGroupCache.put(parentSpanTraceId, traceGroup);
+        final TraceIdKey traceIdKey = TraceIdKey.fromTraceId(parentSpan.getTraceId());
+        traceIdTraceGroupCache.put(traceIdKey, traceGroup);
 
-        final List<Span> recordsToFlush = new LinkedList<>();
+        final List<Span> recordsToFlush = new ArrayList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = spanSetStore.removeSpanSet(traceIdKey);
         if (spanSet != null) {
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
         }
 
         return recordsToFlush;
@@ -151,20 +162,17 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * @param childSpan
      * @return Optional containing childSpan if its traceGroup is in memory, otherwise an empty Optional
      */
-    private Optional<Span> processChildSpan(final Span childSpan) {
-        final String childSpanTraceId = childSpan.getTraceId();
-        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(childSpanTraceId);
+    private Optional<Span> processChildSpan(final Span childSpan, final Collection<Span> evictedSpans) {
+        final TraceIdKey traceIdKey = TraceIdKey.fromTraceId(childSpan.getTraceId());
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceIdKey);
 
         if (traceGroup != null) {
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
-            traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
-                if (spanSet == null) {
-                    spanSet = new SpanSet();
-                }
-                spanSet.addSpan(childSpan);
-                return spanSet;
+            spanSetStore.addSpan(traceIdKey, childSpan, (evictedTraceIdKey, evictedSpanSet) -> {
+                spanSetsEvictedCounter.increment();
+                flushSpanSet(evictedTraceIdKey, evictedSpanSet, evictedSpans);
             });
 
             return Optional.empty();
@@ -178,61 +186,39 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
-        final List<Span> recordsToFlush = new LinkedList<>();
-
-        if (shouldGarbageCollect()) {
-            final boolean isLockAcquired = traceFlushLock.tryLock();
-
-            if (isLockAcquired) {
-                try {
-                    final long now = System.currentTimeMillis();
-                    lastTraceFlushTime = now;
-
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
-                        }
-                    }
-                    if (recordsToFlush.size() > 0) {
-                        LOG.info("Flushing {} records", recordsToFlush.size());
-                    }
-                } finally {
-                    traceFlushLock.unlock();
-                }
-            }
+        final List<Span> recordsToFlush = new ArrayList<>();
+
+        spanSetStore.flushExpiredSpanSets(System.currentTimeMillis(), isShuttingDown,
+                (traceIdKey, spanSet) -> flushSpanSet(traceIdKey, spanSet, recordsToFlush));
+        if (recordsToFlush.size() > 0) {
+            LOG.info("Flushing {} records", recordsToFlush.size());
         }
 
         return recordsToFlush;
     }
 
+    private void flushSpanSet(final TraceIdKey traceIdKey, final SpanSet spanSet, final Collection<Span> recordsToFlush) {
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceIdKey);
+        final Set<Span> spans = spanSet.getSpans();
+        if (traceGroup != null) {
+            spans.forEach(span -> {
+                fillInTraceGroupInfo(span, traceGroup);
+                recordsToFlush.add(span);
+            });
+        } else {
+            LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+            spans.forEach(span -> {
+                recordsToFlush.add(span);
+                LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+            });
+        }
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private boolean shouldGarbageCollect() {
-        return System.currentTimeMillis() - lastTraceFlushTime >= traceFlushInterval || isShuttingDown;
-    }
-
     /**
      * Forces a flush of all spans in memory
      */
@@ -242,7 +228,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
         if (isLockAcquired) {
             try {
-                LOG.info("Preparing for shutdown, will attempt to flush {} spans", traceIdSpanSetMap.size());
+                LOG.info("Preparing for shutdown, will attempt to flush {} spans", spanSetStore.getSpanCount());
                 isShuttingDown = true;
             } finally {
                 prepareForShutdownLock.unlock();
@@ -252,12 +238,12 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
     @Override
     public boolean isReadyForShutdown() {
-        return traceIdSpanSetMap.isEmpty();
+        return spanSetStore.isEmpty();
     }
 
     @Override
     public void shutdown() {
-        traceIdTraceGroupCache.cleanUp();
+        traceIdTraceGroupCache.close();
     }
 
     @Override
@@ -13,6 +13,9 @@ public class OtelTraceRawProcessorConfig {
     static final long DEFAULT_TG_FLUSH_INTERVAL_SEC = 180L;
     static final Duration DEFAULT_TRACE_ID_TTL = Duration.ofSeconds(15L);
     static final long MAX_TRACE_ID_CACHE_SIZE = 1_000_000L;
+    static final long DEFAULT_MAX_BUFFERED_SPANS = 1_000_000L;
+    static final String DEFAULT_TRACE_GROUP_CACHE_STORAGE = "heap";
+    static final String DEFAULT_TRACE_GROUP_CACHE_PATH = "data/otel-trace-raw/";
     @JsonProperty("trace_flush_interval")
     private long traceFlushInterval = DEFAULT_TG_FLUSH_INTERVAL_SEC;
 
@@ -22,6 +25,12 @@ public class OtelTraceRawProcessorConfig {
     @JsonProperty("trace_group_cache_max_size")
     private long traceGroupCacheMaxSize = MAX_TRACE_ID_CACHE_SIZE;
 
+    @JsonProperty("max_buffered_spans")
+    private long maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+
+    @JsonProperty("trace_group_cache_storage")
+    private String traceGroupCacheStorage = DEFAULT_TRACE_GROUP_CACHE_STORAGE;
+
     public long getTraceFlushIntervalSeconds() {
         return traceFlushInterval;
     }
@@ -33,4 +42,17 @@ public class OtelTraceRawProcessorConfig {
     public long getTraceGroupCacheMaxSize() {
         return traceGroupCacheMaxSize;
     }
+
+    public long getMaxBufferedSpans() {
+        return maxBufferedSpans;
+    }
+
+    /**
+     * Where the trace group cache is kept: heap, direct_memory or memory_mapped_file.
+     *
+     * @return The trace group cache storage option
+     */
+    public String getTraceGroupCacheStorage() {
+        return traceGroupCacheStorage;
+    }
 }
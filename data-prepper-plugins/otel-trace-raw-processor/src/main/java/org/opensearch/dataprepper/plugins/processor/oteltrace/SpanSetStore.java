@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Buffers child spans by trace until the root span arrives or the span set expires. Span sets are split into shards
+ * by trace id, and each shard keeps its span sets in the order they were created, so expired span sets are always at
+ * the head of a shard and can be flushed without scanning the rest. Workers lock one shard at a time, so flushing
+ * never blocks workers adding spans to other shards.
+ * <p>
+ * When a maximum number of buffered spans is configured, the oldest span sets are flushed early once the maximum is
+ * exceeded.
+ */
+class SpanSetStore {
+    private final Shard[] shards;
+    private final long flushIntervalMillis;
+    private final long maxBufferedSpans;
+    private final AtomicLong spanCount = new AtomicLong();
+    private final AtomicLong spanSetCount = new AtomicLong();
+    private final AtomicLong spanSetSequence = new AtomicLong();
+
+    /**
+     * @param shardCount Number of independently locked shards
+     * @param flushIntervalMillis Time after which a span set is flushed without its root span
+     * @param maxBufferedSpans Maximum number of buffered spans, or zero for no maximum
+     */
+    SpanSetStore(final int shardCount, final long flushIntervalMillis, final long maxBufferedSpans) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBufferedSpans = maxBufferedSpans;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Buffers a child span. If this exceeds the maximum number of buffered spans, the oldest span sets are removed and
+     * passed to the eviction consumer.
+     */
+    void addSpan(final TraceIdKey traceIdKey, final Span span, final BiConsumer<TraceIdKey, SpanSet> evictedSpanSetConsumer) {
+        final Shard shard = shardFor(traceIdKey);
+        synchronized (shard) {
+            BufferedSpanSet bufferedSpanSet = shard.spanSets.get(traceIdKey);
+            if (bufferedSpanSet == null) {
+                bufferedSpanSet = new BufferedSpanSet(new SpanSet(), spanSetSequence.incrementAndGet());
+                shard.spanSets.put(traceIdKey, bufferedSpanSet);
+                spanSetCount.incrementAndGet();
+                if (shard.spanSets.size() == 1) {
+                    shard.updateOldest(bufferedSpanSet);
+                }
+            }
+            final SpanSet spanSet = bufferedSpanSet.spanSet;
+            final int previousSize = spanSet.getSpans().size();
+            spanSet.addSpan(span);
+            spanCount.addAndGet(spanSet.getSpans().size() - previousSize);
+        }
+
+        while (maxBufferedSpans > 0 && spanCount.get() > maxBufferedSpans) {
+            if (!evictOldestSpanSet(evictedSpanSetConsumer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The span set of the trace, which is no longer buffered, or null if no spans of the trace are buffered
+     */
+    SpanSet removeSpanSet(final TraceIdKey traceIdKey) {
+        final Shard shard = shardFor(traceIdKey);
+        synchronized (shard) {
+            final BufferedSpanSet bufferedSpanSet = shard.spanSets.remove(traceIdKey);
+            if (bufferedSpanSet == null) {
+                return null;
+            }
+            onRemoved(shard, bufferedSpanSet.spanSet);
+            return bufferedSpanSet.spanSet;
+        }
+    }
+
+    /**
+     * Removes every span set which has expired, or every span set when flushing all, and passes it to the consumer.
+     * Shards without an expired span set are skipped without locking them.
+     */
+    void flushExpiredSpanSets(final long nowMillis, final boolean flushAll, final BiConsumer<TraceIdKey, SpanSet> flushedSpanSetConsumer) {
+        final long expiredBeforeMillis = flushAll ? Long.MAX_VALUE : nowMillis - flushIntervalMillis;
+        for (final Shard shard : shards) {
+            if (shard.oldestTimeSeen > expiredBeforeMillis) {
+                continue;
+            }
+            synchronized (shard) {
+                final Iterator<Map.Entry<TraceIdKey, BufferedSpanSet>> entryIterator = shard.spanSets.entrySet().iterator();
+                while (entryIterator.hasNext()) {
+                    final Map.Entry<TraceIdKey, BufferedSpanSet> entry = entryIterator.next();
+                    final SpanSet spanSet = entry.getValue().spanSet;
+                    if (spanSet.getTimeSeen() > expiredBeforeMillis) {
+                        break;
+                    }
+                    entryIterator.remove();
+                    onRemoved(shard, spanSet);
+                    flushedSpanSetConsumer.accept(entry.getKey(), spanSet);
+                }
+            }
+        }
+    }
+
+    long getSpanSetCount() {
+        return spanSetCount.get();
+    }
+
+    long getSpanCount() {
+        return spanCount.get();
+    }
+
+    boolean isEmpty() {
+        return spanSetCount.get() == 0;
+    }
+
+    private boolean evictOldestSpanSet(final BiConsumer<TraceIdKey, SpanSet> evictedSpanSetConsumer) {
+        Shard oldestShard = null;
+        for (final Shard shard : shards) {
+            if (shard.oldestSequence != Long.MAX_VALUE && (oldestShard == null || shard.oldestSequence < oldestShard.oldestSequence)) {
+                oldestShard = shard;
+            }
+        }
+        if (oldestShard == null) {
+            return false;
+        }
+
+        final Map.Entry<TraceIdKey, BufferedSpanSet> evictedEntry;
+        synchronized (oldestShard) {
+            final Iterator<Map.Entry<TraceIdKey, BufferedSpanSet>> entryIterator = oldestShard.spanSets.entrySet().iterator();
+            if (!entryIterator.hasNext()) {
+                return true;
+            }
+            evictedEntry = entryIterator.next();
+            entryIterator.remove();
+            onRemoved(oldestShard, evictedEntry.getValue().spanSet);
+        }
+        evictedSpanSetConsumer.accept(evictedEntry.getKey(), evictedEntry.getValue().spanSet);
+        return true;
+    }
+
+    private void onRemoved(final Shard shard, final SpanSet spanSet) {
+        spanSetCount.decrementAndGet();
+        spanCount.addAndGet(-spanSet.getSpans().size());
+        final Iterator<BufferedSpanSet> spanSetIterator = shard.spanSets.values().iterator();
+        shard.updateOldest(spanSetIterator.hasNext() ? spanSetIterator.next() : null);
+    }
+
+    private Shard shardFor(final TraceIdKey traceIdKey) {
+        final int hash = traceIdKey.hashCode();
+        return shards[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private static class Shard {
+        private final Map<TraceIdKey, BufferedSpanSet> spanSets = new LinkedHashMap<>();
+        private volatile long oldestTimeSeen = Long.MAX_VALUE;
+        private volatile long oldestSequence = Long.MAX_VALUE;
+
+        private void updateOldest(final BufferedSpanSet oldestSpanSet) {
+            oldestTimeSeen = oldestSpanSet == null ? Long.MAX_VALUE : oldestSpanSet.spanSet.getTimeSeen();
+            oldestSequence = oldestSpanSet == null ? Long.MAX_VALUE : oldestSpanSet.sequence;
+        }
+    }
+
+    /**
+     * A span set with the order in which it was created across all shards, which decides the oldest span set to evict.
+     */
+    private static class BufferedSpanSet {
+        private final SpanSet spanSet;
+        private final long sequence;
+
+        private BufferedSpanSet(final SpanSet spanSet, final long sequence) {
+            this.spanSet = spanSet;
+            this.sequence = sequence;
+        }
+    }
+}
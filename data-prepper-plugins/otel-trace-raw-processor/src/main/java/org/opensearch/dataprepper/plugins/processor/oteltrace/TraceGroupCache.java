@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+/**
+ * Holds the trace group of each trace whose root span was processed, so that child spans processed after it can be
+ * filled in. Trace groups expire after a time to live and the oldest are dropped beyond a maximum size.
+ */
+interface TraceGroupCache {
+
+    void put(TraceIdKey traceIdKey, TraceGroup traceGroup);
+
+    /**
+     * @return The trace group of the trace, or null if it is not cached
+     */
+    TraceGroup getIfPresent(TraceIdKey traceIdKey);
+
+    /**
+     * @return The approximate number of cached trace groups
+     */
+    long size();
+
+    /**
+     * Releases the resources of the cache. The cache cannot be used afterwards.
+     */
+    void close();
+}
@@ -13,7 +13,7 @@ public class TraceGroup {
 
     private final TraceGroupFields traceGroupFields;
 
-    private TraceGroup(final String traceGroup, final TraceGroupFields traceGroupFields) {
+    public TraceGroup(final String traceGroup, final TraceGroupFields traceGroupFields) {
         this.traceGroup = traceGroup;
         this.traceGroupFields = traceGroupFields;
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Identifies a trace by the 16 bytes of its trace id, held as two longs, so that maps keyed by trace do not hash and
+ * compare 32 character hex strings. Trace ids which are not 32 hex digits are kept as strings.
+ */
+public final class TraceIdKey {
+    private static final int TRACE_ID_HEX_LENGTH = 32;
+    private static final byte HEX_TRACE_ID_MARKER = 0;
+    private static final byte NON_HEX_TRACE_ID_MARKER = 1;
+
+    private final long high;
+    private final long low;
+    private final String nonHexTraceId;
+
+    private TraceIdKey(final long high, final long low, final String nonHexTraceId) {
+        this.high = high;
+        this.low = low;
+        this.nonHexTraceId = nonHexTraceId;
+    }
+
+    public static TraceIdKey fromTraceId(final String traceId) {
+        if (traceId == null || traceId.length() != TRACE_ID_HEX_LENGTH) {
+            return new TraceIdKey(0L, 0L, traceId);
+        }
+        long high = 0L;
+        long low = 0L;
+        for (int i = 0; i < TRACE_ID_HEX_LENGTH; i++) {
+            final int digit = Character.digit(traceId.charAt(i), 16);
+            if (digit < 0) {
+                return new TraceIdKey(0L, 0L, traceId);
+            }
+            if (i < TRACE_ID_HEX_LENGTH / 2) {
+                high = (high << 4) | digit;
+            } else {
+                low = (low << 4) | digit;
+            }
+        }
+        return new TraceIdKey(high, low, null);
+    }
+
+    /**
+     * @return The key as bytes, which are equal for equal keys. A marker byte keeps hex and other trace ids apart.
+     */
+    public byte[] toBytes() {
+        if (nonHexTraceId != null) {
+            final byte[] traceIdBytes = nonHexTraceId.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + traceIdBytes.length)
+                    .put(NON_HEX_TRACE_ID_MARKER)
+                    .put(traceIdBytes)
+                    .array();
+        }
+        return ByteBuffer.allocate(1 + 2 * Long.BYTES)
+                .put(HEX_TRACE_ID_MARKER)
+                .putLong(high)
+                .putLong(low)
+                .array();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TraceIdKey)) return false;
+        final TraceIdKey that = (TraceIdKey) o;
+        return high == that.high && low == that.low && Objects.equals(nonHexTraceId, that.nonHexTraceId);
+    }
+
+    @Override
+    public int hashCode() {
+        if (nonHexTraceId != null) {
+            return nonHexTraceId.hashCode();
+        }
+        final long hash = high * 0x9E3779B97F4A7C15L + low;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return nonHexTraceId != null ? nonHexTraceId : String.format("%016x%016x", high, low);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class MapDbTraceGroupCacheTest {
+    private static final String TRACE_ID = "0123456789abcdef0123456789abcdef";
+
+    @TempDir
+    File dbPath;
+
+    private MapDbTraceGroupCache objectUnderTest;
+
+    @AfterEach
+    void tearDown() {
+        if (objectUnderTest != null) {
+            objectUnderTest.close();
+        }
+    }
+
+    @Test
+    void getIfPresent_returns_the_trace_group_that_was_put() {
+        objectUnderTest = new MapDbTraceGroupCache(MapDbStorageType.DIRECT_MEMORY, dbPath, 1, 100, Duration.ofMinutes(1));
+        final TraceGroup traceGroup = new TraceGroup("group", DefaultTraceGroupFields.builder()
+                .withEndTime("2020-08-20T05:40:46.089556800Z")
+                .withDurationInNanos(48545100L)
+                .withStatusCode(1)
+                .build());
+
+        objectUnderTest.put(TraceIdKey.fromTraceId(TRACE_ID), traceGroup);
+
+        final TraceGroup actualTraceGroup = objectUnderTest.getIfPresent(TraceIdKey.fromTraceId(TRACE_ID));
+        assertThat(actualTraceGroup.getTraceGroup(), equalTo("group"));
+        assertThat(actualTraceGroup.getTraceGroupFields(), equalTo(traceGroup.getTraceGroupFields()));
+        assertThat(objectUnderTest.getIfPresent(TraceIdKey.fromTraceId("TRACE_ID_1")), nullValue());
+        assertThat(objectUnderTest.size(), equalTo(1L));
+    }
+
+    @Test
+    void getIfPresent_returns_null_fields_that_were_put() {
+        objectUnderTest = new MapDbTraceGroupCache(MapDbStorageType.DIRECT_MEMORY, dbPath, 1, 100, Duration.ofMinutes(1));
+
+        objectUnderTest.put(TraceIdKey.fromTraceId("TRACE_ID_1"), new TraceGroup(null, null));
+        objectUnderTest.put(TraceIdKey.fromTraceId("TRACE_ID_2"), new TraceGroup(null, DefaultTraceGroupFields.builder().build()));
+
+        final TraceGroup withoutFields = objectUnderTest.getIfPresent(TraceIdKey.fromTraceId("TRACE_ID_1"));
+        assertThat(withoutFields.getTraceGroup(), nullValue());
+        assertThat(withoutFields.getTraceGroupFields(), nullValue());
+        final TraceGroup withEmptyFields = objectUnderTest.getIfPresent(TraceIdKey.fromTraceId("TRACE_ID_2"));
+        assertThat(withEmptyFields.getTraceGroupFields(), notNullValue());
+        assertThat(withEmptyFields.getTraceGroupFields().getEndTime(), nullValue());
+        assertThat(withEmptyFields.getTraceGroupFields().getDurationInNanos(), nullValue());
+        assertThat(withEmptyFields.getTraceGroupFields().getStatusCode(), nullValue());
+    }
+
+    @Test
+    void put_beyond_maximum_size_removes_trace_groups() {
+        objectUnderTest = new MapDbTraceGroupCache(MapDbStorageType.DIRECT_MEMORY, dbPath, 1, 10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 100; i++) {
+            objectUnderTest.put(TraceIdKey.fromTraceId("TRACE_ID_" + i), new TraceGroup("group" + i, null));
+        }
+
+        assertThat(objectUnderTest.size(), lessThanOrEqualTo(10L));
+        assertThat(objectUnderTest.getIfPresent(TraceIdKey.fromTraceId("TRACE_ID_99")).getTraceGroup(), equalTo("group99"));
+    }
+
+    @Test
+    void getIfPresent_after_time_to_live_returns_null() throws InterruptedException {
+        objectUnderTest = new MapDbTraceGroupCache(MapDbStorageType.DIRECT_MEMORY, dbPath, 1, 100, Duration.ofMillis(50));
+
+        objectUnderTest.put(TraceIdKey.fromTraceId(TRACE_ID), new TraceGroup("group", null));
+        Thread.sleep(200);
+        // Expired trace groups are removed while trace groups are written
+        objectUnderTest.put(TraceIdKey.fromTraceId("TRACE_ID_1"), new TraceGroup("group", null));
+
+        assertThat(objectUnderTest.getIfPresent(TraceIdKey.fromTraceId(TRACE_ID)), nullValue());
+    }
+
+    @Test
+    void close_deletes_the_memory_mapped_file() {
+        final File cacheDirectory = new File(dbPath, "cache");
+        objectUnderTest = new MapDbTraceGroupCache(MapDbStorageType.MEMORY_MAPPED_FILE, cacheDirectory, 1, 100, Duration.ofMinutes(1));
+        objectUnderTest.put(TraceIdKey.fromTraceId(TRACE_ID), new TraceGroup("group", null));
+        assertThat(objectUnderTest.getIfPresent(TraceIdKey.fromTraceId(TRACE_ID)).getTraceGroup(), equalTo("group"));
+
+        objectUnderTest.close();
+        objectUnderTest = null;
+
+        assertThat(Objects.requireNonNull(cacheDirectory.listFiles()), arrayWithSize(0));
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.record.Record;
@@ -123,6 +124,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getTraceGroupCacheStorage()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_STORAGE);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
         executorService = Executors.newFixedThreadPool(TEST_CONCURRENCY_SCALE);
@@ -260,6 +262,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(cacheMaxSize);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getTraceGroupCacheStorage()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_STORAGE);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
@@ -281,6 +284,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMillis(traceIdTtlMillis));
+        when(config.getTraceGroupCacheStorage()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_STORAGE);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
@@ -293,6 +297,38 @@ class OTelTraceRawProcessorTest {
         MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(0));
     }
 
+    @ParameterizedTest
+    @CsvSource({"direct_memory", "memory_mapped_file"})
+    void traceGroupCacheStorage_outside_of_heap_fills_in_trace_groups(final String traceGroupCacheStorage) {
+        oTelTraceRawProcessor.shutdown();
+        when(config.getTraceGroupCacheStorage()).thenReturn(traceGroupCacheStorage);
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = new ArrayList<>();
+        processedRecords.addAll(oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_INTERLEAVED_PART_1_RECORDS));
+        processedRecords.addAll(oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_INTERLEAVED_PART_2_RECORDS));
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(6));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(0));
+    }
+
+    @Test
+    void maxBufferedSpans_flushes_oldest_span_sets_early() {
+        final Counter spanSetsEvictedCounter = mock(Counter.class);
+        when(pluginMetrics.counter(OTelTraceRawProcessor.SPAN_SETS_EVICTED_METRIC_NAME)).thenReturn(spanSetsEvictedCounter);
+        when(config.getMaxBufferedSpans()).thenReturn(2L);
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(2));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(2));
+        verify(spanSetsEvictedCounter).increment();
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
     private static Span buildSpanFromJsonFile(final String jsonFileName) {
         JacksonSpan.Builder spanBuilder = JacksonSpan.builder();
         try (final InputStream inputStream = Objects.requireNonNull(
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.mock;
+
+class SpanSetStoreTest {
+    private static final long FLUSH_INTERVAL_MILLIS = 60_000;
+
+    private final List<TraceIdKey> consumedTraceIdKeys = new ArrayList<>();
+    private final BiConsumer<TraceIdKey, SpanSet> consumer = (traceIdKey, spanSet) -> consumedTraceIdKeys.add(traceIdKey);
+
+    private SpanSetStore createObjectUnderTest(final long maxBufferedSpans) {
+        return new SpanSetStore(4, FLUSH_INTERVAL_MILLIS, maxBufferedSpans);
+    }
+
+    private static TraceIdKey randomTraceIdKey() {
+        return TraceIdKey.fromTraceId(UUID.randomUUID().toString().replace("-", ""));
+    }
+
+    @Test
+    void addSpan_groups_spans_by_trace() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest(0);
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+        final Span span1 = mock(Span.class);
+        final Span span2 = mock(Span.class);
+
+        objectUnderTest.addSpan(traceIdKey, span1, consumer);
+        objectUnderTest.addSpan(traceIdKey, span2, consumer);
+
+        assertThat(objectUnderTest.getSpanSetCount(), equalTo(1L));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(2L));
+        final SpanSet spanSet = objectUnderTest.removeSpanSet(traceIdKey);
+        assertThat(spanSet.getSpans(), containsInAnyOrder(span1, span2));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.removeSpanSet(traceIdKey), nullValue());
+    }
+
+    @Test
+    void flushExpiredSpanSets_only_flushes_expired_span_sets() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest(0);
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class), consumer);
+
+        objectUnderTest.flushExpiredSpanSets(System.currentTimeMillis(), false, consumer);
+        assertThat(consumedTraceIdKeys, empty());
+
+        objectUnderTest.flushExpiredSpanSets(System.currentTimeMillis() + FLUSH_INTERVAL_MILLIS, false, consumer);
+        assertThat(consumedTraceIdKeys, equalTo(List.of(traceIdKey)));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void flushExpiredSpanSets_with_flush_all_flushes_every_span_set() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest(0);
+        final TraceIdKey traceIdKey1 = randomTraceIdKey();
+        final TraceIdKey traceIdKey2 = randomTraceIdKey();
+        objectUnderTest.addSpan(traceIdKey1, mock(Span.class), consumer);
+        objectUnderTest.addSpan(traceIdKey2, mock(Span.class), consumer);
+
+        objectUnderTest.flushExpiredSpanSets(System.currentTimeMillis(), true, consumer);
+
+        assertThat(consumedTraceIdKeys, containsInAnyOrder(traceIdKey1, traceIdKey2));
+        assertThat(objectUnderTest.getSpanSetCount(), equalTo(0L));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+    }
+
+    @Test
+    void addSpan_beyond_max_buffered_spans_evicts_oldest_span_sets() throws InterruptedException {
+        final SpanSetStore objectUnderTest = createObjectUnderTest(2);
+        final TraceIdKey oldestTraceIdKey = randomTraceIdKey();
+        final TraceIdKey newerTraceIdKey = randomTraceIdKey();
+        final TraceIdKey newestTraceIdKey = randomTraceIdKey();
+
+        objectUnderTest.addSpan(oldestTraceIdKey, mock(Span.class), consumer);
+        Thread.sleep(5);
+        objectUnderTest.addSpan(newerTraceIdKey, mock(Span.class), consumer);
+        Thread.sleep(5);
+        assertThat(consumedTraceIdKeys, empty());
+
+        objectUnderTest.addSpan(newestTraceIdKey, mock(Span.class), consumer);
+
+        assertThat(consumedTraceIdKeys, equalTo(List.of(oldestTraceIdKey)));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(2L));
+        assertThat(objectUnderTest.removeSpanSet(oldestTraceIdKey), nullValue());
+    }
+}
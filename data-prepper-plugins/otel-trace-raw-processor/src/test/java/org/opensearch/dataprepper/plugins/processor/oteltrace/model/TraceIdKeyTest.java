@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TraceIdKeyTest {
+    private static final String TRACE_ID = "0123456789abcdef0123456789ABCDEF";
+
+    @Test
+    void fromTraceId_with_hex_trace_id_is_equal_regardless_of_case() {
+        final TraceIdKey objectUnderTest = TraceIdKey.fromTraceId(TRACE_ID);
+        final TraceIdKey other = TraceIdKey.fromTraceId(TRACE_ID.toLowerCase());
+
+        assertThat(objectUnderTest, equalTo(other));
+        assertThat(objectUnderTest.hashCode(), equalTo(other.hashCode()));
+        assertThat(objectUnderTest.toString(), equalTo(TRACE_ID.toLowerCase()));
+    }
+
+    @Test
+    void fromTraceId_with_different_hex_trace_ids_are_not_equal() {
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID), not(equalTo(TraceIdKey.fromTraceId("1123456789abcdef0123456789abcdef"))));
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID), not(equalTo(TraceIdKey.fromTraceId("0123456789abcdef0123456789abcdee"))));
+    }
+
+    @Test
+    void fromTraceId_with_non_hex_trace_id_keeps_trace_id() {
+        final TraceIdKey objectUnderTest = TraceIdKey.fromTraceId("TRACE_ID_1");
+
+        assertThat(objectUnderTest, equalTo(TraceIdKey.fromTraceId("TRACE_ID_1")));
+        assertThat(objectUnderTest, not(equalTo(TraceIdKey.fromTraceId("TRACE_ID_2"))));
+        assertThat(objectUnderTest, not(equalTo(TraceIdKey.fromTraceId("00000000000000000000000000000000"))));
+        assertThat(objectUnderTest.toString(), equalTo("TRACE_ID_1"));
+    }
+
+    @Test
+    void toBytes_are_equal_for_equal_keys() {
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID).toBytes(), equalTo(TraceIdKey.fromTraceId(TRACE_ID.toLowerCase()).toBytes()));
+        assertThat(TraceIdKey.fromTraceId("TRACE_ID_1").toBytes(), equalTo(TraceIdKey.fromTraceId("TRACE_ID_1").toBytes()));
+    }
+
+    @Test
+    void toBytes_are_different_for_different_keys() {
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID).toBytes(), not(equalTo(TraceIdKey.fromTraceId("1123456789abcdef0123456789abcdef").toBytes())));
+        assertThat(TraceIdKey.fromTraceId("TRACE_ID_1").toBytes(), not(equalTo(TraceIdKey.fromTraceId("TRACE_ID_2").toBytes())));
+        // Sixteen characters which are not a hex trace id have as many bytes as a hex trace id
+        assertThat(TraceIdKey.fromTraceId("0123456789abcdef").toBytes(),
+                not(equalTo(TraceIdKey.fromTraceId("30313233343536373839616263646566").toBytes())));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link ReadSupport} which reads the projected top-level columns of a Parquet file into Jackson
+ * {@link ObjectNode}s. The columns used by the filters are read as well, since Parquet evaluates the filters only
+ * on the columns which are read.
+ */
+class JsonNodeReadSupport extends ReadSupport<ObjectNode> {
+    private final List<String> columns;
+
+    JsonNodeReadSupport(final List<String> columns, final List<ParquetColumnFilter> filters) {
+        this.columns = columns.isEmpty() ? columns : withFilterColumns(columns, filters);
+    }
+
+    @Override
+    public ReadContext init(final InitContext context) {
+        return new ReadContext(projectSchema(context.getFileSchema(), columns));
+    }
+
+    @Override
+    public RecordMaterializer<ObjectNode> prepareForRead(final Configuration configuration,
+                                                         final Map<String, String> keyValueMetaData,
+                                                         final MessageType fileSchema,
+                                                         final ReadContext readContext) {
+        return new JsonNodeRecordMaterializer(readContext.getRequestedSchema());
+    }
+
+    /**
+     * @param fileSchema the schema of the file.
+     * @param columns the top-level columns to read, or an empty list to read all columns.
+     * @return the schema holding the columns of the file which are in {@code columns}, in the order of the file.
+     */
+    static MessageType projectSchema(final MessageType fileSchema, final List<String> columns) {
+        if (columns.isEmpty()) {
+            return fileSchema;
+        }
+        final List<Type> fields = fileSchema.getFields().stream()
+                .filter(field -> columns.contains(field.getName()))
+                .collect(Collectors.toList());
+        return new MessageType(fileSchema.getName(), fields);
+    }
+
+    /**
+     * @param columns the configured top-level columns.
+     * @param filters the configured filters.
+     * @return the top-level columns of the filters which are not in {@code columns}. These are read only to
+     * evaluate the filters and are removed from the rows, or an empty set when all columns are read.
+     */
+    static Set<String> filterOnlyColumns(final List<String> columns, final List<ParquetColumnFilter> filters) {
+        if (columns.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> filterOnlyColumns = new LinkedHashSet<>();
+        for (final ParquetColumnFilter filter : filters) {
+            final String topLevelColumn = topLevelColumn(filter.getColumn());
+            if (!columns.contains(topLevelColumn)) {
+                filterOnlyColumns.add(topLevelColumn);
+            }
+        }
+        return filterOnlyColumns;
+    }
+
+    private static List<String> withFilterColumns(final List<String> columns, final List<ParquetColumnFilter> filters) {
+        final Set<String> filterOnlyColumns = filterOnlyColumns(columns, filters);
+        if (filterOnlyColumns.isEmpty()) {
+            return columns;
+        }
+        final List<String> readColumns = new ArrayList<>(columns);
+        readColumns.addAll(filterOnlyColumns);
+        return readColumns;
+    }
+
+    private static String topLevelColumn(final String column) {
+        final int separator = column.indexOf('.');
+        return separator < 0 ? column : column.substring(0, separator);
+    }
+}
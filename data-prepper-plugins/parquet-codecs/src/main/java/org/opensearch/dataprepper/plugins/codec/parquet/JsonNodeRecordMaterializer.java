@@ -0,0 +1,344 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Materializes Parquet rows as Jackson {@link ObjectNode}s directly from the column values. Groups become objects,
+ * {@code LIST} groups and repeated fields become arrays and {@code MAP} groups become objects keyed by the map keys.
+ * Strings of dictionary encoded columns are decoded once per dictionary instead of once per row.
+ */
+class JsonNodeRecordMaterializer extends RecordMaterializer<ObjectNode> {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private final ObjectConverter rootConverter;
+    private ObjectNode currentRecord;
+
+    JsonNodeRecordMaterializer(final MessageType schema) {
+        rootConverter = new ObjectConverter(schema, value -> currentRecord = (ObjectNode) value);
+    }
+
+    @Override
+    public ObjectNode getCurrentRecord() {
+        return currentRecord;
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+        return rootConverter;
+    }
+
+    private static Converter newConverter(final Type type, final Consumer<JsonNode> sink) {
+        if (type.isPrimitive()) {
+            return new ValueConverter(type.asPrimitiveType(), sink);
+        }
+        final GroupType groupType = type.asGroupType();
+        final LogicalTypeAnnotation annotation = groupType.getLogicalTypeAnnotation();
+        if (annotation instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation && hasSingleRepeatedField(groupType)) {
+            return new ListConverter(groupType, sink);
+        }
+        if ((annotation instanceof LogicalTypeAnnotation.MapLogicalTypeAnnotation
+                || annotation instanceof LogicalTypeAnnotation.MapKeyValueTypeAnnotation)
+                && hasSingleRepeatedField(groupType)
+                && !groupType.getType(0).isPrimitive()
+                && groupType.getType(0).asGroupType().getFieldCount() <= 2) {
+            return new MapConverter(groupType, sink);
+        }
+        return new ObjectConverter(groupType, sink);
+    }
+
+    private static boolean hasSingleRepeatedField(final GroupType groupType) {
+        return groupType.getFieldCount() == 1 && groupType.getType(0).isRepetition(Type.Repetition.REPEATED);
+    }
+
+    /**
+     * Applies the backward-compatibility rules of the Parquet {@code LIST} specification to tell whether the
+     * repeated field of a list is the element itself or a group wrapping the element.
+     */
+    private static boolean isElementType(final Type repeatedType, final String listName) {
+        return repeatedType.isPrimitive()
+                || repeatedType.asGroupType().getFieldCount() > 1
+                || repeatedType.getName().equals("array")
+                || repeatedType.getName().equals(listName + "_tuple");
+    }
+
+    private static final class ObjectConverter extends GroupConverter {
+        private final String[] fieldNames;
+        private final boolean[] repeated;
+        private final Converter[] converters;
+        private final ArrayNode[] repeatedValues;
+        private final Consumer<JsonNode> sink;
+        private ObjectNode objectNode;
+
+        private ObjectConverter(final GroupType type, final Consumer<JsonNode> sink) {
+            final int fieldCount = type.getFieldCount();
+            this.fieldNames = new String[fieldCount];
+            this.repeated = new boolean[fieldCount];
+            this.converters = new Converter[fieldCount];
+            this.repeatedValues = new ArrayNode[fieldCount];
+            this.sink = sink;
+            for (int index = 0; index < fieldCount; index++) {
+                final Type field = type.getType(index);
+                final int fieldIndex = index;
+                fieldNames[index] = field.getName();
+                repeated[index] = field.isRepetition(Type.Repetition.REPEATED);
+                if (repeated[index]) {
+                    converters[index] = newConverter(field, value -> repeatedValues[fieldIndex].add(value));
+                } else {
+                    converters[index] = newConverter(field, value -> objectNode.set(fieldNames[fieldIndex], value));
+                }
+            }
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return converters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            // Every field is added up front so that the properties follow the schema order and missing values are null.
+            objectNode = NODE_FACTORY.objectNode();
+            for (int index = 0; index < fieldNames.length; index++) {
+                if (repeated[index]) {
+                    repeatedValues[index] = objectNode.putArray(fieldNames[index]);
+                } else {
+                    objectNode.putNull(fieldNames[index]);
+                }
+            }
+        }
+
+        @Override
+        public void end() {
+            sink.accept(objectNode);
+        }
+    }
+
+    private static final class ListConverter extends GroupConverter {
+        private final Converter elementConverter;
+        private final Consumer<JsonNode> sink;
+        private ArrayNode arrayNode;
+
+        private ListConverter(final GroupType type, final Consumer<JsonNode> sink) {
+            this.sink = sink;
+            final Type repeatedType = type.getType(0);
+            if (isElementType(repeatedType, type.getName())) {
+                elementConverter = newConverter(repeatedType, value -> arrayNode.add(value));
+            } else {
+                elementConverter = new ElementConverter(repeatedType.asGroupType(), value -> arrayNode.add(value));
+            }
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return elementConverter;
+        }
+
+        @Override
+        public void start() {
+            arrayNode = NODE_FACTORY.arrayNode();
+        }
+
+        @Override
+        public void end() {
+            sink.accept(arrayNode);
+        }
+    }
+
+    private static final class ElementConverter extends GroupConverter {
+        private final Converter converter;
+        private final Consumer<JsonNode> sink;
+        private JsonNode element;
+
+        private ElementConverter(final GroupType type, final Consumer<JsonNode> sink) {
+            this.converter = newConverter(type.getType(0), value -> element = value);
+            this.sink = sink;
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return converter;
+        }
+
+        @Override
+        public void start() {
+            element = NODE_FACTORY.nullNode();
+        }
+
+        @Override
+        public void end() {
+            sink.accept(element);
+        }
+    }
+
+    private static final class MapConverter extends GroupConverter {
+        private final KeyValueConverter keyValueConverter;
+        private final Consumer<JsonNode> sink;
+        private ObjectNode objectNode;
+
+        private MapConverter(final GroupType type, final Consumer<JsonNode> sink) {
+            this.keyValueConverter = new KeyValueConverter(type.getType(0).asGroupType(), (key, value) -> objectNode.set(key, value));
+            this.sink = sink;
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return keyValueConverter;
+        }
+
+        @Override
+        public void start() {
+            objectNode = NODE_FACTORY.objectNode();
+        }
+
+        @Override
+        public void end() {
+            sink.accept(objectNode);
+        }
+    }
+
+    private static final class KeyValueConverter extends GroupConverter {
+        private final Converter keyConverter;
+        private final Converter valueConverter;
+        private final BiConsumer<String, JsonNode> sink;
+        private JsonNode key;
+        private JsonNode value;
+
+        private KeyValueConverter(final GroupType type, final BiConsumer<String, JsonNode> sink) {
+            this.keyConverter = newConverter(type.getType(0), node -> key = node);
+            this.valueConverter = type.getFieldCount() > 1 ? newConverter(type.getType(1), node -> value = node) : null;
+            this.sink = sink;
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return fieldIndex == 0 ? keyConverter : valueConverter;
+        }
+
+        @Override
+        public void start() {
+            key = null;
+            value = NODE_FACTORY.nullNode();
+        }
+
+        @Override
+        public void end() {
+            if (key != null) {
+                sink.accept(key.asText(), value);
+            }
+        }
+    }
+
+    private static final class ValueConverter extends PrimitiveConverter {
+        private final PrimitiveType.PrimitiveTypeName primitiveTypeName;
+        private final Consumer<JsonNode> sink;
+        private final int decimalScale;
+        private final boolean text;
+        private JsonNode[] dictionaryValues;
+
+        private ValueConverter(final PrimitiveType type, final Consumer<JsonNode> sink) {
+            final LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+            this.primitiveTypeName = type.getPrimitiveTypeName();
+            this.sink = sink;
+            this.decimalScale = annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation
+                    ? ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation).getScale()
+                    : -1;
+            this.text = annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                    || annotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                    || annotation instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation;
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            // Binary values convert to immutable nodes, which can be shared by every row using a dictionary entry.
+            return primitiveTypeName == PrimitiveType.PrimitiveTypeName.BINARY;
+        }
+
+        @Override
+        public void setDictionary(final Dictionary dictionary) {
+            dictionaryValues = new JsonNode[dictionary.getMaxId() + 1];
+            for (int id = 0; id < dictionaryValues.length; id++) {
+                dictionaryValues[id] = convertBinary(dictionary.decodeToBinary(id));
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(final int dictionaryId) {
+            sink.accept(dictionaryValues[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(final Binary value) {
+            sink.accept(convertBinary(value));
+        }
+
+        @Override
+        public void addBoolean(final boolean value) {
+            sink.accept(NODE_FACTORY.booleanNode(value));
+        }
+
+        @Override
+        public void addInt(final int value) {
+            sink.accept(decimalScale >= 0
+                    ? NODE_FACTORY.numberNode(BigDecimal.valueOf(value, decimalScale))
+                    : NODE_FACTORY.numberNode(value));
+        }
+
+        @Override
+        public void addLong(final long value) {
+            sink.accept(decimalScale >= 0
+                    ? NODE_FACTORY.numberNode(BigDecimal.valueOf(value, decimalScale))
+                    : NODE_FACTORY.numberNode(value));
+        }
+
+        @Override
+        public void addFloat(final float value) {
+            sink.accept(NODE_FACTORY.numberNode(value));
+        }
+
+        @Override
+        public void addDouble(final double value) {
+            sink.accept(NODE_FACTORY.numberNode(value));
+        }
+
+        private JsonNode convertBinary(final Binary value) {
+            if (decimalScale >= 0) {
+                return NODE_FACTORY.numberNode(new BigDecimal(new BigInteger(value.getBytes()), decimalScale));
+            } else if (text) {
+                return NODE_FACTORY.textNode(value.toStringUsingUTF8());
+            } else if (primitiveTypeName == PrimitiveType.PrimitiveTypeName.BINARY) {
+                return NODE_FACTORY.textNode(new String(value.getBytes(), StandardCharsets.ISO_8859_1));
+            }
+            // Fixed length values such as INT96 timestamps are rendered as byte arrays, as Avro fixed values are.
+            final byte[] bytes = value.getBytes();
+            final ArrayNode arrayNode = NODE_FACTORY.arrayNode(bytes.length);
+            for (final byte element : bytes) {
+                arrayNode.add(element);
+            }
+            return arrayNode;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A comparison of a primitive Parquet column with a constant value, such as {@code status gt_eq 500}.
+ */
+public class ParquetColumnFilter {
+
+    @NotEmpty
+    @JsonProperty("column")
+    private String column;
+
+    @NotNull
+    @JsonProperty("operator")
+    private ParquetFilterOperator operator;
+
+    @JsonProperty("value")
+    private Object value;
+
+    /**
+     * The column to compare. Columns inside groups are separated by dots.
+     *
+     * @return The column path.
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    public ParquetFilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * The value to compare the column with. A null value matches null columns with {@code eq} and non-null
+     * columns with {@code not_eq}.
+     *
+     * @return The value.
+     */
+    public Object getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public enum ParquetFilterOperator {
+    EQ("eq"),
+    NOT_EQ("not_eq"),
+    LT("lt"),
+    LT_EQ("lt_eq"),
+    GT("gt"),
+    GT_EQ("gt_eq");
+
+    private static final Map<String, ParquetFilterOperator> OPTIONS_MAP = Arrays.stream(ParquetFilterOperator.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    ParquetFilterOperator(final String option) {
+        this.option = option;
+    }
+
+    @JsonCreator
+    static ParquetFilterOperator fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Builds the Parquet filter for the configured {@link ParquetColumnFilter}s. The column types are taken from the
+ * schema of each file, so the same configuration can be used for files whose columns have different widths.
+ */
+final class ParquetFilterPredicates {
+
+    private ParquetFilterPredicates() {
+    }
+
+    /**
+     * @param columnFilters the configured column filters.
+     * @param schema the schema of the file to read.
+     * @return a filter matching the rows which match every column filter, or {@link FilterCompat#NOOP} if there are none.
+     */
+    static FilterCompat.Filter createFilter(final List<ParquetColumnFilter> columnFilters, final MessageType schema) {
+        FilterPredicate predicate = null;
+        for (final ParquetColumnFilter columnFilter : columnFilters) {
+            final FilterPredicate columnPredicate = createPredicate(columnFilter, schema);
+            predicate = predicate == null ? columnPredicate : FilterApi.and(predicate, columnPredicate);
+        }
+        return predicate == null ? FilterCompat.NOOP : FilterCompat.get(predicate);
+    }
+
+    private static FilterPredicate createPredicate(final ParquetColumnFilter columnFilter, final MessageType schema) {
+        final String column = columnFilter.getColumn();
+        final String[] path = column.split("\\.");
+        if (!schema.containsPath(path)) {
+            throw new IllegalArgumentException("The Parquet filter column " + column + " does not exist in the file schema.");
+        }
+        final Type type = schema.getType(path);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            throw new IllegalArgumentException("The Parquet filter column " + column + " is not a primitive column.");
+        }
+        final PrimitiveType primitiveType = type.asPrimitiveType();
+        if (primitiveType.getLogicalTypeAnnotation() instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+            throw new IllegalArgumentException("The Parquet filter column " + column + " is a decimal column, which cannot be filtered.");
+        }
+
+        final ParquetFilterOperator operator = columnFilter.getOperator();
+        final Object value = columnFilter.getValue();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                return compare(FilterApi.intColumn(column), value == null ? null : toNumber(value).intValue(), operator);
+            case INT64:
+                return compare(FilterApi.longColumn(column), value == null ? null : toNumber(value).longValue(), operator);
+            case FLOAT:
+                return compare(FilterApi.floatColumn(column), value == null ? null : toNumber(value).floatValue(), operator);
+            case DOUBLE:
+                return compare(FilterApi.doubleColumn(column), value == null ? null : toNumber(value).doubleValue(), operator);
+            case BINARY:
+                return compare(FilterApi.binaryColumn(column), value == null ? null : Binary.fromString(value.toString()), operator);
+            case BOOLEAN:
+                return equality(FilterApi.booleanColumn(column), value == null ? null : Boolean.valueOf(value.toString()), operator);
+            default:
+                throw new IllegalArgumentException("The Parquet filter column " + column + " has the unsupported type "
+                        + primitiveType.getPrimitiveTypeName() + ".");
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate compare(
+            final C column, final T value, final ParquetFilterOperator operator) {
+        if (value == null && operator != ParquetFilterOperator.EQ && operator != ParquetFilterOperator.NOT_EQ) {
+            throw new IllegalArgumentException("The Parquet filter on " + column.getColumnPath().toDotString()
+                    + " requires a value for the " + operator + " operator.");
+        }
+        switch (operator) {
+            case LT:
+                return FilterApi.lt(column, value);
+            case LT_EQ:
+                return FilterApi.ltEq(column, value);
+            case GT:
+                return FilterApi.gt(column, value);
+            case GT_EQ:
+                return FilterApi.gtEq(column, value);
+            default:
+                return equality(column, value, operator);
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsEqNotEq> FilterPredicate equality(
+            final C column, final T value, final ParquetFilterOperator operator) {
+        switch (operator) {
+            case EQ:
+                return FilterApi.eq(column, value);
+            case NOT_EQ:
+                return FilterApi.notEq(column, value);
+            default:
+                throw new IllegalArgumentException("The Parquet filter on " + column.getColumnPath().toDotString()
+                        + " only supports the eq and not_eq operators.");
+        }
+    }
+
+    private static Number toNumber(final Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("The Parquet filter value " + value + " is not a number.", e);
+        }
+    }
+}
@@ -5,11 +5,20 @@
 
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.MessageType;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
 import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
@@ -25,15 +34,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 
 /**
  * An implementation of {@link InputCodec} which parses parquet records into fields.
+ * <p>
+ * By default, rows are read as Avro records. When columns, filters or row group workers are configured, rows are
+ * instead converted into events directly from the projected columns, row groups which cannot match the filters are
+ * skipped using their statistics, and row groups are decoded concurrently while events are emitted in file order.
+ * Columns which are only needed by the filters are read to evaluate them and are not included in the events.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -46,9 +70,20 @@ public class ParquetInputCodec implements InputCodec {
 
     private final Configuration configuration;
 
+    private final ParquetInputCodecConfig config;
+
+    private final Set<String> filterOnlyColumns;
+
     public ParquetInputCodec() {
+        this(new ParquetInputCodecConfig());
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final ParquetInputCodecConfig config) {
+        this.config = Objects.requireNonNull(config);
         configuration = new Configuration();
         configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        filterOnlyColumns = JsonNodeReadSupport.filterOnlyColumns(config.getColumns(), config.getFilters());
     }
 
     @Override
@@ -75,6 +110,10 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        if (config.isColumnarReadEnabled()) {
+            parseParquetFileColumns(inputFile, eventConsumer);
+            return;
+        }
         try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile)
                 .withConf(this.configuration)
                 .build()) {
@@ -97,4 +136,125 @@ public class ParquetInputCodec implements InputCodec {
         }
     }
 
+    private void parseParquetFileColumns(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final ParquetMetadata footer;
+        try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile)) {
+            footer = fileReader.getFooter();
+        }
+        final MessageType fileSchema = footer.getFileMetaData().getSchema();
+        if (!config.getColumns().isEmpty() && JsonNodeReadSupport.projectSchema(fileSchema, config.getColumns()).getFieldCount() == 0) {
+            throw new IOException("None of the configured columns " + config.getColumns() + " exist in the parquet file.");
+        }
+
+        try {
+            final FilterCompat.Filter filter = ParquetFilterPredicates.createFilter(config.getFilters(), fileSchema);
+            final List<BlockMetaData> rowGroups = RowGroupFilter.filterRowGroups(filter, footer.getBlocks(), fileSchema);
+            LOG.debug("Reading {} of {} parquet row groups", rowGroups.size(), footer.getBlocks().size());
+
+            if (config.getRowGroupWorkers() <= 1 || rowGroups.size() <= 1) {
+                for (final BlockMetaData rowGroup : rowGroups) {
+                    readRowGroup(inputFile, rowGroup, filter, eventConsumer);
+                }
+            } else {
+                readRowGroupsConcurrently(inputFile, rowGroups, filter, eventConsumer);
+            }
+        } catch (Exception e) {
+            LOG.error("An exception occurred while parsing parquet InputStream ", e);
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Decodes up to {@code row_group_workers} row groups ahead of the one whose events are being emitted. Events
+     * are emitted on the calling thread, in the order of the row groups in the file. The worker threads only live
+     * while the file is read, since an input codec is never closed.
+     */
+    private void readRowGroupsConcurrently(final InputFile inputFile,
+                                           final List<BlockMetaData> rowGroups,
+                                           final FilterCompat.Filter filter,
+                                           final Consumer<Record<Event>> eventConsumer) throws Exception {
+        final ExecutorService rowGroupExecutorService = createRowGroupExecutorService(
+                Math.min(config.getRowGroupWorkers(), rowGroups.size()));
+        final Deque<Future<List<Record<Event>>>> pendingRowGroups = new ArrayDeque<>();
+        try {
+            for (final BlockMetaData rowGroup : rowGroups) {
+                if (pendingRowGroups.size() >= config.getRowGroupWorkers()) {
+                    emitRowGroup(pendingRowGroups.removeFirst(), eventConsumer);
+                }
+                pendingRowGroups.addLast(rowGroupExecutorService.submit(() -> {
+                    final List<Record<Event>> records = new ArrayList<>();
+                    readRowGroup(inputFile, rowGroup, filter, records::add);
+                    return records;
+                }));
+            }
+            while (!pendingRowGroups.isEmpty()) {
+                emitRowGroup(pendingRowGroups.removeFirst(), eventConsumer);
+            }
+        } finally {
+            pendingRowGroups.forEach(pendingRowGroup -> pendingRowGroup.cancel(true));
+            rowGroupExecutorService.shutdownNow();
+        }
+    }
+
+    private void emitRowGroup(final Future<List<Record<Event>>> pendingRowGroup, final Consumer<Record<Event>> eventConsumer) throws Exception {
+        final List<Record<Event>> records;
+        try {
+            records = pendingRowGroup.get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        records.forEach(eventConsumer);
+    }
+
+    private void readRowGroup(final InputFile inputFile,
+                              final BlockMetaData rowGroup,
+                              final FilterCompat.Filter filter,
+                              final Consumer<Record<Event>> eventConsumer) throws IOException {
+        // The file range selects the row group whose midpoint lies within it, which is exactly this row group.
+        final long rowGroupStart = rowGroup.getStartingPos();
+        try (ParquetReader<ObjectNode> reader = new JsonNodeParquetReaderBuilder(inputFile, config.getColumns(), config.getFilters())
+                .withFilter(filter)
+                .withFileRange(rowGroupStart, rowGroupStart + rowGroup.getCompressedSize())
+                .build()) {
+            ObjectNode row;
+            while ((row = reader.read()) != null) {
+                if (!filterOnlyColumns.isEmpty()) {
+                    row.remove(filterOnlyColumns);
+                }
+                final JacksonEvent event = JacksonEvent.builder()
+                        .withEventType(EVENT_TYPE)
+                        .withData(row)
+                        .build();
+
+                eventConsumer.accept(new Record<>(event));
+            }
+        }
+    }
+
+    private static ExecutorService createRowGroupExecutorService(final int rowGroupWorkers) {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(rowGroupWorkers, runnable -> {
+            final Thread thread = new Thread(runnable, "parquet-codec-row-group-reader-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class JsonNodeParquetReaderBuilder extends ParquetReader.Builder<ObjectNode> {
+        private final List<String> columns;
+        private final List<ParquetColumnFilter> filters;
+
+        private JsonNodeParquetReaderBuilder(final InputFile inputFile,
+                                             final List<String> columns,
+                                             final List<ParquetColumnFilter> filters) {
+            super(inputFile);
+            this.columns = columns;
+            this.filters = filters;
+        }
+
+        @Override
+        protected ReadSupport<ObjectNode> getReadSupport() {
+            return new JsonNodeReadSupport(columns, filters);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration class for {@link ParquetInputCodec}.
+ */
+public class ParquetInputCodecConfig {
+    static final int DEFAULT_ROW_GROUP_WORKERS = 1;
+
+    @JsonProperty("columns")
+    private List<String> columns = Collections.emptyList();
+
+    @Valid
+    @JsonProperty("filters")
+    private List<ParquetColumnFilter> filters = Collections.emptyList();
+
+    @Min(1)
+    @Max(64)
+    @JsonProperty("row_group_workers")
+    private int rowGroupWorkers = DEFAULT_ROW_GROUP_WORKERS;
+
+    /**
+     * The top-level columns to read. All columns are read when empty.
+     *
+     * @return The projected column names.
+     */
+    public List<String> getColumns() {
+        return columns == null ? Collections.emptyList() : columns;
+    }
+
+    /**
+     * Column filters which must all match for a row to be read. Row groups are skipped using their column
+     * statistics when no row in them can match.
+     *
+     * @return The column filters.
+     */
+    public List<ParquetColumnFilter> getFilters() {
+        return filters == null ? Collections.emptyList() : filters;
+    }
+
+    /**
+     * The number of row groups of one file decoded concurrently.
+     * 1 by default.
+     *
+     * @return The number of row group workers.
+     */
+    public int getRowGroupWorkers() {
+        return rowGroupWorkers;
+    }
+
+    /**
+     * Rows are converted into events directly from the Parquet columns, without Avro records, when a projection,
+     * filters or row group workers are configured.
+     *
+     * @return true if the direct column reader is used.
+     */
+    boolean isColumnarReadEnabled() {
+        return !getColumns().isEmpty() || !getFilters().isEmpty() || rowGroupWorkers > 1;
+    }
+}
@@ -6,14 +6,26 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import org.apache.parquet.io.SeekableInputStream;
 import org.opensearch.dataprepper.model.io.InputFile;
+import org.opensearch.dataprepper.plugins.fs.RangePrefetchingInputStream;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
 public class S3InputFile implements InputFile {
 
+    static final int READ_RANGE_SIZE = 8 * 1024 * 1024;
+
+    static final int PREFETCHED_RANGES = 3;
+
+    private static final ExecutorService RANGE_READ_EXECUTOR_SERVICE = createRangeReadExecutorService();
+
     private S3Client s3Client;
 
     private S3ObjectReference s3ObjectReference;
@@ -38,13 +50,19 @@ public class S3InputFile implements InputFile {
     }
 
     /**
-     * Create an input stream from the input file
+     * Create an input stream from the input file. Objects larger than one range are read with concurrent ranged
+     * requests, prefetching the ranges following the current position.
      * @return an implementation of a SeekableInputStream into the S3 object.
      */
     @Override
     public SeekableInputStream newStream() {
         bytesCounter = new LongAdder();
 
+        final long contentLength = getLength();
+        if (contentLength > READ_RANGE_SIZE) {
+            return new RangePrefetchingInputStream(this::readRange, contentLength, READ_RANGE_SIZE, PREFETCHED_RANGES,
+                    RANGE_READ_EXECUTOR_SERVICE);
+        }
         return new S3InputStream(s3Client, s3ObjectReference, getMetadata(), bytesCounter);
     }
 
@@ -60,6 +78,26 @@ public class S3InputFile implements InputFile {
         return bytesCounter.longValue();
     }
 
+    private byte[] readRange(final long start, final int length) {
+        final GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(s3ObjectReference.getBucketName())
+                .key(s3ObjectReference.getKey())
+                .range(String.format("bytes=%d-%d", start, start + length - 1))
+                .build();
+        final byte[] bytes = s3Client.getObject(request, ResponseTransformer.toBytes()).asByteArray();
+        bytesCounter.add(bytes.length);
+        return bytes;
+    }
+
+    private static ExecutorService createRangeReadExecutorService() {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "parquet-codec-s3-range-reader-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Get the metadata of the S3 object. Cache the metadata to avoid subsequent headObject calls to S3
      * @return the metadata of the S3 object
@@ -4,6 +4,7 @@
  */
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -31,6 +32,7 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -40,6 +42,7 @@ import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -66,12 +69,17 @@ public class ParquetInputCodecTest {
     private Consumer<Record<Event>> mockConsumer;
     private ParquetReader<GenericRecord> mockReader;
     private static File testDataFile;
+    private static File multipleRowGroupsDataFile;
 
     @BeforeAll
     public static void setUpAll() throws IOException {
         testDataFile = File.createTempFile(FILE_PREFIX + "-", FILE_SUFFIX);
         testDataFile.deleteOnExit();
         generateTestData(testDataFile);
+
+        multipleRowGroupsDataFile = File.createTempFile(FILE_PREFIX + "-", FILE_SUFFIX);
+        multipleRowGroupsDataFile.deleteOnExit();
+        generateMultipleRowGroupsTestData(multipleRowGroupsDataFile);
     }
 
     @SuppressWarnings("unchecked")
@@ -188,6 +196,153 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void parseInputFile_withRowGroupWorkers_parsesAllColumnsCorrectly() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(createConfig(Collections.singletonMap("row_group_workers", 2)));
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        assertRecordsCorrect(recordArgumentCaptor.getAllValues());
+    }
+
+    @Test
+    public void parseInputFile_withColumns_readsOnlyProjectedColumns() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(createConfig(Collections.singletonMap("columns", Arrays.asList("value", "id", "unknown"))));
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap().keySet(), containsInAnyOrder("id", "value"));
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("value", Integer.class), equalTo(i));
+            assertThat(event.get("metadata", Map.class), nullValue());
+        }
+    }
+
+    @Test
+    public void parseInputFile_withFiltersAndRowGroupWorkers_readsMatchingRowsInOrder() throws IOException {
+        final Map<String, Object> filter = new HashMap<>();
+        filter.put("column", "value");
+        filter.put("operator", "gt_eq");
+        filter.put("value", 500);
+        final Map<String, Object> configMap = new HashMap<>();
+        configMap.put("columns", Collections.singletonList("value"));
+        configMap.put("filters", Collections.singletonList(filter));
+        configMap.put("row_group_workers", 4);
+        parquetInputCodec = new ParquetInputCodec(createConfig(configMap));
+
+        parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(500)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            assertThat(actualRecords.get(i).getData().get("value", Integer.class), equalTo(500 + i));
+        }
+    }
+
+    @Test
+    public void parseInputFile_withFilterOnUnprojectedColumn_readsMatchingRowsWithoutFilterColumn() throws IOException {
+        final Map<String, Object> filter = new HashMap<>();
+        filter.put("column", "value");
+        filter.put("operator", "gt_eq");
+        filter.put("value", 500);
+        final Map<String, Object> configMap = new HashMap<>();
+        configMap.put("columns", Collections.singletonList("id"));
+        configMap.put("filters", Collections.singletonList(filter));
+        configMap.put("row_group_workers", 4);
+        parquetInputCodec = new ParquetInputCodec(createConfig(configMap));
+
+        parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(500)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap().keySet(), containsInAnyOrder("id"));
+            assertThat(event.get("id", String.class), equalTo("id" + (500 + i)));
+        }
+    }
+
+    @Test
+    public void parseInputFile_withFilterOnMissingColumn_throwsException() {
+        final Map<String, Object> filter = new HashMap<>();
+        filter.put("column", "unknown");
+        filter.put("operator", "eq");
+        filter.put("value", "id1");
+        parquetInputCodec = new ParquetInputCodec(createConfig(Collections.singletonMap("filters", Collections.singletonList(filter))));
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        verifyNoInteractions(mockConsumer);
+    }
+
+    @Test
+    public void parseInputFile_withNoMatchingColumns_throwsException() {
+        parquetInputCodec = new ParquetInputCodec(createConfig(Collections.singletonMap("columns", Collections.singletonList("unknown"))));
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        verifyNoInteractions(mockConsumer);
+    }
+
+    @Test
+    public void parseInputFile_testParquetFile_withRowGroupWorkers() throws IOException, URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource("test-parquet.parquet");
+        InputFile inputFile = new LocalInputFile(Paths.get(resource.toURI()).toFile());
+        parquetInputCodec = new ParquetInputCodec(createConfig(Collections.singletonMap("row_group_workers", 2)));
+
+        parquetInputCodec.parse(inputFile, new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(100)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 1; i <= actualRecords.size(); i++) {
+            final Record<Event> record = actualRecords.get(i - 1);
+            assertThat(record.getData().get("name", String.class), equalTo(String.valueOf(i) + "testString"));
+            assertThat(record.getData().get("age", Integer.class), equalTo(i));
+        }
+    }
+
+    private static ParquetInputCodecConfig createConfig(final Map<String, Object> configMap) {
+        return new ObjectMapper().convertValue(configMap, ParquetInputCodecConfig.class);
+    }
+
+    private static void generateMultipleRowGroupsTestData(final File file) throws IOException {
+        Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
+
+        ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new LocalOutputFile(file))
+                .withSchema(schema)
+                .withRowGroupSize(1024)
+                .build();
+
+        for (int i = 0; i < 1000; i++) {
+            GenericData.Record record = new GenericData.Record(schema);
+            record.put("id", "id" + i);
+            record.put("value", i);
+            record.put("alternateIds", Collections.singletonList("altid" + i));
+            record.put("metadata", Collections.singletonMap("key", "value" + i));
+            record.put("lastUpdated", 1684509331977L + i);
+
+            writer.write(record);
+        }
+        writer.close();
+    }
+
     private static void generateTestData(final File file) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Uploads a {@link Buffer} as an S3 multipart upload, sending its parts concurrently
+ * on a shared part upload executor.
+ */
+public class S3MultipartUploader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(S3MultipartUploader.class);
+
+    private final S3Client s3Client;
+    private final ExecutorService partUploadExecutor;
+    private final long partSize;
+
+    /**
+     * @param s3Client s3 client object.
+     * @param partUploadExecutor executor bounding the number of parts uploaded at the same time.
+     * @param partSize size in bytes of every part except the last one.
+     */
+    public S3MultipartUploader(final S3Client s3Client, final ExecutorService partUploadExecutor, final long partSize) {
+        this.s3Client = s3Client;
+        this.partUploadExecutor = partUploadExecutor;
+        this.partSize = partSize;
+    }
+
+    /**
+     * @return size in bytes of the parts, objects at least this large should use {@link #upload}.
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Upload the buffer data in parts. The upload is aborted if any of the parts fails.
+     *
+     * @param buffer buffer holding the object data.
+     * @param bucket bucket name.
+     * @param key    s3 object key path.
+     */
+    public void upload(final Buffer buffer, final String bucket, final String key) {
+        final String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build()).uploadId();
+
+        final long objectSize = buffer.getSize();
+        final List<Future<CompletedPart>> partFutures = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            for (long offset = 0; offset < objectSize; offset += partSize, partNumber++) {
+                final int partLength = (int) Math.min(partSize, objectSize - offset);
+                final long partOffset = offset;
+                final int currentPartNumber = partNumber;
+                partFutures.add(partUploadExecutor.submit(
+                        () -> uploadPart(buffer, bucket, key, uploadId, currentPartNumber, partOffset, partLength)));
+            }
+
+            final List<CompletedPart> completedParts = new ArrayList<>(partFutures.size());
+            for (final Future<CompletedPart> partFuture : partFutures) {
+                completedParts.add(partFuture.get());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(partFutures, bucket, key, uploadId);
+            throw SdkClientException.create("Interrupted while uploading parts of " + key, e);
+        } catch (final ExecutionException e) {
+            abort(partFutures, bucket, key, uploadId);
+            if (e.getCause() instanceof AwsServiceException || e.getCause() instanceof SdkClientException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw SdkClientException.create("Failed to upload a part of " + key, e.getCause());
+        } catch (final RuntimeException e) {
+            abort(partFutures, bucket, key, uploadId);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(final Buffer buffer, final String bucket, final String key, final String uploadId,
+                                     final int partNumber, final long offset, final int length) throws IOException {
+        try (final InputStream partInputStream = buffer.getInputStream(offset, length)) {
+            final UploadPartResponse uploadPartResponse = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length)
+                            .build(),
+                    RequestBody.fromInputStream(partInputStream, length));
+            return CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(uploadPartResponse.eTag())
+                    .build();
+        }
+    }
+
+    private void abort(final List<Future<CompletedPart>> partFutures, final String bucket, final String key, final String uploadId) {
+        partFutures.forEach(partFuture -> partFuture.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (final RuntimeException e) {
+            LOG.warn("Unable to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.sink.s3;
 
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
@@ -28,6 +29,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Implementation class of s3-sink plugin. It is responsible for receive the collection of
@@ -48,13 +50,15 @@ public class S3Sink extends AbstractSink<Record<Event>> {
      * @param pluginSetting dp plugin settings.
      * @param s3SinkConfig s3 sink configurations.
      * @param pluginFactory dp plugin factory.
+     * @param expressionEvaluator evaluates expressions in the object key path prefix.
      */
     @DataPrepperPluginConstructor
     public S3Sink(final PluginSetting pluginSetting,
                   final S3SinkConfig s3SinkConfig,
                   final PluginFactory pluginFactory,
                   final SinkContext sinkContext,
-                  final AwsCredentialsSupplier awsCredentialsSupplier) {
+                  final AwsCredentialsSupplier awsCredentialsSupplier,
+                  final ExpressionEvaluator expressionEvaluator) {
         super(pluginSetting);
         this.s3SinkConfig = s3SinkConfig;
         this.sinkContext = sinkContext;
@@ -62,6 +66,7 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         final PluginSetting codecPluginSettings = new PluginSetting(codecConfiguration.getPluginName(),
                 codecConfiguration.getPluginSettings());
         codec = pluginFactory.loadPlugin(OutputCodec.class, codecPluginSettings);
+        final Supplier<OutputCodec> codecSupplier = () -> pluginFactory.loadPlugin(OutputCodec.class, codecPluginSettings);
         sinkInitialized = Boolean.FALSE;
 
         if (s3SinkConfig.getBufferType().equals(BufferTypeOptions.LOCALFILE)) {
@@ -70,7 +75,7 @@ public class S3Sink extends AbstractSink<Record<Event>> {
             bufferFactory = new InMemoryBufferFactory();
         }
         final S3Client s3Client = ClientFactory.createS3Client(s3SinkConfig, awsCredentialsSupplier);
-        s3SinkService = new S3SinkService(s3SinkConfig, bufferFactory, codec, s3Client, Objects.nonNull(sinkContext) ? sinkContext.getTagsTargetKey() : null, pluginMetrics);
+        s3SinkService = new S3SinkService(s3SinkConfig, bufferFactory, codecSupplier, s3Client, Objects.nonNull(sinkContext) ? sinkContext.getTagsTargetKey() : null, pluginMetrics, expressionEvaluator);
     }
 
     @Override
@@ -110,4 +115,10 @@ public class S3Sink extends AbstractSink<Record<Event>> {
         }
         s3SinkService.output(records);
     }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        s3SinkService.shutdown();
+    }
 }
@@ -7,9 +7,12 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
@@ -22,6 +25,11 @@ public class S3SinkConfig {
 
     private static final int DEFAULT_CONNECTION_RETRIES = 5;
     private static final int DEFAULT_UPLOAD_RETRIES = 5;
+    private static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 4;
+    private static final int DEFAULT_MAX_CONCURRENT_PART_UPLOADS = 4;
+    private static final String DEFAULT_MULTIPART_PART_SIZE = "16mb";
+    private static final int DEFAULT_MAX_OPEN_PARTITIONS = 100;
+    private static final long MINIMUM_MULTIPART_PART_SIZE_BYTES = 5L * 1024 * 1024;
 
     @JsonProperty("aws")
     @NotNull
@@ -52,6 +60,26 @@ public class S3SinkConfig {
     @JsonProperty("max_retries")
     private int maxUploadRetries = DEFAULT_UPLOAD_RETRIES;
 
+    @JsonProperty("max_concurrent_uploads")
+    @Min(1)
+    private int maxConcurrentUploads = DEFAULT_MAX_CONCURRENT_UPLOADS;
+
+    @JsonProperty("max_concurrent_part_uploads")
+    @Min(1)
+    private int maxConcurrentPartUploads = DEFAULT_MAX_CONCURRENT_PART_UPLOADS;
+
+    @JsonProperty("multipart_part_size")
+    private String multipartPartSize = DEFAULT_MULTIPART_PART_SIZE;
+
+    @JsonProperty("max_open_partitions")
+    @Min(1)
+    private int maxOpenPartitions = DEFAULT_MAX_OPEN_PARTITIONS;
+
+    @AssertTrue(message = "multipart_part_size must be at least 5mb")
+    boolean isMultipartPartSizeValid() {
+        return getMultipartPartSize().getBytes() >= MINIMUM_MULTIPART_PART_SIZE_BYTES;
+    }
+
     /**
      * Aws Authentication configuration Options.
      * @return aws authentication options.
@@ -118,4 +146,36 @@ public class S3SinkConfig {
     public int getMaxUploadRetries() {
         return maxUploadRetries;
     }
-}
\ No newline at end of file
+
+    /**
+     * Maximum number of completed objects uploaded to S3 at the same time.
+     * @return maximum concurrent uploads value.
+     */
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Maximum number of parts of multipart uploads sent to S3 at the same time.
+     * @return maximum concurrent part uploads value.
+     */
+    public int getMaxConcurrentPartUploads() {
+        return maxConcurrentPartUploads;
+    }
+
+    /**
+     * Objects at least this large are uploaded as multipart uploads of parts of this size.
+     * @return multipart part size.
+     */
+    public ByteCount getMultipartPartSize() {
+        return ByteCount.parse(multipartPartSize);
+    }
+
+    /**
+     * Maximum number of partitions with an in-progress object when the path prefix references event values.
+     * @return maximum open partitions value.
+     */
+    public int getMaxOpenPartitions() {
+        return maxOpenPartitions;
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
@@ -24,14 +25,32 @@ import software.amazon.awssdk.services.s3.S3Client;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
-import java.util.concurrent.locks.Lock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Class responsible for create {@link S3Client} object, check thresholds,
  * get new buffer and write records into buffer.
+ * <p>
+ * When the {@code path_prefix} references event values, for example {@code ${/service}/%{yyyy}/}, events are
+ * routed into one in-progress object per resolved prefix. Each partition applies the thresholds on its own, and
+ * at most {@code max_open_partitions} partitions are kept open; the least recently written partition is uploaded
+ * to make room for a new one. Otherwise every sink thread writes into its own in-progress object.
+ * <p>
+ * Completed objects are uploaded asynchronously, with at most {@code max_concurrent_uploads}
+ * uploads in flight; sink threads block only once that many uploads are pending. Objects of at least
+ * {@code multipart_part_size} bytes are uploaded as multipart uploads whose parts are sent concurrently.
  */
 public class S3SinkService {
 
@@ -41,13 +60,22 @@ public class S3SinkService {
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_SUCCESS = "s3SinkObjectsEventsSucceeded";
     public static final String NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED = "s3SinkObjectsEventsFailed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
+    static final String OPEN_PARTITIONS = "s3SinkOpenPartitions";
+    static final String PARTITIONS_EVICTED = "s3SinkPartitionsEvicted";
+    static final String PARTITION_KEY_FAILED_EVENTS = "s3SinkPartitionKeyFailedEvents";
+    static final String PARTITION_TAG = "partition";
+    private static final String EVENT_REFERENCE_START = "${";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
     private final S3SinkConfig s3SinkConfig;
-    private final Lock reentrantLock;
     private final BufferFactory bufferFactory;
-    private final Collection<EventHandle> bufferedEventHandles;
-    private final OutputCodec codec;
+    private final Supplier<OutputCodec> codecSupplier;
     private final S3Client s3Client;
-    private Buffer currentBuffer;
+    private final Map<String, InProgressObject> inProgressObjects;
+    private final ExpressionEvaluator expressionEvaluator;
+    private final PluginMetrics pluginMetrics;
+    private final String pathPrefix;
+    private final boolean isPartitioned;
+    private final int maxOpenPartitions;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final long maxCollectionDuration;
@@ -58,25 +86,37 @@ public class S3SinkService {
     private final Counter numberOfRecordsSuccessCounter;
     private final Counter numberOfRecordsFailedCounter;
     private final DistributionSummary s3ObjectSizeSummary;
+    private final Counter partitionsEvictedCounter;
+    private final Counter partitionKeyFailedEventsCounter;
     private final String tagsTargetKey;
+    private final ExecutorService uploadExecutor;
+    private final ExecutorService partUploadExecutor;
+    private final Semaphore uploadPermits;
+    private final S3MultipartUploader multipartUploader;
 
     /**
      * @param s3SinkConfig  s3 sink related configuration.
      * @param bufferFactory factory of buffer.
-     * @param codec         parser.
+     * @param codecSupplier supplies a new parser for every in-progress object.
      * @param s3Client
      * @param pluginMetrics metrics.
+     * @param expressionEvaluator evaluates expressions referenced by the path prefix.
      */
     public S3SinkService(final S3SinkConfig s3SinkConfig, final BufferFactory bufferFactory,
-                         final OutputCodec codec, final S3Client s3Client, final String tagsTargetKey, final PluginMetrics pluginMetrics) {
+                         final Supplier<OutputCodec> codecSupplier, final S3Client s3Client, final String tagsTargetKey,
+                         final PluginMetrics pluginMetrics, final ExpressionEvaluator expressionEvaluator) {
         this.s3SinkConfig = s3SinkConfig;
         this.bufferFactory = bufferFactory;
-        this.codec = codec;
+        this.codecSupplier = codecSupplier;
         this.s3Client = s3Client;
         this.tagsTargetKey = tagsTargetKey;
-        reentrantLock = new ReentrantLock();
+        this.pluginMetrics = pluginMetrics;
+        this.expressionEvaluator = expressionEvaluator;
+        inProgressObjects = new ConcurrentHashMap<>();
 
-        bufferedEventHandles = new LinkedList<>();
+        pathPrefix = s3SinkConfig.getObjectKeyOptions().getPathPrefix();
+        isPartitioned = pathPrefix != null && pathPrefix.contains(EVENT_REFERENCE_START);
+        maxOpenPartitions = s3SinkConfig.getMaxOpenPartitions();
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -85,72 +125,287 @@ public class S3SinkService {
         bucket = s3SinkConfig.getBucketName();
         maxRetries = s3SinkConfig.getMaxUploadRetries();
 
+        final int maxConcurrentUploads = s3SinkConfig.getMaxConcurrentUploads();
+        uploadExecutor = Executors.newFixedThreadPool(maxConcurrentUploads);
+        uploadPermits = new Semaphore(maxConcurrentUploads);
+        partUploadExecutor = Executors.newFixedThreadPool(s3SinkConfig.getMaxConcurrentPartUploads());
+        multipartUploader = new S3MultipartUploader(s3Client, partUploadExecutor, s3SinkConfig.getMultipartPartSize().getBytes());
+
         objectsSucceededCounter = pluginMetrics.counter(OBJECTS_SUCCEEDED);
         objectsFailedCounter = pluginMetrics.counter(OBJECTS_FAILED);
         numberOfRecordsSuccessCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_SUCCESS);
         numberOfRecordsFailedCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED);
         s3ObjectSizeSummary = pluginMetrics.summary(S3_OBJECTS_SIZE);
+        partitionsEvictedCounter = pluginMetrics.counter(PARTITIONS_EVICTED);
+        partitionKeyFailedEventsCounter = pluginMetrics.counter(PARTITION_KEY_FAILED_EVENTS);
+        pluginMetrics.gauge(OPEN_PARTITIONS, inProgressObjects, Map::size);
     }
 
     /**
      * @param records received records and add into buffer.
      */
     void output(Collection<Record<Event>> records) {
-        reentrantLock.lock();
-        if (currentBuffer == null) {
-            currentBuffer = bufferFactory.getBuffer();
+        try {
+            for (final Map.Entry<String, List<Event>> partition : groupByPartition(records).entrySet()) {
+                writeToPartition(partition.getKey(), partition.getValue());
+            }
+            uploadExpiredObjects();
+        } catch (IOException | InterruptedException e) {
+            LOG.error("Exception while write event into buffer :", e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
         }
+    }
+
+    /**
+     * Upload all partially filled objects and wait for the pending uploads to finish.
+     */
+    void shutdown() {
+        for (final InProgressObject inProgressObject : inProgressObjects.values()) {
+            inProgressObject.lock.lock();
+            try {
+                if (!inProgressObject.closed) {
+                    completeAndUpload(inProgressObject, false);
+                }
+            } catch (IOException | InterruptedException e) {
+                LOG.error("Exception while uploading buffered events on shutdown :", e);
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                inProgressObject.lock.unlock();
+            }
+        }
+        inProgressObjects.clear();
+        uploadExecutor.shutdown();
         try {
-            OutputStream outputStream = currentBuffer.getOutputStream();
+            if (!uploadExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                uploadExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            uploadExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        partUploadExecutor.shutdownNow();
+    }
 
-            for (Record<Event> record : records) {
+    /**
+     * Group the events by the in-progress object they are written to, keeping their order.
+     * Without partitioning, all events go to the object of the calling thread.
+     */
+    private Map<String, List<Event>> groupByPartition(final Collection<Record<Event>> records) {
+        final Map<String, List<Event>> eventsByPartition = new LinkedHashMap<>();
+        if (!isPartitioned) {
+            final List<Event> events = new ArrayList<>(records.size());
+            records.forEach(record -> events.add(record.getData()));
+            eventsByPartition.put(String.valueOf(Thread.currentThread().getId()), events);
+            return eventsByPartition;
+        }
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            final String partitionPathPrefix;
+            try {
+                partitionPathPrefix = event.formatString(pathPrefix, expressionEvaluator);
+            } catch (final RuntimeException e) {
+                LOG.warn("Unable to resolve path_prefix {} for event, dropping event : {}", pathPrefix, e.getMessage());
+                partitionKeyFailedEventsCounter.increment();
+                if (event.getEventHandle() != null) {
+                    event.getEventHandle().release(false);
+                }
+                continue;
+            }
+            eventsByPartition.computeIfAbsent(partitionPathPrefix, key -> new ArrayList<>()).add(event);
+        }
+        return eventsByPartition;
+    }
 
-                if(currentBuffer.getEventCount() == 0) {
-                    final Event eventForSchemaAutoGenerate = record.getData();
-                    codec.start(outputStream,eventForSchemaAutoGenerate , tagsTargetKey);
+    private void writeToPartition(final String partitionKey, final List<Event> events) throws IOException, InterruptedException {
+        while (true) {
+            final InProgressObject inProgressObject = getOrCreateInProgressObject(partitionKey);
+            inProgressObject.lock.lock();
+            try {
+                if (inProgressObject.closed) {
+                    // evicted by another thread after the lookup, use a new object for this partition
+                    continue;
+                }
+                for (final Event event : events) {
+                    writeEvent(inProgressObject, event);
                 }
+                inProgressObject.lastWriteNanos = System.nanoTime();
+                return;
+            } finally {
+                inProgressObject.lock.unlock();
+            }
+        }
+    }
+
+    private void writeEvent(final InProgressObject inProgressObject, final Event event) throws IOException, InterruptedException {
+        final Buffer currentBuffer = inProgressObject.buffer;
+        final OutputStream outputStream = currentBuffer.getOutputStream();
 
-                final Event event = record.getData();
-                codec.writeEvent(event, outputStream, tagsTargetKey);
-                int count = currentBuffer.getEventCount() +1;
-                currentBuffer.setEventCount(count);
+        if (currentBuffer.getEventCount() == 0) {
+            inProgressObject.codec.start(outputStream, event, tagsTargetKey);
+        }
+
+        inProgressObject.codec.writeEvent(event, outputStream, tagsTargetKey);
+        int count = currentBuffer.getEventCount() + 1;
+        currentBuffer.setEventCount(count);
 
-                if(event.getEventHandle() != null) {
-                    bufferedEventHandles.add(event.getEventHandle());
+        if (event.getEventHandle() != null) {
+            inProgressObject.eventHandles.add(event.getEventHandle());
+        }
+        if (ThresholdCheck.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
+            completeAndUpload(inProgressObject, true);
+        }
+    }
+
+    private InProgressObject getOrCreateInProgressObject(final String partitionKey) throws IOException, InterruptedException {
+        final InProgressObject existingObject = inProgressObjects.get(partitionKey);
+        if (existingObject != null) {
+            return existingObject;
+        }
+        if (isPartitioned && inProgressObjects.size() >= maxOpenPartitions) {
+            evictLeastRecentlyWrittenPartition();
+        }
+        return inProgressObjects.computeIfAbsent(partitionKey, key -> new InProgressObject(
+                isPartitioned ? key : pathPrefix,
+                bufferFactory.getBuffer(),
+                codecSupplier.get(),
+                isPartitioned ? pluginMetrics.counterWithTags(NUMBER_OF_RECORDS_FLUSHED_TO_S3_SUCCESS, PARTITION_TAG, key) : null,
+                isPartitioned ? pluginMetrics.counterWithTags(NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED, PARTITION_TAG, key) : null));
+    }
+
+    /**
+     * Upload and close the partition written to least recently. The cap is enforced on a best effort basis,
+     * threads opening partitions concurrently may briefly exceed it.
+     */
+    private void evictLeastRecentlyWrittenPartition() throws IOException, InterruptedException {
+        Map.Entry<String, InProgressObject> leastRecentlyWritten = null;
+        for (final Map.Entry<String, InProgressObject> entry : inProgressObjects.entrySet()) {
+            if (leastRecentlyWritten == null || entry.getValue().lastWriteNanos < leastRecentlyWritten.getValue().lastWriteNanos) {
+                leastRecentlyWritten = entry;
+            }
+        }
+        if (leastRecentlyWritten != null) {
+            closePartition(leastRecentlyWritten.getKey(), leastRecentlyWritten.getValue());
+            partitionsEvictedCounter.increment();
+        }
+    }
+
+    private void closePartition(final String partitionKey, final InProgressObject inProgressObject) throws IOException, InterruptedException {
+        inProgressObject.lock.lock();
+        try {
+            if (!inProgressObject.closed) {
+                completeAndUpload(inProgressObject, false);
+                inProgressObjects.remove(partitionKey, inProgressObject);
+            }
+        } finally {
+            inProgressObject.lock.unlock();
+        }
+    }
+
+    /**
+     * Upload objects which have reached event_collect_timeout but are no longer written to, such as
+     * partitions without recent events. Objects in use by other threads are skipped.
+     */
+    private void uploadExpiredObjects() throws IOException, InterruptedException {
+        for (final Map.Entry<String, InProgressObject> entry : inProgressObjects.entrySet()) {
+            final InProgressObject inProgressObject = entry.getValue();
+            if (!inProgressObject.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (inProgressObject.closed || inProgressObject.buffer.getEventCount() == 0
+                        || inProgressObject.buffer.getDuration() <= maxCollectionDuration) {
+                    continue;
                 }
-                if (ThresholdCheck.checkThresholdExceed(currentBuffer, maxEvents, maxBytes, maxCollectionDuration)) {
-                    codec.complete(outputStream);
-                    final String s3Key = generateKey(codec);
-                    LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
-                            s3Key, currentBuffer.getEventCount(), currentBuffer.getSize());
-                    final boolean isFlushToS3 = retryFlushToS3(currentBuffer, s3Key);
-                    if (isFlushToS3) {
-                        LOG.info("Successfully saved {} to S3.", s3Key);
-                        numberOfRecordsSuccessCounter.increment(currentBuffer.getEventCount());
-                        objectsSucceededCounter.increment();
-                        s3ObjectSizeSummary.record(currentBuffer.getSize());
-                        releaseEventHandles(true);
-                    } else {
-                        LOG.error("Failed to save {} to S3.", s3Key);
-                        numberOfRecordsFailedCounter.increment(currentBuffer.getEventCount());
-                        objectsFailedCounter.increment();
-                        releaseEventHandles(false);
-                    }
-                    currentBuffer = bufferFactory.getBuffer();
+                if (isPartitioned) {
+                    completeAndUpload(inProgressObject, false);
+                    inProgressObjects.remove(entry.getKey(), inProgressObject);
+                } else {
+                    completeAndUpload(inProgressObject, true);
                 }
+            } finally {
+                inProgressObject.lock.unlock();
             }
-        } catch (IOException | InterruptedException e) {
-            LOG.error("Exception while write event into buffer :", e);
         }
-        reentrantLock.unlock();
     }
 
-    private void releaseEventHandles(final boolean result) {
-        for (EventHandle eventHandle : bufferedEventHandles) {
-            eventHandle.release(result);
+    /**
+     * Finish the codec output of the in-progress object and hand its buffer to the upload executor.
+     * Must be called holding the lock of the in-progress object.
+     *
+     * @param startNewObject whether to continue with a new buffer, otherwise the in-progress object is closed.
+     */
+    private void completeAndUpload(final InProgressObject inProgressObject, final boolean startNewObject) throws IOException, InterruptedException {
+        final Buffer completedBuffer = inProgressObject.buffer;
+        final Collection<EventHandle> completedEventHandles = inProgressObject.eventHandles;
+        if (startNewObject) {
+            inProgressObject.buffer = bufferFactory.getBuffer();
+            inProgressObject.eventHandles = new LinkedList<>();
+        } else {
+            inProgressObject.closed = true;
         }
+        if (completedBuffer.getEventCount() == 0) {
+            completedBuffer.close();
+            return;
+        }
+        inProgressObject.codec.complete(completedBuffer.getOutputStream());
+        final String s3Key = generateKey(inProgressObject.pathPrefix, inProgressObject.codec);
 
-        bufferedEventHandles.clear();
+        uploadPermits.acquire();
+        try {
+            uploadExecutor.execute(() -> {
+                try {
+                    upload(completedBuffer, s3Key, completedEventHandles, inProgressObject);
+                } finally {
+                    uploadPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            throw e;
+        }
+    }
+
+    private void upload(final Buffer completedBuffer, final String s3Key, final Collection<EventHandle> eventHandles,
+                        final InProgressObject source) {
+        final int eventCount = completedBuffer.getEventCount();
+        final long objectSize = completedBuffer.getSize();
+        LOG.info("Writing {} to S3 with {} events and size of {} bytes.", s3Key, eventCount, objectSize);
+        boolean isFlushToS3 = false;
+        try {
+            isFlushToS3 = retryFlushToS3(completedBuffer, s3Key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            completedBuffer.close();
+        }
+        if (isFlushToS3) {
+            LOG.info("Successfully saved {} to S3.", s3Key);
+            numberOfRecordsSuccessCounter.increment(eventCount);
+            if (source.partitionEventsSucceededCounter != null) {
+                source.partitionEventsSucceededCounter.increment(eventCount);
+            }
+            objectsSucceededCounter.increment();
+            s3ObjectSizeSummary.record(objectSize);
+            releaseEventHandles(eventHandles, true);
+        } else {
+            LOG.error("Failed to save {} to S3.", s3Key);
+            numberOfRecordsFailedCounter.increment(eventCount);
+            if (source.partitionEventsFailedCounter != null) {
+                source.partitionEventsFailedCounter.increment(eventCount);
+            }
+            objectsFailedCounter.increment();
+            releaseEventHandles(eventHandles, false);
+        }
+    }
+
+    private void releaseEventHandles(final Collection<EventHandle> eventHandles, final boolean result) {
+        for (EventHandle eventHandle : eventHandles) {
+            eventHandle.release(result);
+        }
     }
 
     /**
@@ -166,7 +421,11 @@ public class S3SinkService {
         int retryCount = maxRetries;
         do {
             try {
-                currentBuffer.flushToS3(s3Client, bucket, s3Key);
+                if (currentBuffer.getSize() >= multipartUploader.getPartSize()) {
+                    multipartUploader.upload(currentBuffer, bucket, s3Key);
+                } else {
+                    currentBuffer.flushToS3(s3Client, bucket, s3Key);
+                }
                 isUploadedToS3 = Boolean.TRUE;
             } catch (AwsServiceException | SdkClientException e) {
                 LOG.error("Exception occurred while uploading records to s3 bucket. Retry countdown  : {} | exception:",
@@ -187,8 +446,43 @@ public class S3SinkService {
      * @return object key path.
      */
     protected String generateKey(OutputCodec codec) {
-        final String pathPrefix = ObjectKey.buildingPathPrefix(s3SinkConfig);
+        return generateKey(s3SinkConfig.getObjectKeyOptions().getPathPrefix(), codec);
+    }
+
+    /**
+     * Generate the s3 object path prefix and object file name for a resolved path prefix.
+     * @return object key path.
+     */
+    private String generateKey(final String objectPathPrefix, final OutputCodec codec) {
+        final String pathPrefix = ObjectKey.buildingPathPrefix(objectPathPrefix);
         final String namePattern = ObjectKey.objectFileName(s3SinkConfig, codec.getExtension());
         return (!pathPrefix.isEmpty()) ? pathPrefix + namePattern : namePattern;
     }
+
+    /**
+     * The object a partition or a single sink thread is currently writing, along with its own codec instance.
+     */
+    private static class InProgressObject {
+        private final String pathPrefix;
+        private final OutputCodec codec;
+        private final ReentrantLock lock;
+        private final Counter partitionEventsSucceededCounter;
+        private final Counter partitionEventsFailedCounter;
+        private Buffer buffer;
+        private Collection<EventHandle> eventHandles;
+        private volatile long lastWriteNanos;
+        private volatile boolean closed;
+
+        private InProgressObject(final String pathPrefix, final Buffer buffer, final OutputCodec codec,
+                                 final Counter partitionEventsSucceededCounter, final Counter partitionEventsFailedCounter) {
+            this.pathPrefix = pathPrefix;
+            this.buffer = buffer;
+            this.codec = codec;
+            this.partitionEventsSucceededCounter = partitionEventsSucceededCounter;
+            this.partitionEventsFailedCounter = partitionEventsFailedCounter;
+            this.lock = new ReentrantLock();
+            this.eventHandles = new LinkedList<>();
+            this.lastWriteNanos = System.nanoTime();
+        }
+    }
 }
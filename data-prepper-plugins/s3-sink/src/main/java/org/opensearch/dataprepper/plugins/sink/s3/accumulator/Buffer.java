@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import software.amazon.awssdk.services.s3.S3Client;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 
 /**
@@ -30,4 +31,19 @@ public interface Buffer {
     OutputStream getOutputStream();
 
     void setEventCount(int eventCount);
+
+    /**
+     * Opens a stream over a range of the accumulated data. Used to upload large buffers as multipart uploads.
+     * No further events may be written to the buffer once this has been called.
+     * @param offset offset of the first byte of the range.
+     * @param length number of bytes in the range.
+     * @return stream over the requested range.
+     * @throws IOException while reading the buffer data fails.
+     */
+    InputStream getInputStream(long offset, int length) throws IOException;
+
+    /**
+     * Release any resources held by the buffer after its data is uploaded or abandoned.
+     */
+    void close();
 }
@@ -6,26 +6,30 @@
 package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.apache.commons.lang3.time.StopWatch;
+import org.opensearch.dataprepper.plugins.accumulator.ByteBufferPool;
+import org.opensearch.dataprepper.plugins.accumulator.ChunkedByteBufferOutputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A buffer can hold in memory data and flushing it to S3.
+ * The data is accumulated into pooled chunks which are returned to the pool on {@link #close()}.
  */
 public class InMemoryBuffer implements Buffer {
 
-    private static final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+    private final ChunkedByteBufferOutputStream byteBufferOutputStream;
     private int eventCount;
     private final StopWatch watch;
     private boolean isCodecStarted;
 
     InMemoryBuffer() {
-        byteArrayOutputStream.reset();
+        byteBufferOutputStream = new ChunkedByteBufferOutputStream(ByteBufferPool.getDefault());
         eventCount = 0;
         watch = new StopWatch();
         watch.start();
@@ -34,7 +38,7 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public long getSize() {
-        return byteArrayOutputStream.size();
+        return byteBufferOutputStream.size();
     }
 
     @Override
@@ -55,10 +59,9 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public void flushToS3(S3Client s3Client, String bucket, String key) {
-        final byte[] byteArray = byteArrayOutputStream.toByteArray();
         s3Client.putObject(
                 PutObjectRequest.builder().bucket(bucket).key(key).build(),
-                RequestBody.fromBytes(byteArray));
+                RequestBody.fromInputStream(byteBufferOutputStream.toInputStream(), byteBufferOutputStream.size()));
     }
 
     /**
@@ -69,8 +72,8 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public void writeEvent(byte[] bytes) throws IOException {
-        byteArrayOutputStream.write(bytes);
-        byteArrayOutputStream.write(System.lineSeparator().getBytes());
+        byteBufferOutputStream.write(bytes);
+        byteBufferOutputStream.write(LINE_SEPARATOR);
         eventCount++;
     }
     @Override
@@ -88,6 +91,16 @@ public class InMemoryBuffer implements Buffer {
     }
     @Override
     public OutputStream getOutputStream() {
-        return byteArrayOutputStream;
+        return byteBufferOutputStream;
+    }
+
+    @Override
+    public InputStream getInputStream(final long offset, final int length) {
+        return byteBufferOutputStream.toInputStream(offset, length);
+    }
+
+    @Override
+    public void close() {
+        byteBufferOutputStream.reset();
     }
 }
\ No newline at end of file
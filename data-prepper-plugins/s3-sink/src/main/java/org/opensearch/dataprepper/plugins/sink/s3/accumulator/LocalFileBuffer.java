@@ -12,11 +12,14 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
@@ -132,4 +135,21 @@ public class LocalFileBuffer implements Buffer {
         return outputStream;
     }
 
+    @Override
+    public InputStream getInputStream(final long offset, final int length) throws IOException {
+        flushAndCloseStream();
+        final byte[] range = new byte[length];
+        try (final RandomAccessFile randomAccessFile = new RandomAccessFile(localFile, "r")) {
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(range);
+        }
+        return new ByteArrayInputStream(range);
+    }
+
+    @Override
+    public void close() {
+        flushAndCloseStream();
+        removeTemporaryFile();
+    }
+
 }
\ No newline at end of file
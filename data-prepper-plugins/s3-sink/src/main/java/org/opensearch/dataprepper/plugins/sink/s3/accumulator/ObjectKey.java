@@ -31,7 +31,17 @@ public class ObjectKey {
      * @return s3 object path
      */
     public static String buildingPathPrefix(final S3SinkConfig s3SinkConfig) {
-        String pathPrefix = s3SinkConfig.getObjectKeyOptions().getPathPrefix();
+        return buildingPathPrefix(s3SinkConfig.getObjectKeyOptions().getPathPrefix());
+    }
+
+    /**
+     * Building path inside bucket from a path prefix, which may already have its event
+     * references resolved for one partition.
+     *
+     * @param pathPrefix path prefix with optional time patterns
+     * @return s3 object path
+     */
+    public static String buildingPathPrefix(final String pathPrefix) {
         StringBuilder s3ObjectPath = new StringBuilder();
         if (pathPrefix != null && !pathPrefix.isEmpty()) {
             String[] pathPrefixList = pathPrefix.split("\\/");
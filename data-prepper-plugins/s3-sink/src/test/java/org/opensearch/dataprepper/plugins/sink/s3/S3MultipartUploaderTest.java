@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final long PART_SIZE = 100;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private Buffer buffer;
+
+    private ExecutorService partUploadExecutor;
+    private String bucket;
+    private String key;
+    private String uploadId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        partUploadExecutor = Executors.newFixedThreadPool(2);
+        bucket = UUID.randomUUID().toString();
+        key = UUID.randomUUID().toString();
+        uploadId = UUID.randomUUID().toString();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(uploadId).build());
+        when(buffer.getSize()).thenReturn(250L);
+        when(buffer.getInputStream(anyLong(), anyInt()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(new byte[invocation.<Integer>getArgument(1)]));
+    }
+
+    @AfterEach
+    void tearDown() {
+        partUploadExecutor.shutdownNow();
+    }
+
+    private S3MultipartUploader createObjectUnderTest() {
+        return new S3MultipartUploader(s3Client, partUploadExecutor, PART_SIZE);
+    }
+
+    @Test
+    void upload_sends_all_parts_and_completes_upload_in_part_order() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + ((UploadPartRequest) invocation.getArgument(0)).partNumber())
+                        .build());
+
+        createObjectUnderTest().upload(buffer, bucket, key);
+
+        final ArgumentCaptor<UploadPartRequest> uploadPartCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(uploadPartCaptor.capture(), any(RequestBody.class));
+        final List<Long> partLengths = uploadPartCaptor.getAllValues().stream()
+                .sorted((first, second) -> Integer.compare(first.partNumber(), second.partNumber()))
+                .map(UploadPartRequest::contentLength)
+                .collect(Collectors.toList());
+        assertThat(partLengths, contains(100L, 100L, 50L));
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().uploadId(), equalTo(uploadId));
+        assertThat(completeCaptor.getValue().multipartUpload().parts().stream().map(CompletedPart::eTag).collect(Collectors.toList()),
+                contains("etag-1", "etag-2", "etag-3"));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_aborts_and_rethrows_when_a_part_fails() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(AwsServiceException.builder().message("failed").build());
+
+        final S3MultipartUploader objectUnderTest = createObjectUnderTest();
+        assertThrows(AwsServiceException.class, () -> objectUnderTest.upload(buffer, bucket, key));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -37,6 +37,34 @@ class S3SinkConfigTest {
         assertThat(new S3SinkConfig().getMaxUploadRetries(), equalTo(MAX_UPLOAD_RETRIES));
     }
 
+    @Test
+    void default_max_concurrent_uploads_test() {
+        assertThat(new S3SinkConfig().getMaxConcurrentUploads(), equalTo(4));
+    }
+
+    @Test
+    void default_max_concurrent_part_uploads_test() {
+        assertThat(new S3SinkConfig().getMaxConcurrentPartUploads(), equalTo(4));
+    }
+
+    @Test
+    void default_max_open_partitions_test() {
+        assertThat(new S3SinkConfig().getMaxOpenPartitions(), equalTo(100));
+    }
+
+    @Test
+    void default_multipart_part_size_test() {
+        assertThat(new S3SinkConfig().getMultipartPartSize().getBytes(), equalTo(16L * 1024 * 1024));
+        assertThat(new S3SinkConfig().isMultipartPartSizeValid(), equalTo(true));
+    }
+
+    @Test
+    void multipart_part_size_below_minimum_is_invalid() throws NoSuchFieldException, IllegalAccessException {
+        final S3SinkConfig objectUnderTest = new S3SinkConfig();
+        ReflectivelySetField.setField(S3SinkConfig.class, objectUnderTest, "multipartPartSize", "1mb");
+        assertThat(objectUnderTest.isMultipartPartSizeValid(), equalTo(false));
+    }
+
     @Test
     void get_bucket_name_test() throws NoSuchFieldException, IllegalAccessException {
         final String bucketName = UUID.randomUUID().toString();
@@ -10,6 +10,8 @@ import io.micrometer.core.instrument.DistributionSummary;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -29,8 +31,10 @@ import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticatio
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ThresholdOptions;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -43,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -50,6 +55,8 @@ import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -62,6 +69,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,6 +84,8 @@ class S3SinkServiceTest {
     public static final String OBJECT_KEY_NAME_PATTERN = "my-elb-%{yyyy-MM-dd'T'hh-mm-ss}";
     public static final String CODEC_PLUGIN_NAME = "json";
     public static final String PATH_PREFIX = "logdata/";
+    private static final long UPLOAD_TIMEOUT_MILLIS = 5000;
+    private static final long FAILED_UPLOAD_TIMEOUT_MILLIS = 25000;
     private S3SinkConfig s3SinkConfig;
     private S3Client s3Client;
     private OutputCodec codec;
@@ -85,6 +95,8 @@ class S3SinkServiceTest {
     private DistributionSummary s3ObjectSizeSummary;
     private Random random;
     private String tagsTargetKey;
+    private ExpressionEvaluator expressionEvaluator;
+    private Counter partitionKeyFailedEventsCounter;
 
     @BeforeEach
     void setUp() {
@@ -106,11 +118,16 @@ class S3SinkServiceTest {
         Counter numberOfRecordsSuccessCounter = mock(Counter.class);
         Counter numberOfRecordsFailedCounter = mock(Counter.class);
         s3ObjectSizeSummary = mock(DistributionSummary.class);
+        partitionKeyFailedEventsCounter = mock(Counter.class);
+        expressionEvaluator = mock(ExpressionEvaluator.class);
 
         bufferFactory = new InMemoryBufferFactory();
 
         when(objectKeyOptions.getNamePattern()).thenReturn(OBJECT_KEY_NAME_PATTERN);
         when(s3SinkConfig.getMaxUploadRetries()).thenReturn(MAX_RETRIES);
+        when(s3SinkConfig.getMaxConcurrentUploads()).thenReturn(1);
+        when(s3SinkConfig.getMaxConcurrentPartUploads()).thenReturn(2);
+        when(s3SinkConfig.getMultipartPartSize()).thenReturn(ByteCount.parse("5mb"));
         when(s3SinkConfig.getThresholdOptions()).thenReturn(thresholdOptions);
         when(s3SinkConfig.getThresholdOptions().getEventCount()).thenReturn(MAX_EVENTS);
         when(s3SinkConfig.getThresholdOptions().getMaximumSize()).thenReturn(ByteCount.parse(MAXIMUM_SIZE));
@@ -132,10 +149,12 @@ class S3SinkServiceTest {
         lenient().when(pluginMetrics.counter(S3SinkService.NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED)).
                 thenReturn(numberOfRecordsFailedCounter);
         lenient().when(pluginMetrics.summary(S3SinkService.S3_OBJECTS_SIZE)).thenReturn(s3ObjectSizeSummary);
+        lenient().when(pluginMetrics.counter(S3SinkService.PARTITION_KEY_FAILED_EVENTS)).thenReturn(partitionKeyFailedEventsCounter);
+        lenient().when(pluginMetrics.counter(S3SinkService.PARTITIONS_EVICTED)).thenReturn(mock(Counter.class));
     }
 
     private S3SinkService createObjectUnderTest() {
-        return new S3SinkService(s3SinkConfig, bufferFactory, codec, s3Client, tagsTargetKey, pluginMetrics);
+        return new S3SinkService(s3SinkConfig, bufferFactory, () -> codec, s3Client, tagsTargetKey, pluginMetrics, expressionEvaluator);
     }
 
     @Test
@@ -190,7 +209,7 @@ class S3SinkServiceTest {
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(50)).increment();
+        verify(snapshotSuccessCounter, timeout(UPLOAD_TIMEOUT_MILLIS).times(50)).increment();
     }
 
 
@@ -213,7 +232,7 @@ class S3SinkServiceTest {
         S3SinkService s3SinkService = createObjectUnderTest();
         assertNotNull(s3SinkService);
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(50)).increment();
+        verify(snapshotSuccessCounter, timeout(UPLOAD_TIMEOUT_MILLIS).times(50)).increment();
     }
 
     @Test
@@ -232,7 +251,7 @@ class S3SinkServiceTest {
         assertNotNull(s3SinkService);
         assertThat(s3SinkService, instanceOf(S3SinkService.class));
         s3SinkService.output(generateRandomStringEventRecord());
-        verify(snapshotSuccessCounter, times(50)).increment();
+        verify(snapshotSuccessCounter, timeout(UPLOAD_TIMEOUT_MILLIS).times(50)).increment();
     }
 
     @Test
@@ -251,7 +270,7 @@ class S3SinkServiceTest {
         final S3SinkService s3SinkService = createObjectUnderTest();
         s3SinkService.output(generateRandomStringEventRecord());
 
-        verify(s3ObjectSizeSummary, times(50)).record(objectSize);
+        verify(s3ObjectSizeSummary, timeout(UPLOAD_TIMEOUT_MILLIS).times(50)).record(objectSize);
     }
 
     @Test
@@ -287,7 +306,7 @@ class S3SinkServiceTest {
         s3SinkService.output(Collections.singletonList(new Record<>(event)));
 
         verify(s3ObjectSizeSummary, never()).record(anyLong());
-        verify(buffer, times(3)).flushToS3(any(), anyString(), anyString());
+        verify(buffer, timeout(FAILED_UPLOAD_TIMEOUT_MILLIS).times(3)).flushToS3(any(), anyString(), anyString());
     }
 
     @Test
@@ -346,7 +365,7 @@ class S3SinkServiceTest {
         final List<EventHandle> eventHandles = records.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles) {
-            verify(eventHandle).release(true);
+            verify(eventHandle, timeout(UPLOAD_TIMEOUT_MILLIS)).release(true);
         }
     }
 
@@ -377,7 +396,7 @@ class S3SinkServiceTest {
         final List<EventHandle> eventHandles2 = records2.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles2) {
-            verify(eventHandle).release(true);
+            verify(eventHandle, timeout(UPLOAD_TIMEOUT_MILLIS)).release(true);
         }
     }
 
@@ -402,7 +421,7 @@ class S3SinkServiceTest {
         final List<EventHandle> eventHandles = records.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles) {
-            verify(eventHandle).release(false);
+            verify(eventHandle, timeout(FAILED_UPLOAD_TIMEOUT_MILLIS)).release(false);
         }
     }
 
@@ -427,13 +446,13 @@ class S3SinkServiceTest {
         final List<EventHandle> eventHandles1 = records.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles1) {
-            verify(eventHandle).release(true);
+            verify(eventHandle, timeout(UPLOAD_TIMEOUT_MILLIS)).release(true);
         }
 
         final List<EventHandle> eventHandles2 = records2.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles2) {
-            verify(eventHandle).release(true);
+            verify(eventHandle, timeout(UPLOAD_TIMEOUT_MILLIS)).release(true);
         }
     }
 
@@ -460,15 +479,71 @@ class S3SinkServiceTest {
         final List<EventHandle> eventHandles = records.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles) {
-            verify(eventHandle).release(false);
+            verify(eventHandle, timeout(FAILED_UPLOAD_TIMEOUT_MILLIS)).release(false);
         }
         final List<EventHandle> eventHandles2 = records2.stream().map(Record::getData).map(Event::getEventHandle).collect(Collectors.toList());
 
         for (EventHandle eventHandle : eventHandles2) {
-            verify(eventHandle).release(false);
+            verify(eventHandle, timeout(FAILED_UPLOAD_TIMEOUT_MILLIS)).release(false);
         }
     }
 
+    @Test
+    void output_with_event_path_prefix_writes_an_object_per_partition() {
+        when(s3SinkConfig.getObjectKeyOptions().getPathPrefix()).thenReturn("${/service}/");
+        when(s3SinkConfig.getMaxOpenPartitions()).thenReturn(10);
+        final S3SinkService s3SinkService = createObjectUnderTest();
+
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < MAX_EVENTS; i++) {
+            records.add(generateServiceEventRecord("service-a"));
+            records.add(generateServiceEventRecord("service-b"));
+        }
+        s3SinkService.output(records);
+
+        final ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client, timeout(UPLOAD_TIMEOUT_MILLIS).times(2)).putObject(requestCaptor.capture(), any(RequestBody.class));
+        final List<String> keyPrefixes = requestCaptor.getAllValues().stream()
+                .map(request -> request.key().substring(0, request.key().indexOf('/')))
+                .collect(Collectors.toList());
+        assertThat(keyPrefixes, containsInAnyOrder("service-a", "service-b"));
+    }
+
+    @Test
+    void output_with_event_path_prefix_uploads_least_recently_written_partition_when_too_many_are_open() {
+        when(s3SinkConfig.getObjectKeyOptions().getPathPrefix()).thenReturn("${/service}/");
+        when(s3SinkConfig.getMaxOpenPartitions()).thenReturn(1);
+        final S3SinkService s3SinkService = createObjectUnderTest();
+
+        s3SinkService.output(Collections.singletonList(generateServiceEventRecord("service-a")));
+        s3SinkService.output(Collections.singletonList(generateServiceEventRecord("service-b")));
+
+        final ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client, timeout(UPLOAD_TIMEOUT_MILLIS)).putObject(requestCaptor.capture(), any(RequestBody.class));
+        assertThat(requestCaptor.getValue().key(), startsWith("service-a/"));
+    }
+
+    @Test
+    void output_with_event_path_prefix_drops_events_without_the_referenced_key() {
+        when(s3SinkConfig.getObjectKeyOptions().getPathPrefix()).thenReturn("${/service}/");
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final List<Record<Event>> records = generateEventRecords(1);
+
+        s3SinkService.output(records);
+
+        verify(records.get(0).getData().getEventHandle()).release(false);
+        verify(partitionKeyFailedEventsCounter).increment();
+    }
+
+    private Record<Event> generateServiceEventRecord(final String service) {
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("service", service, "message", UUID.randomUUID().toString()))
+                .build();
+        event.setEventHandle(mock(EventHandle.class));
+        return new Record<>(event);
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
@@ -75,6 +75,26 @@ class InMemoryBufferTest {
         assertThrows(Exception.class, () -> inMemoryBuffer.flushToS3(null, null, null));
     }
 
+    @Test
+    void getInputStream_returns_requested_range_of_buffer() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer();
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+
+        final byte[] range = inMemoryBuffer.getInputStream(100, 50).readAllBytes();
+
+        assertThat(range.length, equalTo(50));
+        assertThat(range[0], equalTo((byte) 100));
+        assertThat(range[49], equalTo((byte) 149));
+    }
+
+    @Test
+    void getInputStream_outside_of_buffer_throws() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer();
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> inMemoryBuffer.getInputStream(900, 200));
+    }
+
     private byte[] generateByteArray() {
         byte[] bytes = new byte[1000];
         for (int i = 0; i < 1000; i++) {
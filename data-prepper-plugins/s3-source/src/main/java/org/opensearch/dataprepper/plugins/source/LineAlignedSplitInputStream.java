@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source;
+
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of one split of a newline delimited object. A split holds every line which starts within
+ * {@code [splitStart, splitEnd)}: the partial line at the start of the split belongs to the previous split, and the
+ * last line is read past {@code splitEnd} up to its newline. Reading all splits of an object thus reads each line
+ * exactly once.
+ */
+class LineAlignedSplitInputStream extends InputStream {
+    private static final int NEWLINE = '\n';
+
+    private final SeekableInputStream inputStream;
+    private final long splitStart;
+    private final long splitEnd;
+    private boolean aligned;
+    private boolean finished;
+    private long position;
+
+    LineAlignedSplitInputStream(final SeekableInputStream inputStream, final long splitStart, final long splitEnd) {
+        this.inputStream = inputStream;
+        this.splitStart = splitStart;
+        this.splitEnd = splitEnd;
+    }
+
+    @Override
+    public int read() throws IOException {
+        alignToLineStart();
+        if (finished) {
+            return -1;
+        }
+        final int value = inputStream.read();
+        if (value < 0) {
+            finished = true;
+            return -1;
+        }
+        if (position >= splitEnd - 1 && value == NEWLINE) {
+            finished = true;
+        }
+        position++;
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        alignToLineStart();
+        if (finished) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        final int bytesRead = inputStream.read(bytes, offset, length);
+        if (bytesRead < 0) {
+            finished = true;
+            return -1;
+        }
+        int count = bytesRead;
+        // the remaining split can exceed an int, so the scan start is bounded by the bytes read before narrowing it
+        final int scanStart = (int) Math.min(bytesRead, Math.max(0, splitEnd - 1 - position));
+        for (int index = scanStart; index < bytesRead; index++) {
+            if (bytes[offset + index] == NEWLINE) {
+                count = index + 1;
+                finished = true;
+                break;
+            }
+        }
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    /**
+     * Moves to the first line starting at or after the split start, which is right after the first newline at or
+     * after {@code splitStart - 1}.
+     */
+    private void alignToLineStart() throws IOException {
+        if (aligned) {
+            return;
+        }
+        aligned = true;
+        position = splitStart;
+        if (splitStart == 0) {
+            return;
+        }
+        inputStream.seek(splitStart - 1);
+        position = splitStart - 1;
+        int value;
+        while ((value = inputStream.read()) >= 0) {
+            position++;
+            if (value == NEWLINE) {
+                break;
+            }
+        }
+        if (value < 0 || position >= splitEnd) {
+            finished = true;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 
 public class S3InputFile implements InputFile {
 
@@ -21,6 +22,9 @@ public class S3InputFile implements InputFile {
 
     private final BucketOwnerProvider bucketOwnerProvider;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ExecutorService rangeReadExecutorService;
+    private final int parallelReadRanges;
+    private final int readRangeSize;
 
     private HeadObjectResponse metadata;
 
@@ -29,11 +33,32 @@ public class S3InputFile implements InputFile {
             final S3ObjectReference s3ObjectReference,
             final BucketOwnerProvider bucketOwnerProvider,
             final S3ObjectPluginMetrics s3ObjectPluginMetrics
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, null, 1, 0);
+    }
+
+    /**
+     * @param rangeReadExecutorService executor reading ranges of the object concurrently, or null to read the
+     *                                 object with a single request.
+     * @param parallelReadRanges number of ranges read concurrently.
+     * @param readRangeSize size in bytes of each range.
+     */
+    public S3InputFile(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final ExecutorService rangeReadExecutorService,
+            final int parallelReadRanges,
+            final int readRangeSize
     ) {
         this.s3Client = s3Client;
         this.s3ObjectReference = s3ObjectReference;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.rangeReadExecutorService = rangeReadExecutorService;
+        this.parallelReadRanges = parallelReadRanges;
+        this.readRangeSize = readRangeSize;
     }
 
     /**
@@ -47,11 +72,16 @@ public class S3InputFile implements InputFile {
     }
 
     /**
-     * Create an input stream from the input file
+     * Create an input stream from the input file. Objects larger than one range are read with concurrent ranged
+     * requests when parallel reads are configured.
      * @return an implementation of a SeekableInputStream into the S3 object.
      */
     @Override
     public SeekableInputStream newStream() {
+        if (rangeReadExecutorService != null && parallelReadRanges > 1 && getLength() > readRangeSize) {
+            return new S3RangePrefetchingInputStream(s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics,
+                    rangeReadExecutorService, parallelReadRanges - 1, readRangeSize, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
+        }
         return new S3InputStream(
             s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
     }
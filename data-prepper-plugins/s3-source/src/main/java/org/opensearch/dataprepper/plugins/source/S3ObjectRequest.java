@@ -18,6 +18,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CompressionType;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 
 public class S3ObjectRequest {
@@ -38,7 +39,11 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
-
+    private final ExecutorService rangeReadExecutorService;
+    private final int parallelReadRanges;
+    private final int readRangeSize;
+    private final ExecutorService splitExecutorService;
+    private final long splitSize;
 
     private S3ObjectRequest(Builder builder) {
         this.buffer = builder.buffer;
@@ -59,6 +64,11 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.rangeReadExecutorService = builder.rangeReadExecutorService;
+        this.parallelReadRanges = builder.parallelReadRanges;
+        this.readRangeSize = builder.readRangeSize;
+        this.splitExecutorService = builder.splitExecutorService;
+        this.splitSize = builder.splitSize;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -129,6 +139,26 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public ExecutorService getRangeReadExecutorService() {
+        return rangeReadExecutorService;
+    }
+
+    public int getParallelReadRanges() {
+        return parallelReadRanges;
+    }
+
+    public int getReadRangeSize() {
+        return readRangeSize;
+    }
+
+    public ExecutorService getSplitExecutorService() {
+        return splitExecutorService;
+    }
+
+    public long getSplitSize() {
+        return splitSize;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -147,6 +177,11 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private ExecutorService rangeReadExecutorService;
+        private int parallelReadRanges = 1;
+        private int readRangeSize;
+        private ExecutorService splitExecutorService;
+        private long splitSize;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -226,5 +261,30 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder rangeReadExecutorService(ExecutorService rangeReadExecutorService) {
+            this.rangeReadExecutorService = rangeReadExecutorService;
+            return this;
+        }
+
+        public Builder parallelReadRanges(int parallelReadRanges) {
+            this.parallelReadRanges = parallelReadRanges;
+            return this;
+        }
+
+        public Builder readRangeSize(int readRangeSize) {
+            this.readRangeSize = readRangeSize;
+            return this;
+        }
+
+        public Builder splitExecutorService(ExecutorService splitExecutorService) {
+            this.splitExecutorService = splitExecutorService;
+            return this;
+        }
+
+        public Builder splitSize(long splitSize) {
+            this.splitSize = splitSize;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
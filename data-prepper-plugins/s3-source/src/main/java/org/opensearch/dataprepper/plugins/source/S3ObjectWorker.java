@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.model.codec.SplittableInputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
@@ -17,9 +18,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 
 /**
@@ -38,6 +50,11 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ExecutorService rangeReadExecutorService;
+    private final int parallelReadRanges;
+    private final int readRangeSize;
+    private final ExecutorService splitExecutorService;
+    private final long splitSize;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
         this.buffer = s3ObjectRequest.getBuffer();
@@ -49,6 +66,11 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.eventConsumer = s3ObjectRequest.getEventConsumer();
         this.s3Client = s3ObjectRequest.getS3Client();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.rangeReadExecutorService = s3ObjectRequest.getRangeReadExecutorService();
+        this.parallelReadRanges = s3ObjectRequest.getParallelReadRanges();
+        this.readRangeSize = s3ObjectRequest.getReadRangeSize();
+        this.splitExecutorService = s3ObjectRequest.getSplitExecutorService();
+        this.splitSize = s3ObjectRequest.getSplitSize();
     }
 
     public void parseS3Object(final S3ObjectReference s3ObjectReference, final AcknowledgementSet acknowledgementSet) throws IOException {
@@ -74,43 +96,29 @@ class S3ObjectWorker implements S3ObjectHandler {
 
         LOG.info("Read S3 object: {}", s3ObjectReference);
 
-        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics,
+                rangeReadExecutorService, parallelReadRanges, readRangeSize);
 
         final CompressionOption fileCompressionOption = compressionOption != CompressionOption.AUTOMATIC ?
                 compressionOption : CompressionOption.fromFileName(s3ObjectReference.getKey());
 
+        final int recordsWritten;
         try {
             s3ObjectSize = inputFile.getLength();
 
-            codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(), record -> {
-                try {
-                    eventConsumer.accept(record.getData(), s3ObjectReference);
-                    // Always add record to acknowledgementSet before adding to
-                    // buffer because another thread may take and process
-                    // buffer contents before the event record is added
-                    // to acknowledgement set
-                    if (acknowledgementSet != null) {
-                        acknowledgementSet.add(record.getData());
-                    }
-                    bufferAccumulator.add(record);
-                } catch (final Exception e) {
-                    LOG.error("Failed writing S3 objects to buffer due to: {}", e.getMessage());
-                }
-            });
+            if (isSplittable(fileCompressionOption, s3ObjectSize)) {
+                recordsWritten = parseSplits(inputFile, s3ObjectSize, acknowledgementSet, s3ObjectReference, bufferAccumulator);
+            } else {
+                codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(),
+                        record -> addRecord(record, acknowledgementSet, s3ObjectReference, bufferAccumulator));
+                recordsWritten = flush(bufferAccumulator);
+            }
         } catch (final Exception ex) {
             s3ObjectPluginMetrics.getS3ObjectsFailedCounter().increment();
             LOG.error("Error reading from S3 object: s3ObjectReference={}. {}", s3ObjectReference, ex.getMessage());
             throw ex;
         }
 
-        try {
-            bufferAccumulator.flush();
-        } catch (final Exception e) {
-            LOG.error("Failed writing S3 objects to buffer.", e);
-        }
-
-        final int recordsWritten = bufferAccumulator.getTotalWritten();
-
         if (recordsWritten == 0) {
             LOG.warn("Failed to find any records in S3 object: s3ObjectReference={}.", s3ObjectReference);
             s3ObjectPluginMetrics.getS3ObjectNoRecordsFound().increment();
@@ -118,4 +126,118 @@ class S3ObjectWorker implements S3ObjectHandler {
         s3ObjectPluginMetrics.getS3ObjectSizeSummary().record(s3ObjectSize);
         s3ObjectPluginMetrics.getS3ObjectEventsSummary().record(recordsWritten);
     }
+
+    private boolean isSplittable(final CompressionOption fileCompressionOption, final long s3ObjectSize) {
+        return splitExecutorService != null
+                && codec instanceof SplittableInputCodec
+                && ((SplittableInputCodec) codec).isSplittable()
+                && fileCompressionOption == CompressionOption.NONE
+                && s3ObjectSize > splitSize;
+    }
+
+    /**
+     * Parses an uncompressed, newline delimited object in splits of {@code splitSize} bytes. The first split is parsed on
+     * the calling thread and the others on the split executor, each with its own {@link BufferAccumulator}. Every split
+     * after the first is prefixed with the header lines of the object, so the codec parses it as it would the object.
+     *
+     * @return the number of records written to the buffer.
+     */
+    private int parseSplits(final S3InputFile inputFile,
+                            final long s3ObjectSize,
+                            final AcknowledgementSet acknowledgementSet,
+                            final S3ObjectReference s3ObjectReference,
+                            final BufferAccumulator<Record<Event>> bufferAccumulator) throws IOException {
+        final byte[] headerLines = readHeaderLines(inputFile, ((SplittableInputCodec) codec).getHeaderLineCount());
+        if (headerLines == null || headerLines.length >= splitSize) {
+            codec.parse(inputFile, CompressionOption.NONE.getDecompressionEngine(),
+                    record -> addRecord(record, acknowledgementSet, s3ObjectReference, bufferAccumulator));
+            return flush(bufferAccumulator);
+        }
+
+        final List<Future<Integer>> splitFutures = new ArrayList<>();
+        try {
+            for (long splitStart = splitSize; splitStart < s3ObjectSize; splitStart += splitSize) {
+                final long start = splitStart;
+                final long end = Math.min(splitStart + splitSize, s3ObjectSize);
+                splitFutures.add(splitExecutorService.submit(() -> {
+                    final BufferAccumulator<Record<Event>> splitBufferAccumulator =
+                            BufferAccumulator.create(buffer, numberOfRecordsToAccumulate, bufferTimeout);
+                    final InputStream splitInputStream = new SequenceInputStream(
+                            new ByteArrayInputStream(headerLines), new LineAlignedSplitInputStream(inputFile.newStream(), start, end));
+                    codec.parse(splitInputStream, record -> addRecord(record, acknowledgementSet, s3ObjectReference, splitBufferAccumulator));
+                    return flush(splitBufferAccumulator);
+                }));
+            }
+
+            codec.parse(new LineAlignedSplitInputStream(inputFile.newStream(), 0, splitSize),
+                    record -> addRecord(record, acknowledgementSet, s3ObjectReference, bufferAccumulator));
+            int recordsWritten = flush(bufferAccumulator);
+            for (final Future<Integer> splitFuture : splitFutures) {
+                recordsWritten += splitFuture.get();
+            }
+            return recordsWritten;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing splits of " + s3ObjectReference);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            splitFutures.forEach(splitFuture -> splitFuture.cancel(true));
+        }
+    }
+
+    /**
+     * @return the bytes of the first {@code headerLineCount} lines of the object, or null if the object has no more lines.
+     */
+    private static byte[] readHeaderLines(final S3InputFile inputFile, final int headerLineCount) throws IOException {
+        if (headerLineCount == 0) {
+            return new byte[0];
+        }
+        final ByteArrayOutputStream headerLines = new ByteArrayOutputStream();
+        try (final InputStream inputStream = new BufferedInputStream(inputFile.newStream())) {
+            int linesRead = 0;
+            int value;
+            while (linesRead < headerLineCount && (value = inputStream.read()) >= 0) {
+                headerLines.write(value);
+                if (value == '\n') {
+                    linesRead++;
+                }
+            }
+            return linesRead == headerLineCount ? headerLines.toByteArray() : null;
+        }
+    }
+
+    private void addRecord(final Record<Event> record,
+                           final AcknowledgementSet acknowledgementSet,
+                           final S3ObjectReference s3ObjectReference,
+                           final BufferAccumulator<Record<Event>> bufferAccumulator) {
+        try {
+            eventConsumer.accept(record.getData(), s3ObjectReference);
+            // Always add record to acknowledgementSet before adding to
+            // buffer because another thread may take and process
+            // buffer contents before the event record is added
+            // to acknowledgement set
+            if (acknowledgementSet != null) {
+                acknowledgementSet.add(record.getData());
+            }
+            bufferAccumulator.add(record);
+        } catch (final Exception e) {
+            LOG.error("Failed writing S3 objects to buffer due to: {}", e.getMessage());
+        }
+    }
+
+    private static int flush(final BufferAccumulator<Record<Event>> bufferAccumulator) {
+        try {
+            bufferAccumulator.flush();
+        } catch (final Exception e) {
+            LOG.error("Failed writing S3 objects to buffer.", e);
+        }
+        return bufferAccumulator.getTotalWritten();
+    }
 }
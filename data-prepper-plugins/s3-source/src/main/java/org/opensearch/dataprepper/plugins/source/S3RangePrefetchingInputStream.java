@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import org.opensearch.dataprepper.plugins.fs.RangePrefetchingInputStream;
+import org.opensearch.dataprepper.plugins.fs.RangeReader;
+import org.opensearch.dataprepper.plugins.source.ownership.BucketOwnerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reads an S3 object with concurrent ranged GET requests. Every range is read with its own request, so a failed
+ * range is retried on its own without re-reading the rest of the object.
+ */
+class S3RangePrefetchingInputStream extends RangePrefetchingInputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(S3RangePrefetchingInputStream.class);
+
+    private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+
+    public S3RangePrefetchingInputStream(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final HeadObjectResponse metadata,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final ExecutorService executorService,
+            final int prefetchedRanges,
+            final int readRangeSize,
+            final Duration retryDelay,
+            final int retries
+    ) {
+        super(new S3RangeReader(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, retryDelay, retries),
+                metadata.contentLength(), readRangeSize, prefetchedRanges, executorService);
+        this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary().record(getBytesRead());
+    }
+
+    private static class S3RangeReader implements RangeReader {
+        private final S3Client s3Client;
+        private final S3ObjectReference s3ObjectReference;
+        private final GetObjectRequest getObjectRequest;
+        private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+        private final RetryPolicy<byte[]> retryPolicy;
+
+        private S3RangeReader(final S3Client s3Client,
+                              final S3ObjectReference s3ObjectReference,
+                              final BucketOwnerProvider bucketOwnerProvider,
+                              final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+                              final Duration retryDelay,
+                              final int retries) {
+            this.s3Client = s3Client;
+            this.s3ObjectReference = s3ObjectReference;
+            this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+
+            final GetObjectRequest.Builder getObjectRequestBuilder = GetObjectRequest.builder()
+                    .bucket(s3ObjectReference.getBucketName())
+                    .key(s3ObjectReference.getKey());
+            bucketOwnerProvider.getBucketOwner(s3ObjectReference.getBucketName())
+                    .ifPresent(getObjectRequestBuilder::expectedBucketOwner);
+            this.getObjectRequest = getObjectRequestBuilder.build();
+
+            this.retryPolicy = RetryPolicy.<byte[]>builder()
+                    .handle(S3InputStream.RETRYABLE_EXCEPTIONS)
+                    .handle(SdkClientException.class)
+                    .withDelay(retryDelay)
+                    .withMaxRetries(retries)
+                    .build();
+        }
+
+        @Override
+        public byte[] readRange(final long start, final int length) throws IOException {
+            final GetObjectRequest rangeRequest = getObjectRequest.toBuilder()
+                    .range(String.format("bytes=%d-%d", start, start + length - 1))
+                    .build();
+            try {
+                return Failsafe.with(retryPolicy)
+                        .get(() -> s3Client.getObject(rangeRequest, ResponseTransformer.toBytes()).asByteArray());
+            } catch (final S3Exception e) {
+                LOG.error("Error reading from S3 object: s3ObjectReference={}", s3ObjectReference);
+                recordS3Exception(e);
+                throw new IOException(e.getMessage(), e);
+            } catch (final FailsafeException e) {
+                LOG.error("Failed to read range with retries: s3ObjectReference={}", s3ObjectReference, e);
+                throw new IOException(e.getCause());
+            }
+        }
+
+        private void recordS3Exception(final S3Exception ex) {
+            if (ex.statusCode() == HttpStatusCode.NOT_FOUND) {
+                s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter().increment();
+            } else if (ex.statusCode() == HttpStatusCode.FORBIDDEN) {
+                s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter().increment();
+            }
+        }
+    }
+}
@@ -26,7 +26,8 @@ public class S3ScanService {
     private final Duration range;
     private final S3ObjectHandler s3ObjectHandler;
 
-    private Thread scanObjectWorkerThread;
+    private final int workers;
+    private final List<Thread> scanObjectWorkerThreads;
 
     private final BucketOwnerProvider bucketOwnerProvider;
     private final SourceCoordinator<S3SourceProgressState> sourceCoordinator;
@@ -44,12 +45,26 @@ public class S3ScanService {
         this.s3ObjectHandler = s3ObjectHandler;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.sourceCoordinator = sourceCoordinator;
+        this.workers = s3SourceConfig.getWorkers();
+        this.scanObjectWorkerThreads = new ArrayList<>();
     }
 
+    /**
+     * Starts one thread per configured worker. Every thread acquires its own partition from the source coordinator,
+     * so objects are downloaded and parsed in parallel.
+     */
     public void start() {
-        scanObjectWorkerThread = new Thread(new ScanObjectWorker(s3ClientBuilderFactory.getS3Client(),
-                getScanOptions(),s3ObjectHandler,bucketOwnerProvider, sourceCoordinator));
-        scanObjectWorkerThread.start();
+        final ScanObjectWorker scanObjectWorker = new ScanObjectWorker(s3ClientBuilderFactory.getS3Client(),
+                getScanOptions(),s3ObjectHandler,bucketOwnerProvider, sourceCoordinator);
+        for (int i = 0; i < workers; i++) {
+            final Thread scanObjectWorkerThread = new Thread(scanObjectWorker, "s3-source-scan-" + i);
+            scanObjectWorkerThreads.add(scanObjectWorkerThread);
+            scanObjectWorkerThread.start();
+        }
+    }
+
+    public void stop() {
+        scanObjectWorkerThreads.forEach(Thread::interrupt);
     }
 
     /**
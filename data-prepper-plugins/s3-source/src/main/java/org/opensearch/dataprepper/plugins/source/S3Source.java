@@ -31,6 +31,9 @@ import software.amazon.awssdk.services.s3.model.CompressionType;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 @DataPrepperPlugin(name = "s3", pluginType = Source.class, pluginConfigurationType = S3SourceConfig.class)
@@ -40,6 +43,8 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
     private final S3SourceConfig s3SourceConfig;
     private SqsService sqsService;
     private S3ScanService s3ScanService;
+    private ExecutorService rangeReadExecutorService;
+    private ExecutorService splitExecutorService;
     private final PluginFactory pluginFactory;
     private final Optional<S3ScanScanOptions> s3ScanScanOptional;
     private final AcknowledgementSetManager acknowledgementSetManager;
@@ -107,6 +112,21 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
             final PluginModel codecConfiguration = s3SourceConfig.getCodec();
             final PluginSetting codecPluginSettings = new PluginSetting(codecConfiguration.getPluginName(), codecConfiguration.getPluginSettings());
             final InputCodec codec = pluginFactory.loadPlugin(InputCodec.class, codecPluginSettings);
+            final int parallelReadRanges = s3SourceConfig.getParallelReadRanges();
+            if (parallelReadRanges > 1) {
+                rangeReadExecutorService = createDaemonExecutorService(parallelReadRanges * getObjectWorkers(), "s3-source-range-reader-");
+                s3ObjectRequestBuilder
+                        .rangeReadExecutorService(rangeReadExecutorService)
+                        .parallelReadRanges(parallelReadRanges)
+                        .readRangeSize((int) s3SourceConfig.getReadRangeSize().getBytes());
+            }
+            final int splitWorkers = s3SourceConfig.getSplitWorkers();
+            if (splitWorkers > 1) {
+                splitExecutorService = createDaemonExecutorService((splitWorkers - 1) * getObjectWorkers(), "s3-source-split-reader-");
+                s3ObjectRequestBuilder
+                        .splitExecutorService(splitExecutorService)
+                        .splitSize(s3SourceConfig.getSplitSize().getBytes());
+            }
             final S3ObjectRequest s3ObjectRequest = s3ObjectRequestBuilder
                     .bucketOwnerProvider(bucketOwnerProvider)
                     .codec(codec)
@@ -129,10 +149,44 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
 
     @Override
     public void stop() {
-        sqsService.stop();
+        if (Objects.nonNull(sqsService)) {
+            sqsService.stop();
+        }
+        if (Objects.nonNull(s3ScanService)) {
+            s3ScanService.stop();
+        }
         if (Objects.nonNull(sourceCoordinator)) {
             sourceCoordinator.giveUpPartitions();
         }
+        if (Objects.nonNull(splitExecutorService)) {
+            splitExecutorService.shutdownNow();
+        }
+        if (Objects.nonNull(rangeReadExecutorService)) {
+            rangeReadExecutorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the number of threads which may read S3 objects at the same time.
+     */
+    private int getObjectWorkers() {
+        int objectWorkers = 0;
+        if (Objects.nonNull(s3SourceConfig.getSqsOptions())) {
+            objectWorkers += s3SourceConfig.getWorkers() > 1 ? s3SourceConfig.getWorkers() : s3SourceConfig.getSqsOptions().getWorkers();
+        }
+        if (s3ScanScanOptional.isPresent()) {
+            objectWorkers += s3SourceConfig.getWorkers();
+        }
+        return Math.max(objectWorkers, 1);
+    }
+
+    private static ExecutorService createDaemonExecutorService(final int threads, final String threadNamePrefix) {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -6,7 +6,12 @@
 package org.opensearch.dataprepper.plugins.source;
 
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.model.types.ByteCountInvalidInputException;
+import org.opensearch.dataprepper.model.types.ByteCountParseException;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.configuration.NotificationTypeOption;
 import org.opensearch.dataprepper.plugins.source.configuration.NotificationSourceOption;
@@ -26,6 +31,15 @@ public class S3SourceConfig {
     static final Duration DEFAULT_BUFFER_TIMEOUT = Duration.ofSeconds(10);
     static final int DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE = 100;
     static final String DEFAULT_METADATA_ROOT_KEY = "s3/";
+    static final int DEFAULT_WORKERS = 1;
+    static final int DEFAULT_PARALLEL_READ_RANGES = 1;
+    static final String DEFAULT_READ_RANGE_SIZE = "8mb";
+    private static final long MIN_READ_RANGE_SIZE_BYTES = 64 * 1024L;
+    private static final long MAX_READ_RANGE_SIZE_BYTES = 1024 * 1024 * 1024L;
+    static final int DEFAULT_SPLIT_WORKERS = 1;
+    static final String DEFAULT_SPLIT_SIZE = "64mb";
+    private static final long MIN_SPLIT_SIZE_BYTES = 1024 * 1024L;
+    private static final long MAX_SPLIT_SIZE_BYTES = 1024 * 1024 * 1024L;
 
     @JsonProperty("notification_type")
     private NotificationTypeOption notificationType;
@@ -60,6 +74,27 @@ public class S3SourceConfig {
     @JsonProperty("records_to_accumulate")
     private int numberOfRecordsToAccumulate = DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE;
 
+    @JsonProperty("workers")
+    @Min(1)
+    @Max(1000)
+    private int workers = DEFAULT_WORKERS;
+
+    @JsonProperty("parallel_read_ranges")
+    @Min(1)
+    @Max(64)
+    private int parallelReadRanges = DEFAULT_PARALLEL_READ_RANGES;
+
+    @JsonProperty("read_range_size")
+    private String readRangeSize = DEFAULT_READ_RANGE_SIZE;
+
+    @JsonProperty("split_workers")
+    @Min(1)
+    @Max(64)
+    private int splitWorkers = DEFAULT_SPLIT_WORKERS;
+
+    @JsonProperty("split_size")
+    private String splitSize = DEFAULT_SPLIT_SIZE;
+
     @JsonProperty("disable_bucket_ownership_validation")
     private boolean disableBucketOwnershipValidation = false;
 
@@ -86,6 +121,28 @@ public class S3SourceConfig {
         return true;
     }
 
+    @AssertTrue(message = "read_range_size must be between 64kb and 1gb.")
+    boolean isReadRangeSizeValid() {
+        final long bytes;
+        try {
+            bytes = getReadRangeSize().getBytes();
+        } catch (final ByteCountParseException | ByteCountInvalidInputException e) {
+            return false;
+        }
+        return bytes >= MIN_READ_RANGE_SIZE_BYTES && bytes <= MAX_READ_RANGE_SIZE_BYTES;
+    }
+
+    @AssertTrue(message = "split_size must be between 1mb and 1gb.")
+    boolean isSplitSizeValid() {
+        final long bytes;
+        try {
+            bytes = getSplitSize().getBytes();
+        } catch (final ByteCountParseException | ByteCountInvalidInputException e) {
+            return false;
+        }
+        return bytes >= MIN_SPLIT_SIZE_BYTES && bytes <= MAX_SPLIT_SIZE_BYTES;
+    }
+
     public NotificationTypeOption getNotificationType() {
         return notificationType;
     }
@@ -126,6 +183,26 @@ public class S3SourceConfig {
         return numberOfRecordsToAccumulate;
     }
 
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getParallelReadRanges() {
+        return parallelReadRanges;
+    }
+
+    public ByteCount getReadRangeSize() {
+        return ByteCount.parse(readRangeSize);
+    }
+
+    public int getSplitWorkers() {
+        return splitWorkers;
+    }
+
+    public ByteCount getSplitSize() {
+        return ByteCount.parse(splitSize);
+    }
+
     public boolean isDisableBucketOwnershipValidation() {
         return disableBucketOwnershipValidation;
     }
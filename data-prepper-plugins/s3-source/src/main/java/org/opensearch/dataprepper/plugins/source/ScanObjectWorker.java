@@ -61,11 +61,15 @@ public class ScanObjectWorker implements Runnable{
         this.partitionCreationSupplier = new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsBuilderList);
     }
 
+    /**
+     * Several threads may run the same worker, each of them processing its own partition.
+     */
     @Override
     public void run() {
-        while (!shouldStopProcessing) {
+        while (!shouldStopProcessing && !Thread.currentThread().isInterrupted()) {
             startProcessingObject(STANDARD_BACKOFF_MILLIS);
         }
+        sourceCoordinator.giveUpPartitions();
     }
 
     /**
@@ -82,7 +86,7 @@ public class ScanObjectWorker implements Runnable{
             try {
                 Thread.sleep(waitTimeMillis);
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                Thread.currentThread().interrupt();
             }
             return;
         }
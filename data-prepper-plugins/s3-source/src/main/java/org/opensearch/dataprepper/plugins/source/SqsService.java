@@ -16,6 +16,10 @@ import software.amazon.awssdk.services.sqs.SqsClient;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SqsService {
     private static final Logger LOG = LoggerFactory.getLogger(SqsService.class);
@@ -29,7 +33,8 @@ public class SqsService {
     private final PluginMetrics pluginMetrics;
     private final AcknowledgementSetManager acknowledgementSetManager;
 
-    private Thread sqsWorkerThread;
+    private final List<Thread> sqsWorkerThreads;
+    private ExecutorService s3ObjectExecutorService;
 
     public SqsService(final AcknowledgementSetManager acknowledgementSetManager,
                       final S3SourceConfig s3SourceConfig,
@@ -41,13 +46,30 @@ public class SqsService {
         this.pluginMetrics = pluginMetrics;
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.sqsClient = createSqsClient(credentialsProvider);
+        this.sqsWorkerThreads = new ArrayList<>();
     }
 
+    /**
+     * Starts the SQS workers, which receive and delete messages. With more than one object worker configured, the S3
+     * objects of the received messages are downloaded and parsed on a separate pool shared by all SQS workers. Each SQS
+     * worker waits for the objects of its batch before receiving more messages, so at most
+     * sqs workers * maximum messages objects are in flight and a full buffer slows down polling.
+     */
     public void start() {
-        final Backoff backoff = Backoff.exponential(INITIAL_DELAY, MAXIMUM_DELAY).withJitter(JITTER_RATE)
-                .withMaxAttempts(Integer.MAX_VALUE);
-        sqsWorkerThread = new Thread(new SqsWorker(acknowledgementSetManager, sqsClient, s3Accessor, s3SourceConfig, pluginMetrics, backoff));
-        sqsWorkerThread.start();
+        final int objectWorkers = s3SourceConfig.getWorkers();
+        if (objectWorkers > 1) {
+            s3ObjectExecutorService = Executors.newFixedThreadPool(objectWorkers);
+        }
+        final int sqsWorkers = s3SourceConfig.getSqsOptions().getWorkers();
+        for (int i = 0; i < sqsWorkers; i++) {
+            final Backoff backoff = Backoff.exponential(INITIAL_DELAY, MAXIMUM_DELAY).withJitter(JITTER_RATE)
+                    .withMaxAttempts(Integer.MAX_VALUE);
+            final Thread sqsWorkerThread = new Thread(new SqsWorker(acknowledgementSetManager, sqsClient, s3Accessor,
+                    s3SourceConfig, pluginMetrics, backoff, s3ObjectExecutorService), "s3-source-sqs-" + i);
+            sqsWorkerThreads.add(sqsWorkerThread);
+            sqsWorkerThread.start();
+        }
+        LOG.info("Started {} SQS workers with {} S3 object workers", sqsWorkers, objectWorkers);
     }
 
     SqsClient createSqsClient(final AwsCredentialsProvider credentialsProvider) {
@@ -62,6 +84,9 @@ public class SqsService {
     }
 
     public void stop() {
-        sqsWorkerThread.interrupt();
+        sqsWorkerThreads.forEach(Thread::interrupt);
+        if (s3ObjectExecutorService != null) {
+            s3ObjectExecutorService.shutdownNow();
+        }
     }
 }
@@ -42,6 +42,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class SqsWorker implements Runnable {
@@ -69,6 +73,7 @@ public class SqsWorker implements Runnable {
     private int failedAttemptCount;
     private boolean endToEndAcknowledgementsEnabled;
     private final AcknowledgementSetManager acknowledgementSetManager;
+    private final ExecutorService s3ObjectExecutorService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,6 +83,21 @@ public class SqsWorker implements Runnable {
                      final S3SourceConfig s3SourceConfig,
                      final PluginMetrics pluginMetrics,
                      final Backoff backoff) {
+        this(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff, null);
+    }
+
+    /**
+     * @param s3ObjectExecutorService executor which downloads and parses the S3 objects of a batch of SQS messages
+     *                                concurrently. When null the objects are processed one at a time by the worker thread.
+     */
+    public SqsWorker(final AcknowledgementSetManager acknowledgementSetManager,
+                     final SqsClient sqsClient,
+                     final S3Service s3Service,
+                     final S3SourceConfig s3SourceConfig,
+                     final PluginMetrics pluginMetrics,
+                     final Backoff backoff,
+                     final ExecutorService s3ObjectExecutorService) {
+        this.s3ObjectExecutorService = s3ObjectExecutorService;
         this.sqsClient = sqsClient;
         this.s3Service = s3Service;
         this.s3SourceConfig = s3SourceConfig;
@@ -223,6 +243,7 @@ public class SqsWorker implements Runnable {
 
         LOG.info("Received {} messages from SQS. Processing {} messages.", s3EventNotificationRecords.size(), parsedMessagesToRead.size());
 
+        final List<CompletableFuture<Optional<DeleteMessageBatchRequestEntry>>> s3ObjectResults = new ArrayList<>(parsedMessagesToRead.size());
         for (ParsedMessage parsedMessage : parsedMessagesToRead) {
             List<DeleteMessageBatchRequestEntry> waitingForAcknowledgements = new ArrayList<>();
             AcknowledgementSet acknowledgementSet = null;
@@ -238,18 +259,55 @@ public class SqsWorker implements Runnable {
                 }, Duration.ofSeconds(timeout));
             }
             final S3ObjectReference s3ObjectReference = populateS3Reference(parsedMessage.getBucketName(), parsedMessage.getObjectKey());
-            final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = processS3Object(parsedMessage, s3ObjectReference, acknowledgementSet);
-            if (endToEndAcknowledgementsEnabled) {
-                deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
-                acknowledgementSet.complete();
-            } else {
-                deleteMessageBatchRequestEntry.ifPresent(deleteMessageBatchRequestEntryCollection::add);
+            final AcknowledgementSet objectAcknowledgementSet = acknowledgementSet;
+            s3ObjectResults.add(submitS3Object(() -> {
+                final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry = processS3Object(parsedMessage, s3ObjectReference, objectAcknowledgementSet);
+                if (endToEndAcknowledgementsEnabled) {
+                    deleteMessageBatchRequestEntry.ifPresent(waitingForAcknowledgements::add);
+                    objectAcknowledgementSet.complete();
+                }
+                return deleteMessageBatchRequestEntry;
+            }));
+        }
+
+        for (final CompletableFuture<Optional<DeleteMessageBatchRequestEntry>> s3ObjectResult : s3ObjectResults) {
+            final Optional<DeleteMessageBatchRequestEntry> deleteMessageBatchRequestEntry;
+            try {
+                deleteMessageBatchRequestEntry = s3ObjectResult.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (final ExecutionException e) {
+                LOG.error("Error processing from S3: {}.", e.getCause().getMessage());
+                continue;
+            }
+            if (deleteMessageBatchRequestEntry.isEmpty()) {
+                applyBackoff();
+            } else if (!endToEndAcknowledgementsEnabled) {
+                deleteMessageBatchRequestEntryCollection.add(deleteMessageBatchRequestEntry.get());
             }
         }
 
         return deleteMessageBatchRequestEntryCollection;
     }
 
+    private <T> CompletableFuture<T> submitS3Object(final Supplier<T> s3ObjectTask) {
+        if (s3ObjectExecutorService == null) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                result.complete(s3ObjectTask.get());
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        return CompletableFuture.supplyAsync(s3ObjectTask, s3ObjectExecutorService);
+    }
+
+    /**
+     * May run on an S3 object executor thread. The backoff for failed objects is applied by the worker thread once
+     * the whole batch has been processed.
+     */
     private Optional<DeleteMessageBatchRequestEntry> processS3Object(
             final ParsedMessage parsedMessage,
             final S3ObjectReference s3ObjectReference,
@@ -264,7 +322,6 @@ public class SqsWorker implements Runnable {
             return Optional.of(buildDeleteMessageBatchRequestEntry(parsedMessage.getMessage()));
         } catch (final Exception e) {
             LOG.error("Error processing from S3: {}. Retrying with exponential backoff.", e.getMessage());
-            applyBackoff();
             return Optional.empty();
         }
     }
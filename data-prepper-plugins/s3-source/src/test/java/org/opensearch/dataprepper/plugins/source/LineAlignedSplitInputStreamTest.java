@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.plugins.fs.LocalInputFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LineAlignedSplitInputStreamTest {
+    @TempDir
+    File tempDirectory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 36, 37, 100, 5000})
+    void splits_read_every_line_exactly_once(final int splitSize) throws IOException {
+        final StringBuilder content = new StringBuilder();
+        final Random random = new Random();
+        for (int line = 0; line < 100; line++) {
+            content.append(UUID.randomUUID().toString(), 0, random.nextInt(36)).append('\n');
+        }
+        content.append("last line without newline");
+        final byte[] contentBytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        final File file = new File(tempDirectory, "lines.txt");
+        Files.write(file.toPath(), contentBytes);
+        final LocalInputFile inputFile = new LocalInputFile(file);
+
+        final ByteArrayOutputStream allSplits = new ByteArrayOutputStream();
+        for (long splitStart = 0; splitStart < contentBytes.length; splitStart += splitSize) {
+            final long splitEnd = Math.min(splitStart + splitSize, contentBytes.length);
+            try (final InputStream objectUnderTest = new LineAlignedSplitInputStream(inputFile.newStream(), splitStart, splitEnd)) {
+                allSplits.write(objectUnderTest.readAllBytes());
+            }
+        }
+
+        assertThat(allSplits.toString(StandardCharsets.UTF_8), equalTo(content.toString()));
+    }
+
+    @Test
+    void split_larger_than_an_int_reads_every_line() throws IOException {
+        final String content = "first line\nsecond line\nthird line\n";
+        final File file = new File(tempDirectory, "lines.txt");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        final LocalInputFile inputFile = new LocalInputFile(file);
+
+        try (final InputStream objectUnderTest = new LineAlignedSplitInputStream(inputFile.newStream(), 0, 3L * 1024 * 1024 * 1024)) {
+            assertThat(new String(objectUnderTest.readAllBytes(), StandardCharsets.UTF_8), equalTo(content));
+        }
+    }
+}
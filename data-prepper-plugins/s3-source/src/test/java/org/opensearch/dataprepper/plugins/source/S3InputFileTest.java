@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -101,4 +102,28 @@ public class S3InputFileTest {
         assertThat(seekableInputStream.getClass(), equalTo(S3InputStream.class));
     }
 
+    @Test
+    public void newStream_reads_ranges_in_parallel_when_object_is_larger_than_a_range() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(200L);
+
+        final S3InputFile objectUnderTest = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics,
+                mock(ExecutorService.class), 4, 100);
+
+        assertThat(objectUnderTest.newStream().getClass(), equalTo(S3RangePrefetchingInputStream.class));
+    }
+
+    @Test
+    public void newStream_reads_sequentially_when_object_fits_in_a_range() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(100L);
+
+        final S3InputFile objectUnderTest = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics,
+                mock(ExecutorService.class), 4, 100);
+
+        assertThat(objectUnderTest.newStream().getClass(), equalTo(S3InputStream.class));
+    }
+
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.codec.DecompressionEngine;
+import org.opensearch.dataprepper.model.codec.SplittableInputCodec;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.io.InputFile;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.source.ownership.BucketOwnerProvider;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Parses objects larger than the split size through {@link S3ObjectWorker} with an object served from memory.
+ */
+@ExtendWith(MockitoExtension.class)
+class S3ObjectWorkerSplitTest {
+    private static final String HEADER_LINE = "header";
+    private static final int LINE_COUNT = 200;
+    private static final long SPLIT_SIZE = 256;
+
+    @Mock
+    private S3Client s3Client;
+    @Mock
+    private Buffer<Record<Event>> buffer;
+    @Mock
+    private BucketOwnerProvider bucketOwnerProvider;
+    @Mock
+    private AcknowledgementSet acknowledgementSet;
+    @Mock
+    private S3ObjectReference s3ObjectReference;
+    @Mock
+    private S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    @Mock
+    private Timer s3ObjectReadTimer;
+    @Mock
+    private Counter s3ObjectsSucceededCounter;
+    @Mock
+    private Counter s3ObjectsFailedCounter;
+    @Mock
+    private Counter s3ObjectNoRecordsFound;
+    @Mock
+    private DistributionSummary s3ObjectSizeSummary;
+    @Mock
+    private DistributionSummary s3ObjectSizeProcessedSummary;
+    @Mock
+    private DistributionSummary s3ObjectEventsSummary;
+    @Mock
+    private HeadObjectResponse headObjectResponse;
+    @Mock
+    private BiConsumer<Event, S3ObjectReference> eventConsumer;
+
+    private ExecutorService splitExecutorService;
+    private byte[] objectBytes;
+    private List<String> expectedMessages;
+    private List<Record<Event>> bufferedRecords;
+    private HeaderLineCodec codec;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        splitExecutorService = Executors.newFixedThreadPool(3);
+        bufferedRecords = Collections.synchronizedList(new ArrayList<>());
+        codec = new HeaderLineCodec(true);
+
+        final StringBuilder content = new StringBuilder(HEADER_LINE).append('\n');
+        expectedMessages = new ArrayList<>(LINE_COUNT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            final String line = "line-" + i + "-" + UUID.randomUUID().toString().substring(0, i % 20);
+            expectedMessages.add(line);
+            content.append(line).append('\n');
+        }
+        objectBytes = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        lenient().when(s3ObjectReference.getBucketName()).thenReturn(UUID.randomUUID().toString());
+        lenient().when(s3ObjectReference.getKey()).thenReturn(UUID.randomUUID() + ".csv");
+        lenient().when(headObjectResponse.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        lenient().when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(invocation -> {
+            final GetObjectRequest getObjectRequest = invocation.getArgument(0);
+            final String range = getObjectRequest.range();
+            final int start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+            return new ByteArrayInputStream(objectBytes, start, objectBytes.length - start);
+        });
+
+        doAnswer(invocation -> {
+            bufferedRecords.addAll(invocation.getArgument(0));
+            return null;
+        }).when(buffer).writeAll(any(Collection.class), anyInt());
+
+        when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(s3ObjectReadTimer);
+        when(s3ObjectReadTimer.recordCallable(any(Callable.class))).thenAnswer(invocation -> invocation.getArgument(0, Callable.class).call());
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectsFailedCounter()).thenReturn(s3ObjectsFailedCounter);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(s3ObjectNoRecordsFound);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        lenient().when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        splitExecutorService.shutdownNow();
+        splitExecutorService.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private S3ObjectWorker createObjectUnderTest() {
+        final S3ObjectRequest request = new S3ObjectRequest
+                .Builder(buffer, 7, Duration.ofSeconds(1), s3ObjectPluginMetrics)
+                .bucketOwnerProvider(bucketOwnerProvider)
+                .eventConsumer(eventConsumer).codec(codec).s3Client(s3Client)
+                .compressionOption(CompressionOption.NONE)
+                .splitExecutorService(splitExecutorService)
+                .splitSize(SPLIT_SIZE)
+                .build();
+        return new S3ObjectWorker(request);
+    }
+
+    @Test
+    void parseS3Object_parses_every_line_once_across_splits() throws IOException {
+        createObjectUnderTest().parseS3Object(s3ObjectReference, acknowledgementSet);
+
+        assertThat(codec.streamParseCount, equalTo((int) ((objectBytes.length + SPLIT_SIZE - 1) / SPLIT_SIZE)));
+        assertThat(getBufferedMessages(), containsInAnyOrder(expectedMessages.toArray()));
+        verify(s3ObjectEventsSummary).record(LINE_COUNT);
+        verify(s3ObjectSizeSummary).record(objectBytes.length);
+        verify(s3ObjectsSucceededCounter).increment();
+    }
+
+    @Test
+    void parseS3Object_prefixes_every_split_with_the_header_lines() throws IOException {
+        createObjectUnderTest().parseS3Object(s3ObjectReference, acknowledgementSet);
+
+        assertThat(codec.headerLines.size(), greaterThan(1));
+        assertThat(codec.headerLines.size(), equalTo(codec.streamParseCount));
+        assertThat(codec.headerLines, everyItem(equalTo(HEADER_LINE)));
+    }
+
+    @Test
+    void parseS3Object_adds_the_events_of_every_split_to_the_acknowledgement_set() throws IOException {
+        createObjectUnderTest().parseS3Object(s3ObjectReference, acknowledgementSet);
+
+        verify(acknowledgementSet, times(LINE_COUNT)).add(any(Event.class));
+        for (final Record<Event> record : bufferedRecords) {
+            verify(acknowledgementSet).add(record.getData());
+        }
+    }
+
+    @Test
+    void parseS3Object_does_not_split_when_the_codec_is_not_splittable() throws IOException {
+        codec = new HeaderLineCodec(false);
+
+        createObjectUnderTest().parseS3Object(s3ObjectReference, acknowledgementSet);
+
+        assertThat(codec.streamParseCount, equalTo(1));
+        assertThat(getBufferedMessages(), equalTo(expectedMessages));
+        verify(acknowledgementSet, times(LINE_COUNT)).add(any(Event.class));
+    }
+
+    private List<String> getBufferedMessages() {
+        synchronized (bufferedRecords) {
+            return bufferedRecords.stream()
+                    .map(record -> record.getData().get("message", String.class))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Emits every line after the header line as an event, and records the header line of every parsed stream.
+     */
+    private static class HeaderLineCodec implements SplittableInputCodec {
+        private final boolean splittable;
+        private final List<String> headerLines = Collections.synchronizedList(new ArrayList<>());
+        private volatile int streamParseCount;
+
+        private HeaderLineCodec(final boolean splittable) {
+            this.splittable = splittable;
+        }
+
+        @Override
+        public int getHeaderLineCount() {
+            return 1;
+        }
+
+        @Override
+        public boolean isSplittable() {
+            return splittable;
+        }
+
+        @Override
+        public void parse(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
+            synchronized (this) {
+                streamParseCount++;
+            }
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            headerLines.add(reader.readLine());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                eventConsumer.accept(new Record<>(JacksonEvent.fromMessage(line)));
+            }
+        }
+
+        @Override
+        public void parse(final InputFile inputFile, final DecompressionEngine decompressionEngine,
+                          final Consumer<Record<Event>> eventConsumer) throws IOException {
+            try (final InputStream inputStream = decompressionEngine.createInputStream(inputFile.newStream())) {
+                parse(inputStream, eventConsumer);
+            }
+        }
+    }
+}
@@ -117,6 +117,21 @@ class S3ScanObjectWorkerTest {
         objectUnderTest.runWithoutInfiniteLoop();
     }
 
+    @Test
+    void run_gives_up_partitions_and_stops_when_interrupted() {
+        final ScanObjectWorker objectUnderTest = createObjectUnderTest();
+
+        Thread.currentThread().interrupt();
+        try {
+            objectUnderTest.run();
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(sourceCoordinator).giveUpPartitions();
+        verifyNoMoreInteractions(sourceCoordinator);
+    }
+
     static Stream<Class> exceptionProvider() {
         return Stream.of(PartitionUpdateException.class, PartitionNotFoundException.class, PartitionNotOwnedException.class);
     }
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.configuration.OnErrorOption;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.plugins.source.configuration.S3SelectOptions;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
@@ -44,6 +46,43 @@ class S3SourceConfigTest {
         assertThat(new S3SourceConfig().getAcknowledgements(), equalTo(false));
     }
 
+    @Test
+    void default_workers_test() {
+        assertThat(new S3SourceConfig().getWorkers(), equalTo(S3SourceConfig.DEFAULT_WORKERS));
+    }
+
+    @Test
+    void default_parallel_reads_test() {
+        final S3SourceConfig objectUnderTest = new S3SourceConfig();
+        assertThat(objectUnderTest.getParallelReadRanges(), equalTo(S3SourceConfig.DEFAULT_PARALLEL_READ_RANGES));
+        assertThat(objectUnderTest.getReadRangeSize().getBytes(), equalTo(8L * 1024 * 1024));
+        assertThat(objectUnderTest.isReadRangeSizeValid(), equalTo(true));
+    }
+
+    @Test
+    void default_split_test() {
+        final S3SourceConfig objectUnderTest = new S3SourceConfig();
+        assertThat(objectUnderTest.getSplitWorkers(), equalTo(S3SourceConfig.DEFAULT_SPLIT_WORKERS));
+        assertThat(objectUnderTest.getSplitSize().getBytes(), equalTo(64L * 1024 * 1024));
+        assertThat(objectUnderTest.isSplitSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"512kb", "2gb", "not a size"})
+    void isSplitSizeValid_returns_false_outside_of_the_bounds(final String splitSize) throws Exception {
+        final S3SourceConfig s3SourceConfig = new S3SourceConfig();
+        ReflectivelySetField.setField(S3SourceConfig.class, s3SourceConfig, "splitSize", splitSize);
+        assertFalse(s3SourceConfig.isSplitSizeValid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1mb", "256mb", "1gb"})
+    void isSplitSizeValid_returns_true_within_the_bounds(final String splitSize) throws Exception {
+        final S3SourceConfig s3SourceConfig = new S3SourceConfig();
+        ReflectivelySetField.setField(S3SourceConfig.class, s3SourceConfig, "splitSize", splitSize);
+        assertTrue(s3SourceConfig.isSplitSizeValid());
+    }
+
     @Test
     void default_notification_source_test() {
         assertThat(new S3SourceConfig().getNotificationSource(), equalTo(NotificationSourceOption.S3));
@@ -50,6 +50,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -184,6 +186,41 @@ class SqsWorkerTest {
             assertThat(actualDelay, greaterThanOrEqualTo(Duration.ofHours(1).minus(Duration.ofSeconds(5))));
         }
 
+        @Test
+        void processSqsMessages_with_executor_processes_all_objects_before_deleting_messages() throws IOException {
+            final ExecutorService executorService = Executors.newFixedThreadPool(3);
+            sqsWorker = new SqsWorker(acknowledgementSetManager, sqsClient, s3Service, s3SourceConfig, pluginMetrics, backoff, executorService);
+            Instant startTime = Instant.now().minus(1, ChronoUnit.HOURS);
+            final List<Message> messages = IntStream.range(0, 6).mapToObj(i -> {
+                        final Message message = mock(Message.class);
+                        when(message.body()).thenReturn(createPutNotification(startTime));
+                        final String testReceiptHandle = UUID.randomUUID().toString();
+                        when(message.messageId()).thenReturn(testReceiptHandle);
+                        when(message.receiptHandle()).thenReturn(testReceiptHandle);
+                        return message;
+                    })
+                    .collect(Collectors.toList());
+
+            final ReceiveMessageResponse receiveMessageResponse = mock(ReceiveMessageResponse.class);
+            when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(receiveMessageResponse);
+            when(receiveMessageResponse.messages()).thenReturn(messages);
+
+            try {
+                final int messagesProcessed = sqsWorker.processSqsMessages();
+
+                final ArgumentCaptor<DeleteMessageBatchRequest> deleteMessageBatchRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+                verify(sqsClient).deleteMessageBatch(deleteMessageBatchRequestArgumentCaptor.capture());
+                assertThat(messagesProcessed, equalTo(6));
+                assertThat(deleteMessageBatchRequestArgumentCaptor.getValue().entries().size(), equalTo(6));
+                verify(s3Service, times(6)).addS3Object(any(S3ObjectReference.class), any());
+                verify(sqsMessagesReceivedCounter).increment(6);
+                verify(sqsMessagesDeletedCounter).increment(1);
+                verify(sqsMessageDelayTimer, times(6)).record(any(Duration.class));
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
         @ParameterizedTest
         @ValueSource(strings = {"ObjectCreated:Put", "ObjectCreated:Post", "ObjectCreated:Copy", "ObjectCreated:CompleteMultipartUpload"})
         void processSqsMessages_should_return_number_of_messages_processed_with_acknowledgements(final String eventName) throws IOException {
@@ -0,0 +1,535 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Finds service map relationships as spans arrive instead of scanning whole windows. Span and trace group state is
+ * keyed by primitive span and trace ids in {@link OffHeapIdTable}s, and an edge is emitted as soon as the parent span,
+ * the child span and the trace group of the trace have all been seen. Edges which were already emitted are remembered
+ * across windows, so unchanged relationships are not rebuilt or emitted again.
+ * <p>
+ * State is split into shards by trace id. Each shard keeps a current and a previous generation and rotates them on
+ * its own once the window duration has passed, so workers never wait on each other to rotate. Span ids of zero are
+ * invalid in OpenTelemetry and are used internally to mark a missing parent.
+ */
+final class IncrementalServiceMapEngine {
+    private static final long NO_SPAN = 0L;
+    private static final int UNKNOWN_TRACE_GROUP = -1;
+    private static final int ISOLATED_SERVICE = -1;
+
+    private static final int SPAN_TRACE_ID_HIGH = 0;
+    private static final int SPAN_PARENT_SPAN_ID = 8;
+    private static final int SPAN_NEXT_WAITING_SIBLING = 16;
+    private static final int SPAN_SERVICE_NAME = 24;
+    private static final int SPAN_KIND = 28;
+    private static final int SPAN_NAME = 32;
+    private static final int SPAN_PAYLOAD_BYTES = 36;
+
+    private static final int WAITING_FIRST_CHILD = 0;
+    private static final int WAITING_PAYLOAD_BYTES = 8;
+
+    private static final int TRACE_GROUP_NAME = 0;
+    private static final int TRACE_GROUP_PAYLOAD_BYTES = 4;
+
+    private static final int INITIAL_TABLE_CAPACITY = 1024;
+
+    private final Shard[] shards;
+    private final StringDictionary dictionary = new StringDictionary();
+    private final Set<EdgeKey> emittedEdges = ConcurrentHashMap.newKeySet();
+    private final long windowDurationMillis;
+
+    IncrementalServiceMapEngine(final int shardCount, final long windowDurationMillis, final long nowMillis) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        this.windowDurationMillis = windowDurationMillis;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(nowMillis);
+        }
+    }
+
+    /**
+     * Adds a span and collects the relationships it completes.
+     *
+     * @return false if the span or trace id is not a valid hex id, in which case the span is ignored
+     */
+    boolean addSpan(final String serviceName, final String spanId, final String parentSpanId, final String traceId,
+                    final String spanKind, final String name, final long nowMillis,
+                    final Collection<ServiceMapRelationship> relationships) {
+        final long spanIdValue;
+        final long parentSpanIdValue;
+        final long traceIdHigh;
+        final long traceIdLow;
+        try {
+            spanIdValue = parseSpanId(spanId);
+            parentSpanIdValue = parentSpanId == null || parentSpanId.isEmpty() ? NO_SPAN : parseSpanId(parentSpanId);
+            traceIdHigh = parseHexHigh(traceId);
+            traceIdLow = parseHexLow(traceId);
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+        if (spanIdValue == NO_SPAN) {
+            return false;
+        }
+
+        final int serviceNameId = dictionary.getId(serviceName);
+        final int spanKindId = dictionary.getId(spanKind);
+        final int nameId = dictionary.getId(name);
+
+        final Shard shard = shards[shardIndex(traceIdHigh, traceIdLow)];
+        shard.lock.lock();
+        try {
+            shard.rotateIfDue(nowMillis, false, relationships);
+            shard.addSpan(spanIdValue, parentSpanIdValue, traceIdHigh, traceIdLow, serviceNameId, spanKindId, nameId, relationships);
+        } finally {
+            shard.lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Rotates every shard whose window has passed and collects the isolated services of the dropped generations.
+     */
+    void rotateExpiredWindows(final long nowMillis, final Collection<ServiceMapRelationship> relationships) {
+        for (final Shard shard : shards) {
+            if (nowMillis - shard.windowStartMillis < windowDurationMillis || !shard.lock.tryLock()) {
+                continue;
+            }
+            try {
+                shard.rotateIfDue(nowMillis, false, relationships);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Drops all span state and collects the isolated services of every generation.
+     */
+    void flush(final long nowMillis, final Collection<ServiceMapRelationship> relationships) {
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                shard.rotateIfDue(nowMillis, true, relationships);
+                shard.rotateIfDue(nowMillis, true, relationships);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    void clear() {
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                shard.current.clear();
+                shard.previous.clear();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        emittedEdges.clear();
+    }
+
+    long getSpanCount() {
+        long count = 0;
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                count += shard.current.spans.size() + shard.previous.spans.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    long getSpanSizeInBytes() {
+        long bytes = 0;
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                bytes += shard.current.spans.sizeInBytes() + shard.current.waitingChildren.sizeInBytes()
+                        + shard.previous.spans.sizeInBytes() + shard.previous.waitingChildren.sizeInBytes();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    long getTraceGroupCount() {
+        long count = 0;
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                count += shard.current.traceGroups.size() + shard.previous.traceGroups.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    long getTraceGroupSizeInBytes() {
+        long bytes = 0;
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                bytes += shard.current.traceGroups.sizeInBytes() + shard.previous.traceGroups.sizeInBytes();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    int getEmittedEdgeCount() {
+        return emittedEdges.size();
+    }
+
+    private int shardIndex(final long traceIdHigh, final long traceIdLow) {
+        final long hash = traceIdHigh * 31 + traceIdLow;
+        return (int) ((hash ^ (hash >>> 32)) & Integer.MAX_VALUE) % shards.length;
+    }
+
+    static long parseSpanId(final String hex) {
+        if (hex.length() <= 16) {
+            return parseHex(hex, 0, hex.length());
+        }
+        return parseHexHigh(hex) * 0x9E3779B97F4A7C15L ^ parseHexLow(hex);
+    }
+
+    /**
+     * @return The value of all but the last 16 hex digits, folded into a long when there are more than 16 of them
+     */
+    static long parseHexHigh(final String hex) {
+        long value = 0;
+        for (int end = hex.length() - 16; end > 0; end -= 16) {
+            value = value * 0x9E3779B97F4A7C15L ^ parseHex(hex, Math.max(0, end - 16), end);
+        }
+        return value;
+    }
+
+    /**
+     * @return The value of the last 16 hex digits
+     */
+    static long parseHexLow(final String hex) {
+        return parseHex(hex, Math.max(0, hex.length() - 16), hex.length());
+    }
+
+    private static long parseHex(final String hex, final int start, final int end) {
+        if (hex.isEmpty()) {
+            throw new IllegalArgumentException("Empty id");
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(hex.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid hex id: " + hex);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Generation current = new Generation();
+        private Generation previous = new Generation();
+        private volatile long windowStartMillis;
+
+        private Shard(final long nowMillis) {
+            this.windowStartMillis = nowMillis;
+        }
+
+        private void addSpan(final long spanId, final long parentSpanId, final long traceIdHigh, final long traceIdLow,
+                             final int serviceNameId, final int spanKindId, final int nameId,
+                             final Collection<ServiceMapRelationship> relationships) {
+            if (current.spans.find(spanId, traceIdLow) >= 0 || previous.spans.find(spanId, traceIdLow) >= 0) {
+                return;
+            }
+
+            final int slot = current.spans.insert(spanId, traceIdLow);
+            current.spans.putLong(slot, SPAN_TRACE_ID_HIGH, traceIdHigh);
+            current.spans.putLong(slot, SPAN_PARENT_SPAN_ID, parentSpanId);
+            current.spans.putInt(slot, SPAN_SERVICE_NAME, serviceNameId);
+            current.spans.putInt(slot, SPAN_KIND, spanKindId);
+            current.spans.putInt(slot, SPAN_NAME, nameId);
+            current.serviceNodes.add(new ServiceNode(traceIdHigh, traceIdLow, serviceNameId));
+
+            if (parentSpanId == NO_SPAN) {
+                addTraceGroup(traceIdHigh, traceIdLow, nameId, relationships);
+            } else {
+                addChildSpan(slot, spanId, parentSpanId, traceIdHigh, traceIdLow, serviceNameId, spanKindId, nameId, relationships);
+            }
+
+            resolveWaitingChildren(current, spanId, traceIdHigh, traceIdLow, serviceNameId, spanKindId, relationships);
+            resolveWaitingChildren(previous, spanId, traceIdHigh, traceIdLow, serviceNameId, spanKindId, relationships);
+        }
+
+        private void addTraceGroup(final long traceIdHigh, final long traceIdLow, final int nameId,
+                                   final Collection<ServiceMapRelationship> relationships) {
+            if (nameId == StringDictionary.NULL_ID || getTraceGroup(traceIdHigh, traceIdLow) != UNKNOWN_TRACE_GROUP) {
+                return;
+            }
+            final int slot = current.traceGroups.insert(traceIdHigh, traceIdLow);
+            current.traceGroups.putInt(slot, TRACE_GROUP_NAME, nameId);
+
+            final TraceKey traceKey = new TraceKey(traceIdHigh, traceIdLow);
+            resolvePendingEdges(current.pendingEdges.remove(traceKey), traceIdHigh, traceIdLow, nameId, relationships);
+            resolvePendingEdges(previous.pendingEdges.remove(traceKey), traceIdHigh, traceIdLow, nameId, relationships);
+        }
+
+        private void addChildSpan(final int slot, final long spanId, final long parentSpanId, final long traceIdHigh, final long traceIdLow,
+                                  final int serviceNameId, final int spanKindId, final int nameId,
+                                  final Collection<ServiceMapRelationship> relationships) {
+            OffHeapIdTable parentSpans = current.spans;
+            int parentSlot = parentSpans.find(parentSpanId, traceIdLow);
+            if (parentSlot < 0) {
+                parentSpans = previous.spans;
+                parentSlot = parentSpans.find(parentSpanId, traceIdLow);
+            }
+            if (parentSlot >= 0) {
+                addEdge(parentSpans.getInt(parentSlot, SPAN_SERVICE_NAME), parentSpans.getInt(parentSlot, SPAN_KIND),
+                        serviceNameId, spanKindId, nameId, traceIdHigh, traceIdLow, relationships);
+                return;
+            }
+
+            // The parent has not arrived yet, so link this span into the list of children waiting for it
+            int waitingSlot = current.waitingChildren.find(parentSpanId, traceIdLow);
+            if (waitingSlot < 0) {
+                waitingSlot = current.waitingChildren.insert(parentSpanId, traceIdLow);
+            }
+            current.spans.putLong(slot, SPAN_NEXT_WAITING_SIBLING, current.waitingChildren.getLong(waitingSlot, WAITING_FIRST_CHILD));
+            current.waitingChildren.putLong(waitingSlot, WAITING_FIRST_CHILD, spanId);
+        }
+
+        private void resolveWaitingChildren(final Generation generation, final long parentSpanId,
+                                            final long traceIdHigh, final long traceIdLow,
+                                            final int parentServiceNameId, final int parentSpanKindId,
+                                            final Collection<ServiceMapRelationship> relationships) {
+            final int waitingSlot = generation.waitingChildren.find(parentSpanId, traceIdLow);
+            if (waitingSlot < 0) {
+                return;
+            }
+            long childSpanId = generation.waitingChildren.getLong(waitingSlot, WAITING_FIRST_CHILD);
+            generation.waitingChildren.putLong(waitingSlot, WAITING_FIRST_CHILD, NO_SPAN);
+            while (childSpanId != NO_SPAN) {
+                final int childSlot = generation.spans.find(childSpanId, traceIdLow);
+                if (childSlot < 0) {
+                    return;
+                }
+                addEdge(parentServiceNameId, parentSpanKindId,
+                        generation.spans.getInt(childSlot, SPAN_SERVICE_NAME), generation.spans.getInt(childSlot, SPAN_KIND),
+                        generation.spans.getInt(childSlot, SPAN_NAME), traceIdHigh, traceIdLow, relationships);
+                childSpanId = generation.spans.getLong(childSlot, SPAN_NEXT_WAITING_SIBLING);
+            }
+        }
+
+        private void addEdge(final int parentServiceNameId, final int parentSpanKindId,
+                             final int childServiceNameId, final int childSpanKindId, final int childNameId,
+                             final long traceIdHigh, final long traceIdLow,
+                             final Collection<ServiceMapRelationship> relationships) {
+            if (parentServiceNameId == childServiceNameId) {
+                return;
+            }
+            final int traceGroupNameId = getTraceGroup(traceIdHigh, traceIdLow);
+            if (traceGroupNameId == UNKNOWN_TRACE_GROUP) {
+                current.pendingEdges.computeIfAbsent(new TraceKey(traceIdHigh, traceIdLow), traceKey -> new ArrayList<>(2))
+                        .add(new EdgeKey(parentServiceNameId, parentSpanKindId, childServiceNameId, childSpanKindId, childNameId, UNKNOWN_TRACE_GROUP));
+                return;
+            }
+            emitEdge(new EdgeKey(parentServiceNameId, parentSpanKindId, childServiceNameId, childSpanKindId, childNameId, traceGroupNameId),
+                    traceIdHigh, traceIdLow, relationships);
+        }
+
+        private void resolvePendingEdges(final List<EdgeKey> pendingEdges, final long traceIdHigh, final long traceIdLow,
+                                         final int traceGroupNameId, final Collection<ServiceMapRelationship> relationships) {
+            if (pendingEdges == null) {
+                return;
+            }
+            for (final EdgeKey pendingEdge : pendingEdges) {
+                emitEdge(pendingEdge.withTraceGroup(traceGroupNameId), traceIdHigh, traceIdLow, relationships);
+            }
+        }
+
+        private void emitEdge(final EdgeKey edge, final long traceIdHigh, final long traceIdLow,
+                              final Collection<ServiceMapRelationship> relationships) {
+            final ServiceNode parentNode = new ServiceNode(traceIdHigh, traceIdLow, edge.parentServiceNameId);
+            final ServiceNode childNode = new ServiceNode(traceIdHigh, traceIdLow, edge.childServiceNameId);
+            current.serviceNodes.remove(parentNode);
+            current.serviceNodes.remove(childNode);
+            previous.serviceNodes.remove(parentNode);
+            previous.serviceNodes.remove(childNode);
+
+            if (!emittedEdges.add(edge)) {
+                return;
+            }
+            final String childServiceName = dictionary.getValue(edge.childServiceNameId);
+            final String childName = dictionary.getValue(edge.childNameId);
+            final String traceGroupName = dictionary.getValue(edge.traceGroupNameId);
+            relationships.add(ServiceMapRelationship.newDestinationRelationship(dictionary.getValue(edge.parentServiceNameId),
+                    dictionary.getValue(edge.parentSpanKindId), childServiceName, childName, traceGroupName));
+            relationships.add(ServiceMapRelationship.newTargetRelationship(childServiceName,
+                    dictionary.getValue(edge.childSpanKindId), childServiceName, childName, traceGroupName));
+        }
+
+        private int getTraceGroup(final long traceIdHigh, final long traceIdLow) {
+            int slot = current.traceGroups.find(traceIdHigh, traceIdLow);
+            if (slot >= 0) {
+                return current.traceGroups.getInt(slot, TRACE_GROUP_NAME);
+            }
+            slot = previous.traceGroups.find(traceIdHigh, traceIdLow);
+            return slot >= 0 ? previous.traceGroups.getInt(slot, TRACE_GROUP_NAME) : UNKNOWN_TRACE_GROUP;
+        }
+
+        private void rotateIfDue(final long nowMillis, final boolean force, final Collection<ServiceMapRelationship> relationships) {
+            if (!force && nowMillis - windowStartMillis < windowDurationMillis) {
+                return;
+            }
+            for (final ServiceNode serviceNode : previous.serviceNodes) {
+                final int traceGroupNameId = getTraceGroup(serviceNode.traceIdHigh, serviceNode.traceIdLow);
+                final int knownTraceGroupNameId = traceGroupNameId == UNKNOWN_TRACE_GROUP ? StringDictionary.NULL_ID : traceGroupNameId;
+                if (emittedEdges.add(new EdgeKey(ISOLATED_SERVICE, ISOLATED_SERVICE, serviceNode.serviceNameId,
+                        ISOLATED_SERVICE, ISOLATED_SERVICE, knownTraceGroupNameId))) {
+                    relationships.add(ServiceMapRelationship.newIsolatedService(dictionary.getValue(serviceNode.serviceNameId),
+                            dictionary.getValue(knownTraceGroupNameId)));
+                }
+            }
+
+            final Generation dropped = previous;
+            previous = current;
+            current = dropped;
+            current.clear();
+            windowStartMillis = nowMillis;
+        }
+    }
+
+    private static final class Generation {
+        private final OffHeapIdTable spans = new OffHeapIdTable(SPAN_PAYLOAD_BYTES, INITIAL_TABLE_CAPACITY);
+        private final OffHeapIdTable waitingChildren = new OffHeapIdTable(WAITING_PAYLOAD_BYTES, INITIAL_TABLE_CAPACITY);
+        private final OffHeapIdTable traceGroups = new OffHeapIdTable(TRACE_GROUP_PAYLOAD_BYTES, INITIAL_TABLE_CAPACITY);
+        private final Map<TraceKey, List<EdgeKey>> pendingEdges = new HashMap<>();
+        private final Set<ServiceNode> serviceNodes = new HashSet<>();
+
+        private void clear() {
+            spans.clear();
+            waitingChildren.clear();
+            traceGroups.clear();
+            pendingEdges.clear();
+            serviceNodes.clear();
+        }
+    }
+
+    private static final class TraceKey {
+        private final long traceIdHigh;
+        private final long traceIdLow;
+
+        private TraceKey(final long traceIdHigh, final long traceIdLow) {
+            this.traceIdHigh = traceIdHigh;
+            this.traceIdLow = traceIdLow;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TraceKey)) return false;
+            final TraceKey that = (TraceKey) o;
+            return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(traceIdHigh * 31 + traceIdLow);
+        }
+    }
+
+    private static final class ServiceNode {
+        private final long traceIdHigh;
+        private final long traceIdLow;
+        private final int serviceNameId;
+
+        private ServiceNode(final long traceIdHigh, final long traceIdLow, final int serviceNameId) {
+            this.traceIdHigh = traceIdHigh;
+            this.traceIdLow = traceIdLow;
+            this.serviceNameId = serviceNameId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ServiceNode)) return false;
+            final ServiceNode that = (ServiceNode) o;
+            return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow && serviceNameId == that.serviceNameId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode((traceIdHigh * 31 + traceIdLow) * 31 + serviceNameId);
+        }
+    }
+
+    /**
+     * Identifies an emitted relationship by dictionary ids. Isolated services use {@link #ISOLATED_SERVICE} for the
+     * parent and child span fields.
+     */
+    private static final class EdgeKey {
+        private final int parentServiceNameId;
+        private final int parentSpanKindId;
+        private final int childServiceNameId;
+        private final int childSpanKindId;
+        private final int childNameId;
+        private final int traceGroupNameId;
+        private final int hashCode;
+
+        private EdgeKey(final int parentServiceNameId, final int parentSpanKindId, final int childServiceNameId,
+                        final int childSpanKindId, final int childNameId, final int traceGroupNameId) {
+            this.parentServiceNameId = parentServiceNameId;
+            this.parentSpanKindId = parentSpanKindId;
+            this.childServiceNameId = childServiceNameId;
+            this.childSpanKindId = childSpanKindId;
+            this.childNameId = childNameId;
+            this.traceGroupNameId = traceGroupNameId;
+            int hash = parentServiceNameId;
+            hash = 31 * hash + parentSpanKindId;
+            hash = 31 * hash + childServiceNameId;
+            hash = 31 * hash + childSpanKindId;
+            hash = 31 * hash + childNameId;
+            this.hashCode = 31 * hash + traceGroupNameId;
+        }
+
+        private EdgeKey withTraceGroup(final int traceGroupNameId) {
+            return new EdgeKey(parentServiceNameId, parentSpanKindId, childServiceNameId, childSpanKindId, childNameId, traceGroupNameId);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EdgeKey)) return false;
+            final EdgeKey that = (EdgeKey) o;
+            return parentServiceNameId == that.parentServiceNameId && parentSpanKindId == that.parentSpanKindId
+                    && childServiceNameId == that.childServiceNameId && childSpanKindId == that.childSpanKindId
+                    && childNameId == that.childNameId && traceGroupNameId == that.traceGroupNameId;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
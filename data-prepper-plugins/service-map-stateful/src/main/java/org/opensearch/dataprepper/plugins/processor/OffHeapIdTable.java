@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An open addressing hash table stored in direct memory, keyed by a pair of longs such as a span id and part of its
+ * trace id. Every slot holds a fixed size payload which callers read and write through slot offsets, so no objects are
+ * allocated per entry. The table is not thread safe.
+ */
+final class OffHeapIdTable {
+    private static final int USED_OFFSET = 0;
+    private static final int KEY1_OFFSET = 8;
+    private static final int KEY2_OFFSET = 16;
+    private static final int HEADER_BYTES = 24;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final int slotBytes;
+    private ByteBuffer buffer;
+    private int capacity;
+    private int mask;
+    private int size;
+
+    /**
+     * @param payloadBytes Number of payload bytes in every slot
+     * @param initialCapacity Initial number of slots, rounded up to a power of two
+     */
+    OffHeapIdTable(final int payloadBytes, final int initialCapacity) {
+        if (payloadBytes < 0) {
+            throw new IllegalArgumentException("payloadBytes must not be negative");
+        }
+        this.slotBytes = (HEADER_BYTES + payloadBytes + 7) & ~7;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * @return The slot holding the key, or -1 when the key is not present
+     */
+    int find(final long key1, final long key2) {
+        int slot = slotFor(key1, key2);
+        while (isUsed(slot)) {
+            if (buffer.getLong(position(slot) + KEY1_OFFSET) == key1 && buffer.getLong(position(slot) + KEY2_OFFSET) == key2) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a key which is not present yet. The payload of the returned slot is zeroed.
+     *
+     * @return The slot of the inserted key
+     */
+    int insert(final long key1, final long key2) {
+        if ((size + 1) * 2L > capacity) {
+            resize(capacity * 2);
+        }
+        int slot = slotFor(key1, key2);
+        while (isUsed(slot)) {
+            slot = (slot + 1) & mask;
+        }
+        final int position = position(slot);
+        buffer.putInt(position + USED_OFFSET, 1);
+        buffer.putLong(position + KEY1_OFFSET, key1);
+        buffer.putLong(position + KEY2_OFFSET, key2);
+        size++;
+        return slot;
+    }
+
+    long getLong(final int slot, final int payloadOffset) {
+        return buffer.getLong(position(slot) + HEADER_BYTES + payloadOffset);
+    }
+
+    void putLong(final int slot, final int payloadOffset, final long value) {
+        buffer.putLong(position(slot) + HEADER_BYTES + payloadOffset, value);
+    }
+
+    int getInt(final int slot, final int payloadOffset) {
+        return buffer.getInt(position(slot) + HEADER_BYTES + payloadOffset);
+    }
+
+    void putInt(final int slot, final int payloadOffset, final int value) {
+        buffer.putInt(position(slot) + HEADER_BYTES + payloadOffset, value);
+    }
+
+    long getKey1(final int slot) {
+        return buffer.getLong(position(slot) + KEY1_OFFSET);
+    }
+
+    long getKey2(final int slot) {
+        return buffer.getLong(position(slot) + KEY2_OFFSET);
+    }
+
+    /**
+     * Removes every entry while keeping the allocated memory for reuse.
+     */
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        final int limit = capacity * slotBytes;
+        for (int position = 0; position < limit; position += 8) {
+            buffer.putLong(position, 0L);
+        }
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of bytes of direct memory held by the table
+     */
+    long sizeInBytes() {
+        return (long) capacity * slotBytes;
+    }
+
+    private boolean isUsed(final int slot) {
+        return buffer.getInt(position(slot) + USED_OFFSET) != 0;
+    }
+
+    private int position(final int slot) {
+        return slot * slotBytes;
+    }
+
+    private int slotFor(final long key1, final long key2) {
+        return (int) mix64(key1 * 0x9E3779B97F4A7C15L ^ key2) & mask;
+    }
+
+    private void resize(final int newCapacity) {
+        final ByteBuffer oldBuffer = buffer;
+        final int oldCapacity = capacity;
+        allocate(newCapacity);
+        final int payloadBytes = slotBytes - HEADER_BYTES;
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            final int oldPosition = oldSlot * slotBytes;
+            if (oldBuffer.getInt(oldPosition + USED_OFFSET) == 0) {
+                continue;
+            }
+            final int slot = insert(oldBuffer.getLong(oldPosition + KEY1_OFFSET), oldBuffer.getLong(oldPosition + KEY2_OFFSET));
+            final int position = position(slot) + HEADER_BYTES;
+            for (int offset = 0; offset < payloadBytes; offset += 8) {
+                buffer.putLong(position + offset, oldBuffer.getLong(oldPosition + HEADER_BYTES + offset));
+            }
+        }
+    }
+
+    private void allocate(final int newCapacity) {
+        if ((long) newCapacity * slotBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap id table cannot grow beyond " + capacity + " slots");
+        }
+        buffer = ByteBuffer.allocateDirect(newCapacity * slotBytes);
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        size = 0;
+    }
+
+    private static int tableSizeFor(final int requestedCapacity) {
+        final int capacity = Math.max(MINIMUM_CAPACITY, requestedCapacity);
+        return capacity > (1 << 30) ? 1 << 30 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
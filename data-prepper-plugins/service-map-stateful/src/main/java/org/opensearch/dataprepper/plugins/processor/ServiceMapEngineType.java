@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How the service map processor finds relationships between services.
+ */
+public enum ServiceMapEngineType {
+    /**
+     * Spans are collected into windows and relationships are evaluated when a window is rotated.
+     */
+    WINDOWED("windowed"),
+
+    /**
+     * Relationships are emitted as soon as both spans of an edge and the trace group are known.
+     */
+    INCREMENTAL("incremental");
+
+    private static final Map<String, ServiceMapEngineType> OPTIONS_MAP = Arrays.stream(ServiceMapEngineType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    ServiceMapEngineType(final String option) {
+        this.option = option;
+    }
+
+    public String getOption() {
+        return option;
+    }
+
+    public static ServiceMapEngineType fromOptionValue(final String option) {
+        final ServiceMapEngineType engineType = OPTIONS_MAP.get(option);
+        if (engineType == null) {
+            throw new IllegalArgumentException(String.format("Unsupported service map engine: %s. Supported values are %s",
+                    option, OPTIONS_MAP.keySet()));
+        }
+        return engineType;
+    }
+}
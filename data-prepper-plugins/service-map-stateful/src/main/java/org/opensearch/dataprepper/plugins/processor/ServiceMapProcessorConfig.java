@@ -9,4 +9,10 @@ public class ServiceMapProcessorConfig {
     static final String WINDOW_DURATION = "window_duration";
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
+    static final String STATE_STORAGE = "state_storage";
+    static final String DEFAULT_STATE_STORAGE = "heap";
+    static final String STATE_HOT_TIER_ENTRIES = "state_hot_tier_entries";
+    static final int DEFAULT_STATE_HOT_TIER_ENTRIES = 100_000;
+    static final String ENGINE = "engine";
+    static final String DEFAULT_ENGINE = "windowed";
 }
@@ -20,13 +20,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
+import org.opensearch.dataprepper.plugins.processor.state.CompactValueSerializer;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
+import org.mapdb.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -55,6 +62,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Collection<Record<Event>> EMPTY_COLLECTION = Collections.emptySet();
     private static final Integer TO_MILLIS = 1_000;
+    private static final ServiceMapStateDataSerializer SERVICE_MAP_STATE_DATA_SERIALIZER = new ServiceMapStateDataSerializer();
+    private static final int MINIMUM_ENGINE_SHARD_COUNT = 16;
+    private static final int ENGINE_SHARDS_PER_WORKER = 4;
 
     // TODO: This should not be tracked in this class, move it up to the creator
     private static final AtomicInteger processorsCreated = new AtomicInteger(0);
@@ -70,6 +80,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
     //TODO: Consider keeping this state in a db
     private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
+    private static volatile IncrementalServiceMapEngine incrementalEngine;
+    private static volatile boolean shutdownRequested;
     private static File dbPath;
     private static Clock clock;
 
@@ -97,15 +109,17 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             previousTimestamp = ServiceMapStatefulProcessor.clock.millis();
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
             ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
-
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
-            currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
-            previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
-
-            allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+            shutdownRequested = false;
+
+            final ServiceMapEngineType engineType = ServiceMapEngineType.fromOptionValue(
+                    pluginSetting.getStringOrDefault(ServiceMapProcessorConfig.ENGINE, ServiceMapProcessorConfig.DEFAULT_ENGINE));
+            if (engineType == ServiceMapEngineType.INCREMENTAL) {
+                incrementalEngine = new IncrementalServiceMapEngine(
+                        Math.max(MINIMUM_ENGINE_SHARD_COUNT, processWorkers * ENGINE_SHARDS_PER_WORKER), windowDurationMillis, previousTimestamp);
+            } else {
+                incrementalEngine = null;
+                createWindows(processWorkers, pluginSetting);
+            }
         }
 
         pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
@@ -115,6 +129,23 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
     }
 
+    private void createWindows(final int processWorkers, final PluginSetting pluginSetting) {
+        final MapDbStorageType storageType = MapDbStorageType.fromOptionValue(
+                pluginSetting.getStringOrDefault(ServiceMapProcessorConfig.STATE_STORAGE, ServiceMapProcessorConfig.DEFAULT_STATE_STORAGE));
+        // Entries on heap are already deserialized, so a hot tier only helps when state is kept outside of the heap
+        final int hotTierEntries = storageType == MapDbStorageType.HEAP ? 0 :
+                pluginSetting.getIntegerOrDefault(ServiceMapProcessorConfig.STATE_HOT_TIER_ENTRIES, ServiceMapProcessorConfig.DEFAULT_STATE_HOT_TIER_ENTRIES);
+
+        currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers, storageType, SERVICE_MAP_STATE_DATA_SERIALIZER, hotTierEntries);
+        previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers, storageType, SERVICE_MAP_STATE_DATA_SERIALIZER, hotTierEntries);
+        currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers, storageType, Serializer.STRING, hotTierEntries);
+        previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers, storageType, Serializer.STRING, hotTierEntries);
+        currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
+        previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
+
+        allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+    }
+
     /**
      * This function creates the directory if it doesn't exists and returns the File.
      *
@@ -140,6 +171,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      */
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
+        if (incrementalEngine != null) {
+            return executeIncremental(records);
+        }
         final Collection<Record<Event>> relationships = windowDurationHasPassed() ? evaluateEdges() : EMPTY_COLLECTION;
         final Map<byte[], ServiceMapStateData> batchStateData = new TreeMap<>(SignedBytes.lexicographicalComparator());
         records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
@@ -151,6 +185,32 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return relationships;
     }
 
+    /**
+     * Adds the spans to the incremental engine, which emits relationships as soon as they are complete.
+     */
+    private Collection<Record<Event>> executeIncremental(final Collection<Record<Event>> records) {
+        final long nowMillis = clock.millis();
+        final Collection<ServiceMapRelationship> relationships = new ArrayList<>();
+        incrementalEngine.rotateExpiredWindows(nowMillis, relationships);
+        for (final Record<Event> record : records) {
+            final Span span = (Span) record.getData();
+            if (span.getServiceName() != null && !incrementalEngine.addSpan(span.getServiceName(), span.getSpanId(), span.getParentSpanId(),
+                    span.getTraceId(), span.getKind(), span.getName(), nowMillis, relationships)) {
+                LOG.error("Unable to decode the span or trace id of span {} in trace {}.", span.getSpanId(), span.getTraceId());
+            }
+        }
+        if (shutdownRequested) {
+            incrementalEngine.flush(nowMillis, relationships);
+        }
+
+        if (relationships.isEmpty()) {
+            return EMPTY_COLLECTION;
+        }
+        final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
+        relationships.forEach(relationship -> addServiceMapRelationship(serviceDependencyRecords, relationship));
+        return serviceDependencyRecords;
+    }
+
     private void processSpan(final Span span, final Map<byte[], ServiceMapStateData> batchStateData) {
         if (span.getServiceName() != null) {
             final String serviceName = span.getServiceName();
@@ -296,15 +356,23 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     @Override
     public void prepareForShutdown() {
         previousTimestamp = 0L;
+        shutdownRequested = true;
     }
 
     @Override
     public boolean isReadyForShutdown() {
+        if (incrementalEngine != null) {
+            return incrementalEngine.getSpanCount() == 0;
+        }
         return currentWindow.size() == 0;
     }
 
     @Override
     public void shutdown() {
+        if (incrementalEngine != null) {
+            incrementalEngine.clear();
+            return;
+        }
         previousWindow.delete();
         currentWindow.delete();
         previousTraceGroupWindow.delete();
@@ -357,10 +425,16 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      * @return Spans database size in bytes
      */
     public double getSpansDbSize() {
+        if (incrementalEngine != null) {
+            return incrementalEngine.getSpanSizeInBytes();
+        }
         return currentWindow.sizeInBytes() + previousWindow.sizeInBytes();
     }
 
     public double getSpansDbCount() {
+        if (incrementalEngine != null) {
+            return incrementalEngine.getSpanCount();
+        }
         return currentWindow.size() + previousWindow.size();
     }
 
@@ -368,9 +442,15 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      * @return Trace group database size in bytes
      */
     public double getTraceGroupDbSize() {
+        if (incrementalEngine != null) {
+            return incrementalEngine.getTraceGroupSizeInBytes();
+        }
         return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
     }
     public double getTraceGroupDbCount() {
+        if (incrementalEngine != null) {
+            return incrementalEngine.getTraceGroupCount();
+        }
         return currentTraceGroupWindow.size() + previousTraceGroupWindow.size();
     }
     public double getRelationshipCount() {
@@ -437,6 +517,27 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
+    private static class ServiceMapStateDataSerializer extends CompactValueSerializer<ServiceMapStateData> {
+        @Override
+        public void serialize(final DataOutput2 out, final ServiceMapStateData value) throws IOException {
+            writeNullableString(out, value.serviceName);
+            writeNullableBytes(out, value.parentSpanId);
+            writeNullableBytes(out, value.traceId);
+            writeNullableString(out, value.spanKind);
+            writeNullableString(out, value.name);
+        }
+
+        @Override
+        public ServiceMapStateData deserialize(final DataInput2 input, final int available) throws IOException {
+            return new ServiceMapStateData(
+                    readNullableString(input),
+                    readNullableBytes(input),
+                    readNullableBytes(input),
+                    readNullableString(input),
+                    readNullableString(input));
+        }
+    }
+
     private static class ServiceNodeData implements Serializable {
         public String serviceName;
         public byte[] traceId;
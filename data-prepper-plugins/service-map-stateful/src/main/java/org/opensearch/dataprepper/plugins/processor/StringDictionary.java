@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns stable int ids to strings such as service names, span kinds and span names, so they can be stored in
+ * {@link OffHeapIdTable} payloads and compared without string comparisons. Id 0 is reserved for null.
+ */
+final class StringDictionary {
+    static final int NULL_ID = 0;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[64];
+    private int nextId = 1;
+
+    int getId(final String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        final Integer id = ids.get(value);
+        return id != null ? id : addValue(value);
+    }
+
+    String getValue(final int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    private synchronized int addValue(final String value) {
+        final Integer existingId = ids.get(value);
+        if (existingId != null) {
+            return existingId;
+        }
+        final int id = nextId++;
+        String[] currentValues = values;
+        if (id >= currentValues.length) {
+            currentValues = Arrays.copyOf(currentValues, currentValues.length * 2);
+        }
+        currentValues[id] = value;
+        values = currentValues;
+        ids.put(value, id);
+        return id;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class IncrementalServiceMapEngineTest {
+    private static final long WINDOW_DURATION_MILLIS = 1_000;
+    private static final String FRONTEND_SERVICE = "FRONTEND";
+    private static final String AUTHENTICATION_SERVICE = "AUTH";
+    private static final String CLIENT = "SPAN_KIND_CLIENT";
+    private static final String SERVER = "SPAN_KIND_SERVER";
+    private static final String TRACE_GROUP = "reset_password";
+
+    private List<ServiceMapRelationship> relationships;
+    private String traceId;
+    private String rootSpanId;
+    private String childSpanId;
+
+    @BeforeEach
+    void setUp() {
+        relationships = new ArrayList<>();
+        traceId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        rootSpanId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8));
+        childSpanId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8));
+    }
+
+    private IncrementalServiceMapEngine createObjectUnderTest() {
+        return new IncrementalServiceMapEngine(4, WINDOW_DURATION_MILLIS, 0);
+    }
+
+    private Set<ServiceMapRelationship> expectedEdgeRelationships() {
+        final Set<ServiceMapRelationship> expected = new HashSet<>();
+        expected.add(ServiceMapRelationship.newDestinationRelationship(FRONTEND_SERVICE, CLIENT, AUTHENTICATION_SERVICE, "reset", TRACE_GROUP));
+        expected.add(ServiceMapRelationship.newTargetRelationship(AUTHENTICATION_SERVICE, SERVER, AUTHENTICATION_SERVICE, "reset", TRACE_GROUP));
+        return expected;
+    }
+
+    @Test
+    void edge_is_emitted_when_child_arrives_after_parent() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, CLIENT, TRACE_GROUP, 0, relationships);
+        assertThat(relationships, empty());
+
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, childSpanId, rootSpanId, traceId, SERVER, "reset", 0, relationships);
+
+        assertThat(new HashSet<>(relationships), equalTo(expectedEdgeRelationships()));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(2L));
+        assertThat(objectUnderTest.getTraceGroupCount(), equalTo(1L));
+    }
+
+    @Test
+    void edge_is_emitted_when_parent_arrives_after_child() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, childSpanId, rootSpanId, traceId, SERVER, "reset", 0, relationships);
+        assertThat(relationships, empty());
+
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, CLIENT, TRACE_GROUP, 0, relationships);
+
+        assertThat(new HashSet<>(relationships), equalTo(expectedEdgeRelationships()));
+    }
+
+    @Test
+    void edge_is_emitted_when_trace_group_arrives_after_both_spans() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+        final String clientSpanId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8));
+
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, childSpanId, clientSpanId, traceId, SERVER, "reset", 0, relationships);
+        objectUnderTest.addSpan(FRONTEND_SERVICE, clientSpanId, rootSpanId, traceId, CLIENT, "call", 0, relationships);
+        assertThat(relationships, empty());
+
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, SERVER, TRACE_GROUP, 0, relationships);
+
+        assertThat(new HashSet<>(relationships), equalTo(expectedEdgeRelationships()));
+    }
+
+    @Test
+    void edge_is_emitted_when_parent_arrives_in_a_later_window() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, childSpanId, rootSpanId, traceId, SERVER, "reset", 0, relationships);
+        objectUnderTest.rotateExpiredWindows(WINDOW_DURATION_MILLIS, relationships);
+        assertThat(relationships, empty());
+
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, CLIENT, TRACE_GROUP, WINDOW_DURATION_MILLIS, relationships);
+
+        assertThat(new HashSet<>(relationships), equalTo(expectedEdgeRelationships()));
+    }
+
+    @Test
+    void unchanged_edge_is_not_emitted_again() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, CLIENT, TRACE_GROUP, 0, relationships);
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, childSpanId, rootSpanId, traceId, SERVER, "reset", 0, relationships);
+        objectUnderTest.rotateExpiredWindows(WINDOW_DURATION_MILLIS, relationships);
+        objectUnderTest.rotateExpiredWindows(WINDOW_DURATION_MILLIS * 2, relationships);
+        relationships.clear();
+
+        final String otherTraceId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final String otherRootSpanId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8));
+        objectUnderTest.addSpan(FRONTEND_SERVICE, otherRootSpanId, "", otherTraceId, CLIENT, TRACE_GROUP, WINDOW_DURATION_MILLIS * 2, relationships);
+        objectUnderTest.addSpan(AUTHENTICATION_SERVICE, Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), otherRootSpanId,
+                otherTraceId, SERVER, "reset", WINDOW_DURATION_MILLIS * 2, relationships);
+
+        assertThat(relationships, empty());
+        assertThat(objectUnderTest.getEmittedEdgeCount(), equalTo(1));
+    }
+
+    @Test
+    void spans_of_the_same_service_do_not_emit_edges() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, SERVER, TRACE_GROUP, 0, relationships);
+        objectUnderTest.addSpan(FRONTEND_SERVICE, childSpanId, rootSpanId, traceId, CLIENT, "call", 0, relationships);
+
+        assertThat(relationships, empty());
+    }
+
+    @Test
+    void isolated_service_is_emitted_when_its_generation_is_dropped() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, SERVER, TRACE_GROUP, 0, relationships);
+
+        objectUnderTest.rotateExpiredWindows(WINDOW_DURATION_MILLIS, relationships);
+        assertThat(relationships, empty());
+
+        objectUnderTest.rotateExpiredWindows(WINDOW_DURATION_MILLIS * 2, relationships);
+        assertThat(relationships, equalTo(Collections.singletonList(ServiceMapRelationship.newIsolatedService(FRONTEND_SERVICE, TRACE_GROUP))));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+    }
+
+    @Test
+    void flush_drops_all_spans_and_emits_isolated_services() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+        objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", traceId, SERVER, TRACE_GROUP, 0, relationships);
+
+        objectUnderTest.flush(0, relationships);
+
+        assertThat(relationships, equalTo(Collections.singletonList(ServiceMapRelationship.newIsolatedService(FRONTEND_SERVICE, TRACE_GROUP))));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+        assertThat(objectUnderTest.getTraceGroupCount(), equalTo(0L));
+    }
+
+    @Test
+    void invalid_ids_are_rejected() {
+        final IncrementalServiceMapEngine objectUnderTest = createObjectUnderTest();
+
+        assertFalse(objectUnderTest.addSpan(FRONTEND_SERVICE, "not-hex", "", traceId, SERVER, TRACE_GROUP, 0, relationships));
+        assertFalse(objectUnderTest.addSpan(FRONTEND_SERVICE, rootSpanId, "", "", SERVER, TRACE_GROUP, 0, relationships));
+        assertFalse(objectUnderTest.addSpan(FRONTEND_SERVICE, "0000000000000000", "", traceId, SERVER, TRACE_GROUP, 0, relationships));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+    }
+
+    @Test
+    void parse_hex_ids_splits_trace_ids_into_high_and_low_parts() {
+        assertThat(IncrementalServiceMapEngine.parseSpanId("00000000000000ff"), equalTo(255L));
+        assertThat(IncrementalServiceMapEngine.parseHexHigh("0000000000000001ffffffffffffffff"), equalTo(1L));
+        assertThat(IncrementalServiceMapEngine.parseHexLow("0000000000000001ffffffffffffffff"), equalTo(-1L));
+        assertThat(IncrementalServiceMapEngine.parseHexHigh("ff"), equalTo(0L));
+    }
+}
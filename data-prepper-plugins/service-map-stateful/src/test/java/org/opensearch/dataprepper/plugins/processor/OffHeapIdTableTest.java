@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapIdTableTest {
+
+    @Test
+    void find_returns_negative_slot_for_missing_key() {
+        final OffHeapIdTable objectUnderTest = new OffHeapIdTable(8, 16);
+
+        assertThat(objectUnderTest.find(1L, 2L), equalTo(-1));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void insert_stores_keys_and_payload() {
+        final OffHeapIdTable objectUnderTest = new OffHeapIdTable(12, 16);
+
+        final int slot = objectUnderTest.insert(1L, 2L);
+        objectUnderTest.putLong(slot, 0, 42L);
+        objectUnderTest.putInt(slot, 8, 7);
+
+        assertThat(objectUnderTest.find(1L, 2L), equalTo(slot));
+        assertThat(objectUnderTest.find(1L, 3L), equalTo(-1));
+        assertThat(objectUnderTest.getKey1(slot), equalTo(1L));
+        assertThat(objectUnderTest.getKey2(slot), equalTo(2L));
+        assertThat(objectUnderTest.getLong(slot, 0), equalTo(42L));
+        assertThat(objectUnderTest.getInt(slot, 8), equalTo(7));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void insert_grows_table_and_keeps_payloads() {
+        final OffHeapIdTable objectUnderTest = new OffHeapIdTable(8, 16);
+        final long initialSizeInBytes = objectUnderTest.sizeInBytes();
+
+        for (long key = 0; key < 10_000; key++) {
+            objectUnderTest.putLong(objectUnderTest.insert(key, -key), 0, key * 3);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(10_000));
+        assertThat(objectUnderTest.sizeInBytes(), greaterThan(initialSizeInBytes));
+        for (long key = 0; key < 10_000; key++) {
+            final int slot = objectUnderTest.find(key, -key);
+            assertThat(slot, greaterThanOrEqualTo(0));
+            assertThat(objectUnderTest.getLong(slot, 0), equalTo(key * 3));
+        }
+    }
+
+    @Test
+    void clear_removes_entries_and_keeps_memory() {
+        final OffHeapIdTable objectUnderTest = new OffHeapIdTable(8, 16);
+        for (long key = 0; key < 100; key++) {
+            objectUnderTest.insert(key, key);
+        }
+        final long sizeInBytes = objectUnderTest.sizeInBytes();
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(objectUnderTest.find(5L, 5L), equalTo(-1));
+        assertThat(objectUnderTest.sizeInBytes(), equalTo(sizeInBytes));
+        final int slot = objectUnderTest.insert(5L, 5L);
+        assertThat(objectUnderTest.getLong(slot, 0), equalTo(0L));
+    }
+
+    @Test
+    void negative_payload_size_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIdTable(-1, 16));
+    }
+}
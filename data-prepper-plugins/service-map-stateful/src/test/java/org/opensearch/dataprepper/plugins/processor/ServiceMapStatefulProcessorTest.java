@@ -15,6 +15,7 @@ import org.mockito.Mockito;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.MetricsTestUtil;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 
@@ -41,6 +42,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -62,6 +66,8 @@ public class ServiceMapStatefulProcessorTest {
         pluginSetting = mock(PluginSetting.class);
         when(pluginSetting.getName()).thenReturn("testServiceMapProcessor");
         when(pluginSetting.getPipelineName()).thenReturn("testPipelineName");
+        when(pluginSetting.getStringOrDefault(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(pluginSetting.getIntegerOrDefault(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     public void resetServiceMapStatefulProcessorStatic() throws NoSuchFieldException, IllegalAccessException {
@@ -76,6 +82,8 @@ public class ServiceMapStatefulProcessorTest {
         reflectivelySetField(ServiceMapStatefulProcessor.class, "currentTraceGroupWindow", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTraceGroupWindow", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "allThreadsCyclicBarrier", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "incrementalEngine", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "shutdownRequested", false);
     }
 
     private void reflectivelySetField(final Class<?> clazz, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
@@ -409,6 +417,80 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful.shutdown();
     }
 
+    @Test
+    public void testPrepareForShutdownWithDirectMemoryStateAndHotTier() {
+        when(pluginSetting.getStringOrDefault(eq(ServiceMapProcessorConfig.STATE_STORAGE), anyString())).thenReturn("direct_memory");
+        when(pluginSetting.getIntegerOrDefault(eq(ServiceMapProcessorConfig.STATE_HOT_TIER_ENTRIES), anyInt())).thenReturn(1);
+        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginSetting);
+
+        final String traceId1 = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final Span frontendSpans1 = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId1, SPAN_KIND_CLIENT);
+        final Span authenticationSpansServer = ServiceMapTestUtils.getSpan(
+                AUTHENTICATION_SERVICE, "reset", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)),
+                frontendSpans1.getSpanId(), traceId1, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+
+        serviceMapStateful.execute(Arrays.asList(new Record<>(frontendSpans1), new Record<>(authenticationSpansServer)));
+
+        assertThat(serviceMapStateful.getSpansDbCount(), equalTo(2.0));
+        assertThat(serviceMapStateful.getTraceGroupDbCount(), equalTo(1.0));
+        assertFalse(serviceMapStateful.isReadyForShutdown());
+
+        serviceMapStateful.prepareForShutdown();
+        final Collection<Record<Event>> relationships = serviceMapStateful.execute(Collections.emptyList());
+
+        assertFalse(relationships.isEmpty());
+        assertTrue(serviceMapStateful.isReadyForShutdown());
+
+        serviceMapStateful.shutdown();
+    }
+
+    @Test
+    public void testIncrementalEngineEmitsRelationshipsWithoutWaitingForWindow() throws Exception {
+        when(pluginSetting.getStringOrDefault(eq(ServiceMapProcessorConfig.ENGINE), anyString())).thenReturn("incremental");
+        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100_000, path, Clock.systemUTC(), 1, pluginSetting);
+
+        final String traceId1 = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final String traceGroup1 = "reset_password";
+        final Span frontendSpans1 = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, traceGroup1, Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId1, SPAN_KIND_CLIENT);
+        final Span authenticationSpansServer = ServiceMapTestUtils.getSpan(
+                AUTHENTICATION_SERVICE, "reset", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)),
+                frontendSpans1.getSpanId(), traceId1, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+
+        final Collection<Record<Event>> childRelationships = serviceMapStateful.execute(Collections.singletonList(new Record<>(authenticationSpansServer)));
+        assertTrue(childRelationships.isEmpty());
+
+        final ExecutorService threadpool = Executors.newSingleThreadExecutor();
+        final Set<ServiceMapRelationship> relationships = ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful,
+                Collections.singletonList(new Record<>(frontendSpans1))).get();
+        threadpool.shutdown();
+
+        assertThat(relationships, equalTo(Sets.newHashSet(
+                ServiceMapRelationship.newDestinationRelationship(FRONTEND_SERVICE, SPAN_KIND_CLIENT.name(), AUTHENTICATION_SERVICE, "reset", traceGroup1),
+                ServiceMapRelationship.newTargetRelationship(AUTHENTICATION_SERVICE,
+                        io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER.name(), AUTHENTICATION_SERVICE, "reset", traceGroup1))));
+        assertThat(serviceMapStateful.getSpansDbCount(), equalTo(2.0));
+        assertThat(serviceMapStateful.getTraceGroupDbCount(), equalTo(1.0));
+
+        final String traceId2 = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final Span frontendSpans2 = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, traceGroup1, Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId2, SPAN_KIND_CLIENT);
+        final Span authenticationSpansServer2 = ServiceMapTestUtils.getSpan(
+                AUTHENTICATION_SERVICE, "reset", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)),
+                frontendSpans2.getSpanId(), traceId2, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+        assertTrue(serviceMapStateful.execute(Arrays.asList(new Record<>(frontendSpans2), new Record<>(authenticationSpansServer2))).isEmpty());
+
+        assertFalse(serviceMapStateful.isReadyForShutdown());
+        serviceMapStateful.prepareForShutdown();
+        serviceMapStateful.execute(Collections.emptyList());
+        assertTrue(serviceMapStateful.isReadyForShutdown());
+
+        serviceMapStateful.shutdown();
+    }
+
     @Test
     public void testGetIdentificationKeys() {
         final PluginSetting pluginSetting = new PluginSetting("testPluginSetting", Collections.emptyMap());
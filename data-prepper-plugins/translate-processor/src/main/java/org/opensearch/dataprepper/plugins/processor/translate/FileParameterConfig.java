@@ -5,9 +5,12 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
 import java.util.List;
 
 public class FileParameterConfig {
@@ -20,6 +23,15 @@ public class FileParameterConfig {
     @Valid
     private S3ObjectConfig awsConfig;
 
+    @JsonProperty("refresh_interval")
+    private Duration refreshInterval;
+
+    @JsonProperty("memory_mapped")
+    private boolean memoryMapped = false;
+
+    @JsonIgnore
+    private MappingsFileTable mappingsFileTable;
+
     public String getFileName(){
         return  fileName;
     }
@@ -28,9 +40,32 @@ public class FileParameterConfig {
         return awsConfig;
     }
 
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    /**
+     * @return The current mappings of the file, which are shared by every processor using the same file
+     */
     public List<MappingsParameterConfig> getFileMappings() {
-        MappingsHandler handler = new MappingsHandler();
+        return getMappingsFileTable().getMappings();
+    }
+
+    /**
+     * @return The table loaded for this configuration, which the processor shares so that the file is only loaded once
+     */
+    MappingsFileTable getMappingsFileTable() {
+        if (mappingsFileTable == null) {
+            mappingsFileTable = MappingsFileTable.load(this);
+        }
+        return mappingsFileTable;
+    }
 
+    List<MappingsParameterConfig> loadFileMappings(final MappingsHandler handler) {
         if (this.awsConfig != null) {
             return handler.getS3FileMappings(this.awsConfig, this.fileName);
         } else{
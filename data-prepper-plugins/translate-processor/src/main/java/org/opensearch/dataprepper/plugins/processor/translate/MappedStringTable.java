@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable string to string table compiled into a memory-mapped file, so large exact mappings are not held on the
+ * heap. Keys are sorted by their UTF-8 bytes and looked up with a binary search.
+ * <p>
+ * The file is laid out as the number of entries, the offset of every entry in key order, and the entries, each being
+ * the length and bytes of the key followed by the length and bytes of the value. The file is deleted as soon as it is
+ * mapped, and the memory is released once the table is garbage collected.
+ */
+final class MappedStringTable {
+    private static final int INT_BYTES = Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private MappedStringTable(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size = buffer.getInt(0);
+    }
+
+    static MappedStringTable create(final Map<String, String> mappings) throws IOException {
+        final List<byte[][]> entries = new ArrayList<>(mappings.size());
+        long fileSize = INT_BYTES;
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            final byte[] key = mapping.getKey().getBytes(StandardCharsets.UTF_8);
+            final byte[] value = mapping.getValue().getBytes(StandardCharsets.UTF_8);
+            entries.add(new byte[][]{key, value});
+            fileSize += 3L * INT_BYTES + key.length + value.length;
+        }
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Mappings are too large to be memory-mapped: " + fileSize + " bytes");
+        }
+        entries.sort((first, second) -> Arrays.compareUnsigned(first[0], second[0]));
+
+        final Path file = Files.createTempFile("translate-mappings", ".table");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            mappedBuffer.putInt(entries.size());
+            int entryOffset = INT_BYTES + entries.size() * INT_BYTES;
+            for (byte[][] entry : entries) {
+                mappedBuffer.putInt(entryOffset);
+                entryOffset += 2 * INT_BYTES + entry[0].length + entry[1].length;
+            }
+            for (byte[][] entry : entries) {
+                mappedBuffer.putInt(entry[0].length).put(entry[0]);
+                mappedBuffer.putInt(entry[1].length).put(entry[1]);
+            }
+            return new MappedStringTable(mappedBuffer.clear().asReadOnlyBuffer());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * @return The value mapped to the key, or null if the key is not in the table
+     */
+    String get(final String key) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int entryOffset = buffer.getInt(INT_BYTES + middle * INT_BYTES);
+            final int comparison = compareKey(entryOffset, keyBytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                final int valueOffset = entryOffset + INT_BYTES + buffer.getInt(entryOffset);
+                final byte[] value = new byte[buffer.getInt(valueOffset)];
+                final ByteBuffer valueBuffer = buffer.duplicate();
+                valueBuffer.position(valueOffset + INT_BYTES);
+                valueBuffer.get(value);
+                return new String(value, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int compareKey(final int entryOffset, final byte[] keyBytes) {
+        final int entryKeyLength = buffer.getInt(entryOffset);
+        final int keyStart = entryOffset + INT_BYTES;
+        final int length = Math.min(entryKeyLength, keyBytes.length);
+        for (int i = 0; i < length; i++) {
+            final int comparison = Byte.compareUnsigned(buffer.get(keyStart + i), keyBytes[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(entryKeyLength, keyBytes.length);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The parsed mappings of one mappings file, shared by every translate processor in the JVM which uses the same file.
+ * The mappings are immutable once published. When a refresh interval is configured, the file is checked on that
+ * interval and reloaded when it changed, which is detected from the ETag of an S3 object or the modification time and
+ * size of a local file. Processors pick up the new mappings through {@link #getVersion()}; the previous mappings stay
+ * in use if the new file cannot be loaded or parsed.
+ * <p>
+ * Processors hold a reference to the table from {@link #acquire(FileParameterConfig)} until {@link #release()}. The
+ * table stops refreshing and is no longer shared once the last reference is released.
+ */
+final class MappingsFileTable {
+    private static final Logger LOG = LoggerFactory.getLogger(MappingsFileTable.class);
+    private static final Map<String, MappingsFileTable> TABLES = new HashMap<>();
+    private static ScheduledThreadPoolExecutor refreshExecutorService;
+
+    private final FileParameterConfig fileParameterConfig;
+    private final MappingsHandler mappingsHandler;
+    private final String tableKey;
+    private volatile List<MappingsParameterConfig> mappings;
+    private volatile long version;
+    private String sourceVersion;
+    private int references;
+    private ScheduledFuture<?> refreshFuture;
+
+    MappingsFileTable(final FileParameterConfig fileParameterConfig, final MappingsHandler mappingsHandler) {
+        this.fileParameterConfig = fileParameterConfig;
+        this.mappingsHandler = mappingsHandler;
+        this.tableKey = getTableKey(fileParameterConfig);
+    }
+
+    /**
+     * @return The shared table of the file refreshed if the file changed, or a new table which is not shared when no
+     * processor uses the file yet
+     */
+    static MappingsFileTable load(final FileParameterConfig fileParameterConfig) {
+        final MappingsFileTable sharedTable;
+        synchronized (TABLES) {
+            sharedTable = TABLES.get(getTableKey(fileParameterConfig));
+        }
+        if (sharedTable != null) {
+            sharedTable.refresh();
+            return sharedTable;
+        }
+        final MappingsFileTable mappingsFileTable = new MappingsFileTable(fileParameterConfig, new MappingsHandler());
+        mappingsFileTable.refresh();
+        return mappingsFileTable;
+    }
+
+    /**
+     * Gets a reference to the shared table of the file. The first reference shares the table loaded by the
+     * configuration, and schedules its refresh when a refresh interval is configured. Failed loads are not shared.
+     *
+     * @return The table of the file, which must be released with {@link #release()}
+     */
+    static MappingsFileTable acquire(final FileParameterConfig fileParameterConfig) {
+        final MappingsFileTable mappingsFileTable = fileParameterConfig.getMappingsFileTable();
+        synchronized (TABLES) {
+            final MappingsFileTable sharedTable = TABLES.get(getTableKey(fileParameterConfig));
+            if (sharedTable != null) {
+                if (sharedTable != mappingsFileTable) {
+                    // Another processor shared its table after this configuration loaded its own
+                    mappingsFileTable.closeSource();
+                }
+                sharedTable.references++;
+                return sharedTable;
+            }
+            if (mappingsFileTable.getMappings() == null) {
+                return mappingsFileTable;
+            }
+            TABLES.put(mappingsFileTable.tableKey, mappingsFileTable);
+            mappingsFileTable.references = 1;
+            final Duration refreshInterval = fileParameterConfig.getRefreshInterval();
+            if (refreshInterval != null && !refreshInterval.isZero() && !refreshInterval.isNegative()) {
+                mappingsFileTable.refreshFuture = getRefreshExecutorService().scheduleWithFixedDelay(mappingsFileTable::refreshOnSchedule,
+                        refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return mappingsFileTable;
+        }
+    }
+
+    /**
+     * Releases a reference from {@link #acquire(FileParameterConfig)}. Releasing the last reference cancels the
+     * refresh, shuts down the S3 client and removes the table, so that its mappings can be collected once the
+     * processors using them are gone.
+     */
+    void release() {
+        synchronized (TABLES) {
+            if (references > 0) {
+                references--;
+                if (references > 0) {
+                    return;
+                }
+                TABLES.remove(tableKey, this);
+                if (refreshFuture != null) {
+                    refreshFuture.cancel(false);
+                    refreshFuture = null;
+                }
+            }
+        }
+        closeSource();
+    }
+
+    /**
+     * @return Whether processors hold a reference to the table
+     */
+    boolean isShared() {
+        synchronized (TABLES) {
+            return references > 0;
+        }
+    }
+
+    /**
+     * @return The current mappings, or null if the file could never be loaded
+     */
+    List<MappingsParameterConfig> getMappings() {
+        return mappings;
+    }
+
+    /**
+     * @return A number which changes every time new mappings are published
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Loads the file if it changed since it was last loaded, and publishes the parsed mappings.
+     *
+     * @return Whether new mappings were published
+     */
+    synchronized boolean refresh() {
+        final String currentSourceVersion = getSourceVersion();
+        if (mappings != null && currentSourceVersion != null && currentSourceVersion.equals(sourceVersion)) {
+            return false;
+        }
+        final List<MappingsParameterConfig> loadedMappings = fileParameterConfig.loadFileMappings(mappingsHandler);
+        if (loadedMappings == null) {
+            LOG.warn("Unable to load the mappings file {}, keeping the current mappings", fileParameterConfig.getFileName());
+            return false;
+        }
+        try {
+            prepareMappings(loadedMappings);
+        } catch (final RuntimeException | IOException ex) {
+            if (mappings == null) {
+                throw ex instanceof RuntimeException ? (RuntimeException) ex : new IllegalStateException(ex);
+            }
+            LOG.error("Unable to parse the mappings file {}, keeping the current mappings", fileParameterConfig.getFileName(), ex);
+            return false;
+        }
+        sourceVersion = currentSourceVersion;
+        mappings = loadedMappings;
+        version++;
+        LOG.info("Loaded version {} of the mappings file {}", version, fileParameterConfig.getFileName());
+        return true;
+    }
+
+    /**
+     * Shuts down the clients of the mappings handler once a refresh in progress completed.
+     */
+    private synchronized void closeSource() {
+        mappingsHandler.shutdown();
+    }
+
+    private void refreshOnSchedule() {
+        try {
+            refresh();
+        } catch (final RuntimeException ex) {
+            LOG.error("Unable to refresh the mappings file {}, keeping the current mappings", fileParameterConfig.getFileName(), ex);
+        }
+    }
+
+    private void prepareMappings(final List<MappingsParameterConfig> loadedMappings) throws IOException {
+        for (MappingsParameterConfig mappingsParameterConfig : loadedMappings) {
+            mappingsParameterConfig.parseMappings();
+            if (!fileParameterConfig.isMemoryMapped() || Objects.isNull(mappingsParameterConfig.getTargetsParameterConfigs())) {
+                continue;
+            }
+            for (TargetsParameterConfig targetsParameterConfig : mappingsParameterConfig.getTargetsParameterConfigs()) {
+                targetsParameterConfig.memoryMapIndividualMappings();
+            }
+        }
+    }
+
+    private String getSourceVersion() {
+        if (fileParameterConfig.getAwsConfig() != null) {
+            return mappingsHandler.getS3ObjectETag(fileParameterConfig.getAwsConfig(), fileParameterConfig.getFileName());
+        }
+        try {
+            final Path filePath = Paths.get(fileParameterConfig.getFileName());
+            return Files.getLastModifiedTime(filePath).toMillis() + ":" + Files.size(filePath);
+        } catch (final IOException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static String getTableKey(final FileParameterConfig fileParameterConfig) {
+        final S3ObjectConfig awsConfig = fileParameterConfig.getAwsConfig();
+        final String location = awsConfig == null ? "file:" + fileParameterConfig.getFileName() :
+                "s3:" + awsConfig.getRegion() + ":" + awsConfig.getBucket() + ":" + awsConfig.getStsRoleArn() + ":" + fileParameterConfig.getFileName();
+        return location + ":" + fileParameterConfig.isMemoryMapped() + ":" + fileParameterConfig.getRefreshInterval();
+    }
+
+    private static ScheduledThreadPoolExecutor getRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            refreshExecutorService = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "translate-mappings-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Cancelled refreshes would otherwise keep their tables reachable until their next run
+            refreshExecutorService.setRemoveOnCancelPolicy(true);
+        }
+        return refreshExecutorService;
+    }
+}
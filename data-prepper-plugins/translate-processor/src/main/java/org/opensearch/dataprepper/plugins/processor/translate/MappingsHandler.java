@@ -20,51 +20,37 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicSessionCredentials;
+import com.amazonaws.auth.STSAssumeRoleSessionCredentialsProvider;
 import com.amazonaws.auth.profile.ProfileCredentialsProvider;
 import com.amazonaws.services.securitytoken.AWSSecurityTokenService;
 import com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClientBuilder;
-import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
-import com.amazonaws.services.securitytoken.model.AssumeRoleResult;
-import com.amazonaws.services.securitytoken.model.Credentials;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Loads mappings from files and S3 objects. The S3 client of a handler is created with the first S3 request and reused
+ * by later requests, so a handler must only be used for one S3 object configuration and be shut down with
+ * {@link #shutdown()} once it is no longer used.
+ */
 public class MappingsHandler {
     private static final Logger LOG = LoggerFactory.getLogger(MappingsHandler.class);
+    private static final String ROLE_SESSION_NAME = "translate-session";
+
+    private AWSSecurityTokenService stsClient;
+    private STSAssumeRoleSessionCredentialsProvider credentialsProvider;
+    private AmazonS3 s3Client;
+
     public List<MappingsParameterConfig> getS3FileMappings(S3ObjectConfig awsConfig, String key) {
         if( !isAwsConfigValid(awsConfig) || key == null ) {
             return null;
         }
-        String clientRegion = awsConfig.getRegion();
-        String roleARN = awsConfig.getStsRoleArn();
         String bucketName = awsConfig.getBucket();
 
         List<MappingsParameterConfig> s3FileMappings;
-        String roleSessionName = "translate-session";
         try {
-            AWSSecurityTokenService stsClient = AWSSecurityTokenServiceClientBuilder
-                    .standard()
-                    .withCredentials(new ProfileCredentialsProvider())
-                    .withRegion(clientRegion)
-                    .build();
-            AssumeRoleRequest roleRequest = new AssumeRoleRequest()
-                    .withRoleArn(roleARN)
-                    .withRoleSessionName(roleSessionName);
-            AssumeRoleResult roleResponse = stsClient.assumeRole(roleRequest);
-            Credentials sessionCredentials = roleResponse.getCredentials();
-            BasicSessionCredentials awsCredentials = new BasicSessionCredentials(
-                    sessionCredentials.getAccessKeyId(),
-                    sessionCredentials.getSecretAccessKey(),
-                    sessionCredentials.getSessionToken());
-            AmazonS3 s3Client = AmazonS3ClientBuilder
-                    .standard()
-                    .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                    .withRegion(clientRegion)
-                    .build();
+            AmazonS3 s3Client = getS3Client(awsConfig);
             try {
                 // Retrieving the S3 object using the bucket name and key.
                 S3Object s3Object = s3Client.getObject(bucketName, key);
@@ -94,6 +80,65 @@ public class MappingsHandler {
         return s3FileMappings;
     }
 
+    /**
+     * @return The ETag of the S3 object, which changes whenever the object is replaced, or null if it is unavailable
+     */
+    public String getS3ObjectETag(S3ObjectConfig awsConfig, String key) {
+        if( !isAwsConfigValid(awsConfig) || key == null ) {
+            return null;
+        }
+        try {
+            AmazonS3 s3Client = getS3Client(awsConfig);
+            return s3Client.getObjectMetadata(awsConfig.getBucket(), key).getETag();
+        } catch (AmazonServiceException e) {
+            LOG.error("Error while retrieving metadata of mappings S3 Object", e);
+            return null;
+        }
+    }
+
+    /**
+     * Shuts down the S3 and STS clients. A later S3 request creates new clients.
+     */
+    public synchronized void shutdown() {
+        if (s3Client != null) {
+            s3Client.shutdown();
+            s3Client = null;
+        }
+        if (credentialsProvider != null) {
+            credentialsProvider.close();
+            credentialsProvider = null;
+        }
+        if (stsClient != null) {
+            stsClient.shutdown();
+            stsClient = null;
+        }
+    }
+
+    /**
+     * The client assumes the role through a credentials provider which refreshes the session before it expires,
+     * so that the scheduled refreshes of a mappings file do not assume the role and create new clients every time.
+     */
+    private synchronized AmazonS3 getS3Client(S3ObjectConfig awsConfig) {
+        if (s3Client != null) {
+            return s3Client;
+        }
+        String clientRegion = awsConfig.getRegion();
+        stsClient = AWSSecurityTokenServiceClientBuilder
+                .standard()
+                .withCredentials(new ProfileCredentialsProvider())
+                .withRegion(clientRegion)
+                .build();
+        credentialsProvider = new STSAssumeRoleSessionCredentialsProvider.Builder(awsConfig.getStsRoleArn(), ROLE_SESSION_NAME)
+                .withStsClient(stsClient)
+                .build();
+        s3Client = AmazonS3ClientBuilder
+                .standard()
+                .withCredentials(credentialsProvider)
+                .withRegion(clientRegion)
+                .build();
+        return s3Client;
+    }
+
     public List<MappingsParameterConfig> getMappingsFromFilePath(String fileName){
         try{
             Path filePath = Paths.get(fileName);
@@ -116,6 +161,10 @@ public class MappingsHandler {
         }
     }
 
+    /**
+     * Combines the mappings without modifying either list, so the mappings can be combined again whenever the mappings
+     * file is reloaded. Targets of the mappings take precedence over file targets of the same source.
+     */
     public List<MappingsParameterConfig> getCombinedMappings(List<MappingsParameterConfig> mappingConfigs, List<MappingsParameterConfig> fileMappingConfigs) {
         if(Objects.isNull(mappingConfigs) || mappingConfigs.isEmpty()){
             return fileMappingConfigs;
@@ -124,19 +173,21 @@ public class MappingsHandler {
             return mappingConfigs;
         }
         try{
+            List<MappingsParameterConfig> combinedMappingConfigs = new ArrayList<>(mappingConfigs);
             for (MappingsParameterConfig fileMappingConfig : fileMappingConfigs) {
                 boolean isDuplicateSource = false;
-                for (MappingsParameterConfig mappingConfig : mappingConfigs) {
+                for (int i = 0; i < combinedMappingConfigs.size(); i++) {
+                    MappingsParameterConfig mappingConfig = combinedMappingConfigs.get(i);
                     if (mappingConfig.getSource().equals(fileMappingConfig.getSource())) {
                         isDuplicateSource = true;
-                        combineTargets(fileMappingConfig, mappingConfig);
+                        combinedMappingConfigs.set(i, combineTargets(fileMappingConfig, mappingConfig));
                     }
                 }
                 if (!isDuplicateSource) {
-                    mappingConfigs.add(fileMappingConfig);
+                    combinedMappingConfigs.add(fileMappingConfig);
                 }
             }
-            return mappingConfigs;
+            return combinedMappingConfigs;
         } catch (Exception ex){
             Logger LOG = LoggerFactory.getLogger(TranslateProcessor.class);
             LOG.error("Error while combining mappings", ex);
@@ -144,10 +195,7 @@ public class MappingsHandler {
         }
     }
 
-    private void combineTargets(MappingsParameterConfig filePathMapping, MappingsParameterConfig mappingConfig) {
-        if(Objects.isNull(mappingConfig)) {
-            return;
-        }
+    private MappingsParameterConfig combineTargets(MappingsParameterConfig filePathMapping, MappingsParameterConfig mappingConfig) {
         List<TargetsParameterConfig> fileTargetConfigs = filePathMapping.getTargetsParameterConfigs();
         List<TargetsParameterConfig> mappingsTargetConfigs = mappingConfig.getTargetsParameterConfigs();
         List<TargetsParameterConfig> combinedTargetConfigs = new ArrayList<>(mappingsTargetConfigs);
@@ -157,7 +205,7 @@ public class MappingsHandler {
                 combinedTargetConfigs.add(fileTargetConfig);
             }
         }
-        mappingConfig.setTargetsParameterConfigs(combinedTargetConfigs);
+        return new MappingsParameterConfig(mappingConfig.getSource(), combinedTargetConfigs);
     }
 
     private boolean isTargetPresent(TargetsParameterConfig fileTargetConfig, List<TargetsParameterConfig> combinedTargetConfigs){
@@ -19,6 +19,14 @@ public class MappingsParameterConfig {
     @Valid
     private List<TargetsParameterConfig> targetsParameterConfigs = new ArrayList<>();
 
+    public MappingsParameterConfig() {
+    }
+
+    MappingsParameterConfig(Object source, List<TargetsParameterConfig> targetsParameterConfigs) {
+        this.source = source;
+        this.targetsParameterConfigs = targetsParameterConfigs;
+    }
+
     public Object getSource() {
         return source;
     }
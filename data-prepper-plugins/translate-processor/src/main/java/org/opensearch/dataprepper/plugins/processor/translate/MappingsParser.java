@@ -5,8 +5,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -14,13 +17,17 @@ import java.util.regex.Pattern;
 public class MappingsParser {
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Range<Float>, String> rangeKeys = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private final RangeMappingIndex rangeMappingIndex;
     public MappingsParser(TargetsParameterConfig targetConfig){
         RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
         if (Objects.nonNull(regexConfig)) {
             compilePatterns(regexConfig.getPatterns());
         }
         processMapField(targetConfig.getMap());
+        checkOverlappingRanges();
+        rangeMappingIndex = new RangeMappingIndex(rangeMappings);
         checkOverlappingKeys();
     }
 
@@ -64,12 +71,11 @@ public class MappingsParser {
             Float lowKey = Float.parseFloat(rangeKeys[0]);
             Float highKey = Float.parseFloat(rangeKeys[1]);
             Range<Float> rangeEntry = Range.between(lowKey, highKey);
-            if (isRangeOverlapping(rangeEntry)) {
-                String exceptionMsg = "map option contains key " + mapEntry.getKey() + " that overlaps with other range entries";
-                throw new InvalidPluginConfigurationException(exceptionMsg);
-            } else {
-                rangeMappings.put(Range.between(lowKey, highKey), mapEntry.getValue());
+            if (rangeMappings.containsKey(rangeEntry)) {
+                throwOverlappingKey(mapEntry.getKey());
             }
+            rangeMappings.put(rangeEntry, mapEntry.getValue());
+            rangeKeys.put(rangeEntry, mapEntry.getKey());
         }
     }
 
@@ -82,20 +88,32 @@ public class MappingsParser {
         }
     }
 
-    private boolean isRangeOverlapping(Range<Float> rangeEntry) {
-        return rangeMappings.keySet().stream().anyMatch(range -> range.isOverlappedBy(rangeEntry));
+    /**
+     * Sorts the ranges by their minimum, so any overlap shows up between neighbouring ranges.
+     */
+    private void checkOverlappingRanges() {
+        List<Range<Float>> sortedRanges = new ArrayList<>(rangeMappings.keySet());
+        sortedRanges.sort(Comparator.comparing(Range::getMinimum));
+        for (int i = 1; i < sortedRanges.size(); i++) {
+            if (sortedRanges.get(i - 1).isOverlappedBy(sortedRanges.get(i))) {
+                throwOverlappingKey(rangeKeys.get(sortedRanges.get(i)));
+            }
+        }
     }
 
     private void checkOverlappingKeys() {
         for (String individualKey : individualMappings.keySet()) {
             if (NumberUtils.isParsable(individualKey)) {
                 Float floatKey = Float.parseFloat(individualKey);
-                Range<Float> range = Range.between(floatKey, floatKey);
-                if (isRangeOverlapping(range)) {
-                    String exceptionMsg = "map option contains key " + individualKey + " that overlaps with other range entries";
-                    throw new InvalidPluginConfigurationException(exceptionMsg);
+                if (rangeMappingIndex.contains(floatKey)) {
+                    throwOverlappingKey(individualKey);
                 }
             }
         }
     }
+
+    private void throwOverlappingKey(final String key) {
+        String exceptionMsg = "map option contains key " + key + " that overlaps with other range entries";
+        throw new InvalidPluginConfigurationException(exceptionMsg);
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regex mappings of a target. Patterns without regex metacharacters only fully match their own text, so full matches
+ * of them are looked up in a hash map, and only the remaining patterns are evaluated one by one.
+ */
+final class PatternMappingIndex {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final Map<String, Object> literalMappings = new HashMap<>();
+    private final List<Map.Entry<Pattern, Object>> regexMappings = new ArrayList<>();
+    private final List<Map.Entry<Pattern, Object>> allMappings = new ArrayList<>();
+
+    PatternMappingIndex(final Map<Pattern, Object> compiledPatterns) {
+        for (Map.Entry<Pattern, Object> patternEntry : compiledPatterns.entrySet()) {
+            final String pattern = patternEntry.getKey().pattern();
+            if (isLiteral(pattern)) {
+                literalMappings.putIfAbsent(pattern, patternEntry.getValue());
+            } else {
+                regexMappings.add(patternEntry);
+            }
+            allMappings.add(patternEntry);
+        }
+    }
+
+    /**
+     * @param exact Whether only full matches translate the source value. Otherwise, a partial match replaces every
+     *              occurrence of the pattern with the mapped value.
+     */
+    Optional<Object> find(final String sourceValue, final boolean exact) {
+        if (literalMappings.containsKey(sourceValue)) {
+            return Optional.of(literalMappings.get(sourceValue));
+        }
+        for (Map.Entry<Pattern, Object> patternEntry : exact ? regexMappings : allMappings) {
+            Matcher matcher = patternEntry.getKey().matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(patternEntry.getValue());
+            }
+            if (!exact && matcher.find()) {
+                String targetValue = (String) patternEntry.getValue();
+                return Optional.of(matcher.replaceAll(targetValue));
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean isEmpty() {
+        return allMappings.isEmpty();
+    }
+
+    private static boolean isLiteral(final String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Range mappings sorted by their minimum, so the range containing a number is found with a binary search instead of
+ * checking every range. The ranges must not overlap, which {@link MappingsParser} validates.
+ */
+final class RangeMappingIndex {
+    private final float[] minimums;
+    private final float[] maximums;
+    private final Object[] values;
+
+    RangeMappingIndex(final Map<Range<Float>, Object> rangeMappings) {
+        final List<Map.Entry<Range<Float>, Object>> sortedEntries = new ArrayList<>(rangeMappings.entrySet());
+        sortedEntries.sort(Comparator.comparing(entry -> entry.getKey().getMinimum()));
+        minimums = new float[sortedEntries.size()];
+        maximums = new float[sortedEntries.size()];
+        values = new Object[sortedEntries.size()];
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            final Map.Entry<Range<Float>, Object> entry = sortedEntries.get(i);
+            minimums[i] = entry.getKey().getMinimum();
+            maximums[i] = entry.getKey().getMaximum();
+            values[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * @return The value of the range containing the key, compared the same way as {@link Range#contains(Object)}
+     */
+    Optional<Object> find(final float key) {
+        final int index = indexOf(key);
+        return index < 0 ? Optional.empty() : Optional.of(values[index]);
+    }
+
+    boolean contains(final float key) {
+        return indexOf(key) >= 0;
+    }
+
+    boolean isEmpty() {
+        return minimums.length == 0;
+    }
+
+    private int indexOf(final float key) {
+        int low = 0;
+        int high = minimums.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (Float.compare(minimums[middle], key) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate < 0 || Float.compare(key, maximums[candidate]) > 0) {
+            return -1;
+        }
+        return candidate;
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.commons.lang3.Range;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -20,7 +21,11 @@ public class TargetsParameterConfig {
     private final TypeConverter converter;
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private RangeMappingIndex rangeMappingIndex = new RangeMappingIndex(Map.of());
+    private PatternMappingIndex patternMappingIndex = new PatternMappingIndex(Map.of());
+    private MappedStringTable mappedIndividualMappings;
+    private boolean mappingsParsed;
     @JsonProperty("target")
     @NotNull
     @NotEmpty
@@ -88,6 +93,24 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    /**
+     * @return The value mapped to the source value by the map option, if any
+     */
+    Optional<Object> fetchIndividualMapping(final String sourceValue) {
+        if (individualMappings.containsKey(sourceValue)) {
+            return Optional.of(individualMappings.get(sourceValue));
+        }
+        return Optional.ofNullable(mappedIndividualMappings == null ? null : mappedIndividualMappings.get(sourceValue));
+    }
+
+    RangeMappingIndex fetchRangeMappingIndex() {
+        return rangeMappingIndex;
+    }
+
+    PatternMappingIndex fetchPatternMappingIndex() {
+        return patternMappingIndex;
+    }
+
     public TypeConverter getConverter() {
         return converter;
     }
@@ -133,11 +156,43 @@ public class TargetsParameterConfig {
         return true;
     }
 
-    public void parseMappings() {
+    /**
+     * Parses the mappings once. Parsed targets of a mappings file are shared by every processor, so parsing them again
+     * must not modify them.
+     */
+    public synchronized void parseMappings() {
+        if (mappingsParsed) {
+            return;
+        }
+        mappingsParsed = true;
         MappingsParser parser = new MappingsParser(this);
         individualMappings.putAll(parser.fetchIndividualMappings());
         rangeMappings.putAll(parser.fetchRangeMappings());
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        rangeMappingIndex = new RangeMappingIndex(rangeMappings);
+        patternMappingIndex = new PatternMappingIndex(compiledPatterns);
+    }
+
+    /**
+     * Moves the individual mappings into a memory-mapped table and releases the parsed map, so large mappings files do
+     * not use heap. Mappings are kept on the heap when a mapped value would not convert back to the same value.
+     *
+     * @return Whether the individual mappings were memory-mapped
+     */
+    synchronized boolean memoryMapIndividualMappings() throws IOException {
+        if (individualMappings.isEmpty() || !individualMappings.values().stream().allMatch(this::isStringConvertible)) {
+            return false;
+        }
+        final Map<String, String> stringMappings = new HashMap<>();
+        individualMappings.forEach((key, value) -> stringMappings.put(key, value.toString()));
+        mappedIndividualMappings = MappedStringTable.create(stringMappings);
+        individualMappings.clear();
+        map = null;
+        return true;
+    }
+
+    private boolean isStringConvertible(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Boolean;
     }
 
 }
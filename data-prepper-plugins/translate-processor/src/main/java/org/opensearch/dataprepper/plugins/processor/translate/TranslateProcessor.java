@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
@@ -23,13 +22,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -39,7 +36,10 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(TranslateProcessor.class);
     private final ExpressionEvaluator expressionEvaluator;
-    private final List<MappingsParameterConfig> mappingsConfig;
+    private final TranslateProcessorConfig translateProcessorConfig;
+    private final MappingsFileTable mappingsFileTable;
+    private volatile List<MappingsParameterConfig> mappingsConfig;
+    private volatile long mappingsFileVersion = -1;
     private final JacksonEvent.Builder eventBuilder= JacksonEvent.builder();
     private final JsonExtractor jsonExtractor = new JsonExtractor();
 
@@ -47,19 +47,23 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     public TranslateProcessor(PluginMetrics pluginMetrics, final TranslateProcessorConfig translateProcessorConfig, final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.expressionEvaluator = expressionEvaluator;
+        this.translateProcessorConfig = translateProcessorConfig;
         mappingsConfig = translateProcessorConfig.getCombinedMappingsConfigs();
         Optional.ofNullable(mappingsConfig)
                 .ifPresent(configs -> configs.forEach(MappingsParameterConfig::parseMappings));
+        final FileParameterConfig fileParameterConfig = translateProcessorConfig.getFileParameterConfig();
+        mappingsFileTable = fileParameterConfig == null ? null : MappingsFileTable.acquire(fileParameterConfig);
     }
 
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
+        final List<MappingsParameterConfig> currentMappingsConfig = getCurrentMappingsConfig();
         for (final Record<Event> record : records) {
-            if(Objects.isNull(mappingsConfig)){
+            if(Objects.isNull(currentMappingsConfig)){
                 continue;
             }
             final Event recordEvent = record.getData();
-            for (MappingsParameterConfig mappingConfig : mappingsConfig) {
+            for (MappingsParameterConfig mappingConfig : currentMappingsConfig) {
                 try {
                     List<TargetsParameterConfig> targetsConfig = mappingConfig.getTargetsParameterConfigs();
                     for (TargetsParameterConfig targetConfig : targetsConfig) {
@@ -75,6 +79,27 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         return records;
     }
 
+    /**
+     * Combines the mappings with the current mappings of the file again whenever the shared file table published new
+     * mappings, so reloaded files take effect without restarting the pipeline.
+     */
+    private List<MappingsParameterConfig> getCurrentMappingsConfig() {
+        if (mappingsFileTable != null && mappingsFileTable.getVersion() != mappingsFileVersion) {
+            synchronized (this) {
+                final long version = mappingsFileTable.getVersion();
+                if (version != mappingsFileVersion) {
+                    final List<MappingsParameterConfig> combinedMappingsConfig = new MappingsHandler()
+                            .getCombinedMappings(translateProcessorConfig.getMappingsParameterConfigs(), mappingsFileTable.getMappings());
+                    if (Objects.nonNull(combinedMappingsConfig)) {
+                        mappingsConfig = combinedMappingsConfig;
+                    }
+                    mappingsFileVersion = version;
+                }
+            }
+        }
+        return mappingsConfig;
+    }
+
     private List<String> getSourceKeys(Object sourceObject){
         List<String> sourceKeys;
         if (sourceObject instanceof List<?>) {
@@ -89,9 +114,8 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private void translateSource(Object sourceObject, Event recordEvent, TargetsParameterConfig targetConfig) {
-        Map<String, Object> recordObject =  recordEvent.toMap();
         List<String> sourceKeysPaths = getSourceKeys(sourceObject);
-        if(Objects.isNull(recordObject) || sourceKeysPaths.isEmpty()){
+        if(sourceKeysPaths.isEmpty()){
             return;
         }
 
@@ -106,10 +130,13 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
             return;
         }
 
+        // Only the root field holding the nested objects is converted, instead of the whole event
         String rootField = jsonExtractor.getRootField(commonPath);
-        if(!recordObject.containsKey(rootField)){
+        if(!recordEvent.containsKey(rootField)){
             return;
         }
+        Map<String, Object> recordObject = new HashMap<>();
+        recordObject.put(rootField, recordEvent.get(rootField, Object.class));
 
         List<Object> targetObjects = jsonExtractor.getObjectFromPath(commonPath, recordObject);
         if(!targetObjects.isEmpty()) {
@@ -182,45 +209,24 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private Optional<Object> matchesIndividualEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<String, Object> individualMappings = targetConfig.fetchIndividualMappings();
-        if (individualMappings.containsKey(sourceValue)) {
-            return Optional.of(individualMappings.get(sourceValue));
-        }
-        return Optional.empty();
+        return targetConfig.fetchIndividualMapping(sourceValue);
     }
 
     private Optional<Object> matchesRangeEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        if (!NumberUtils.isParsable(sourceValue)) {
+        if (targetConfig.fetchRangeMappingIndex().isEmpty() || !NumberUtils.isParsable(sourceValue)) {
             return Optional.empty();
         }
         Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchRangeMappingIndex().find(floatKey);
     }
 
     private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
+        PatternMappingIndex patternMappingIndex = targetConfig.fetchPatternMappingIndex();
+        if (patternMappingIndex.isEmpty()) {
             return Optional.empty();
         }
         final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
+        return patternMappingIndex.find(sourceValue, exact);
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -249,6 +255,8 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
-
+        if (mappingsFileTable != null) {
+            mappingsFileTable.release();
+        }
     }
 }
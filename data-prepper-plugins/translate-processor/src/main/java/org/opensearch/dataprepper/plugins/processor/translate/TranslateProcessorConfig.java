@@ -62,7 +62,10 @@ public class TranslateProcessorConfig {
         if (fileParameterConfig == null) {
             return true;
         }
-        fileMappingsConfigs = fileParameterConfig.getFileMappings();
+        // The file is loaded once, although both validations of the mappings need it
+        if (Objects.isNull(fileMappingsConfigs)) {
+            fileMappingsConfigs = fileParameterConfig.getFileMappings();
+        }
         return Objects.nonNull(fileMappingsConfigs);
     }
 
@@ -0,0 +1,48 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MappedStringTableTest {
+
+    @Test
+    void test_get_returns_mapped_values() throws IOException {
+        Map<String, String> mappings = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            mappings.put("key" + i, "value" + i);
+        }
+        mappings.put("", "empty");
+        mappings.put("clé", "välue");
+
+        MappedStringTable mappedStringTable = MappedStringTable.create(mappings);
+
+        assertThat(mappedStringTable.size(), is(mappings.size()));
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            assertThat(mappedStringTable.get(mapping.getKey()), is(mapping.getValue()));
+        }
+    }
+
+    @Test
+    void test_get_returns_null_for_unknown_keys() throws IOException {
+        MappedStringTable mappedStringTable = MappedStringTable.create(Map.of("key1", "value1", "key3", "value3"));
+
+        assertThat(mappedStringTable.get("key2"), is(nullValue()));
+        assertThat(mappedStringTable.get("key"), is(nullValue()));
+        assertThat(mappedStringTable.get("key10"), is(nullValue()));
+    }
+
+    @Test
+    void test_empty_table() throws IOException {
+        MappedStringTable mappedStringTable = MappedStringTable.create(Map.of());
+
+        assertThat(mappedStringTable.size(), is(0));
+        assertThat(mappedStringTable.get("key1"), is(nullValue()));
+    }
+}
@@ -0,0 +1,201 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class MappingsFileTableTest {
+    private File testMappingsFile;
+    private FileParameterConfig fileParameterConfig;
+
+    @BeforeEach
+    void setup() throws IOException, NoSuchFieldException, IllegalAccessException {
+        testMappingsFile = File.createTempFile("test", ".yaml");
+        writeMappingsFile("key1: fileMappedValue", 1000);
+        fileParameterConfig = new FileParameterConfig();
+        setField(FileParameterConfig.class, fileParameterConfig, "fileName", testMappingsFile.getAbsolutePath());
+    }
+
+    @AfterEach
+    void cleanup() {
+        testMappingsFile.delete();
+    }
+
+    private void writeMappingsFile(final String mapEntries, final long modifiedTimeMillis) throws IOException {
+        String fileContent = "mappings:\n" +
+                             "  - source: sourceField\n" +
+                             "    targets:\n" +
+                             "      - target: fileTarget\n" +
+                             "        map:\n" +
+                             "          " + mapEntries;
+        Files.write(testMappingsFile.toPath(), fileContent.getBytes());
+        Files.setLastModifiedTime(testMappingsFile.toPath(), FileTime.fromMillis(modifiedTimeMillis));
+    }
+
+    private TargetsParameterConfig getFileTarget(final MappingsFileTable mappingsFileTable) {
+        return mappingsFileTable.getMappings().get(0).getTargetsParameterConfigs().get(0);
+    }
+
+    private FileParameterConfig createFileParameterConfig() throws NoSuchFieldException, IllegalAccessException {
+        final FileParameterConfig otherFileParameterConfig = new FileParameterConfig();
+        setField(FileParameterConfig.class, otherFileParameterConfig, "fileName", testMappingsFile.getAbsolutePath());
+        return otherFileParameterConfig;
+    }
+
+    @Test
+    void test_acquire_shares_the_table_of_a_file() throws NoSuchFieldException, IllegalAccessException {
+        MappingsFileTable mappingsFileTable = MappingsFileTable.acquire(fileParameterConfig);
+
+        assertThat(mappingsFileTable, is(sameInstance(fileParameterConfig.getMappingsFileTable())));
+        assertThat(mappingsFileTable.getMappings(), is(notNullValue()));
+        assertThat(MappingsFileTable.acquire(createFileParameterConfig()), is(sameInstance(mappingsFileTable)));
+        assertThat(MappingsFileTable.load(createFileParameterConfig()), is(sameInstance(mappingsFileTable)));
+        assertThat(getFileTarget(mappingsFileTable).fetchIndividualMapping("key1"), is(Optional.of("fileMappedValue")));
+
+        mappingsFileTable.release();
+        mappingsFileTable.release();
+    }
+
+    @Test
+    void test_release_of_last_reference_removes_the_table() throws NoSuchFieldException, IllegalAccessException {
+        MappingsFileTable mappingsFileTable = MappingsFileTable.acquire(fileParameterConfig);
+        MappingsFileTable.acquire(createFileParameterConfig());
+
+        mappingsFileTable.release();
+        assertThat(mappingsFileTable.isShared(), is(true));
+
+        mappingsFileTable.release();
+        assertThat(mappingsFileTable.isShared(), is(false));
+        assertThat(MappingsFileTable.load(createFileParameterConfig()), is(not(sameInstance(mappingsFileTable))));
+
+        mappingsFileTable.release();
+        assertThat(mappingsFileTable.isShared(), is(false));
+    }
+
+    @Test
+    void test_release_of_last_reference_shuts_down_the_mappings_handler() throws NoSuchFieldException, IllegalAccessException {
+        MappingsHandler mappingsHandler = spy(new MappingsHandler());
+        MappingsFileTable loadedTable = new MappingsFileTable(fileParameterConfig, mappingsHandler);
+        loadedTable.refresh();
+        setField(FileParameterConfig.class, fileParameterConfig, "mappingsFileTable", loadedTable);
+        MappingsFileTable mappingsFileTable = MappingsFileTable.acquire(fileParameterConfig);
+        MappingsFileTable.acquire(createFileParameterConfig());
+
+        mappingsFileTable.release();
+        verify(mappingsHandler, never()).shutdown();
+
+        mappingsFileTable.release();
+        verify(mappingsHandler).shutdown();
+    }
+
+    @Test
+    void test_acquire_of_a_shared_file_shuts_down_the_mappings_handler_of_the_loaded_table() throws NoSuchFieldException, IllegalAccessException {
+        MappingsFileTable sharedTable = MappingsFileTable.acquire(fileParameterConfig);
+        FileParameterConfig otherFileParameterConfig = createFileParameterConfig();
+        MappingsHandler mappingsHandler = spy(new MappingsHandler());
+        MappingsFileTable loadedTable = new MappingsFileTable(otherFileParameterConfig, mappingsHandler);
+        loadedTable.refresh();
+        setField(FileParameterConfig.class, otherFileParameterConfig, "mappingsFileTable", loadedTable);
+
+        assertThat(MappingsFileTable.acquire(otherFileParameterConfig), is(sameInstance(sharedTable)));
+        verify(mappingsHandler).shutdown();
+
+        sharedTable.release();
+        sharedTable.release();
+    }
+
+    @Test
+    void test_release_of_last_reference_cancels_the_refresh() throws Exception {
+        setField(FileParameterConfig.class, fileParameterConfig, "refreshInterval", Duration.ofMillis(20));
+        MappingsFileTable mappingsFileTable = MappingsFileTable.acquire(fileParameterConfig);
+        long version = mappingsFileTable.getVersion();
+
+        mappingsFileTable.release();
+        writeMappingsFile("key2: reloadedValue", 2000);
+        Thread.sleep(200);
+
+        assertThat(mappingsFileTable.getVersion(), is(version));
+    }
+
+    @Test
+    void test_refresh_is_scheduled_while_the_table_is_shared() throws Exception {
+        setField(FileParameterConfig.class, fileParameterConfig, "refreshInterval", Duration.ofMillis(20));
+        MappingsFileTable mappingsFileTable = MappingsFileTable.acquire(fileParameterConfig);
+        long version = mappingsFileTable.getVersion();
+
+        writeMappingsFile("key2: reloadedValue", 2000);
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (mappingsFileTable.getVersion() == version && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        mappingsFileTable.release();
+
+        assertThat(mappingsFileTable.getVersion(), is(not(version)));
+        assertThat(getFileTarget(mappingsFileTable).fetchIndividualMapping("key2"), is(Optional.of("reloadedValue")));
+    }
+
+    @Test
+    void test_refresh_loads_changed_file() throws IOException {
+        MappingsFileTable mappingsFileTable = new MappingsFileTable(fileParameterConfig, new MappingsHandler());
+        assertThat(mappingsFileTable.refresh(), is(true));
+        long version = mappingsFileTable.getVersion();
+
+        assertThat(mappingsFileTable.refresh(), is(false));
+        assertThat(mappingsFileTable.getVersion(), is(version));
+
+        writeMappingsFile("key2: reloadedValue", 2000);
+
+        assertThat(mappingsFileTable.refresh(), is(true));
+        assertThat(mappingsFileTable.getVersion(), is(not(version)));
+        assertThat(getFileTarget(mappingsFileTable).fetchIndividualMapping("key1"), is(Optional.empty()));
+        assertThat(getFileTarget(mappingsFileTable).fetchIndividualMapping("key2"), is(Optional.of("reloadedValue")));
+    }
+
+    @Test
+    void test_refresh_keeps_mappings_when_changed_file_is_invalid() throws IOException {
+        MappingsFileTable mappingsFileTable = new MappingsFileTable(fileParameterConfig, new MappingsHandler());
+        mappingsFileTable.refresh();
+        long version = mappingsFileTable.getVersion();
+
+        writeMappingsFile("1-10: first\n          5-15: overlapping", 2000);
+
+        assertThat(mappingsFileTable.refresh(), is(false));
+        assertThat(mappingsFileTable.getVersion(), is(version));
+        assertThat(getFileTarget(mappingsFileTable).fetchIndividualMapping("key1"), is(Optional.of("fileMappedValue")));
+    }
+
+    @Test
+    void test_memory_mapped_individual_mappings() throws IOException, NoSuchFieldException, IllegalAccessException {
+        writeMappingsFile("key1: fileMappedValue\n          key2: 200\n          1-10: range", 2000);
+        setField(FileParameterConfig.class, fileParameterConfig, "memoryMapped", true);
+        MappingsFileTable mappingsFileTable = new MappingsFileTable(fileParameterConfig, new MappingsHandler());
+        mappingsFileTable.refresh();
+
+        TargetsParameterConfig fileTarget = getFileTarget(mappingsFileTable);
+        assertThat(fileTarget.fetchIndividualMappings(), is(Map.of()));
+        assertThat(fileTarget.getMap(), is(nullValue()));
+        assertThat(fileTarget.fetchIndividualMapping("key1"), is(Optional.of("fileMappedValue")));
+        assertThat(fileTarget.fetchIndividualMapping("key2"), is(Optional.of("200")));
+        assertThat(fileTarget.fetchIndividualMapping("key3"), is(Optional.empty()));
+        assertThat(fileTarget.fetchRangeMappingIndex().find(5f), is(Optional.of("range")));
+    }
+}
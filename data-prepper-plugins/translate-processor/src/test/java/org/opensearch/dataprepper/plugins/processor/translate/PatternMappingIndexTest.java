@@ -0,0 +1,54 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PatternMappingIndexTest {
+
+    private PatternMappingIndex createIndex() {
+        Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+        compiledPatterns.put(Pattern.compile("key1"), "literal");
+        compiledPatterns.put(Pattern.compile("2[0-9]{2}"), "success");
+        compiledPatterns.put(Pattern.compile("error"), "failure");
+        return new PatternMappingIndex(compiledPatterns);
+    }
+
+    @Test
+    void test_exact_match_of_literal_pattern() {
+        assertThat(createIndex().find("key1", true), is(Optional.of("literal")));
+    }
+
+    @Test
+    void test_exact_match_of_regex_pattern() {
+        assertThat(createIndex().find("200", true), is(Optional.of("success")));
+    }
+
+    @Test
+    void test_exact_does_not_match_substrings() {
+        PatternMappingIndex patternMappingIndex = createIndex();
+        assertThat(patternMappingIndex.find("key10", true), is(Optional.empty()));
+        assertThat(patternMappingIndex.find("code 200", true), is(Optional.empty()));
+    }
+
+    @Test
+    void test_non_exact_replaces_substrings() {
+        PatternMappingIndex patternMappingIndex = createIndex();
+        assertThat(patternMappingIndex.find("key1", false), is(Optional.of("literal")));
+        assertThat(patternMappingIndex.find("an error and an error", false), is(Optional.of("an failure and an failure")));
+        assertThat(patternMappingIndex.find("code 200", false), is(Optional.of("code success")));
+    }
+
+    @Test
+    void test_empty_index() {
+        PatternMappingIndex patternMappingIndex = new PatternMappingIndex(Map.of());
+        assertThat(patternMappingIndex.isEmpty(), is(true));
+        assertThat(patternMappingIndex.find("key1", true), is(Optional.empty()));
+    }
+}
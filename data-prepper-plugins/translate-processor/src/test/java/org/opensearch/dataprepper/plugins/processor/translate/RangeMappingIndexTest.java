@@ -0,0 +1,55 @@
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RangeMappingIndexTest {
+
+    private RangeMappingIndex createIndex() {
+        Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(20f, 30f), "twenties");
+        rangeMappings.put(Range.between(1f, 10f), "ones");
+        rangeMappings.put(Range.between(10.5f, 15f), "teens");
+        return new RangeMappingIndex(rangeMappings);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1,ones",
+            "5.5,ones",
+            "10,ones",
+            "10.5,teens",
+            "15,teens",
+            "20,twenties",
+            "30,twenties"
+    })
+    void test_find_returns_value_of_containing_range(float key, String expectedValue) {
+        RangeMappingIndex rangeMappingIndex = createIndex();
+        assertThat(rangeMappingIndex.find(key), is(Optional.of(expectedValue)));
+        assertThat(rangeMappingIndex.contains(key), is(true));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "0.99", "10.2", "16", "30.01", "-5"})
+    void test_find_returns_empty_outside_ranges(float key) {
+        RangeMappingIndex rangeMappingIndex = createIndex();
+        assertThat(rangeMappingIndex.find(key), is(Optional.empty()));
+        assertThat(rangeMappingIndex.contains(key), is(false));
+    }
+
+    @Test
+    void test_empty_index() {
+        RangeMappingIndex rangeMappingIndex = new RangeMappingIndex(Map.of());
+        assertThat(rangeMappingIndex.isEmpty(), is(true));
+        assertThat(rangeMappingIndex.find(1f), is(Optional.empty()));
+    }
+}
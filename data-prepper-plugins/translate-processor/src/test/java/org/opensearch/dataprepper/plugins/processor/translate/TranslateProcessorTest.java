@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -721,6 +722,42 @@ class TranslateProcessorTest {
             assertThat(translatedRecords.get(0).getData().get("fileTarget", String.class), is("mappedValue1"));
         }
 
+        @Test
+        void test_reloaded_file_mappings_are_used() throws IOException {
+            parseMappings();
+            when(mockConfig.getFileParameterConfig()).thenReturn(fileParameterConfig);
+
+            final TranslateProcessor processor = createObjectUnderTest();
+            final List<Record<Event>> translatedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(getEvent("key1")));
+            assertThat(translatedRecords.get(0).getData().get("fileTarget", String.class), is("fileMappedValue"));
+
+            String fileContent = "mappings:\n" +
+                                 "  - source: sourceField\n" +
+                                 "    targets:\n" +
+                                 "      - target: fileTarget\n" +
+                                 "        map:\n" +
+                                 "          key1: reloadedValue";
+            Files.write(testMappingsFile.toPath(), fileContent.getBytes());
+            Files.setLastModifiedTime(testMappingsFile.toPath(), FileTime.fromMillis(1000));
+            MappingsFileTable.load(fileParameterConfig);
+
+            final List<Record<Event>> reloadedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(getEvent("key1")));
+            assertThat(reloadedRecords.get(0).getData().get("fileTarget", String.class), is("reloadedValue"));
+            processor.shutdown();
+        }
+
+        @Test
+        void test_shutdown_releases_the_file_mappings() {
+            parseMappings();
+            when(mockConfig.getFileParameterConfig()).thenReturn(fileParameterConfig);
+
+            final TranslateProcessor processor = createObjectUnderTest();
+            assertThat(fileParameterConfig.getMappingsFileTable().isShared(), is(true));
+
+            processor.shutdown();
+            assertThat(fileParameterConfig.getMappingsFileTable().isShared(), is(false));
+        }
+
         void parseMappings(){
             fileTranslateConfig.hasMappings();
             fileTranslateConfig.getCombinedMappingsConfigs().get(0).parseMappings();